@@ -73,4 +73,6 @@ class CircularArrayQueue {
 // 5. Limitations:
 //    - Fixed capacity; cannot grow dynamically without resizing (not implemented here for simplicity).
 //    - Wastes memory if the queue is underutilized.
+//    - Not thread-safe; for producer/consumer hand-off between threads use SpscRingBuffer (one producer,
+//      one consumer) or MpmcRingBuffer (any number of each), the lock-free versions of this ring.
 // 6. Use Case: Suitable for scenarios with known maximum size and frequent FIFO operations (e.g., task scheduling, buffer management).
@@ -0,0 +1,203 @@
+package Java_Bootcamp.DSA.Basic.Queue;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+// Queue Implementation: Multi-Producer Multi-Consumer lock-free ring buffer (Vyukov's bounded queue)
+// Any number of threads may offer and poll concurrently.
+// Each slot has a sequence number saying which position it is ready for:
+// - sequence == p      : empty, ready for the producer of position p
+// - sequence == p + 1  : filled with the element of position p, ready for its consumer
+// - consumer frees it  : sequence = p + capacity (empty for the next lap)
+// A producer claims position p by CAS on tail once slot p's sequence says empty, then writes the
+// element and publishes sequence p + 1; consumers mirror this on head. A thread that loses a CAS
+// retries with the new position, so some thread always makes progress (lock-free).
+public class MpmcRingBuffer<E> extends RingBuffer<E> {
+    private final AtomicLongArray sequences;
+
+    public MpmcRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    public MpmcRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+        sequences = new AtomicLongArray(buffer.length);
+        for (int i = 0; i < buffer.length; i++) sequences.setPlain(i, i);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        checkNotNull(e);
+        long pos = counters.getAcquire(TAIL);
+        while (true) {
+            int slot = (int) pos & mask;
+            long difference = sequences.getAcquire(slot) - pos;
+            if (difference == 0) {
+                if (counters.weakCompareAndSetVolatile(TAIL, pos, pos + 1)) {
+                    buffer[slot] = e;
+                    sequences.setRelease(slot, pos + 1); // Publish
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false; // Slot still holds the element of the previous lap: full
+            }
+            pos = counters.getAcquire(TAIL); // Lost the race (or stale pos): retry
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long pos = counters.getAcquire(HEAD);
+        while (true) {
+            int slot = (int) pos & mask;
+            long difference = sequences.getAcquire(slot) - (pos + 1);
+            if (difference == 0) {
+                if (counters.weakCompareAndSetVolatile(HEAD, pos, pos + 1)) {
+                    E e = (E) buffer[slot];
+                    buffer[slot] = null;
+                    sequences.setRelease(slot, pos + buffer.length); // Empty for the next lap
+                    return e;
+                }
+            } else if (difference < 0) {
+                return null; // Not filled yet: empty
+            }
+            pos = counters.getAcquire(HEAD);
+        }
+    }
+
+    // Claims up to count positions with one CAS, then fills them. A slot whose consumer has
+    // claimed it but not yet freed it is waited for (briefly) with the wait strategy.
+    @Override
+    public int offerBatch(E[] items, int from, int count) {
+        for (int i = 0; i < count; i++) checkNotNull(items[from + i]);
+        long tail;
+        int n;
+        do {
+            tail = counters.getAcquire(TAIL);
+            long head = counters.getAcquire(HEAD); // Read after tail: never overstates the free space
+            n = (int) Math.min(count, buffer.length - (tail - head));
+            if (n <= 0) return 0;
+        } while (!counters.weakCompareAndSetVolatile(TAIL, tail, tail + n));
+        for (int i = 0; i < n; i++) {
+            long pos = tail + i;
+            int slot = (int) pos & mask;
+            awaitSequence(slot, pos);
+            buffer[slot] = items[from + i];
+            sequences.setRelease(slot, pos + 1);
+        }
+        return n;
+    }
+
+    // Claims up to max filled positions with one CAS, then empties them in order. A slot whose
+    // producer has claimed it but not yet published is waited for with the wait strategy.
+    // If sink throws, the rest of the claimed slots are still freed (so producers are never stuck
+    // behind them) and their elements are discarded, like the elements a failed
+    // BlockingQueue.drainTo leaves in neither collection.
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super E> sink, int max) {
+        long head;
+        int n;
+        do {
+            head = counters.getAcquire(HEAD);
+            long tail = counters.getAcquire(TAIL);
+            n = (int) Math.min(max, tail - head);
+            if (n <= 0) return 0;
+        } while (!counters.weakCompareAndSetVolatile(HEAD, head, head + n));
+        int freed = 0;
+        try {
+            while (freed < n) {
+                E e = (E) free(head + freed++);
+                sink.accept(e);
+            }
+        } finally {
+            while (freed < n) free(head + freed++); // Only after sink threw
+        }
+        return n;
+    }
+
+    // Waits for position pos to be published, empties its slot for the next lap and returns the element
+    private Object free(long pos) {
+        int slot = (int) pos & mask;
+        awaitSequence(slot, pos + 1);
+        Object e = buffer[slot];
+        buffer[slot] = null;
+        sequences.setRelease(slot, pos + buffer.length);
+        return e;
+    }
+
+    private void awaitSequence(int slot, long expected) {
+        for (int attempt = 0; sequences.getAcquire(slot) != expected; attempt++) waitStrategy.idle(attempt);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        MpmcRingBuffer<Integer> ring = new MpmcRingBuffer<>(4);
+        System.out.println("offerBatch of 6 into capacity 4: " + ring.offerBatch(new Integer[]{1, 2, 3, 4, 5, 6}, 0, 6)); // 4
+        System.out.println("poll: " + ring.poll() + ", offer(5): " + ring.offer(5) + ", size " + ring.size()); // 1, true, 4
+        try {
+            ring.drainTo(x -> {
+                throw new IllegalStateException("Sink failed at " + x);
+            }, 4);
+        } catch (IllegalStateException e) {
+            // All 4 claimed slots were freed, so the ring takes a full batch again
+            System.out.println("Caught: " + e.getMessage() + ", then offerBatch of 4: "
+                    + ring.offerBatch(new Integer[]{7, 8, 9, 10}, 0, 4)); // Sink failed at 2, then offerBatch of 4: 4
+        }
+
+        // 4 producers (single offers and batches) and 3 consumers (take and drainTo) on a small ring:
+        // every value must be received exactly once
+        int producers = 4, consumers = 3, perProducer = 500_000, total = producers * perProducer;
+        MpmcRingBuffer<Integer> shared = new MpmcRingBuffer<>(256, WaitStrategy.YIELD);
+        AtomicIntegerArray received = new AtomicIntegerArray(total);
+        Thread[] threads = new Thread[producers + consumers];
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            threads[p] = new Thread(() -> {
+                Integer[] batch = new Integer[16];
+                try {
+                    for (int i = 0; i < perProducer; ) {
+                        if (id % 2 == 0) {
+                            shared.put(id * perProducer + i++);
+                        } else {
+                            int count = Math.min(batch.length, perProducer - i);
+                            for (int j = 0; j < count; j++) batch[j] = id * perProducer + i + j;
+                            int sent = shared.offerBatch(batch, 0, count);
+                            if (sent == 0) Thread.yield();
+                            i += sent;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        int[] quota = new int[consumers]; // Each consumer stops after its share
+        for (int c = 0; c < consumers; c++) quota[c] = total / consumers + (c < total % consumers ? 1 : 0);
+        for (int c = 0; c < consumers; c++) {
+            int id = c;
+            threads[producers + c] = new Thread(() -> {
+                int[] got = {0};
+                try {
+                    while (got[0] < quota[id]) {
+                        if (id == 0) {
+                            received.incrementAndGet(shared.take());
+                            got[0]++;
+                        } else if (shared.drainTo(x -> { received.incrementAndGet(x); got[0]++; },
+                                Math.min(32, quota[id] - got[0])) == 0) {
+                            Thread.yield();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (Thread t : threads) t.start();
+        for (Thread t : threads) t.join();
+        boolean ok = shared.isEmpty();
+        for (int i = 0; i < total; i++) ok &= received.get(i) == 1;
+        System.out.println("Every value received exactly once: " + ok); // true
+    }
+}
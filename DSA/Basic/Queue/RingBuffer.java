@@ -0,0 +1,117 @@
+package Java_Bootcamp.DSA.Basic.Queue;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+// Queue Implementation: Bounded lock-free ring buffer (base class of SpscRingBuffer and MpmcRingBuffer)
+// Same circular array as CircularArrayQueue, but safe to share between threads without a lock:
+// - Capacity is a power of two, so the slot of position p is p & mask (no modulo).
+// - head / tail are ever-increasing long positions (never wrap in practice), so full is
+//   tail - head == capacity and empty is tail == head, with no separate size field to update.
+// - head and tail live in one AtomicLongArray, 16 longs (128 bytes) apart and away from the array
+//   ends, so the producer's and the consumer's counters never share a cache line (false sharing).
+// - offer/poll never block: they return false/null when full/empty. put/take retry them with the
+//   buffer's WaitStrategy.
+public abstract class RingBuffer<E> {
+
+    // What a blocked put/take does between retries
+    public enum WaitStrategy {
+        // Busy-spin with Thread.onSpinWait: lowest latency, burns a core per waiting thread
+        SPIN,
+        // Spin briefly, then Thread.yield: gives the core away if another thread is runnable
+        YIELD,
+        // Spin, yield, then LockSupport.parkNanos with growing sleeps: cheap when idle, slower to wake
+        PARK;
+
+        void idle(int attempt) {
+            if (this == SPIN || attempt < 64) {
+                Thread.onSpinWait();
+            } else if (this == YIELD || attempt < 128) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(Math.min(1_000_000L, 1_000L << Math.min(10, (attempt - 128) / 16)));
+            }
+        }
+    }
+
+    static final int PAD = 16; // longs between counters: 128 bytes, covers adjacent-line prefetch
+    static final int TAIL = PAD;          // Next position to write
+    static final int HEAD = 2 * PAD;      // Next position to read
+    static final int CACHED_HEAD = 3 * PAD; // SPSC: producer's last view of head
+    static final int CACHED_TAIL = 4 * PAD; // SPSC: consumer's last view of tail
+
+    final int mask;
+    final Object[] buffer;
+    final AtomicLongArray counters = new AtomicLongArray(6 * PAD);
+    final WaitStrategy waitStrategy;
+
+    RingBuffer(int capacity, WaitStrategy waitStrategy) {
+        if (capacity < 2 || capacity > 1 << 30) throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        int size = Integer.highestOneBit(capacity - 1) << 1; // Round up to a power of two
+        this.mask = size - 1;
+        this.buffer = new Object[size];
+        this.waitStrategy = waitStrategy;
+    }
+
+    // Adds e if there is room; returns false if the buffer is full
+    public abstract boolean offer(E e);
+
+    // Removes and returns the oldest element, or null if the buffer is empty
+    public abstract E poll();
+
+    // Adds items[from .. from+count-1] in order, as many as fit; returns how many were added
+    public abstract int offerBatch(E[] items, int from, int count);
+
+    // Removes up to max elements, passing each to sink in FIFO order; returns how many were removed
+    public abstract int drainTo(Consumer<? super E> sink, int max);
+
+    // Adds e, waiting while the buffer is full
+    public void put(E e) throws InterruptedException {
+        for (int attempt = 0; !offer(e); attempt++) {
+            if (Thread.interrupted()) throw new InterruptedException();
+            waitStrategy.idle(attempt);
+        }
+    }
+
+    // Removes the oldest element, waiting while the buffer is empty
+    public E take() throws InterruptedException {
+        E e;
+        for (int attempt = 0; (e = poll()) == null; attempt++) {
+            if (Thread.interrupted()) throw new InterruptedException();
+            waitStrategy.idle(attempt);
+        }
+        return e;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    // Approximate while other threads are running (head and tail are read one after the other)
+    public int size() {
+        long head = counters.getAcquire(HEAD);
+        long tail = counters.getAcquire(TAIL);
+        return (int) Math.max(0, Math.min(buffer.length, tail - head));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    static void checkNotNull(Object e) {
+        if (e == null) throw new NullPointerException("Null elements are not allowed (null means empty)");
+    }
+}
+
+// Approach:
+// 1. Why not CircularArrayQueue + synchronized: every operation would take a lock (like
+//    ArrayBlockingQueue), and producer and consumer would contend on it even when the queue is
+//    neither full nor empty. Here they only touch their own counter and read the other one.
+// 2. Memory ordering: an element is written (plain) before its position is published with a release
+//    store, and read only after an acquire load sees that position, so the element is visible.
+// 3. Variants:
+//    - SpscRingBuffer: one producer thread and one consumer thread; no CAS at all.
+//    - MpmcRingBuffer: any number of each; a CAS claims a position, a per-slot sequence number
+//      tells whether the slot is free or filled for that lap.
+// 4. Batches (offerBatch / drainTo) publish many elements with one counter update.
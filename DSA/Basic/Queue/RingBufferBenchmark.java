@@ -0,0 +1,178 @@
+package Java_Bootcamp.DSA.Basic.Queue;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+// Ring Buffer Benchmark
+// Throughput: P producer threads hand M messages (preallocated Integers) to C consumer threads,
+// through SpscRingBuffer (1:1 only), MpmcRingBuffer and ArrayBlockingQueue (one lock, put/take).
+// The "batched" rows move up to 64 elements per offerBatch/drainTo call.
+// Latency: two threads ping-pong one message over a pair of queues; the round trip is timed with
+// System.nanoTime and reported as percentiles.
+// Purpose: Show what the lock-free handoff buys over a single lock: producer and consumer only write
+// their own counter, and a batch publishes many elements with one counter update.
+// With fewer cores than threads, SPIN wastes whole scheduler slices and latency is dominated by
+// context switches. Usage: RingBufferBenchmark [messages] [SPIN|YIELD|PARK]
+public class RingBufferBenchmark {
+    private static final int ROUNDS = 3;
+    private static final int CAPACITY = 1024;
+    private static final int BATCH = 64;
+    private static final Integer[] VALUES = new Integer[CAPACITY]; // Sent over and over, so nothing is boxed while timing
+
+    static {
+        for (int i = 0; i < VALUES.length; i++) VALUES[i] = i;
+    }
+
+    // The blocking operations the workloads need, so every queue runs the same code
+    private interface Channel {
+        void send(Integer value) throws InterruptedException;
+        Integer receive() throws InterruptedException;
+    }
+
+    private static Channel of(RingBuffer<Integer> ring) {
+        return new Channel() {
+            public void send(Integer value) throws InterruptedException { ring.put(value); }
+            public Integer receive() throws InterruptedException { return ring.take(); }
+        };
+    }
+
+    private static Channel of(BlockingQueue<Integer> queue) {
+        return new Channel() {
+            public void send(Integer value) throws InterruptedException { queue.put(value); }
+            public Integer receive() throws InterruptedException { return queue.take(); }
+        };
+    }
+
+    public static void main(String[] args) {
+        int messages = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        RingBuffer.WaitStrategy wait = args.length > 1 ? RingBuffer.WaitStrategy.valueOf(args[1]) : RingBuffer.WaitStrategy.YIELD;
+        System.out.printf("%d messages, capacity %d, %s waits, %d cores, best of %d rounds%n",
+                messages, CAPACITY, wait, Runtime.getRuntime().availableProcessors(), ROUNDS);
+
+        System.out.printf("%nThroughput (million messages/s)%n%-28s %10s %10s%n", "queue", "1P:1C", "2P:2C");
+        throughputRow("ArrayBlockingQueue", messages, () -> of(new ArrayBlockingQueue<>(CAPACITY)), true);
+        throughputRow("MpmcRingBuffer", messages, () -> of(new MpmcRingBuffer<>(CAPACITY, wait)), true);
+        throughputRow("SpscRingBuffer", messages, () -> of(new SpscRingBuffer<>(CAPACITY, wait)), false);
+        System.out.printf("%-28s %10.1f %10.1f%n", "MpmcRingBuffer batched",
+                best(() -> batched(new MpmcRingBuffer<>(CAPACITY, wait), 1, messages)),
+                best(() -> batched(new MpmcRingBuffer<>(CAPACITY, wait), 2, messages)));
+        System.out.printf("%-28s %10.1f %10s%n", "SpscRingBuffer batched",
+                best(() -> batched(new SpscRingBuffer<>(CAPACITY, wait), 1, messages)), "-");
+
+        int trips = Math.max(1_000, messages / 50);
+        System.out.printf("%nRound-trip latency over %d ping-pongs (ns)%n%-28s %10s %10s %10s %10s%n",
+                trips, "queue", "p50", "p99", "p99.9", "max");
+        latencyRow("ArrayBlockingQueue", trips, () -> of(new ArrayBlockingQueue<>(CAPACITY)));
+        latencyRow("MpmcRingBuffer", trips, () -> of(new MpmcRingBuffer<>(CAPACITY, wait)));
+        latencyRow("SpscRingBuffer", trips, () -> of(new SpscRingBuffer<>(CAPACITY, wait)));
+        BenchmarkUtils.printChecksum();
+    }
+
+    // Highest of ROUNDS measurements (each returns million messages per second)
+    private static double best(BenchmarkUtils.Measurement<Double> measurement) {
+        return BenchmarkUtils.best(ROUNDS, measurement, Comparator.reverseOrder());
+    }
+
+    private static void throughputRow(String name, int messages, Supplier<Channel> factory, boolean multi) {
+        double single = best(() -> throughput(factory.get(), 1, messages));
+        if (multi) {
+            System.out.printf("%-28s %10.1f %10.1f%n", name, single, best(() -> throughput(factory.get(), 2, messages)));
+        } else {
+            System.out.printf("%-28s %10.1f %10s%n", name, single, "-");
+        }
+    }
+
+    // `pairs` producers and `pairs` consumers, messages in total; returns million messages per second
+    private static double throughput(Channel channel, int pairs, int messages) throws InterruptedException {
+        int each = messages / pairs;
+        Thread[] threads = new Thread[2 * pairs];
+        for (int t = 0; t < pairs; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < each; i++) channel.send(VALUES[i & (CAPACITY - 1)]);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[pairs + t] = new Thread(() -> {
+                long sum = 0;
+                try {
+                    for (int i = 0; i < each; i++) sum += channel.receive();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                BenchmarkUtils.consume(sum);
+            });
+        }
+        return timed(threads, (long) each * pairs);
+    }
+
+    // Same as throughput, moving up to BATCH elements per call
+    private static double batched(RingBuffer<Integer> ring, int pairs, int messages) throws InterruptedException {
+        int each = messages / pairs;
+        Thread[] threads = new Thread[2 * pairs];
+        for (int t = 0; t < pairs; t++) {
+            threads[t] = new Thread(() -> {
+                for (int sent = 0; sent < each; ) {
+                    int from = sent & (CAPACITY - 1);
+                    int n = ring.offerBatch(VALUES, from, Math.min(BATCH, Math.min(each - sent, CAPACITY - from)));
+                    if (n == 0) Thread.yield();
+                    sent += n;
+                }
+            });
+            threads[pairs + t] = new Thread(() -> {
+                long[] sum = {0};
+                for (int received = 0; received < each; ) {
+                    int n = ring.drainTo(x -> sum[0] += x, Math.min(BATCH, each - received));
+                    if (n == 0) Thread.yield();
+                    received += n;
+                }
+                BenchmarkUtils.consume(sum[0]);
+            });
+        }
+        return timed(threads, (long) each * pairs);
+    }
+
+    private static double timed(Thread[] threads, long messages) throws InterruptedException {
+        long start = System.nanoTime();
+        for (Thread t : threads) t.start();
+        for (Thread t : threads) t.join();
+        return messages / ((System.nanoTime() - start) / 1e3);
+    }
+
+    // Round with the lowest p99.9
+    private static void latencyRow(String name, int trips, Supplier<Channel> factory) {
+        long[] best = BenchmarkUtils.best(ROUNDS, () -> latency(factory.get(), factory.get(), trips),
+                Comparator.comparingLong(result -> result[2]));
+        System.out.printf("%-28s %10d %10d %10d %10d%n", name, best[0], best[1], best[2], best[3]);
+    }
+
+    // Returns {p50, p99, p99.9, max} of the round trip ping -> echo -> pong
+    private static long[] latency(Channel ping, Channel pong, int trips) throws InterruptedException {
+        Thread echo = new Thread(() -> {
+            try {
+                for (int i = 0; i < trips; i++) pong.send(ping.receive());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        echo.start();
+        long[] samples = new long[trips];
+        long sum = 0;
+        for (int i = 0; i < trips; i++) {
+            long start = System.nanoTime();
+            ping.send(VALUES[i & (CAPACITY - 1)]);
+            sum += pong.receive();
+            samples[i] = System.nanoTime() - start;
+        }
+        echo.join();
+        BenchmarkUtils.consume(sum);
+        Arrays.sort(samples);
+        return new long[]{samples[trips / 2], samples[(int) (trips * 0.99)], samples[(int) (trips * 0.999)], samples[trips - 1]};
+    }
+}
@@ -0,0 +1,125 @@
+package Java_Bootcamp.DSA.Basic.Queue;
+
+import java.util.function.Consumer;
+
+// Queue Implementation: Single-Producer Single-Consumer lock-free ring buffer
+// Exactly one thread may call offer/offerBatch/put and exactly one (other) thread poll/drainTo/take.
+public class SpscRingBuffer<E> extends RingBuffer<E> {
+
+    public SpscRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    public SpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        checkNotNull(e);
+        long tail = counters.getPlain(TAIL); // Only this thread writes tail
+        if (tail - counters.getPlain(CACHED_HEAD) >= buffer.length) {
+            counters.setPlain(CACHED_HEAD, counters.getAcquire(HEAD)); // Re-read head only when full
+            if (tail - counters.getPlain(CACHED_HEAD) >= buffer.length) return false;
+        }
+        buffer[(int) tail & mask] = e;
+        counters.setRelease(TAIL, tail + 1); // Publish the element
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long head = counters.getPlain(HEAD); // Only this thread writes head
+        if (head >= counters.getPlain(CACHED_TAIL)) {
+            counters.setPlain(CACHED_TAIL, counters.getAcquire(TAIL)); // Re-read tail only when empty
+            if (head >= counters.getPlain(CACHED_TAIL)) return null;
+        }
+        int slot = (int) head & mask;
+        E e = (E) buffer[slot];
+        buffer[slot] = null; // Let the element be collected
+        counters.setRelease(HEAD, head + 1); // Free the slot
+        return e;
+    }
+
+    @Override
+    public int offerBatch(E[] items, int from, int count) {
+        long tail = counters.getPlain(TAIL);
+        long free = buffer.length - (tail - counters.getPlain(CACHED_HEAD));
+        if (free < count) {
+            counters.setPlain(CACHED_HEAD, counters.getAcquire(HEAD));
+            free = buffer.length - (tail - counters.getPlain(CACHED_HEAD));
+        }
+        int n = (int) Math.min(free, count);
+        for (int i = 0; i < n; i++) {
+            E e = items[from + i];
+            checkNotNull(e);
+            buffer[(int) (tail + i) & mask] = e;
+        }
+        if (n > 0) counters.setRelease(TAIL, tail + n); // One publish for the whole batch
+        return n;
+    }
+
+    // If sink throws, the elements it was already given stay removed and the rest stay queued
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super E> sink, int max) {
+        long head = counters.getPlain(HEAD);
+        long available = counters.getPlain(CACHED_TAIL) - head;
+        if (available < max) {
+            counters.setPlain(CACHED_TAIL, counters.getAcquire(TAIL));
+            available = counters.getPlain(CACHED_TAIL) - head;
+        }
+        int n = (int) Math.min(available, max);
+        int consumed = 0;
+        try {
+            while (consumed < n) {
+                int slot = (int) (head + consumed) & mask;
+                E e = (E) buffer[slot];
+                buffer[slot] = null;
+                consumed++;
+                sink.accept(e);
+            }
+        } finally {
+            if (consumed > 0) counters.setRelease(HEAD, head + consumed); // One release for the whole batch
+        }
+        return n;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        SpscRingBuffer<Integer> ring = new SpscRingBuffer<>(5); // Rounded up to 8
+        for (int i = 1; i <= 10; i++) {
+            if (!ring.offer(i)) System.out.println("Full at " + i); // Full at 9
+        }
+        System.out.println("Capacity " + ring.capacity() + ", poll: " + ring.poll() + ", size " + ring.size()); // 8, 1, 7
+        StringBuilder drained = new StringBuilder();
+        ring.drainTo(x -> drained.append(x).append(' '), 3);
+        System.out.println("Drained: " + drained); // 2 3 4
+        try {
+            ring.drainTo(x -> {
+                if (x == 6) throw new IllegalStateException("Sink failed at " + x);
+            }, 3);
+        } catch (IllegalStateException e) {
+            System.out.println("Caught: " + e.getMessage() + ", next poll: " + ring.poll()); // Sink failed at 6, next poll: 7
+        }
+
+        // One producer thread, one consumer thread: every value arrives exactly once, in order
+        SpscRingBuffer<Integer> shared = new SpscRingBuffer<>(1024, WaitStrategy.YIELD);
+        int total = 2_000_000;
+        Integer[] values = new Integer[total];
+        for (int i = 0; i < total; i++) values[i] = i;
+        Thread producer = new Thread(() -> {
+            int sent = 0;
+            while (sent < total) {
+                int n = shared.offerBatch(values, sent, Math.min(64, total - sent));
+                if (n == 0) Thread.yield();
+                sent += n;
+            }
+        });
+        producer.start();
+        boolean ok = true;
+        for (int expected = 0; expected < total; expected++) ok &= shared.take() == expected;
+        producer.join();
+        System.out.println("All values in order: " + (ok && shared.isEmpty())); // true
+    }
+}
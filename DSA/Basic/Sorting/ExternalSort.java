@@ -0,0 +1,357 @@
+package Java_Bootcamp.DSA.Basic.Sorting;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class ExternalSort {
+
+    static final int RECORD_BYTES = 4;                       // One big-endian int per record
+    private static final int MIN_BUFFER_BYTES = 64 * 1024;   // Smallest read buffer per run while merging
+    static final int IO_BUFFER_BYTES = 1 << 20;              // Buffer for reading input / writing output
+    private static final int MAX_FAN_IN = 256;               // Most runs merged at once
+
+    /**
+     * Receives progress: phase is "runs" or "merge pass N", done/total count records
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(String phase, long done, long total);
+    }
+
+    /**
+     * Summary of one sort: sizes, phase times and throughput
+     */
+    public static final class Stats {
+        public long records;
+        public int runs;
+        public int mergePasses;
+        public long bytesRead;
+        public long bytesWritten;
+        public long runNanos;    // Read, sort and spill the runs
+        public long mergeNanos;  // All merge passes
+
+        private static double mbPerSecond(long bytes, long nanos) {
+            return nanos == 0 ? 0 : bytes / 1e6 / (nanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            long bytes = records * RECORD_BYTES;
+            return String.format("%d records in %d runs, %d merge pass(es); runs %.0f ms (%.0f MB/s), "
+                            + "merge %.0f ms (%.0f MB/s), total %.0f MB/s; %d MB read, %d MB written",
+                    records, runs, mergePasses, runNanos / 1e6, mbPerSecond(bytes, runNanos),
+                    mergeNanos / 1e6, mbPerSecond(bytes * Math.max(1, mergePasses), mergeNanos),
+                    mbPerSecond(bytes, runNanos + mergeNanos), bytesRead >> 20, bytesWritten >> 20);
+        }
+    }
+
+    private final long memoryBudget;
+    private final Path tempDir;
+    private final ForkJoinPool pool;
+    private ProgressListener listener = (phase, done, total) -> { };
+
+    public static void main(String[] args) throws IOException {
+        // Problem: Sort a file of ints that is larger than the memory we may use
+        // (timed on a 100 MB file in ExternalSortBenchmark)
+        Path dir = Files.createTempDirectory("external-sort");
+        Path input = dir.resolve("input.bin"), output = dir.resolve("output.bin");
+        try {
+            // Solution: Sort runs that fit the budget, spill them, then k-way merge with a heap.
+            // A small file with a tiny budget gives many runs and several merge passes; checked against Arrays.sort
+            Random random = new Random(23);
+            int[] small = new int[200_000];
+            for (int i = 0; i < small.length; i++) small[i] = random.nextInt();
+            writeInts(input, small);
+            Stats stats = new ExternalSort(256 * 1024, dir).sort(input, output);
+            Arrays.sort(small);
+            System.out.println("Small file: " + stats.runs + " runs, " + stats.mergePasses + " merge passes");
+            System.out.println("Matches Arrays.sort: " + Arrays.equals(readInts(output), small)); // true
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    public ExternalSort(long memoryBudget, Path tempDir) {
+        this(memoryBudget, tempDir, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param memoryBudget bytes of heap the sort may use for records and buffers
+     * @param tempDir      directory for the spilled runs (deleted once merged)
+     * @param pool         pool that sorts each run (ParallelSort.mergeSort)
+     */
+    public ExternalSort(long memoryBudget, Path tempDir, ForkJoinPool pool) {
+        if (memoryBudget < 4 * MIN_BUFFER_BYTES) {
+            throw new IllegalArgumentException("Memory budget must be at least " + 4 * MIN_BUFFER_BYTES + " bytes");
+        }
+        this.memoryBudget = memoryBudget;
+        this.tempDir = tempDir;
+        this.pool = pool;
+    }
+
+    public void setProgressListener(ProgressListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * External Merge Sort Algorithm
+     *
+     * Sorts a file of big-endian int records into output (which may not be the input).
+     * 1. Runs: read as many records as fit in half the budget (the other half is MergeSort's
+     *    temp array, allocated once and reused for every run), sort them in place with
+     *    ParallelSort.mergeSort (MergeSort.merge on all cores), and spill them to a temp file
+     *    through a buffered FileChannel.
+     * 2. Merge: k-way merge of up to fanIn runs at a time, with a min-heap holding the current
+     *    head of each run. Each run gets an equal share of the budget as its read buffer; if
+     *    there are more runs than buffers, merged runs are merged again (another pass).
+     *
+     * Time Complexity: O(n log n) comparisons; the file is read and written
+     *                  1 + ceil(log_fanIn(runs)) times
+     * Space Complexity: O(memoryBudget) memory, O(n) temp disk space
+     */
+    public Stats sort(Path input, Path output) throws IOException {
+        if (input.toAbsolutePath().normalize().equals(output.toAbsolutePath().normalize())) {
+            throw new IllegalArgumentException("Output must be a different file than input");
+        }
+        long size = Files.size(input);
+        if (size % RECORD_BYTES != 0) throw new IllegalArgumentException("Input size is not a multiple of " + RECORD_BYTES + " bytes");
+        Stats stats = new Stats();
+        stats.records = size / RECORD_BYTES;
+        List<Path> runs = new ArrayList<>();
+        List<Path> merged = new ArrayList<>(); // Runs written so far by the current merge pass
+        try {
+            // Phase 1: sorted runs
+            long start = System.nanoTime();
+            createRuns(input, runs, stats);
+            stats.runNanos = System.nanoTime() - start;
+
+            // Phase 2: merge passes until one run is left
+            start = System.nanoTime();
+            int fanIn = (int) Math.max(2, Math.min(MAX_FAN_IN, memoryBudget / MIN_BUFFER_BYTES - 1));
+            while (runs.size() > 1) {
+                stats.mergePasses++;
+                String phase = "merge pass " + stats.mergePasses;
+                boolean last = runs.size() <= fanIn;
+                merged = new ArrayList<>();
+                long done = 0;
+                for (int from = 0; from < runs.size(); from += fanIn) {
+                    List<Path> group = runs.subList(from, Math.min(runs.size(), from + fanIn));
+                    Path target = last ? output : Files.createTempFile(tempDir, "run", ".bin");
+                    merged.add(target);
+                    done += mergeRuns(group, target, stats, phase, done);
+                    for (Path run : group) Files.deleteIfExists(run);
+                }
+                runs = merged;
+            }
+            if (runs.size() == 1 && !runs.get(0).equals(output)) {
+                Files.move(runs.get(0), output, StandardCopyOption.REPLACE_EXISTING); // Single run
+            } else if (runs.isEmpty()) {
+                Files.write(output, new byte[0]);
+            }
+            stats.mergeNanos = System.nanoTime() - start;
+            return stats;
+        } finally {
+            // If a merge pass failed, both its remaining inputs and the runs it already wrote are on disk
+            for (Path run : runs) {
+                if (!run.equals(output)) Files.deleteIfExists(run);
+            }
+            for (Path run : merged) {
+                if (!run.equals(output)) Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    // Reads budget-sized chunks, sorts each one and spills it to its own temp file
+    private void createRuns(Path input, List<Path> runs, Stats stats) throws IOException {
+        int bufferBytes = (int) Math.min(IO_BUFFER_BYTES, memoryBudget / 8);
+        long runLength = Math.min(Integer.MAX_VALUE - 8, (memoryBudget - bufferBytes) / (2 * RECORD_BYTES));
+        int[] run = new int[(int) Math.max(1, Math.min(runLength, stats.records))];
+        int[] temp = new int[run.length]; // MergeSort's half of the budget, shared by all runs
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bufferBytes);
+        long done = 0;
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            int count;
+            while ((count = readInts(in, buffer, run, stats)) > 0) {
+                ParallelSort.mergeSort(run, 0, count, temp, pool); // A short last run is sorted in place too
+                Path file = Files.createTempFile(tempDir, "run", ".bin");
+                runs.add(file);
+                try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    writeInts(out, buffer, run, count, stats);
+                }
+                done += count;
+                listener.onProgress("runs", done, stats.records);
+            }
+        }
+        stats.runs = runs.size();
+    }
+
+    // Merges the sorted runs into target; returns the number of records written
+    private long mergeRuns(List<Path> group, Path target, Stats stats, String phase, long doneBefore) throws IOException {
+        int k = group.size();
+        int bufferBytes = (int) Math.min(8 << 20, Math.max(MIN_BUFFER_BYTES, memoryBudget / (k + 1)));
+        bufferBytes -= bufferBytes % RECORD_BYTES;
+        RunReader[] readers = new RunReader[k];
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Min-heap of run indices, ordered by each run's current record (ties: lower run first)
+            int[] heap = new int[k];
+            int heapSize = 0;
+            for (int i = 0; i < k; i++) {
+                readers[i] = new RunReader(group.get(i), bufferBytes, stats);
+                if (readers[i].hasNext()) heap[heapSize++] = i;
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) siftDown(heap, heapSize, i, readers);
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bufferBytes);
+            long written = 0;
+            while (heapSize > 0) {
+                RunReader top = readers[heap[0]];
+                buffer.putInt(top.next());
+                if (!buffer.hasRemaining()) {
+                    flush(out, buffer, stats);
+                    written += bufferBytes / RECORD_BYTES;
+                    listener.onProgress(phase, doneBefore + written, stats.records);
+                }
+                if (!top.hasNext()) heap[0] = heap[--heapSize]; // Run exhausted
+                siftDown(heap, heapSize, 0, readers);
+            }
+            written += buffer.position() / RECORD_BYTES;
+            flush(out, buffer, stats);
+            listener.onProgress(phase, doneBefore + written, stats.records);
+            return written;
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) reader.close();
+            }
+        }
+    }
+
+    // Heap sift-down on run indices, comparing the runs' current records
+    private static void siftDown(int[] heap, int size, int i, RunReader[] readers) {
+        int run = heap[i];
+        int child;
+        while ((child = 2 * i + 1) < size) {
+            if (child + 1 < size && less(heap[child + 1], heap[child], readers)) child++;
+            if (!less(heap[child], run, readers)) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = run;
+    }
+
+    private static boolean less(int a, int b, RunReader[] readers) {
+        int x = readers[a].peek(), y = readers[b].peek();
+        return x < y || (x == y && a < b); // Stable: earlier runs first
+    }
+
+    // Buffered sequential reader of one sorted run
+    private static final class RunReader {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final Stats stats;
+        private boolean eof;
+
+        RunReader(Path file, int bufferBytes, Stats stats) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+            this.stats = stats;
+            buffer.flip(); // Start empty
+            fill();
+        }
+
+        boolean hasNext() {
+            return buffer.hasRemaining();
+        }
+
+        int peek() {
+            return buffer.getInt(buffer.position());
+        }
+
+        int next() throws IOException {
+            int value = buffer.getInt();
+            if (!buffer.hasRemaining()) fill();
+            return value;
+        }
+
+        private void fill() throws IOException {
+            buffer.clear();
+            while (!eof && buffer.hasRemaining()) {
+                int read = channel.read(buffer);
+                if (read < 0) eof = true;
+                else stats.bytesRead += read;
+            }
+            buffer.flip();
+        }
+
+        void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    // Fills run with up to run.length records; returns how many were read (0 at end of file)
+    static int readInts(FileChannel in, ByteBuffer buffer, int[] run, Stats stats) throws IOException {
+        int count = 0;
+        while (count < run.length) {
+            buffer.clear();
+            buffer.limit(Math.min(buffer.capacity(), (run.length - count) * RECORD_BYTES));
+            int read = 0;
+            while (buffer.hasRemaining()) {
+                int r = in.read(buffer);
+                if (r < 0) break;
+                read += r;
+            }
+            if (read == 0) break;
+            stats.bytesRead += read;
+            buffer.flip();
+            int ints = read / RECORD_BYTES;
+            buffer.asIntBuffer().get(run, count, ints);
+            count += ints;
+        }
+        return count;
+    }
+
+    static void writeInts(FileChannel out, ByteBuffer buffer, int[] values, int count, Stats stats) throws IOException {
+        for (int from = 0; from < count; ) {
+            buffer.clear();
+            int ints = Math.min(count - from, buffer.capacity() / RECORD_BYTES);
+            buffer.asIntBuffer().put(values, from, ints);
+            buffer.position(ints * RECORD_BYTES);
+            flush(out, buffer, stats);
+            from += ints;
+        }
+    }
+
+    // Writes the buffer's contents and empties it
+    private static void flush(FileChannel out, ByteBuffer buffer, Stats stats) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) stats.bytesWritten += out.write(buffer);
+        buffer.clear();
+    }
+
+    // Helpers for main: small files in one go
+
+    private static void writeInts(Path file, int[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * RECORD_BYTES);
+        buffer.asIntBuffer().put(values);
+        Files.write(file, buffer.array());
+    }
+
+    private static int[] readInts(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        int[] values = new int[buffer.remaining() / RECORD_BYTES];
+        buffer.asIntBuffer().get(values);
+        return values;
+    }
+}
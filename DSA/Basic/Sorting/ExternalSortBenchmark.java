@@ -0,0 +1,97 @@
+package Java_Bootcamp.DSA.Basic.Sorting;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Random;
+
+// External Sort Benchmark
+// Sorts a file of random ints several times larger than ExternalSort's memory budget and prints
+// ExternalSort.Stats: time and MB/s of the run phase and of the merge passes, and the bytes moved.
+// Purpose: Show where an external sort spends its time: building runs is CPU-bound (ParallelSort on
+// all cores), merging is I/O-bound, and a smaller budget means more runs and more merge passes.
+// Progress is printed about once a second. Usage: ExternalSortBenchmark [ints] [budget MB]
+public class ExternalSortBenchmark {
+    private static final int ROUNDS = 2;
+
+    public static void main(String[] args) throws IOException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 25_000_000; // 100 MB
+        long budget = (args.length > 1 ? Long.parseLong(args[1]) : 16L) << 20;
+        Path dir = Files.createTempDirectory("external-sort");
+        Path input = dir.resolve("input.bin"), output = dir.resolve("output.bin");
+        try {
+            System.out.printf("%d ints (%d MB), budget %d MB, best of %d rounds%n",
+                    n, (long) n * ExternalSort.RECORD_BYTES >> 20, budget >> 20, ROUNDS);
+            long checksum = writeRandomInts(input, n, new Random(23));
+            ExternalSort sorter = new ExternalSort(budget, dir);
+            long[] lastReport = {0};
+            sorter.setProgressListener((phase, done, total) -> {
+                if (done == total || System.nanoTime() - lastReport[0] > 1_000_000_000L) {
+                    lastReport[0] = System.nanoTime();
+                    System.out.printf("  %-12s %5.1f%%%n", phase, 100.0 * done / total);
+                }
+            });
+            ExternalSort.Stats best = BenchmarkUtils.best(ROUNDS, () -> {
+                try {
+                    ExternalSort.Stats stats = sorter.sort(input, output);
+                    BenchmarkUtils.consume(stats.bytesWritten);
+                    return stats;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, Comparator.comparingLong(stats -> stats.runNanos + stats.mergeNanos));
+            System.out.println(best);
+            System.out.println("Output sorted, same records: " + isSortedWithChecksum(output, n, checksum));
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+            Files.deleteIfExists(dir);
+        }
+        BenchmarkUtils.printChecksum();
+    }
+
+    // Writes n random ints; returns their sum as a checksum
+    private static long writeRandomInts(Path file, int n, Random random) throws IOException {
+        long sum = 0;
+        int[] chunk = new int[1 << 18];
+        ExternalSort.Stats ignored = new ExternalSort.Stats();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(ExternalSort.IO_BUFFER_BYTES);
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int written = 0; written < n; written += chunk.length) {
+                int count = Math.min(chunk.length, n - written);
+                for (int i = 0; i < count; i++) sum += chunk[i] = random.nextInt();
+                ExternalSort.writeInts(out, buffer, chunk, count, ignored);
+            }
+        }
+        return sum;
+    }
+
+    private static boolean isSortedWithChecksum(Path file, int n, long checksum) throws IOException {
+        long sum = 0, count = 0;
+        int previous = Integer.MIN_VALUE;
+        boolean sorted = true;
+        int[] chunk = new int[1 << 18];
+        ByteBuffer buffer = ByteBuffer.allocateDirect(ExternalSort.IO_BUFFER_BYTES);
+        ExternalSort.Stats ignored = new ExternalSort.Stats();
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            int read;
+            while ((read = ExternalSort.readInts(in, buffer, chunk, ignored)) > 0) {
+                for (int i = 0; i < read; i++) {
+                    sorted &= chunk[i] >= previous;
+                    previous = chunk[i];
+                    sum += chunk[i];
+                }
+                count += read;
+            }
+        }
+        return sorted && count == n && sum == checksum;
+    }
+}
@@ -1,5 +1,7 @@
 package Java_Bootcamp.DSA.Basic.Sorting;
 
+import Java_Bootcamp.DSA.IntermediateToAdvance.Heap.IntHeap;
+
 public class HeapSort {
 
     public static void main(String[] args) {
@@ -14,67 +16,44 @@ public class HeapSort {
     }
 
     /**
-     * Heap Sort Algorithm
+     * Heap Sort Algorithm (on IntHeap)
+     *
+     * Step 1: Flip every value to ~x, so the min-heap IntHeap orders them largest first.
+     * Step 2: Floyd heapify the array in place (4-ary layout: half the depth of a binary heap).
+     * Step 3: Poll the heap size times. Each poll frees the last heap slot, where the polled
+     *         value (flipped back) goes: the largest value lands at the end, and so on.
+     *
+     * No recursion, no extra array, nothing allocated but the IntHeap wrapper; the same code
+     * sorts a whole array or a sub-range.
      *
      * Time Complexity:
-     * - Building Max Heap: O(n)
+     * - Building the heap: O(n)
      * - Extracting Elements: O(n log n)
      * - Total: O(n log n)
      *
      * Space Complexity:
      * - O(1) Auxiliary space (In-place sorting)
      */
-    private static void heapSort(int[] arr) {
-        int n = arr.length;
-
-        // Step 1: Build Max Heap
-        // Start from last non-leaf node and heapify each node
-        for (int i = n / 2 - 1; i >= 0; i--) {
-            heapify(arr, n, i);
-        }
-
-        // Step 2: Extract elements from heap one by one
-        for (int i = n - 1; i > 0; i--) {
-            // Move current root (maximum) to end
-            int temp = arr[0];
-            arr[0] = arr[i];
-            arr[i] = temp;
-
-            // Call heapify on the reduced heap
-            heapify(arr, i, 0);
-        }
+    public static void heapSort(int[] arr) {
+        heapSort(arr, 0, arr.length - 1);
     }
 
     /**
-     * heapify - To maintain max-heap property
+     * Heap Sort on arr[low..high] (inclusive)
      *
-     * @param arr The array to be heapified
-     * @param n   The size of the heap
-     * @param i   The index to heapify from
+     * The heap is built over the range itself (IntHeap.heapify with an offset). Used as the
+     * O(n log n) fallback of introsort (ParallelSort) when quicksort recursion gets too deep.
      */
-    private static void heapify(int[] arr, int n, int i) {
-        int largest = i;           // Initialize largest as root
-        int left = 2 * i + 1;      // Left child index
-        int right = 2 * i + 2;     // Right child index
-
-        // If left child is larger than root
-        if (left < n && arr[left] > arr[largest]) {
-            largest = left;
-        }
-
-        // If right child is larger than current largest
-        if (right < n && arr[right] > arr[largest]) {
-            largest = right;
-        }
+    static void heapSort(int[] arr, int low, int high) {
+        int n = high - low + 1;
+        if (n < 2) return;
+        for (int i = low; i <= high; i++) arr[i] = ~arr[i];
 
-        // If largest is not root, swap and heapify affected subtree
-        if (largest != i) {
-            int temp = arr[i];
-            arr[i] = arr[largest];
-            arr[largest] = temp;
+        IntHeap heap = IntHeap.heapify(arr, low, n, 4);
 
-            // Recursively heapify the affected subtree
-            heapify(arr, n, largest);
+        while (!heap.isEmpty()) {
+            int top = heap.poll();
+            arr[low + heap.size()] = ~top;
         }
     }
 }
@@ -36,4 +36,18 @@ public class InsertionSort {
             System.out.println(Arrays.toString(arr));
         }
     }
+
+    // Insertion Sort on arr[low..high] (inclusive), without printing: used as the small-range base case
+    // of the faster sorts (ParallelSort), where it beats recursion below a few dozen elements
+    static void insertionSort(int[] arr, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int x = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > x) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = x;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,330 @@
+package Java_Bootcamp.DSA.Basic.Sorting;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelSort {
+
+    private static final int INSERTION_THRESHOLD = 32;  // Ranges this small go to InsertionSort
+    private static final int SEQUENTIAL_CUTOFF = 1 << 13; // Ranges this small are not split into tasks
+
+    public static void main(String[] args) {
+        // Problem: Sort large arrays using all cores, without quicksort's O(n^2) worst case
+        int[] arr = {64, 34, 25, 12, 22, 11, 90};
+        int[] arr1 = arr.clone();
+        System.out.println("Original array: " + Arrays.toString(arr));
+
+        // Solution 1: Parallel Merge Sort (halves sorted as separate tasks, then merged in parallel)
+        mergeSort(arr);
+        System.out.println("Parallel merge sort: " + Arrays.toString(arr));
+
+        // Solution 2: Parallel dual-pivot introsort
+        quickSort(arr1);
+        System.out.println("Parallel quick sort: " + Arrays.toString(arr1));
+
+        // Cross-check against Arrays.sort on random, sorted, reversed and few-distinct inputs
+        Random random = new Random(22);
+        boolean ok = true;
+        for (int trial = 0; trial < 40; trial++) {
+            int n = trial % 2 == 0 ? random.nextInt(200) : random.nextInt(300_000);
+            int[] a = new int[n];
+            for (int i = 0; i < n; i++) {
+                switch (trial % 4) {
+                    case 0: a[i] = random.nextInt(); break;
+                    case 1: a[i] = i; break;
+                    case 2: a[i] = n - i; break;
+                    default: a[i] = random.nextInt(4);
+                }
+            }
+            int[] expected = a.clone();
+            Arrays.sort(expected);
+            int[] b = a.clone();
+            int[] c = a.clone();
+            mergeSort(a);
+            quickSort(b);
+            ok &= Arrays.equals(a, expected) && Arrays.equals(b, expected);
+
+            // Range overload with a caller's temp array: only c[from..to-1] is sorted
+            int from = n / 4, to = n - n / 4;
+            int[] rangeExpected = c.clone();
+            Arrays.sort(rangeExpected, from, to);
+            mergeSort(c, from, to, new int[n], ForkJoinPool.commonPool());
+            ok &= Arrays.equals(c, rangeExpected);
+        }
+        System.out.println("Matches Arrays.sort: " + ok); // true
+
+        /*
+         * Time Complexity (p = number of worker threads):
+         * - Merge Sort: O(n log n) work, O(n log n / p + log^3 n) time with parallel merging
+         * - Quick Sort: O(n log n) expected, O(n log n) worst case (heap sort once recursion
+         *   passes 2 * log2(n) levels)
+         *
+         * Space Complexity:
+         * - Merge Sort: O(n) for one shared temp array
+         * - Quick Sort: O(log n) recursion stack, in place
+         */
+    }
+
+    /**
+     * Parallel Merge Sort on the common ForkJoinPool
+     */
+    public static void mergeSort(int[] arr) {
+        mergeSort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parallel Merge Sort Algorithm
+     *
+     * - Both halves are sorted as separate tasks (fork/join); ranges below SEQUENTIAL_CUTOFF
+     *   are sorted sequentially with MergeSort.merge, and tiny ranges with InsertionSort.
+     * - If the halves are already in order (arr[mid] <= arr[mid + 1]) the merge is skipped,
+     *   so sorted input costs O(n).
+     * - Large merges are split too: the middle of the longer run is found in the other run by
+     *   binary search, and the two halves of the output are merged in parallel.
+     * - One temp array is shared by all tasks (each task only uses its own range).
+     */
+    public static void mergeSort(int[] arr, ForkJoinPool pool) {
+        mergeSort(arr, 0, arr.length, new int[arr.length], pool);
+    }
+
+    /**
+     * Parallel Merge Sort of arr[from..to-1], using the caller's temp array
+     *
+     * temp must be at least to long; only temp[from..to-1] is used. A caller that sorts many
+     * arrays (e.g. ExternalSort's runs) allocates temp once and reuses it for every sort.
+     */
+    public static void mergeSort(int[] arr, int from, int to, int[] temp, ForkJoinPool pool) {
+        if (from < 0 || from > to || to > arr.length || to > temp.length) {
+            throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ") for arrays of length "
+                    + arr.length + " and " + temp.length);
+        }
+        if (to - from < 2) return;
+        pool.invoke(new MergeSortTask(arr, temp, from, to - 1));
+    }
+
+    private static final class MergeSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr, temp;
+        private final int low, high;
+
+        MergeSortTask(int[] arr, int[] temp, int low, int high) {
+            this.arr = arr;
+            this.temp = temp;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < SEQUENTIAL_CUTOFF) {
+                sequentialMergeSort(arr, temp, low, high);
+                return;
+            }
+            int mid = (low + high) >>> 1;
+            invokeAll(new MergeSortTask(arr, temp, low, mid), new MergeSortTask(arr, temp, mid + 1, high));
+            if (arr[mid] <= arr[mid + 1]) return; // Already in order
+            new MergeTask(arr, temp, low, mid, mid + 1, high, low).compute();
+            System.arraycopy(temp, low, arr, low, high - low + 1);
+        }
+    }
+
+    // Merges arr[lo1..hi1] and arr[lo2..hi2] into temp starting at out (stable)
+    private static final class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr, temp;
+        private final int lo1, hi1, lo2, hi2, out;
+
+        MergeTask(int[] arr, int[] temp, int lo1, int hi1, int lo2, int hi2, int out) {
+            this.arr = arr;
+            this.temp = temp;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1 + 1, n2 = hi2 - lo2 + 1;
+            if (n1 + n2 < SEQUENTIAL_CUTOFF) {
+                mergeInto(arr, temp, lo1, hi1, lo2, hi2, out);
+                return;
+            }
+            int split1, split2; // First index of each run that goes to the right half of the output
+            if (n1 >= n2) {
+                split1 = (lo1 + hi1) >>> 1;
+                split2 = lowerBound(arr, lo2, hi2 + 1, arr[split1]);   // Right-run elements < pivot go left
+            } else {
+                split2 = (lo2 + hi2) >>> 1;
+                split1 = upperBound(arr, lo1, hi1 + 1, arr[split2]);   // Left-run elements <= pivot go left
+            }
+            int outSplit = out + (split1 - lo1) + (split2 - lo2);
+            invokeAll(new MergeTask(arr, temp, lo1, split1 - 1, lo2, split2 - 1, out),
+                      new MergeTask(arr, temp, split1, hi1, split2, hi2, outSplit));
+        }
+    }
+
+    // Sequential merge sort of arr[low..high], reusing MergeSort.merge
+    private static void sequentialMergeSort(int[] arr, int[] temp, int low, int high) {
+        if (high - low < INSERTION_THRESHOLD) {
+            InsertionSort.insertionSort(arr, low, high);
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        sequentialMergeSort(arr, temp, low, mid);
+        sequentialMergeSort(arr, temp, mid + 1, high);
+        if (arr[mid] > arr[mid + 1]) MergeSort.merge(arr, temp, low, mid, high);
+    }
+
+    private static void mergeInto(int[] arr, int[] temp, int left, int hi1, int right, int hi2, int index) {
+        while (left <= hi1 && right <= hi2) {
+            temp[index++] = arr[left] <= arr[right] ? arr[left++] : arr[right++];
+        }
+        while (left <= hi1) temp[index++] = arr[left++];
+        while (right <= hi2) temp[index++] = arr[right++];
+    }
+
+    // First index in [from, to) with arr[i] >= key (to if none)
+    private static int lowerBound(int[] arr, int from, int to, int key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (arr[mid] < key) from = mid + 1;
+            else to = mid;
+        }
+        return from;
+    }
+
+    // First index in [from, to) with arr[i] > key (to if none)
+    private static int upperBound(int[] arr, int from, int to, int key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (arr[mid] <= key) from = mid + 1;
+            else to = mid;
+        }
+        return from;
+    }
+
+    /**
+     * Parallel Quick Sort on the common ForkJoinPool
+     */
+    public static void quickSort(int[] arr) {
+        quickSort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parallel Dual-Pivot Introsort
+     *
+     * - Dual-pivot partition (Yaroslavskiy): two pivots p <= q split the range into
+     *   < p, between p and q, and > q. The pivots are the 2nd and 4th of five evenly spaced
+     *   samples, so sorted and reversed input split evenly (QuickSort's first-element pivot
+     *   makes them O(n^2)).
+     * - Introsort guard: after 2 * log2(n) levels the range is finished with HeapSort,
+     *   so the worst case is O(n log n) even on adversarial input.
+     * - Ranges below INSERTION_THRESHOLD use InsertionSort; the three parts of ranges above
+     *   SEQUENTIAL_CUTOFF are sorted as parallel tasks.
+     */
+    public static void quickSort(int[] arr, ForkJoinPool pool) {
+        if (arr.length < 2) return;
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(arr.length));
+        pool.invoke(new QuickSortTask(arr, 0, arr.length - 1, depthLimit));
+    }
+
+    private static final class QuickSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int low, high, depth;
+
+        QuickSortTask(int[] arr, int low, int high, int depth) {
+            this.arr = arr;
+            this.low = low;
+            this.high = high;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < SEQUENTIAL_CUTOFF || depth == 0) {
+                sequentialQuickSort(arr, low, high, depth);
+                return;
+            }
+            long bounds = partition(arr, low, high);
+            int lt = (int) (bounds >>> 32), gt = (int) bounds;
+            QuickSortTask left = new QuickSortTask(arr, low, lt - 1, depth - 1);
+            QuickSortTask right = new QuickSortTask(arr, gt + 1, high, depth - 1);
+            if (arr[lt] < arr[gt]) {
+                invokeAll(left, new QuickSortTask(arr, lt + 1, gt - 1, depth - 1), right);
+            } else {
+                invokeAll(left, right); // p == q: the middle part is all equal to the pivot
+            }
+        }
+    }
+
+    private static void sequentialQuickSort(int[] arr, int low, int high, int depth) {
+        while (high - low >= INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                HeapSort.heapSort(arr, low, high);
+                return;
+            }
+            long bounds = partition(arr, low, high);
+            int lt = (int) (bounds >>> 32), gt = (int) bounds;
+            sequentialQuickSort(arr, low, lt - 1, depth);
+            if (arr[lt] < arr[gt]) sequentialQuickSort(arr, lt + 1, gt - 1, depth);
+            low = gt + 1; // Loop on the last part instead of recursing
+        }
+        InsertionSort.insertionSort(arr, low, high);
+    }
+
+    /**
+     * Dual-pivot partition of arr[low..high]
+     *
+     * Returns the final pivot positions packed as (lt << 32) | gt, with
+     * arr[low..lt-1] < arr[lt] = p <= arr[lt+1..gt-1] <= arr[gt] = q < arr[gt+1..high].
+     */
+    private static long partition(int[] arr, int low, int high) {
+        // Step 1: Sort five evenly spaced samples; the 2nd and 4th become the pivots
+        int sixth = (high - low + 1) / 6;
+        int e3 = (low + high) >>> 1;
+        int e2 = e3 - sixth, e1 = e2 - sixth, e4 = e3 + sixth, e5 = e4 + sixth;
+        int[] samples = {e1, e2, e3, e4, e5};
+        for (int i = 1; i < 5; i++) {
+            for (int j = i; j > 0 && arr[samples[j - 1]] > arr[samples[j]]; j--) {
+                swap(arr, samples[j - 1], samples[j]);
+            }
+        }
+        swap(arr, low, e2);
+        swap(arr, high, e4);
+        int p = arr[low], q = arr[high];
+
+        // Step 2: One scan: [low+1, lt) < p, [lt, k) in [p, q], (gt, high-1] > q
+        int lt = low + 1, gt = high - 1;
+        for (int k = lt; k <= gt; k++) {
+            int x = arr[k];
+            if (x < p) {
+                swap(arr, k, lt++);
+            } else if (x > q) {
+                while (arr[gt] > q && k < gt) gt--;
+                swap(arr, k, gt--);
+                if (arr[k] < p) swap(arr, k, lt++);
+            }
+        }
+
+        // Step 3: Move the pivots to their final positions
+        lt--;
+        gt++;
+        swap(arr, low, lt);
+        swap(arr, high, gt);
+        return ((long) lt << 32) | gt;
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
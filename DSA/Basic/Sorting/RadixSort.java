@@ -1,79 +1,269 @@
 package Java_Bootcamp.DSA.Basic.Sorting;
 
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
 public class RadixSort {
 
+    private static final int RADIX = 256;                // One byte per pass
+    private static final int INSERTION_THRESHOLD = 64;   // Tiny arrays: insertion sort is faster
+    private static final int PARALLEL_THRESHOLD = 1 << 17; // Histograms are built in parallel above this
+
     public static void main(String[] args) {
-        // Problem: Sort an array of non-negative integers using Radix Sort
-        int[] arr = {170, 45, 75, 90, 802, 24, 2, 66};
-        System.out.println("Original array: " + java.util.Arrays.toString(arr));
+        // Problem: Sort an array of integers (including negatives) using Radix Sort
+        int[] arr = {170, 45, -75, 90, 802, 24, -2, 66, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        System.out.println("Original array: " + Arrays.toString(arr));
 
         // Solution: Apply Radix Sort
         radixSort(arr);
 
-        System.out.println("Sorted array: " + java.util.Arrays.toString(arr));
+        System.out.println("Sorted array: " + Arrays.toString(arr));
+
+        long[] longs = {5_000_000_000L, -1, 0, -5_000_000_000L, 42};
+        radixSort(longs);
+        System.out.println("Sorted longs: " + Arrays.toString(longs));
+
+        // Key-extractor mode: sort words by length (stable: equal lengths keep their order)
+        String[] words = {"pear", "fig", "banana", "kiwi", "apple", "plum"};
+        radixSort(words, String::length);
+        System.out.println("Words by length: " + Arrays.toString(words)); // [fig, pear, kiwi, plum, apple, banana]
+
+        // Cross-check against Arrays.sort: random, small-range (constant high bytes) and all-equal inputs
+        Random random = new Random(21);
+        boolean ok = true;
+        long[] scratch = new long[PARALLEL_THRESHOLD * 3]; // One buffer for every long batch
+        for (int trial = 0; trial < 60; trial++) {
+            int n = trial % 3 == 0 ? random.nextInt(100) : random.nextInt(PARALLEL_THRESHOLD * 3);
+            int[] a = new int[n];
+            long[] b = new long[n];
+            for (int i = 0; i < n; i++) {
+                a[i] = trial % 4 == 0 ? random.nextInt(1000) - 500 : trial % 4 == 1 ? 7 : random.nextInt();
+                b[i] = trial % 4 == 0 ? random.nextInt(1000) - 500 : random.nextLong();
+            }
+            int[] expectedA = a.clone();
+            long[] expectedB = b.clone();
+            Arrays.sort(expectedA);
+            Arrays.sort(expectedB);
+            radixSort(a);
+            radixSort(b, scratch);
+            ok &= Arrays.equals(a, expectedA) && Arrays.equals(b, expectedB);
+
+            Integer[] boxed = new Integer[n];
+            for (int i = 0; i < n; i++) boxed[i] = random.nextInt(2000) - 1000;
+            Integer[] expectedBoxed = boxed.clone();
+            Arrays.sort(expectedBoxed, (x, y) -> Integer.compare(x / 10, y / 10)); // Stable, by key
+            radixSort(boxed, x -> x / 10);
+            for (int i = 0; i < n; i++) ok &= boxed[i] == expectedBoxed[i]; // Same objects, same order
+        }
+        System.out.println("Matches Arrays.sort: " + ok); // true
     }
 
     /**
-     * Radix Sort Algorithm
+     * Radix Sort Algorithm (LSD, base 256)
+     *
+     * Sorts one byte per pass, least significant byte first. Each pass is a stable counting sort,
+     * so after the last pass the array is ordered by all bytes.
+     * - Negatives: the top byte has its sign bit flipped (x ^ 0x80), so negative numbers sort
+     *   before positive ones.
+     * - One scratch buffer: passes alternate between arr and scratch (no new array per pass).
+     * - Skipped passes: if every element has the same byte at a position, that pass is skipped
+     *   (e.g. small values skip the high bytes).
+     * - One histogram scan for all bytes at once, done in parallel per chunk for large arrays.
      *
      * Time Complexity:
-     * - Best, Average, Worst: O(n * k), where k is number of digits (≈ log(max))
+     * - Best, Average, Worst: O(n * k), where k is the number of non-constant bytes (at most 4)
      *
      * Space Complexity:
-     * - O(n + k): Uses additional count array and output array
+     * - O(n + 256 * k): one scratch array plus the histograms
      */
-    private static void radixSort(int[] arr) {
-        int max = getMax(arr); // Get maximum value in the array
+    public static void radixSort(int[] arr) {
+        radixSort(arr, new int[arr.length]);
+    }
 
-        // Apply counting sort for every digit place (1s, 10s, 100s, ...)
-        for (int exp = 1; max / exp > 0; exp *= 10) {
-            countingSortByDigit(arr, exp);
+    /**
+     * Same as radixSort(arr), reusing the caller's scratch array (length >= arr.length)
+     * so repeated sorts of large batches allocate nothing.
+     */
+    public static void radixSort(int[] arr, int[] scratch) {
+        int n = arr.length;
+        if (n < INSERTION_THRESHOLD) {
+            insertionSort(arr);
+            return;
+        }
+        if (scratch.length < n) throw new IllegalArgumentException("Scratch array too small");
+
+        // Step 1: Count every byte of every element (4 histograms of 256 counts)
+        int[] counts = histograms(n, 4, (from, to, count) -> {
+            for (int i = from; i < to; i++) {
+                int x = arr[i];
+                count[x & 0xFF]++;
+                count[RADIX + ((x >>> 8) & 0xFF)]++;
+                count[2 * RADIX + ((x >>> 16) & 0xFF)]++;
+                count[3 * RADIX + ((x >>> 24) ^ 0x80)]++; // Sign bit flipped
+            }
+        });
+
+        // Step 2: One stable counting sort per byte that is not constant
+        int[] src = arr, dst = scratch;
+        for (int pass = 0; pass < 4; pass++) {
+            int[] offsets = offsets(counts, pass, n);
+            if (offsets == null) continue; // Constant byte: the pass would not move anything
+            int shift = 8 * pass;
+            int flip = pass == 3 ? 0x80 : 0;
+            for (int i = 0; i < n; i++) {
+                int x = src[i];
+                dst[offsets[((x >>> shift) & 0xFF) ^ flip]++] = x;
+            }
+            int[] t = src;
+            src = dst;
+            dst = t;
         }
+
+        // Step 3: After an odd number of passes the result is in scratch
+        if (src != arr) System.arraycopy(src, 0, arr, 0, n);
     }
 
     /**
-     * Helper function to find the maximum element in the array
+     * Radix Sort for long values (8 byte passes, same rules as the int version)
      */
-    private static int getMax(int[] arr) {
-        int max = arr[0];
-        for (int num : arr) {
-            if (num > max) max = num;
-        }
-        return max;
+    public static void radixSort(long[] arr) {
+        radixSort(arr, new long[arr.length]);
     }
 
     /**
-     * Counting Sort based on digit represented by exp
-     *
-     * @param arr The array to be sorted
-     * @param exp The current digit place (1, 10, 100, ...)
+     * Same as radixSort(long[]), reusing the caller's scratch array (length >= arr.length)
      */
-    private static void countingSortByDigit(int[] arr, int exp) {
+    public static void radixSort(long[] arr, long[] scratch) {
         int n = arr.length;
-        int[] output = new int[n];      // Output array
-        int[] count = new int[10];      // Count array for base 10 digits
+        if (n < INSERTION_THRESHOLD) {
+            Arrays.sort(arr);
+            return;
+        }
+        if (scratch.length < n) throw new IllegalArgumentException("Scratch array too small");
+        int[] counts = histograms(n, 8, (from, to, count) -> {
+            for (int i = from; i < to; i++) {
+                long x = arr[i];
+                for (int pass = 0; pass < 7; pass++) count[pass * RADIX + (int) ((x >>> (8 * pass)) & 0xFF)]++;
+                count[7 * RADIX + (int) ((x >>> 56) ^ 0x80)]++; // Sign bit flipped
+            }
+        });
+        long[] src = arr, dst = scratch;
+        for (int pass = 0; pass < 8; pass++) {
+            int[] offsets = offsets(counts, pass, n);
+            if (offsets == null) continue;
+            int shift = 8 * pass;
+            int flip = pass == 7 ? 0x80 : 0;
+            for (int i = 0; i < n; i++) {
+                long x = src[i];
+                dst[offsets[(int) ((x >>> shift) & 0xFF) ^ flip]++] = x;
+            }
+            long[] t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != arr) System.arraycopy(src, 0, arr, 0, n);
+    }
 
-        // Step 1: Count occurrences of digits
-        for (int i = 0; i < n; i++) {
-            int digit = (arr[i] / exp) % 10;
-            count[digit]++;
+    /**
+     * Radix Sort for objects by an int key (stable)
+     *
+     * The key of each object is extracted once; keys and objects are then moved together,
+     * byte by byte, with one scratch array for each.
+     *
+     * Time Complexity: O(n * k) plus n key extractions
+     * Space Complexity: O(n)
+     */
+    public static <T> void radixSort(T[] items, ToIntFunction<? super T> key) {
+        int n = items.length;
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) keys[i] = key.applyAsInt(items[i]);
+        int[] counts = histograms(n, 4, (from, to, count) -> {
+            for (int i = from; i < to; i++) {
+                int x = keys[i];
+                count[x & 0xFF]++;
+                count[RADIX + ((x >>> 8) & 0xFF)]++;
+                count[2 * RADIX + ((x >>> 16) & 0xFF)]++;
+                count[3 * RADIX + ((x >>> 24) ^ 0x80)]++;
+            }
+        });
+        int[] srcKeys = keys, dstKeys = new int[n];
+        Object[] src = items, dst = new Object[n];
+        for (int pass = 0; pass < 4; pass++) {
+            int[] offsets = offsets(counts, pass, n);
+            if (offsets == null) continue;
+            int shift = 8 * pass;
+            int flip = pass == 3 ? 0x80 : 0;
+            for (int i = 0; i < n; i++) {
+                int x = srcKeys[i];
+                int at = offsets[((x >>> shift) & 0xFF) ^ flip]++;
+                dstKeys[at] = x;
+                dst[at] = src[i];
+            }
+            int[] tk = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = tk;
+            Object[] t = src;
+            src = dst;
+            dst = t;
         }
+        if (src != items) System.arraycopy(src, 0, items, 0, n);
+    }
+
+    /**
+     * Counts one chunk [from, to) into count (passes * 256 slots)
+     */
+    private interface ChunkCounter {
+        void count(int from, int to, int[] count);
+    }
 
-        // Step 2: Accumulate the count
-        for (int i = 1; i < 10; i++) {
-            count[i] += count[i - 1];
+    /**
+     * Builds all byte histograms in one scan. Large arrays are split into chunks that are
+     * counted in parallel (each chunk into its own array), then the chunk counts are added up.
+     */
+    private static int[] histograms(int n, int passes, ChunkCounter counter) {
+        if (n < PARALLEL_THRESHOLD) {
+            int[] count = new int[passes * RADIX];
+            counter.count(0, n, count);
+            return count;
+        }
+        int chunks = Math.max(1, Math.min(4 * Runtime.getRuntime().availableProcessors(), n / (PARALLEL_THRESHOLD / 4)));
+        int[][] perChunk = new int[chunks][passes * RADIX];
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                counter.count((int) ((long) n * c / chunks), (int) ((long) n * (c + 1) / chunks), perChunk[c]));
+        int[] count = perChunk[0];
+        for (int c = 1; c < chunks; c++) {
+            for (int i = 0; i < count.length; i++) count[i] += perChunk[c][i];
         }
+        return count;
+    }
 
-        // Step 3: Build the output array (stable sort, right to left)
-        for (int i = n - 1; i >= 0; i--) {
-            int digit = (arr[i] / exp) % 10;
-            output[count[digit] - 1] = arr[i];
-            count[digit]--;
+    /**
+     * Turns the histogram of one pass into start offsets (prefix sums),
+     * or returns null if one value holds all n elements (the pass can be skipped)
+     */
+    private static int[] offsets(int[] counts, int pass, int n) {
+        int[] offsets = new int[RADIX];
+        int sum = 0;
+        for (int b = 0; b < RADIX; b++) {
+            int c = counts[pass * RADIX + b];
+            if (c == n) return null;
+            offsets[b] = sum;
+            sum += c;
         }
+        return offsets;
+    }
 
-        // Step 4: Copy output to original array
-        for (int i = 0; i < n; i++) {
-            arr[i] = output[i];
+    private static void insertionSort(int[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            int x = arr[i];
+            int j = i - 1;
+            while (j >= 0 && arr[j] > x) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = x;
         }
     }
 }
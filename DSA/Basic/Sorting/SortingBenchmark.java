@@ -0,0 +1,60 @@
+package Java_Bootcamp.DSA.Basic.Sorting;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Consumer;
+
+// Sorting Benchmark
+// Times ParallelSort.mergeSort, ParallelSort.quickSort and RadixSort.radixSort against Arrays.sort
+// and Arrays.parallelSort on several input shapes, including the ones that break a fixed-pivot
+// quicksort (sorted, reversed, all equal) and an organ pipe (ascending then descending).
+// Purpose: Show how the ForkJoin sorts scale with cores, that the dual-pivot introsort keeps its
+// n log n bound on inputs that defeat a naive pivot, and that RadixSort's cost (four counting
+// passes, fewer when a byte is the same in every key) does not depend on the order at all.
+// Each round sorts a fresh copy of the input; making the copy is not timed.
+// QuickSort.quickSort is not timed: with its first-element pivot, sorted input recurses n levels
+// deep, and its partition loops forever when the pivot value occurs more than once.
+public class SortingBenchmark {
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        Random random = new Random(22);
+        String[] inputs = {"random", "sorted", "reversed", "organ pipe", "few distinct", "all equal"};
+        int[][] data = new int[inputs.length][n];
+        for (int i = 0; i < n; i++) {
+            data[0][i] = random.nextInt();
+            data[1][i] = i;
+            data[2][i] = n - i;
+            data[3][i] = i < n / 2 ? i : n - i;
+            data[4][i] = random.nextInt(16);
+            data[5][i] = 42;
+        }
+
+        System.out.printf("n=%d, %d cores, best of %d rounds (ms)%n", n, Runtime.getRuntime().availableProcessors(), ROUNDS);
+        System.out.printf("%-24s", "sort");
+        for (String input : inputs) System.out.printf(" %12s", input);
+        System.out.println();
+        run("Arrays.sort", data, Arrays::sort);
+        run("Arrays.parallelSort", data, Arrays::parallelSort);
+        run("ParallelSort.mergeSort", data, ParallelSort::mergeSort);
+        run("ParallelSort.quickSort", data, ParallelSort::quickSort);
+        run("RadixSort.radixSort", data, RadixSort::radixSort);
+        BenchmarkUtils.printChecksum();
+    }
+
+    // Times sort on every data set; each round sorts a fresh copy
+    private static void run(String name, int[][] data, Consumer<int[]> sort) {
+        System.out.printf("%-24s", name);
+        for (int[] input : data) {
+            long[] best = BenchmarkUtils.bestNanos(ROUNDS, input::clone, copy -> {
+                sort.accept(copy);
+                return copy[copy.length / 2];
+            });
+            System.out.printf(" %12.1f", BenchmarkUtils.millis(best[0]));
+        }
+        System.out.println();
+    }
+}
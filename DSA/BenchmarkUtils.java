@@ -0,0 +1,115 @@
+package Java_Bootcamp.DSA;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Supplier;
+
+// Utility class shared by the *Benchmark programs
+// Purpose: Centralizes the timing loop and the result sink, so each benchmark only describes its workloads.
+// The harness has no external dependencies (no JMH): every case runs for several rounds so the JIT has compiled
+// it, and the best round is what the benchmark reports (fastest time, or the round a comparator ranks first).
+// Results are indicative, not statistically rigorous.
+// Java-Specific Notes:
+// - Timed code returns a long derived from its work (a sum, a count, a checksum). consume() folds it into a
+//   static sink that the benchmark prints at the end, so the JIT cannot treat the work as dead code.
+// - Per-round setup (a fresh structure, a cloned input array) runs outside the timed region.
+// - InterruptedException from timed code is rethrown as IllegalStateException with the interrupt flag set,
+//   so benchmark main methods do not all have to declare it.
+public final class BenchmarkUtils {
+    private static long sink;
+
+    private BenchmarkUtils() {
+    }
+
+    // A timed piece of work; returns a value derived from its results
+    @FunctionalInterface
+    public interface Task {
+        long run() throws InterruptedException;
+    }
+
+    // One timed phase of a workload, run on the state created for the round
+    @FunctionalInterface
+    public interface Phase<S> {
+        long run(S state) throws InterruptedException;
+    }
+
+    // A complete measurement that reports its own result (throughput, percentiles, ...)
+    @FunctionalInterface
+    public interface Measurement<R> {
+        R run() throws InterruptedException;
+    }
+
+    // Folds a result into the checksum (thread-safe, for worker threads too)
+    public static synchronized void consume(long value) {
+        sink += value;
+    }
+
+    public static synchronized long checksum() {
+        return sink;
+    }
+
+    public static void printChecksum() {
+        System.out.println("(checksum " + checksum() + ")");
+    }
+
+    // Best wall time of task over rounds, in nanoseconds
+    public static long bestNanos(int rounds, Task task) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            long result = call(task);
+            best = Math.min(best, System.nanoTime() - start);
+            consume(result);
+        }
+        return best;
+    }
+
+    // Best wall time of each phase, in nanoseconds. Every round creates fresh state with setup (not timed)
+    // and then runs the phases on it in order, so later phases see what earlier ones built.
+    @SafeVarargs
+    public static <S> long[] bestNanos(int rounds, Supplier<S> setup, Phase<S>... phases) {
+        long[] best = new long[phases.length];
+        Arrays.fill(best, Long.MAX_VALUE);
+        for (int round = 0; round < rounds; round++) {
+            S state = setup.get();
+            for (int p = 0; p < phases.length; p++) {
+                Phase<S> phase = phases[p];
+                long start = System.nanoTime();
+                long result = call(() -> phase.run(state));
+                best[p] = Math.min(best[p], System.nanoTime() - start);
+                consume(result);
+            }
+        }
+        return best;
+    }
+
+    // Runs measurement rounds times and returns the result that order ranks first
+    // (e.g. Comparator.reverseOrder() for the highest throughput)
+    public static <R> R best(int rounds, Measurement<R> measurement, Comparator<? super R> order) {
+        R best = null;
+        for (int round = 0; round < rounds; round++) {
+            R result;
+            try {
+                result = measurement.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Benchmark interrupted", e);
+            }
+            if (best == null || order.compare(result, best) < 0) best = result;
+        }
+        return best;
+    }
+
+    public static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static long call(Task task) {
+        try {
+            return task.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Benchmark interrupted", e);
+        }
+    }
+}
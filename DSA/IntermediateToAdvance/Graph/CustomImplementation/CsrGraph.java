@@ -0,0 +1,301 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Graph.CustomImplementation;
+
+import java.util.*;
+
+// CsrGraph.java
+// Compressed Sparse Row (CSR) graph built once from an edge list, for large sparse graphs
+// Graph.java's int[maxVertices][maxVertices] matrix needs V^2 memory; CSR needs only V + E ints:
+//   offsets[v] .. offsets[v + 1] - 1 are the positions of v's neighbours inside targets[]
+// Vertex labels can be any ints; they are remapped to dense ids 0..V-1 with a sorted label array
+// (binary search, no HashMap boxing). If labels are already 0..V-1 the remap is skipped.
+// BFS/DFS return int[] of labels in visit order and use a bitset for visited vertices
+// The graph is immutable after construction (rebuild it to add or remove edges)
+
+public class CsrGraph {
+    private final int[] offsets;  // Size V + 1, row start of every vertex in targets
+    private final int[] targets;  // Size E (2E for undirected), neighbour ids grouped by source
+    private final int[] labels;   // labels[id] = original vertex label, null when labels are 0..V-1
+    private final boolean isDirected;
+
+    private CsrGraph(int[] offsets, int[] targets, int[] labels, boolean isDirected) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.labels = labels;
+        this.isDirected = isDirected;
+    }
+
+    // Builds the graph from an int[][] edge list ({source, destination} pairs)
+    // Time: O(E log V), Space: O(V + E)
+    public static CsrGraph fromEdges(int[][] edges, boolean isDirected) {
+        int[] sources = new int[edges.length];
+        int[] destinations = new int[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            sources[i] = edges[i][0];
+            destinations[i] = edges[i][1];
+        }
+        return fromEdges(sources, destinations, isDirected);
+    }
+
+    // Builds the graph from parallel source/destination arrays
+    // Steps:
+    // 1. Collect all endpoint labels, sort, and drop duplicates -> dense ids (skipped if already 0..V-1)
+    // 2. Count out-degrees into offsets[], prefix-sum them into row starts
+    // 3. Scatter every edge into targets[] (counting sort by source), then sort each row
+    // Time: O((V + E) log V), Space: O(V + E)
+    public static CsrGraph fromEdges(int[] sources, int[] destinations, boolean isDirected) {
+        if (sources.length != destinations.length) {
+            throw new IllegalArgumentException("sources and destinations differ in length");
+        }
+        int edgeCount = sources.length;
+
+        // Step 1: dense vertex ids
+        int[] all = new int[2 * edgeCount];
+        System.arraycopy(sources, 0, all, 0, edgeCount);
+        System.arraycopy(destinations, 0, all, edgeCount, edgeCount);
+        Arrays.sort(all);
+        int vertexCount = 0;
+        for (int i = 0; i < all.length; i++) {
+            if (i == 0 || all[i] != all[i - 1]) all[vertexCount++] = all[i];
+        }
+        boolean identity = vertexCount == 0 || (all[0] == 0 && all[vertexCount - 1] == vertexCount - 1);
+        int[] labels = identity ? null : Arrays.copyOf(all, vertexCount);
+        int[] src = identity ? sources : remap(sources, labels);
+        int[] dst = identity ? destinations : remap(destinations, labels);
+        return build(vertexCount, src, dst, labels, isDirected);
+    }
+
+    // Builds the graph when vertices are already 0..vertexCount-1 (isolated vertices included)
+    // This is the shape the algorithm classes use: fromDenseEdges(V, edges, ...)
+    // Time: O(V + E log(E/V)), Space: O(V + E)
+    public static CsrGraph fromDenseEdges(int vertexCount, int[][] edges, boolean isDirected) {
+        int[] sources = new int[edges.length];
+        int[] destinations = new int[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            sources[i] = edges[i][0];
+            destinations[i] = edges[i][1];
+        }
+        return fromDenseEdges(vertexCount, sources, destinations, isDirected);
+    }
+    public static CsrGraph fromDenseEdges(int vertexCount, int[] sources, int[] destinations, boolean isDirected) {
+        if (sources.length != destinations.length) {
+            throw new IllegalArgumentException("sources and destinations differ in length");
+        }
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] < 0 || sources[i] >= vertexCount || destinations[i] < 0 || destinations[i] >= vertexCount) {
+                throw new IllegalArgumentException("Edge " + i + " has a vertex outside 0.." + (vertexCount - 1));
+            }
+        }
+        return build(vertexCount, sources, destinations, null, isDirected);
+    }
+
+    private static CsrGraph build(int vertexCount, int[] src, int[] dst, int[] labels, boolean isDirected) {
+        int edgeCount = src.length;
+
+        // Step 2: degrees -> row offsets
+        int[] offsets = new int[vertexCount + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            offsets[src[i] + 1]++;
+            if (!isDirected) offsets[dst[i] + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) offsets[v + 1] += offsets[v];
+
+        // Step 3: scatter edges into their rows
+        int[] targets = new int[offsets[vertexCount]];
+        int[] cursor = Arrays.copyOf(offsets, vertexCount);
+        for (int i = 0; i < edgeCount; i++) {
+            targets[cursor[src[i]]++] = dst[i];
+            if (!isDirected) targets[cursor[dst[i]]++] = src[i];
+        }
+        for (int v = 0; v < vertexCount; v++) Arrays.sort(targets, offsets[v], offsets[v + 1]);
+        return new CsrGraph(offsets, targets, labels, isDirected);
+    }
+
+    private static int[] remap(int[] endpoints, int[] labels) {
+        int[] ids = new int[endpoints.length];
+        for (int i = 0; i < endpoints.length; i++) ids[i] = Arrays.binarySearch(labels, endpoints[i]);
+        return ids;
+    }
+
+    // Label <-> dense id conversion
+    // Time: O(log V), Space: O(1)
+    private int idOf(int label) {
+        if (labels == null) return label >= 0 && label < vertexCount() ? label : -1;
+        int id = Arrays.binarySearch(labels, label);
+        return id >= 0 ? id : -1;
+    }
+    private int labelOf(int id) {
+        return labels == null ? id : labels[id];
+    }
+
+    public int vertexCount() {
+        return offsets.length - 1;
+    }
+
+    // Number of edges as given (an undirected edge counts once)
+    public int edgeCount() {
+        return isDirected ? targets.length : targets.length / 2;
+    }
+
+    public boolean isDirected() {
+        return isDirected;
+    }
+
+    // Returns the out-degree of a vertex (0 if the vertex does not exist)
+    // Time: O(log V), Space: O(1)
+    public int degree(int vertex) {
+        int id = idOf(vertex);
+        return id < 0 ? 0 : offsets[id + 1] - offsets[id];
+    }
+
+    // Returns the neighbour labels of a vertex in ascending order
+    // Time: O(log V + degree), Space: O(degree)
+    public int[] neighbors(int vertex) {
+        int id = idOf(vertex);
+        if (id < 0) return new int[0];
+        int[] result = Arrays.copyOfRange(targets, offsets[id], offsets[id + 1]);
+        for (int i = 0; i < result.length; i++) result[i] = labelOf(result[i]);
+        return result;
+    }
+
+    // Checks for an edge with a binary search inside the source's (sorted) row
+    // Time: O(log V + log degree), Space: O(1)
+    public boolean hasEdge(int source, int destination) {
+        int s = idOf(source), d = idOf(destination);
+        if (s < 0 || d < 0) return false;
+        return Arrays.binarySearch(targets, offsets[s], offsets[s + 1], d) >= 0;
+    }
+
+    // Returns the graph with every edge reversed (same vertex labels)
+    // Undirected graphs are their own transpose
+    // Time: O(V + E), Space: O(V + E)
+    public CsrGraph transpose() {
+        if (!isDirected) return this;
+        int vertexCount = vertexCount();
+        int[] reverseOffsets = new int[vertexCount + 1];
+        for (int t : targets) reverseOffsets[t + 1]++;
+        for (int v = 0; v < vertexCount; v++) reverseOffsets[v + 1] += reverseOffsets[v];
+        int[] reverseTargets = new int[targets.length];
+        int[] cursor = Arrays.copyOf(reverseOffsets, vertexCount);
+        for (int v = 0; v < vertexCount; v++) {
+            // Sources are visited in ascending order, so every reversed row comes out sorted
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) reverseTargets[cursor[targets[e]]++] = v;
+        }
+        return new CsrGraph(reverseOffsets, reverseTargets, labels, true);
+    }
+
+    // Low-level access for algorithms that work on dense ids (e.g. parallel traversals)
+    // Rows are targets[offsets[v] .. offsets[v + 1] - 1]; do not modify the returned arrays
+    public int[] offsets() {
+        return offsets;
+    }
+    public int[] targets() {
+        return targets;
+    }
+
+    // Performs Breadth-First Search (BFS) starting from a vertex
+    // The result array doubles as the queue: head reads, tail appends
+    // Time: O(V + E), Space: O(V) (V/8 bytes for the visited bitset)
+    public int[] bfs(int startVertex) {
+        int start = idOf(startVertex);
+        if (start < 0) return new int[0];
+
+        long[] visited = new long[(vertexCount() + 63) >>> 6];
+        int[] order = new int[vertexCount()];
+        int head = 0, tail = 0;
+        visited[start >>> 6] |= 1L << start;
+        order[tail++] = start;
+
+        while (head < tail) {
+            int v = order[head++];
+            for (int e = offsets[v], end = offsets[v + 1]; e < end; e++) {
+                int w = targets[e];
+                long bit = 1L << w;
+                if ((visited[w >>> 6] & bit) == 0) {
+                    visited[w >>> 6] |= bit;
+                    order[tail++] = w;
+                }
+            }
+        }
+        return toLabels(order, tail);
+    }
+
+    // Performs Depth-First Search (DFS) starting from a vertex
+    // Iterative with an explicit (vertex, next edge) stack, so deep graphs cannot overflow the call stack
+    // Visit order matches the recursive Graph.dfs (neighbours in ascending order)
+    // Time: O(V + E), Space: O(V)
+    public int[] dfs(int startVertex) {
+        int start = idOf(startVertex);
+        if (start < 0) return new int[0];
+
+        long[] visited = new long[(vertexCount() + 63) >>> 6];
+        int[] order = new int[vertexCount()];
+        int[] stackVertex = new int[vertexCount()];
+        int[] stackEdge = new int[vertexCount()];
+        int count = 0, top = 0;
+
+        visited[start >>> 6] |= 1L << start;
+        order[count++] = start;
+        stackVertex[top] = start;
+        stackEdge[top++] = offsets[start];
+
+        while (top > 0) {
+            int v = stackVertex[top - 1];
+            int e = stackEdge[top - 1];
+            if (e == offsets[v + 1]) {
+                top--; // All neighbours done, backtrack
+                continue;
+            }
+            stackEdge[top - 1] = e + 1;
+            int w = targets[e];
+            long bit = 1L << w;
+            if ((visited[w >>> 6] & bit) == 0) {
+                visited[w >>> 6] |= bit;
+                order[count++] = w;
+                stackVertex[top] = w;
+                stackEdge[top++] = offsets[w];
+            }
+        }
+        return toLabels(order, count);
+    }
+
+    private int[] toLabels(int[] ids, int count) {
+        int[] result = Arrays.copyOf(ids, count);
+        if (labels != null) {
+            for (int i = 0; i < count; i++) result[i] = labels[result[i]];
+        }
+        return result;
+    }
+
+    // Main method for testing the CSR graph implementation
+    public static void main(String[] args) {
+        // Test case: same undirected graph as Graph.main
+        int[][] edges = {{0, 1}, {0, 2}, {1, 3}, {2, 3}};
+        CsrGraph graph = CsrGraph.fromEdges(edges, false);
+        System.out.println("Vertices: " + graph.vertexCount() + ", Edges: " + graph.edgeCount()); // 4, 4
+        System.out.println("Neighbors of 0: " + Arrays.toString(graph.neighbors(0))); // [1, 2]
+        System.out.println("BFS from vertex 0: " + Arrays.toString(graph.bfs(0))); // [0, 1, 2, 3]
+        System.out.println("DFS from vertex 0: " + Arrays.toString(graph.dfs(0))); // [0, 1, 3, 2]
+
+        // Sparse, non-contiguous labels are remapped to dense ids
+        int[][] labeled = {{1000, 42}, {42, -7}, {-7, 999_999}};
+        CsrGraph sparse = CsrGraph.fromEdges(labeled, true);
+        System.out.println("Directed BFS from 1000: " + Arrays.toString(sparse.bfs(1000))); // [1000, 42, -7, 999999]
+        System.out.println("Has edge 42->-7: " + sparse.hasEdge(42, -7)); // true
+        System.out.println("Has edge -7->42: " + sparse.hasEdge(-7, 42)); // false
+        System.out.println("BFS from missing vertex: " + Arrays.toString(sparse.bfs(5))); // []
+
+        // Random graph: BFS and DFS must reach the same vertices (timings at scale: CsrGraphBenchmark)
+        int vertices = 10_000, edgeCount = 30_000;
+        Random random = new Random(3);
+        int[] src = new int[edgeCount], dst = new int[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            src[i] = random.nextInt(vertices);
+            dst[i] = random.nextInt(vertices);
+        }
+        CsrGraph big = CsrGraph.fromEdges(src, dst, true);
+        int[] bfsOrder = big.bfs(0), dfsOrder = big.dfs(0);
+        Arrays.sort(bfsOrder);
+        Arrays.sort(dfsOrder);
+        System.out.println("BFS and DFS reach the same vertices: " + Arrays.equals(bfsOrder, dfsOrder)); // true
+    }
+}
@@ -0,0 +1,42 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Graph.CustomImplementation;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+
+import java.util.Random;
+
+// CSR Graph Benchmark
+// Times CsrGraph construction and traversal on a graph far too large for Graph's adjacency matrix
+// (1M vertices would need a 10^12-cell matrix, about 4 TB of ints; CSR needs V + E ints)
+// Workloads:
+// - build: fromEdges on random directed edges (counting sort of the edge list into rows)
+// - bfs / dfs: full traversal from vertex 0 over the contiguous targets array
+// Usage: CsrGraphBenchmark [vertices] [edges]
+public class CsrGraphBenchmark {
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        int vertices = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int edgeCount = args.length > 1 ? Integer.parseInt(args[1]) : 10_000_000;
+        Random random = new Random(3);
+        int[] src = new int[edgeCount], dst = new int[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            src[i] = random.nextInt(vertices);
+            dst[i] = random.nextInt(vertices);
+        }
+        System.out.printf("%d vertices, %d directed edges, best of %d rounds (ms)%n", vertices, edgeCount, ROUNDS);
+
+        CsrGraph[] built = new CsrGraph[1];
+        long build = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            built[0] = null; // Let the previous graph go before building the next one
+            built[0] = CsrGraph.fromEdges(src, dst, true);
+            return built[0].edgeCount();
+        });
+        CsrGraph graph = built[0];
+        long bfs = BenchmarkUtils.bestNanos(ROUNDS, () -> graph.bfs(0).length);
+        long dfs = BenchmarkUtils.bestNanos(ROUNDS, () -> graph.dfs(0).length);
+        System.out.printf("%-8s %8d%n", "build", build / 1_000_000);
+        System.out.printf("%-8s %8d  (reached %d)%n", "bfs", bfs / 1_000_000, graph.bfs(0).length);
+        System.out.printf("%-8s %8d%n", "dfs", dfs / 1_000_000);
+        BenchmarkUtils.printChecksum();
+    }
+}
@@ -0,0 +1,259 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Graph.ShortestPathAlgorithm;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class DeltaStepping {
+    private static final int INF = Integer.MAX_VALUE / 2;
+    private static final int LEAF_SIZE = 1024; // Frontier vertices relaxed by one leaf task
+
+    private final ForkJoinPool pool;
+
+    public DeltaStepping(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public DeltaStepping() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    // Same contract as DijkstraShortestPath.dijkstra(V, edges): directed, source 0, INF = unreachable
+    // Delta is picked from the graph (max weight / average degree)
+    public int[] deltaStepping(int V, int[][] edges) {
+        return deltaStepping(V, edges, 0, suggestDelta(V, edges));
+    }
+
+    public int[] deltaStepping(int V, int[][] edges, int source, int delta) {
+        // Algorithm (Meyer & Sanders):
+        // 1. Split edges into light (weight <= delta) and heavy (weight > delta).
+        // 2. Bucket i holds vertices whose tentative distance is in [i*delta, (i+1)*delta).
+        // 3. Take the smallest non-empty bucket i:
+        //    - Relax light edges of all its vertices in parallel; vertices that improve into bucket i
+        //      are processed again in the next round, until bucket i stays empty.
+        //    - Relax heavy edges of every vertex removed from bucket i once (they always land in later buckets).
+        // 4. Repeat until all buckets are empty.
+        // delta = 1 behaves like Dijkstra (little parallelism), delta = infinity like Bellman-Ford
+        // (lots of parallelism, lots of wasted relaxations); the sweet spot is in between.
+
+        // Workflow:
+        // - Build light/heavy CSR arrays (offsets, targets, weights) with a counting pass.
+        // - dist is an AtomicIntegerArray; a relaxation is a CAS loop that only lowers the value.
+        // - Each round relaxes the current frontier on the ForkJoinPool; every leaf returns the
+        //   vertices it improved, and they are appended to their buckets after the join.
+        // - Buckets are a circular array of maxWeight / delta + 2 growable int lists:
+        //   unsettled distances never span more than maxWeight, so old slots can be reused.
+        // - A vertex may sit in a bucket it no longer belongs to (its distance dropped further);
+        //   such stale entries are skipped, and stamps drop duplicates inside one round.
+        // - Return distance array (unreachable vertices have distance = INF).
+
+        if (delta < 1) throw new IllegalArgumentException("Delta must be positive: " + delta);
+        int maxWeight = 0;
+        for (int[] edge : edges) {
+            if (edge[2] < 0) throw new IllegalArgumentException("Negative weight on edge " + Arrays.toString(edge));
+            maxWeight = Math.max(maxWeight, edge[2]);
+        }
+        int[][] light = buildCsr(V, edges, delta, true);
+        int[][] heavy = buildCsr(V, edges, delta, false);
+
+        AtomicIntegerArray dist = new AtomicIntegerArray(V);
+        for (int v = 0; v < V; v++) dist.set(v, INF);
+        dist.set(source, 0);
+
+        int bucketCount = maxWeight / delta + 2;
+        IntList[] buckets = new IntList[bucketCount];
+        for (int b = 0; b < bucketCount; b++) buckets[b] = new IntList();
+        buckets[0].add(source);
+        int[] roundStamp = new int[V]; // Last round a vertex joined the frontier
+        int[] bucketStamp = new int[V]; // Last bucket (+1) a vertex was settled in
+        int round = 0;
+        long pending = 1; // Entries (including stale ones) across all buckets
+
+        for (int current = 0; pending > 0; current++) {
+            IntList bucket = buckets[current % bucketCount];
+            if (bucket.size == 0) continue; // With a small delta most indices are empty: no pool round trip
+            IntList settled = new IntList();
+            while (bucket.size > 0) {
+                // Collect the live, de-duplicated frontier of this round
+                round++;
+                IntList frontier = new IntList();
+                for (int i = 0; i < bucket.size; i++) {
+                    int v = bucket.data[i];
+                    if (dist.get(v) / delta != current || roundStamp[v] == round) continue;
+                    roundStamp[v] = round;
+                    frontier.add(v);
+                    if (bucketStamp[v] != current + 1) {
+                        bucketStamp[v] = current + 1;
+                        settled.add(v);
+                    }
+                }
+                pending -= bucket.size;
+                bucket.clear();
+                pending += distribute(pool.invoke(new Relax(frontier, 0, frontier.size, light, dist)),
+                        buckets, dist, delta);
+            }
+            // Heavy edges once per vertex removed from this bucket (none if every entry was stale)
+            if (settled.size > 0) {
+                pending += distribute(pool.invoke(new Relax(settled, 0, settled.size, heavy, dist)),
+                        buckets, dist, delta);
+            }
+        }
+
+        int[] result = new int[V];
+        for (int v = 0; v < V; v++) result[v] = dist.get(v);
+        return result;
+    }
+
+    // Heuristic delta: max weight divided by average out-degree (at least 1)
+    public static int suggestDelta(int V, int[][] edges) {
+        int maxWeight = 1;
+        for (int[] edge : edges) maxWeight = Math.max(maxWeight, edge[2]);
+        double averageDegree = V == 0 ? 1 : Math.max(1.0, (double) edges.length / V);
+        return Math.max(1, (int) (maxWeight / averageDegree));
+    }
+
+    // Puts improved vertices into the bucket of their new distance, returns how many were added
+    private static int distribute(IntList improved, IntList[] buckets, AtomicIntegerArray dist, int delta) {
+        for (int i = 0; i < improved.size; i++) {
+            int v = improved.data[i];
+            buckets[(dist.get(v) / delta) % buckets.length].add(v);
+        }
+        return improved.size;
+    }
+
+    // CSR arrays {offsets, targets, weights} of only the light or only the heavy edges
+    private static int[][] buildCsr(int V, int[][] edges, int delta, boolean lightEdges) {
+        int[] offsets = new int[V + 1];
+        int count = 0;
+        for (int[] edge : edges) {
+            if ((edge[2] <= delta) == lightEdges) {
+                offsets[edge[0] + 1]++;
+                count++;
+            }
+        }
+        for (int v = 0; v < V; v++) offsets[v + 1] += offsets[v];
+        int[] targets = new int[count];
+        int[] weights = new int[count];
+        int[] cursor = Arrays.copyOf(offsets, V);
+        for (int[] edge : edges) {
+            if ((edge[2] <= delta) == lightEdges) {
+                int slot = cursor[edge[0]]++;
+                targets[slot] = edge[1];
+                weights[slot] = edge[2];
+            }
+        }
+        return new int[][]{offsets, targets, weights};
+    }
+
+    // Relaxes all edges of vertices[from..to) in parallel, returns every vertex whose distance dropped
+    private static final class Relax extends RecursiveTask<IntList> {
+        private static final long serialVersionUID = 1L;
+
+        private final IntList vertices;
+        private final int from, to;
+        private final int[][] csr;
+        private final AtomicIntegerArray dist;
+
+        Relax(IntList vertices, int from, int to, int[][] csr, AtomicIntegerArray dist) {
+            this.vertices = vertices;
+            this.from = from;
+            this.to = to;
+            this.csr = csr;
+            this.dist = dist;
+        }
+
+        @Override
+        protected IntList compute() {
+            if (to - from > LEAF_SIZE) {
+                int mid = (from + to) >>> 1;
+                Relax left = new Relax(vertices, from, mid, csr, dist);
+                left.fork();
+                IntList right = new Relax(vertices, mid, to, csr, dist).compute();
+                IntList result = left.join();
+                result.addAll(right);
+                return result;
+            }
+            int[] offsets = csr[0], targets = csr[1], weights = csr[2];
+            IntList improved = new IntList();
+            for (int i = from; i < to; i++) {
+                int v = vertices.data[i];
+                int dv = dist.get(v);
+                for (int e = offsets[v], end = offsets[v + 1]; e < end; e++) {
+                    int u = targets[e];
+                    int candidate = dv + weights[e];
+                    // CAS loop: only ever lower dist[u]
+                    int current = dist.get(u);
+                    while (candidate < current) {
+                        if (dist.compareAndSet(u, current, candidate)) {
+                            improved.add(u);
+                            break;
+                        }
+                        current = dist.get(u);
+                    }
+                }
+            }
+            return improved;
+        }
+    }
+
+    // Minimal growable int list (no boxing)
+    private static final class IntList {
+        int[] data = new int[16];
+        int size;
+
+        void add(int value) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = value;
+        }
+
+        void addAll(IntList other) {
+            if (size + other.size > data.length) data = Arrays.copyOf(data, Math.max(size + other.size, size * 2));
+            System.arraycopy(other.data, 0, data, size, other.size);
+            size += other.size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+
+    public static void main(String[] args) {
+        int V = 4;
+        int[][] edges = {{0, 1, 4}, {0, 2, 8}, {1, 2, 2}, {1, 3, 5}, {2, 3, 3}};
+        DeltaStepping solution = new DeltaStepping();
+        int[] distances = solution.deltaStepping(V, edges);
+        System.out.println("Shortest distances from vertex 0: " + Arrays.toString(distances)); // [0, 4, 6, 9]
+
+        // Correctness suite: delta-stepping (several deltas) vs Dijkstra, Bellman-Ford and Floyd-Warshall
+        // Random simple graphs (no self-loops or parallel edges), non-negative weights
+        Random random = new Random(9);
+        DijkstraShortestPath dijkstra = new DijkstraShortestPath();
+        BellmanFord bellmanFord = new BellmanFord();
+        FloydWarshall floydWarshall = new FloydWarshall();
+        int mismatches = 0;
+        for (int trial = 0; trial < 200; trial++) {
+            int n = 1 + random.nextInt(60);
+            int maxWeight = 1 + random.nextInt(trial % 2 == 0 ? 10 : 1000);
+            int[][] graph = randomSimpleGraph(n, random.nextInt(n * 4 + 1), maxWeight, random);
+            int[] expected = dijkstra.dijkstra(n, graph);
+            if (!Arrays.equals(expected, bellmanFord.bellmanFord(n, graph, 0))) mismatches++;
+            if (!Arrays.equals(expected, floydWarshall.floydWarshall(n, graph)[0])) mismatches++;
+            for (int delta : new int[]{1, 3, maxWeight, Integer.MAX_VALUE / 4, suggestDelta(n, graph)}) {
+                if (!Arrays.equals(expected, solution.deltaStepping(n, graph, 0, delta))) mismatches++;
+            }
+        }
+        System.out.println("Cross-check mismatches: " + mismatches); // 0
+    }
+
+    private static int[][] randomSimpleGraph(int n, int m, int maxWeight, Random random) {
+        Set<Long> seen = new HashSet<>();
+        List<int[]> edges = new ArrayList<>();
+        for (int i = 0; i < m; i++) {
+            int u = random.nextInt(n), v = random.nextInt(n);
+            if (u == v || !seen.add((long) u * n + v)) continue;
+            edges.add(new int[]{u, v, random.nextInt(maxWeight + 1)});
+        }
+        return edges.toArray(new int[0][]);
+    }
+}
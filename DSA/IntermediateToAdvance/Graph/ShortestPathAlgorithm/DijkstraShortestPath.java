@@ -61,11 +61,86 @@ public class DijkstraShortestPath {
         return dist;
     }
 
+    public int[] dijkstra(int V, int[][] edges, int[] sources, int target, int arity) {
+        // Algorithm (indexed-heap mode):
+        // 1. Store the graph as flat arrays (CSR): offsets[v]..offsets[v+1]-1 index targets[]/weights[].
+        // 2. Use an IndexedDaryHeap keyed by vertex: each vertex is in the heap at most once,
+        //    and a shorter path lowers its key in place (decreaseKey) instead of adding a new entry.
+        // 3. Multi-source: every source starts at distance 0 (like a virtual super-source).
+        // 4. Early exit: stop as soon as target is polled, its distance is final then.
+
+        // Workflow:
+        // - Build CSR arrays with a counting pass over edges (directed, weighted).
+        // - Set every source's distance to 0 and insert it into the heap.
+        // - While heap is not empty:
+        //   - Poll the vertex with minimum distance; if it is the target, stop.
+        //   - For each neighbor, if distance can be reduced, update and insertOrDecrease.
+        // - Return distance array. Without a target (target = -1) it matches dijkstra(V, edges)
+        //   for sources = {0}; with a target only dist[target] and vertices polled before it are final.
+        // - No int[] is allocated per relaxation, and the heap never holds stale entries.
+
+        int[] offsets = new int[V + 1];
+        for (int[] edge : edges) offsets[edge[0] + 1]++;
+        for (int v = 0; v < V; v++) offsets[v + 1] += offsets[v];
+        int[] targets = new int[edges.length];
+        int[] weights = new int[edges.length];
+        int[] cursor = Arrays.copyOf(offsets, V);
+        for (int[] edge : edges) {
+            int slot = cursor[edge[0]]++;
+            targets[slot] = edge[1];
+            weights[slot] = edge[2];
+        }
+
+        int[] dist = new int[V];
+        Arrays.fill(dist, INF);
+        IndexedDaryHeap heap = new IndexedDaryHeap(V, arity);
+        for (int source : sources) {
+            if (dist[source] != 0) {
+                dist[source] = 0;
+                heap.insert(source, 0);
+            }
+        }
+
+        while (!heap.isEmpty()) {
+            int v = heap.pollMin();
+            if (v == target) break; // Early exit: target distance is final
+            int dv = dist[v];
+            for (int e = offsets[v], end = offsets[v + 1]; e < end; e++) {
+                int u = targets[e];
+                int candidate = dv + weights[e];
+                if (candidate < dist[u]) {
+                    dist[u] = candidate;
+                    heap.insertOrDecrease(u, candidate);
+                }
+            }
+        }
+
+        return dist;
+    }
+
     public static void main(String[] args) {
         int V = 4;
         int[][] edges = {{0, 1, 4}, {0, 2, 8}, {1, 2, 2}, {1, 3, 5}, {2, 3, 3}};
         DijkstraShortestPath solution = new DijkstraShortestPath();
         int[] distances = solution.dijkstra(V, edges);
         System.out.println("Shortest distances from vertex 0: " + Arrays.toString(distances)); // [0, 4, 6, 9]
+
+        // Indexed-heap mode: same result, then multi-source and early exit
+        int[] indexed = solution.dijkstra(V, edges, new int[]{0}, -1, 4);
+        System.out.println("Indexed heap distances: " + Arrays.toString(indexed)); // [0, 4, 6, 9]
+        int[] multi = solution.dijkstra(V, edges, new int[]{0, 2}, -1, 4);
+        System.out.println("Sources {0, 2}: " + Arrays.toString(multi)); // [0, 4, 0, 3]
+        int[] early = solution.dijkstra(V, edges, new int[]{0}, 1, 4);
+        System.out.println("Early exit at 1, dist[1] = " + early[1]); // 4
+
+        // Lazy-deletion PriorityQueue and indexed 4-ary heap agree on a random graph (timings: ShortestPathBenchmark)
+        Random random = new Random(8);
+        int n = 2_000;
+        int[][] randomEdges = new int[4 * n][];
+        for (int i = 0; i < randomEdges.length; i++) {
+            randomEdges[i] = new int[]{random.nextInt(n), random.nextInt(n), 1 + random.nextInt(1000)};
+        }
+        System.out.println("Random graph, same result: " + Arrays.equals(solution.dijkstra(n, randomEdges),
+                solution.dijkstra(n, randomEdges, new int[]{0}, -1, 4))); // true
     }
 }
\ No newline at end of file
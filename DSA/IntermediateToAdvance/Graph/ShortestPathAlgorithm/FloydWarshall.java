@@ -13,7 +13,7 @@ public class FloydWarshall {
 
         // Workflow:
         // - Create V x V matrix, initialize with INF.
-        // - Set diagonal to 0 and fill edge weights.
+        // - Set diagonal to 0 and fill edge weights (smallest weight per pair).
         // - For each k (intermediate vertex):
         //   - For each i, j (source, destination):
         //     - Update distance[i][j] if going through k is shorter.
@@ -29,7 +29,7 @@ public class FloydWarshall {
         // Initialize with edge weights
         for (int[] edge : edges) {
             int u = edge[0], v = edge[1], weight = edge[2];
-            dist[u][v] = weight;
+            dist[u][v] = Math.min(dist[u][v], weight); // Parallel edges keep the lightest
         }
 
         // Update distances
@@ -0,0 +1,44 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Graph.ShortestPathAlgorithm;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+// Floyd-Warshall Benchmark
+// All-pairs shortest paths on dense random graphs (about V * 16 edges).
+// FloydWarshall's triple loop streams the whole V x V int[][] through the cache once per k;
+// BlockedFloydWarshall works on 64 x 64 tiles of a flat matrix, so each tile is reused from
+// L1/L2 for 64 values of k, and the independent tiles of a phase run in parallel.
+// Both must return the same matrix.
+// Usage: FloydWarshallBenchmark [V ...] (default 1000 2000; the triple loop grows as V^3)
+public class FloydWarshallBenchmark {
+    private static final int ROUNDS = 2;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0 ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray() : new int[]{1000, 2000};
+        Random random = new Random(10);
+        FloydWarshall plain = new FloydWarshall();
+        BlockedFloydWarshall blocked = new BlockedFloydWarshall();
+        System.out.printf("%d threads, best of %d rounds (ms)%n%-8s %12s %12s %8s %6s%n",
+                ForkJoinPool.commonPool().getParallelism(), ROUNDS, "V", "triple loop", "blocked", "speedup", "same");
+        for (int size : sizes) {
+            int[][] dense = new int[size * 16][];
+            for (int i = 0; i < dense.length; i++) {
+                dense[i] = new int[]{random.nextInt(size), random.nextInt(size), 1 + random.nextInt(1000)};
+            }
+            int[][][] result = new int[2][][];
+            long plainNs = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+                result[0] = plain.floydWarshall(size, dense);
+                return result[0][0][size - 1];
+            });
+            long blockedNs = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+                result[1] = blocked.floydWarshall(size, dense);
+                return result[1][0][size - 1];
+            });
+            System.out.printf("%-8d %12d %12d %7.1fx %6b%n", size, plainNs / 1_000_000, blockedNs / 1_000_000,
+                    (double) plainNs / blockedNs, Arrays.deepEquals(result[0], result[1]));
+        }
+        BenchmarkUtils.printChecksum();
+    }
+}
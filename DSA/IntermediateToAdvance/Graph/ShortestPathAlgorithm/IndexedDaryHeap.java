@@ -0,0 +1,191 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Graph.ShortestPathAlgorithm;
+
+import java.util.*;
+
+public class IndexedDaryHeap {
+    // Indexed d-ary min-heap over ids 0..capacity-1 with int priorities (e.g. vertex -> distance).
+    // Unlike PriorityQueue<int[]>, every id is in the heap at most once, so Dijkstra can lower
+    // a key in place (decreaseKey) instead of pushing a new entry and skipping stale ones later.
+    // Nothing is allocated after construction.
+
+    // Layout:
+    // - heap[i]  = id stored at heap slot i (slot 0 is the minimum)
+    // - pos[id]  = slot of id in heap[], or -1 if id is not in the heap
+    // - key[id]  = current priority of id
+    // - Children of slot i are d*i+1 .. d*i+d, parent of slot i is (i-1)/d.
+    // A larger arity (4 is a good default) makes the tree shallower: decreaseKey (sift-up) gets
+    // cheaper, pollMin (sift-down, compares d children per level) gets a little more expensive.
+
+    private final int arity;
+    private final int[] heap;
+    private final int[] pos;
+    private final int[] key;
+    private int size;
+
+    public IndexedDaryHeap(int capacity, int arity) {
+        if (arity < 2) throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.pos = new int[capacity];
+        this.key = new int[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int id) {
+        return pos[id] >= 0;
+    }
+
+    // Current priority of id (only meaningful while contains(id))
+    public int keyOf(int id) {
+        return key[id];
+    }
+
+    // Time: O(log_d n)
+    public void insert(int id, int priority) {
+        if (pos[id] >= 0) throw new IllegalArgumentException("Id already in heap: " + id);
+        key[id] = priority;
+        heap[size] = id;
+        pos[id] = size;
+        siftUp(size++);
+    }
+
+    // Lowers the priority of an id already in the heap
+    // Time: O(log_d n)
+    public void decreaseKey(int id, int priority) {
+        if (pos[id] < 0) throw new IllegalArgumentException("Id not in heap: " + id);
+        if (priority > key[id]) throw new IllegalArgumentException("New key is larger for id " + id);
+        key[id] = priority;
+        siftUp(pos[id]);
+    }
+
+    // Insert if absent, decrease if present and smaller; returns false if nothing changed
+    // Time: O(log_d n)
+    public boolean insertOrDecrease(int id, int priority) {
+        if (pos[id] < 0) {
+            insert(id, priority);
+            return true;
+        }
+        if (priority >= key[id]) return false;
+        key[id] = priority;
+        siftUp(pos[id]);
+        return true;
+    }
+
+    public int peekMin() {
+        if (size == 0) throw new NoSuchElementException();
+        return heap[0];
+    }
+
+    // Removes and returns the id with the smallest priority (its key stays readable via keyOf)
+    // Time: O(d log_d n)
+    public int pollMin() {
+        if (size == 0) throw new NoSuchElementException();
+        int min = heap[0];
+        pos[min] = -1;
+        if (--size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            pos[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    // Empties the heap in O(size), keeping the arrays for reuse
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+        size = 0;
+    }
+
+    // Hole-based sift-up: move parents down into the hole, write the id once at the end
+    private void siftUp(int slot) {
+        int id = heap[slot];
+        int k = key[id];
+        while (slot > 0) {
+            int parentSlot = (slot - 1) / arity;
+            int parent = heap[parentSlot];
+            if (key[parent] <= k) break;
+            heap[slot] = parent;
+            pos[parent] = slot;
+            slot = parentSlot;
+        }
+        heap[slot] = id;
+        pos[id] = slot;
+    }
+
+    // Hole-based sift-down: pick the smallest of up to d children per level
+    private void siftDown(int slot) {
+        int id = heap[slot];
+        int k = key[id];
+        while (true) {
+            int first = slot * arity + 1;
+            if (first >= size) break;
+            int last = Math.min(first + arity, size);
+            int best = first;
+            int bestKey = key[heap[first]];
+            for (int c = first + 1; c < last; c++) {
+                int ck = key[heap[c]];
+                if (ck < bestKey) {
+                    best = c;
+                    bestKey = ck;
+                }
+            }
+            if (bestKey >= k) break;
+            int child = heap[best];
+            heap[slot] = child;
+            pos[child] = slot;
+            slot = best;
+        }
+        heap[slot] = id;
+        pos[id] = slot;
+    }
+
+    public static void main(String[] args) {
+        IndexedDaryHeap heap = new IndexedDaryHeap(6, 4);
+        heap.insert(0, 50);
+        heap.insert(1, 20);
+        heap.insert(2, 40);
+        heap.insert(3, 10);
+        heap.decreaseKey(2, 5);
+        System.out.println("Min id: " + heap.peekMin()); // 2
+        System.out.println("insertOrDecrease(3, 30): " + heap.insertOrDecrease(3, 30)); // false (30 > 10)
+        StringBuilder order = new StringBuilder();
+        while (!heap.isEmpty()) {
+            int id = heap.pollMin();
+            order.append(id).append('(').append(heap.keyOf(id)).append(") ");
+        }
+        System.out.println("Poll order: " + order); // 2(5) 3(10) 1(20) 0(50)
+        try {
+            heap.decreaseKey(2, 1); // Already polled: its slot would be stale
+        } catch (IllegalArgumentException e) {
+            System.out.println("decreaseKey after poll: " + e.getMessage()); // Id not in heap: 2
+        }
+
+        // Randomized check against sorting
+        Random random = new Random(5);
+        IndexedDaryHeap big = new IndexedDaryHeap(10_000, 3);
+        int[] best = new int[10_000];
+        Arrays.fill(best, Integer.MAX_VALUE);
+        for (int i = 0; i < 50_000; i++) {
+            int id = random.nextInt(10_000), k = random.nextInt(1_000_000);
+            big.insertOrDecrease(id, k);
+            best[id] = Math.min(best[id], k);
+        }
+        int previous = Integer.MIN_VALUE;
+        boolean ok = true;
+        while (!big.isEmpty()) {
+            int id = big.pollMin();
+            ok &= big.keyOf(id) >= previous && big.keyOf(id) == best[id];
+            previous = big.keyOf(id);
+        }
+        System.out.println("Random keys come out sorted: " + ok); // true
+    }
+}
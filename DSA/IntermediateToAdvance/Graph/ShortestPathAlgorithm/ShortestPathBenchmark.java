@@ -0,0 +1,70 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Graph.ShortestPathAlgorithm;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+// Shortest Path Benchmark
+// Single-source shortest paths on graphs with hundreds of thousands of vertices.
+// Dijkstra with a lazy-deletion PriorityQueue<int[]> pushes a new entry for every improved
+// distance and skips stale ones on poll; the indexed 4-ary heap keeps one slot per vertex and
+// lowers it in place (decreaseKey), so the heap never holds more than V entries.
+// DeltaStepping relaxes whole distance buckets in parallel on the common ForkJoinPool, so it
+// only pays off with several cores and a short diameter (few buckets).
+// Graphs: random (sparse, short diameter) and a 4-neighbour grid (long paths, many decreases).
+// Every row checks that the variants agree.
+// Usage: ShortestPathBenchmark [vertices]
+public class ShortestPathBenchmark {
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        Random random = new Random(8);
+        int[][] randomEdges = new int[4 * n][];
+        for (int i = 0; i < randomEdges.length; i++) {
+            randomEdges[i] = new int[]{random.nextInt(n), random.nextInt(n), 1 + random.nextInt(1000)};
+        }
+        int side = (int) Math.sqrt(n);
+        List<int[]> gridEdges = new ArrayList<>(); // Every cell links to its 4 neighbours
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = r * side + c;
+                if (c + 1 < side) {
+                    gridEdges.add(new int[]{v, v + 1, 1 + random.nextInt(100)});
+                    gridEdges.add(new int[]{v + 1, v, 1 + random.nextInt(100)});
+                }
+                if (r + 1 < side) {
+                    gridEdges.add(new int[]{v, v + side, 1 + random.nextInt(100)});
+                    gridEdges.add(new int[]{v + side, v, 1 + random.nextInt(100)});
+                }
+            }
+        }
+
+        System.out.printf("%d threads, best of %d rounds (ms)%n%-28s %15s %15s %15s %6s%n",
+                ForkJoinPool.commonPool().getParallelism(), ROUNDS, "graph", "lazy PQ", "indexed heap", "delta-stepping", "same");
+        compare("random (V=" + n + ", E=" + randomEdges.length + ")", n, randomEdges);
+        compare("grid (" + side + "x" + side + ")", side * side, gridEdges.toArray(new int[0][]));
+        BenchmarkUtils.printChecksum();
+    }
+
+    private static void compare(String name, int V, int[][] edges) {
+        DijkstraShortestPath dijkstra = new DijkstraShortestPath();
+        DeltaStepping deltaStepping = new DeltaStepping();
+        int[][] result = new int[3][];
+        long lazy = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            result[0] = dijkstra.dijkstra(V, edges);
+            return result[0][V - 1];
+        });
+        long indexed = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            result[1] = dijkstra.dijkstra(V, edges, new int[]{0}, -1, 4);
+            return result[1][V - 1];
+        });
+        long delta = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            result[2] = deltaStepping.deltaStepping(V, edges);
+            return result[2][V - 1];
+        });
+        System.out.printf("%-28s %15d %15d %15d %6b%n", name, lazy / 1_000_000, indexed / 1_000_000, delta / 1_000_000,
+                Arrays.equals(result[0], result[1]) && Arrays.equals(result[1], result[2]));
+    }
+}
@@ -0,0 +1,259 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Graph.TraversalAlgorithm;
+
+import Java_Bootcamp.DSA.IntermediateToAdvance.Graph.CustomImplementation.CsrGraph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Level-synchronous, direction-optimizing parallel BFS (Beamer et al.) on a CsrGraph
+// Returns the same distance array as ShortestPathBFS (unreachable = Integer.MAX_VALUE / 2)
+public class ParallelBFS {
+    public static final int INF = Integer.MAX_VALUE / 2;
+    private static final int ALPHA = 14; // Go bottom-up when frontier edges > unexplored edges / ALPHA
+    private static final int BETA = 24;  // Go back top-down when frontier vertices < V / BETA
+    private static final int CHUNK_WORDS = 16; // Bitset words (64 vertices each) per leaf task
+
+    private final ForkJoinPool pool;
+
+    public ParallelBFS(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public ParallelBFS() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    // Same signature and result as ShortestPathBFS.shortestPath (undirected, unweighted)
+    public int[] shortestPath(int V, int[][] edges, int source) {
+        return distances(CsrGraph.fromDenseEdges(V, edges, false), source);
+    }
+
+    public int[] distances(CsrGraph graph, int source) {
+        return distances(graph, null, source);
+    }
+
+    // reverse is graph.transpose() if the caller already has it (e.g. many searches on one directed
+    // graph); null builds it on the first bottom-up level, and not at all if every level is top-down
+    public int[] distances(CsrGraph graph, CsrGraph reverse, int source) {
+        // Algorithm:
+        // 1. Keep the frontier (current level) and the next level as bitsets, plus a visited bitset.
+        // 2. Each level runs in parallel over blocks of bitset words on the ForkJoinPool.
+        // 3. Top-down step: every frontier vertex scans its out-edges and claims unvisited
+        //    neighbours with an atomic bit set (CAS), so each vertex gets exactly one distance.
+        // 4. Bottom-up step: every unvisited vertex scans its in-edges and stops at the first
+        //    parent found in the frontier; a block owns its words, so no CAS is needed.
+        // 5. Switch heuristic (Beamer): bottom-up when frontier edges mf > unexplored edges mu / ALPHA,
+        //    back to top-down when the frontier shrinks below V / BETA vertices.
+
+        // Workflow:
+        // - The graph must use dense ids 0..V-1 (CsrGraph.fromDenseEdges); directed graphs
+        //   also need the transpose for the bottom-up step, built on first use unless passed in.
+        // - Every level returns (frontier size, frontier edge count) summed over blocks,
+        //   which feeds the heuristic for the next level.
+        // - Stop when the next frontier is empty.
+
+        int n = graph.vertexCount();
+        int[] dist = new int[n];
+        Arrays.fill(dist, INF);
+        if (source < 0 || source >= n) return dist;
+
+        int[] offsets = graph.offsets(), targets = graph.targets();
+        int[] inOffsets = null, inTargets = null; // Set on the first bottom-up level
+
+        int words = (n + 63) >>> 6;
+        AtomicLongArray visited = new AtomicLongArray(words);
+        AtomicLongArray frontier = new AtomicLongArray(words);
+        AtomicLongArray next = new AtomicLongArray(words);
+        int blocks = (words + CHUNK_WORDS - 1) / CHUNK_WORDS;
+        long[] blockVertices = new long[blocks];
+        long[] blockEdges = new long[blocks];
+
+        dist[source] = 0;
+        visited.set(source >>> 6, 1L << source);
+        frontier.set(source >>> 6, 1L << source);
+        long frontierSize = 1;
+        long frontierEdges = offsets[source + 1] - offsets[source];
+        long unexploredEdges = targets.length - frontierEdges;
+        boolean bottomUp = false;
+
+        for (int level = 0; frontierSize > 0; level++) {
+            if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) bottomUp = true;
+            else if (bottomUp && frontierSize < n / BETA) bottomUp = false;
+            if (bottomUp && inOffsets == null) {
+                if (reverse == null) reverse = graph.transpose(); // Undirected: the graph itself
+                inOffsets = reverse.offsets();
+                inTargets = reverse.targets();
+            }
+
+            Arrays.fill(blockVertices, 0);
+            Arrays.fill(blockEdges, 0);
+            Step step = new Step(0, blocks, bottomUp, level + 1, n, offsets, targets, inOffsets, inTargets,
+                    dist, visited, frontier, next, blockVertices, blockEdges);
+            pool.invoke(step);
+
+            frontierSize = 0;
+            frontierEdges = 0;
+            for (int b = 0; b < blocks; b++) {
+                frontierSize += blockVertices[b];
+                frontierEdges += blockEdges[b];
+            }
+            unexploredEdges -= frontierEdges;
+
+            AtomicLongArray done = frontier;
+            frontier = next;
+            next = done;
+            for (int w = 0; w < words; w++) next.set(w, 0);
+        }
+        return dist;
+    }
+
+    // One BFS level over blocks [fromBlock, toBlock), split in half until one block is left
+    private static final class Step extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int fromBlock, toBlock;
+        private final boolean bottomUp;
+        private final int nextDistance, n;
+        private final int[] offsets, targets, inOffsets, inTargets, dist;
+        private final AtomicLongArray visited, frontier, next;
+        private final long[] blockVertices, blockEdges;
+
+        Step(int fromBlock, int toBlock, boolean bottomUp, int nextDistance, int n,
+             int[] offsets, int[] targets, int[] inOffsets, int[] inTargets, int[] dist,
+             AtomicLongArray visited, AtomicLongArray frontier, AtomicLongArray next,
+             long[] blockVertices, long[] blockEdges) {
+            this.fromBlock = fromBlock;
+            this.toBlock = toBlock;
+            this.bottomUp = bottomUp;
+            this.nextDistance = nextDistance;
+            this.n = n;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.inOffsets = inOffsets;
+            this.inTargets = inTargets;
+            this.dist = dist;
+            this.visited = visited;
+            this.frontier = frontier;
+            this.next = next;
+            this.blockVertices = blockVertices;
+            this.blockEdges = blockEdges;
+        }
+
+        @Override
+        protected void compute() {
+            if (toBlock - fromBlock > 1) {
+                int mid = (fromBlock + toBlock) >>> 1;
+                invokeAll(split(fromBlock, mid), split(mid, toBlock));
+                return;
+            }
+            if (bottomUp) bottomUpBlock(fromBlock);
+            else topDownBlock(fromBlock);
+        }
+
+        private Step split(int from, int to) {
+            return new Step(from, to, bottomUp, nextDistance, n, offsets, targets, inOffsets, inTargets,
+                    dist, visited, frontier, next, blockVertices, blockEdges);
+        }
+
+        // Top-down: expand frontier vertices of this block, claim neighbours anywhere with CAS
+        private void topDownBlock(int block) {
+            long vertices = 0, edges = 0;
+            int endWord = Math.min((block + 1) * CHUNK_WORDS, visited.length());
+            for (int w = block * CHUNK_WORDS; w < endWord; w++) {
+                long bits = frontier.get(w);
+                while (bits != 0) {
+                    int v = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    for (int e = offsets[v], end = offsets[v + 1]; e < end; e++) {
+                        int u = targets[e];
+                        if (claim(u)) {
+                            dist[u] = nextDistance;
+                            setBit(next, u);
+                            vertices++;
+                            edges += offsets[u + 1] - offsets[u];
+                        }
+                    }
+                }
+            }
+            blockVertices[block] = vertices;
+            blockEdges[block] = edges;
+        }
+
+        // Bottom-up: every unvisited vertex of this block looks for any parent in the frontier
+        private void bottomUpBlock(int block) {
+            long vertices = 0, edges = 0;
+            int endWord = Math.min((block + 1) * CHUNK_WORDS, visited.length());
+            for (int w = block * CHUNK_WORDS; w < endWord; w++) {
+                long seen = visited.get(w);
+                long found = 0;
+                int last = Math.min(64, n - (w << 6));
+                for (int bit = 0; bit < last; bit++) {
+                    if ((seen & (1L << bit)) != 0) continue;
+                    int v = (w << 6) + bit;
+                    for (int e = inOffsets[v], end = inOffsets[v + 1]; e < end; e++) {
+                        int parent = inTargets[e];
+                        if ((frontier.get(parent >>> 6) & (1L << parent)) != 0) {
+                            dist[v] = nextDistance;
+                            found |= 1L << bit;
+                            vertices++;
+                            edges += offsets[v + 1] - offsets[v];
+                            break; // One parent is enough
+                        }
+                    }
+                }
+                if (found != 0) {
+                    // This block owns word w, so plain sets are safe (no other task writes it)
+                    visited.set(w, seen | found);
+                    next.set(w, found);
+                }
+            }
+            blockVertices[block] = vertices;
+            blockEdges[block] = edges;
+        }
+
+        private boolean claim(int v) {
+            int w = v >>> 6;
+            long bit = 1L << v;
+            while (true) {
+                long current = visited.get(w);
+                if ((current & bit) != 0) return false;
+                if (visited.compareAndSet(w, current, current | bit)) return true;
+            }
+        }
+
+        private static void setBit(AtomicLongArray bits, int v) {
+            int w = v >>> 6;
+            long bit = 1L << v;
+            while (true) {
+                long current = bits.get(w);
+                if (bits.compareAndSet(w, current, current | bit)) return;
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        int V = 5;
+        int[][] edges = {{0, 1}, {0, 3}, {1, 2}, {3, 4}};
+        int source = 0;
+        ParallelBFS solution = new ParallelBFS();
+        int[] distances = solution.shortestPath(V, edges, source);
+        System.out.println("Shortest distances from vertex 0: " + Arrays.toString(distances));
+        // Output: [0, 1, 2, 1, 2]
+
+        // Cross-check against ShortestPathBFS on random graphs (including unreachable vertices)
+        Random random = new Random(11);
+        boolean same = true;
+        for (int trial = 0; trial < 50; trial++) {
+            int n = 1 + random.nextInt(2000);
+            int m = random.nextInt(4 * n);
+            int[][] randomEdges = new int[m][];
+            for (int i = 0; i < m; i++) randomEdges[i] = new int[]{random.nextInt(n), random.nextInt(n)};
+            int s = random.nextInt(n);
+            same &= Arrays.equals(new ShortestPathBFS().shortestPath(n, randomEdges, s),
+                    solution.shortestPath(n, randomEdges, s));
+        }
+        System.out.println("Matches ShortestPathBFS: " + same); // true
+    }
+}
@@ -0,0 +1,79 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Graph.TraversalAlgorithm;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+import Java_Bootcamp.DSA.IntermediateToAdvance.Graph.CustomImplementation.CsrGraph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+// Parallel BFS Benchmark
+// Scaling benchmark for ParallelBFS: one BFS over a large random directed graph with 1, 2, 4, ...
+// worker threads, against the sequential ShortestPathBFS-style queue walk on the same CsrGraph.
+// Random graphs have a short diameter, so a few middle levels hold most of the vertices; those
+// levels run bottom-up, where each block of the bitset is scanned independently.
+// The transpose is built once up front and passed in, so only the search itself is timed.
+// Usage: ParallelBFSBenchmark [vertices] [edges]
+public class ParallelBFSBenchmark {
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int m = args.length > 1 ? Integer.parseInt(args[1]) : 32_000_000;
+        Random random = new Random(11);
+        int[] src = new int[m], dst = new int[m];
+        for (int i = 0; i < m; i++) {
+            src[i] = random.nextInt(n);
+            dst[i] = random.nextInt(n);
+        }
+        CsrGraph graph = CsrGraph.fromDenseEdges(n, src, dst, true);
+        CsrGraph reverse = graph.transpose();
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%d vertices, %d directed edges, %d cores, best of %d rounds (ms)%n", n, m, cores, ROUNDS);
+
+        int[][] expected = new int[1][];
+        long sequential = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            expected[0] = queueBfs(graph, 0);
+            return expected[0][n - 1];
+        });
+        System.out.printf("%-22s %8d%n", "sequential queue", sequential / 1_000_000);
+
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int t = 1; t < cores; t *= 2) threadCounts.add(t);
+        threadCounts.add(cores);
+        for (int threads : threadCounts) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            ParallelBFS bfs = new ParallelBFS(pool);
+            int[][] dist = new int[1][];
+            long best = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+                dist[0] = bfs.distances(graph, reverse, 0);
+                return dist[0][n - 1];
+            });
+            pool.shutdown();
+            System.out.printf("%-22s %8d  (same distances: %b)%n", "ParallelBFS threads=" + threads,
+                    best / 1_000_000, Arrays.equals(expected[0], dist[0]));
+        }
+        BenchmarkUtils.printChecksum();
+    }
+
+    // Plain level-by-level BFS with an int[] queue over the same CSR arrays
+    private static int[] queueBfs(CsrGraph graph, int source) {
+        int[] offsets = graph.offsets(), targets = graph.targets();
+        int[] dist = new int[graph.vertexCount()];
+        Arrays.fill(dist, ParallelBFS.INF);
+        int[] queue = new int[dist.length];
+        int head = 0, tail = 0;
+        dist[source] = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int v = queue[head++];
+            for (int e = offsets[v], end = offsets[v + 1]; e < end; e++) {
+                int u = targets[e];
+                if (dist[u] == ParallelBFS.INF) {
+                    dist[u] = dist[v] + 1;
+                    queue[tail++] = u;
+                }
+            }
+        }
+        return dist;
+    }
+}
@@ -0,0 +1,322 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Hashing;
+
+// Concurrent Hash Table with Incremental Resizing
+// This file implements a thread-safe chained hash table (like CustomHashTable in HashingDemo, but
+// generic, growing, and safe to share between threads without an external lock).
+// Key Features:
+// - get/containsKey: lock-free (volatile reads only), never blocked by writers or by a resize.
+// - put/putIfAbsent/remove: striped locks, so writers to different stripes run in parallel.
+// - Incremental resize: when the table is 75% full a table of twice the size is created, and every
+//   following write moves a few buckets (MIGRATE_STEP) into it. No operation ever rehashes the whole
+//   table, so there are no stop-the-world pauses while the table grows.
+// Java-Specific Notes:
+// - Buckets are an AtomicReferenceArray of Node chains. A node's key, hash and next are final, so a
+//   reader walking a chain always sees a complete chain; only the value is volatile and updated in place.
+// - remove rebuilds the part of the chain before the removed node instead of unlinking it, for the
+//   same reason (readers may be walking the old chain, which stays intact).
+// - Buckets are written with lazySet (a release store, as ConcurrentHashMap does): writers already
+//   hold the stripe lock, and a reader that sees the new head also sees everything written before it.
+// - Stripe of a key = hash & (STRIPES - 1). Table lengths are powers of two >= STRIPES, so bucket i of
+//   every table (old or new) belongs to stripe i & (STRIPES - 1): one stripe lock guards a key in both
+//   tables, and migrating a bucket takes the same lock as writing to it.
+// - A migrated bucket is replaced by the FORWARD marker: whoever reads it continues in the next table.
+// - size() uses a LongAdder, so writers do not contend on one counter.
+// Structure:
+// - Table: buckets, next (the table being migrated into, or null), claimIndex (next bucket to migrate),
+//   migrated (buckets done). When migrated reaches the old length, the new table becomes current.
+
+// Time Complexity: O(1) expected for get/put/remove, plus O(MIGRATE_STEP) buckets moved per write during a resize.
+// Space Complexity: O(n); about 3n bucket slots while a resize is in progress.
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class ConcurrentHashTable<K, V> {
+    private static final int STRIPES = 64; // Writer locks (power of two)
+    private static final int MIGRATE_STEP = 4; // Buckets moved per write while resizing
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private static final class Node<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        final Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    private static final Node<?, ?> FORWARD = new Node<>(0, null, null, null); // Bucket moved to next table
+
+    private static final class Table<K, V> {
+        final AtomicReferenceArray<Node<K, V>> buckets;
+        final int mask;
+        final int threshold;
+        volatile Table<K, V> next; // Set once when a resize starts
+        final AtomicInteger claimIndex = new AtomicInteger(); // Next bucket to migrate
+        final AtomicInteger migrated = new AtomicInteger(); // Buckets migrated so far
+
+        Table(int length) {
+            buckets = new AtomicReferenceArray<>(length);
+            mask = length - 1;
+            threshold = (int) (length * LOAD_FACTOR);
+        }
+    }
+
+    private volatile Table<K, V> current;
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final LongAdder count = new LongAdder();
+    private final Object resizeLock = new Object();
+
+    public ConcurrentHashTable() {
+        this(STRIPES);
+    }
+
+    public ConcurrentHashTable(int initialCapacity) {
+        int length = STRIPES;
+        while (length < initialCapacity / LOAD_FACTOR && length < 1 << 30) length <<= 1;
+        current = new Table<>(length);
+        for (int s = 0; s < STRIPES; s++) locks[s] = new ReentrantLock();
+    }
+
+    // Spread hash (same as HashMap): fold high bits down so keys whose hashCodes differ only in high
+    // bits use different buckets, while consecutive keys stay in neighboring buckets (cache friendly)
+    private static int spread(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V> forward() {
+        return (Node<K, V>) FORWARD;
+    }
+
+    // Get
+    // Workflow: Return the value for key, or null (lock-free).
+    // Algorithm:
+    // 1. Read the current table and the key's bucket.
+    // 2. If the bucket is FORWARD, it was migrated: repeat in the next table.
+    // 3. Walk the chain comparing hash, then equals.
+    // Time Complexity: O(1) expected.
+    // Space Complexity: O(1).
+    public V get(Object key) {
+        int hash = spread(key);
+        Table<K, V> table = current;
+        while (true) {
+            Node<K, V> node = table.buckets.get(hash & table.mask);
+            if (node == FORWARD) {
+                table = table.next;
+                continue;
+            }
+            for (; node != null; node = node.next) {
+                if (node.hash == hash && key.equals(node.key)) return node.value;
+            }
+            return null;
+        }
+    }
+
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    public V put(K key, V value) {
+        return write(key, value, false, false);
+    }
+
+    public V putIfAbsent(K key, V value) {
+        return write(key, value, true, false);
+    }
+
+    public V remove(K key) {
+        return write(key, null, false, true);
+    }
+
+    // Put / Remove
+    // Workflow: Insert, update or delete under the key's stripe lock; returns the previous value or null.
+    // Algorithm:
+    // 1. Lock the stripe, then find the bucket: start in the current table and follow FORWARD markers
+    //    (a bucket cannot be migrated while we hold its stripe lock).
+    // 2. Update: write the node's volatile value. Insert: new node at the head. Remove: copy the
+    //    nodes before the removed one and link the copy to the rest of the chain.
+    // 3. Unlock, then start a resize if the table is over its threshold, and migrate a few buckets if
+    //    a resize is running.
+    // Time Complexity: O(1) expected (+ O(MIGRATE_STEP) buckets during a resize).
+    // Space Complexity: O(1) (O(chain prefix) copies for remove).
+    private V write(K key, V value, boolean onlyIfAbsent, boolean isRemove) {
+        if (key == null || (!isRemove && value == null)) throw new NullPointerException("Null keys and values are not allowed");
+        int hash = spread(key);
+        ReentrantLock lock = locks[hash & (STRIPES - 1)];
+        V previous = null;
+        boolean inserted = false;
+        lock.lock();
+        try {
+            Table<K, V> table = current;
+            Node<K, V> head;
+            while ((head = table.buckets.get(hash & table.mask)) == FORWARD) table = table.next;
+            int index = hash & table.mask;
+            Node<K, V> found = head;
+            while (found != null && !(found.hash == hash && key.equals(found.key))) found = found.next;
+            if (found != null) {
+                previous = found.value;
+                if (isRemove) {
+                    Node<K, V> rebuilt = found.next;
+                    for (Node<K, V> node = head; node != found; node = node.next) {
+                        rebuilt = new Node<>(node.hash, node.key, node.value, rebuilt);
+                    }
+                    table.buckets.lazySet(index, rebuilt);
+                    count.decrement();
+                } else if (!onlyIfAbsent) {
+                    found.value = value;
+                }
+            } else if (!isRemove) {
+                table.buckets.lazySet(index, new Node<>(hash, key, value, head));
+                count.increment();
+                inserted = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        Table<K, V> table = current;
+        if (inserted && table.next == null && count.sum() > table.threshold) startResize(table);
+        if (table.next != null) helpMigrate(table);
+        return previous;
+    }
+
+    private void startResize(Table<K, V> table) {
+        synchronized (resizeLock) {
+            if (current == table && table.next == null && table.mask < (1 << 30) - 1) {
+                table.next = new Table<>(2 * (table.mask + 1));
+            }
+        }
+    }
+
+    // Migrate Buckets
+    // Workflow: Claim MIGRATE_STEP buckets of the old table and move their nodes to the new one.
+    // Algorithm:
+    // 1. claimIndex.getAndAdd(MIGRATE_STEP) hands out disjoint bucket ranges to writer threads.
+    // 2. For bucket i (under its stripe lock): split the chain by the new bit into buckets i and
+    //    i + oldLength of the new table, then replace bucket i with FORWARD. Nodes before the last
+    //    run are copied (next is final), so readers still walking the old chain are undisturbed.
+    // 3. The thread that migrates the last bucket makes the new table current.
+    // Time Complexity: O(MIGRATE_STEP + nodes in those buckets).
+    private void helpMigrate(Table<K, V> table) {
+        Table<K, V> next = table.next;
+        int length = table.mask + 1;
+        int start = table.claimIndex.getAndAdd(MIGRATE_STEP);
+        if (start >= length) return;
+        int end = Math.min(start + MIGRATE_STEP, length);
+        for (int i = start; i < end; i++) {
+            ReentrantLock lock = locks[i & (STRIPES - 1)];
+            lock.lock();
+            try {
+                Node<K, V> head = table.buckets.get(i);
+                // The tail after the last change of side moves as a whole and is reused, not copied
+                // (for the usual one-node bucket nothing is allocated)
+                Node<K, V> lastRun = head;
+                for (Node<K, V> node = head; node != null; node = node.next) {
+                    if ((node.hash & length) != (lastRun.hash & length)) lastRun = node;
+                }
+                Node<K, V> low = null, high = null;
+                if (lastRun != null) {
+                    if ((lastRun.hash & length) == 0) low = lastRun;
+                    else high = lastRun;
+                }
+                for (Node<K, V> node = head; node != lastRun; node = node.next) {
+                    if ((node.hash & length) == 0) low = new Node<>(node.hash, node.key, node.value, low);
+                    else high = new Node<>(node.hash, node.key, node.value, high);
+                }
+                next.buckets.lazySet(i, low);
+                next.buckets.lazySet(i + length, high);
+                table.buckets.lazySet(i, forward());
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (table.migrated.addAndGet(end - start) == length) current = next;
+    }
+
+    // Finish a running resize right away (e.g. before a read-only phase); normally never needed
+    public void finishResize() {
+        Table<K, V> table;
+        while ((table = current).next != null) helpMigrate(table);
+    }
+
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, count.sum());
+    }
+
+    public int capacity() {
+        return current.mask + 1;
+    }
+
+    public boolean isResizing() {
+        return current.next != null;
+    }
+
+    // Main method for testing: multi-threaded stress test while the table grows from 64 buckets
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Concurrent Hash Table with Incremental Resize ===");
+        ConcurrentHashTable<Integer, String> table = new ConcurrentHashTable<>();
+        table.put(1, "One");
+        table.put(6, "Six");
+        table.put(-4, "Minus four");
+        System.out.println("Value for key 6: " + table.get(6)); // Six
+        table.remove(1);
+        System.out.println("After deleting key 1, size " + table.size() + ", contains 1? " + table.containsKey(1)); // 2, false
+
+        // Stress: each writer owns keys t, t + T, t + 2T, ... and inserts, overwrites and removes them,
+        // checking its own keys as it goes; readers look up random keys and check key/value pairing.
+        int writers = 4, readers = 2, keysPerWriter = 250_000;
+        ConcurrentHashTable<Integer, Integer> shared = new ConcurrentHashTable<>();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch writersDone = new CountDownLatch(writers);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < writers; t++) {
+            int id = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < keysPerWriter; i++) {
+                    int key = i * writers + id;
+                    if (shared.put(key, -key) != null) errors.incrementAndGet();
+                    if (shared.put(key, key) != -key) errors.incrementAndGet(); // Overwrite
+                    if (i % 3 == 0 && shared.remove(key) != key) errors.incrementAndGet(); // Every third key removed
+                    int check = (i / 2) * writers + id; // An older own key must still be right
+                    Integer v = shared.get(check);
+                    if ((check / writers) % 3 == 0 ? v != null : v == null || v != check) errors.incrementAndGet();
+                }
+                writersDone.countDown();
+            }));
+        }
+        for (int t = 0; t < readers; t++) {
+            threads.add(new Thread(() -> {
+                Random random = new Random();
+                while (writersDone.getCount() > 0) {
+                    int key = random.nextInt(writers * keysPerWriter);
+                    Integer v = shared.get(key);
+                    if (v != null && v != key && v != -key) errors.incrementAndGet();
+                }
+            }));
+        }
+        for (Thread thread : threads) thread.start();
+        for (Thread thread : threads) thread.join();
+
+        boolean ok = errors.get() == 0;
+        int expectedSize = 0;
+        for (int key = 0; key < writers * keysPerWriter; key++) {
+            boolean removed = (key / writers) % 3 == 0;
+            Integer v = shared.get(key);
+            ok &= removed ? v == null : v != null && v == key;
+            if (!removed) expectedSize++;
+        }
+        ok &= shared.size() == expectedSize;
+        System.out.println("Stress test (" + writers + " writers, " + readers + " readers) consistent: " + ok
+                + ", capacity " + shared.capacity()); // true, capacity 1048576
+    }
+}
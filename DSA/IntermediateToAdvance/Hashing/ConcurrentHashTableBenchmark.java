@@ -0,0 +1,136 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Hashing;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+import Java_Bootcamp.DSA.IntermediateToAdvance.Trees.FenwickTree.ConcurrentFenwickTree;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Concurrent Hash Table Latency Benchmark
+// This program measures per-operation latency while a shared table grows from empty to millions of
+// entries, where stop-the-world rehashing shows up as a long tail (p99.9 / max).
+// Maps: ConcurrentHashTable (incremental resize), Collections.synchronizedMap(HashMap) (one lock,
+// full rehash inside put) and java.util.concurrent.ConcurrentHashMap (cooperative resize).
+// Workload: T threads each insert their own keys (90% puts, 10% gets of earlier keys), timing every
+// operation with System.nanoTime into a latency histogram (ConcurrentFenwickTree, log-linear buckets).
+// Of several rounds, the one with the lowest p99.9 is reported. With fewer cores than threads,
+// scheduler preemption also shows up in the tail, and max includes young-GC pauses (all three maps
+// allocate nodes), so compare p99.9/p99.99 first, or run with -verbose:gc to tell GC pauses from
+// rehash pauses.
+public class ConcurrentHashTableBenchmark {
+    private static final int ROUNDS = 3;
+    private static final int BUCKETS = 1024; // Log-linear latency buckets: 16 per power of two
+
+    // The two operations the workload needs, so every map runs the same code
+    private interface SharedMap {
+        void put(Integer key, Integer value);
+        Integer get(Integer key);
+    }
+
+    public static void main(String[] args) {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int keysPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        System.out.printf("%d threads x %d inserts from an empty table, %d cores, best of %d rounds (ns)%n",
+                threads, keysPerThread, Runtime.getRuntime().availableProcessors(), ROUNDS);
+        System.out.printf("%-24s %8s %8s %8s %8s %10s %10s%n", "map", "p50", "p90", "p99", "p99.9", "p99.99", "max");
+        run("ConcurrentHashTable", threads, keysPerThread, () -> {
+            ConcurrentHashTable<Integer, Integer> map = new ConcurrentHashTable<>();
+            return new SharedMap() {
+                public void put(Integer k, Integer v) { map.put(k, v); }
+                public Integer get(Integer k) { return map.get(k); }
+            };
+        });
+        run("synchronized HashMap", threads, keysPerThread, () -> {
+            Map<Integer, Integer> map = Collections.synchronizedMap(new HashMap<>());
+            return new SharedMap() {
+                public void put(Integer k, Integer v) { map.put(k, v); }
+                public Integer get(Integer k) { return map.get(k); }
+            };
+        });
+        run("ConcurrentHashMap", threads, keysPerThread, () -> {
+            ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>();
+            return new SharedMap() {
+                public void put(Integer k, Integer v) { map.put(k, v); }
+                public Integer get(Integer k) { return map.get(k); }
+            };
+        });
+        BenchmarkUtils.printChecksum();
+    }
+
+    private static void run(String name, int threads, int keysPerThread, Supplier<SharedMap> factory) {
+        long[] best = BenchmarkUtils.best(ROUNDS, () -> {
+            long[] result = measure(threads, keysPerThread, factory.get());
+            System.gc(); // Start the next round with an empty heap
+            return result;
+        }, Comparator.comparingLong(result -> result[3]));
+        System.out.printf("%-24s %8d %8d %8d %8d %10d %10d%n", name, best[0], best[1], best[2], best[3], best[4], best[5]);
+    }
+
+    // Returns {p50, p90, p99, p99.9, p99.99, max} in nanoseconds
+    private static long[] measure(int threads, int keysPerThread, SharedMap map) throws InterruptedException {
+        ConcurrentFenwickTree histogram = ConcurrentFenwickTree.pointUpdates(BUCKETS);
+        AtomicLong max = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers[t] = new Thread(() -> {
+                Integer[] keys = new Integer[keysPerThread]; // Boxed up front, so boxing is not timed
+                for (int i = 0; i < keysPerThread; i++) keys[i] = i * threads + id;
+                Random random = new Random(id);
+                long localMax = 0, found = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < keysPerThread; i++) {
+                    boolean read = i > 0 && random.nextInt(10) == 0;
+                    Integer key = read ? keys[random.nextInt(i)] : keys[i];
+                    long begin = System.nanoTime();
+                    if (read) {
+                        if (map.get(key) != null) found++;
+                    } else {
+                        map.put(key, key);
+                    }
+                    long latency = System.nanoTime() - begin;
+                    histogram.add(bucketOf(latency), 1);
+                    if (latency > localMax) localMax = latency;
+                }
+                max.accumulateAndGet(localMax, Math::max);
+                BenchmarkUtils.consume(found);
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) worker.join();
+
+        long total = histogram.total();
+        double[] quantiles = {0.5, 0.9, 0.99, 0.999, 0.9999};
+        long[] result = new long[quantiles.length + 1];
+        for (int q = 0; q < quantiles.length; q++) {
+            result[q] = upperBoundOf(histogram.indexOfPrefix((long) Math.ceil(total * quantiles[q])));
+        }
+        result[quantiles.length] = max.get();
+        return result;
+    }
+
+    // Bucket (1-based) for a latency: exact below 16 ns, then 16 buckets per power of two (<= 6.25% error)
+    private static int bucketOf(long nanos) {
+        if (nanos < 16) return 1 + (int) Math.max(0, nanos);
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos); // >= 4
+        int mantissa = (int) (nanos >>> (exponent - 4)) & 15;
+        return Math.min(BUCKETS, 1 + (exponent - 3) * 16 + mantissa);
+    }
+
+    // Largest latency that falls into the bucket
+    private static long upperBoundOf(int bucket) {
+        int index = bucket - 1;
+        if (index < 16) return index;
+        int exponent = index / 16 + 3, mantissa = index % 16;
+        return ((16L + mantissa + 1) << (exponent - 4)) - 1;
+    }
+}
@@ -0,0 +1,109 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Hashing;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+import Java_Bootcamp.DSA.BenchmarkUtils.Phase;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+// Hash Map Benchmark
+// This program times IntObjectHashMap against HashMap<Integer, String> and LongLongHashMap against
+// HashMap<Long, Long> for insert, search (half hits) and delete, and reports bytes allocated per
+// operation (HotSpot's per-thread allocation counter), which should be 0 for the primitive maps.
+// Purpose: Show what open addressing over primitive arrays buys over HashMap's boxed keys and one Node
+// per entry: fewer cache misses per probe and no garbage. Bytes come from one extra, untimed round
+// after the JIT has compiled the workload.
+// Keys: n random ints / longs (including negative); the values are preallocated, so only the map's
+// own allocation (boxing, Node objects, table growth) is counted.
+public class HashMapBenchmark {
+    private static final int ROUNDS = 5;
+
+    // One map under test; each method runs the whole phase over the key arrays and returns its hit count
+    private interface Workload {
+        long insert(int[] keys);
+        long search(int[] probes);
+        long delete(int[] keys);
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Random random = new Random(19);
+        int[] keys = new int[n], probes = new int[n];
+        for (int i = 0; i < n; i++) keys[i] = random.nextInt();
+        for (int i = 0; i < n; i++) probes[i] = i % 2 == 0 ? keys[random.nextInt(n)] : random.nextInt(); // ~half hits
+        String[] names = new String[n];
+        for (int i = 0; i < n; i++) names[i] = "v" + i;
+
+        System.out.printf("n=%d, best of %d rounds: ns per operation (bytes allocated per operation)%n", n, ROUNDS);
+        System.out.printf("%-26s %18s %18s %18s%n", "map", "insert", "search", "delete");
+        run("HashMap<Integer,String>", keys, probes, () -> new Workload() {
+            final HashMap<Integer, String> map = new HashMap<>();
+            public long insert(int[] k) { for (int i = 0; i < k.length; i++) map.put(k[i], names[i]); return k.length; }
+            public long search(int[] p) { long hits = 0; for (int key : p) if (map.get(key) != null) hits++; return hits; }
+            public long delete(int[] k) { long hits = 0; for (int key : k) if (map.remove(key) != null) hits++; return hits; }
+        });
+        run("IntObjectHashMap<String>", keys, probes, () -> new Workload() {
+            final IntObjectHashMap<String> map = new IntObjectHashMap<>();
+            public long insert(int[] k) { for (int i = 0; i < k.length; i++) map.put(k[i], names[i]); return k.length; }
+            public long search(int[] p) { long hits = 0; for (int key : p) if (map.get(key) != null) hits++; return hits; }
+            public long delete(int[] k) { long hits = 0; for (int key : k) if (map.remove(key) != null) hits++; return hits; }
+        });
+        run("IntObjectHashMap presized", keys, probes, () -> new Workload() {
+            final IntObjectHashMap<String> map = new IntObjectHashMap<>(n, 0.75f);
+            public long insert(int[] k) { for (int i = 0; i < k.length; i++) map.put(k[i], names[i]); return k.length; }
+            public long search(int[] p) { long hits = 0; for (int key : p) if (map.get(key) != null) hits++; return hits; }
+            public long delete(int[] k) { long hits = 0; for (int key : k) if (map.remove(key) != null) hits++; return hits; }
+        });
+        run("HashMap<Long,Long>", keys, probes, () -> new Workload() {
+            final HashMap<Long, Long> map = new HashMap<>();
+            public long insert(int[] k) { for (int key : k) map.put(key * 31L, (long) key); return k.length; }
+            public long search(int[] p) { long hits = 0; for (int key : p) if (map.get(key * 31L) != null) hits++; return hits; }
+            public long delete(int[] k) { long hits = 0; for (int key : k) if (map.remove(key * 31L) != null) hits++; return hits; }
+        });
+        run("LongLongHashMap", keys, probes, () -> new Workload() {
+            final LongLongHashMap map = new LongLongHashMap(16, 0.75f, Long.MIN_VALUE);
+            public long insert(int[] k) { for (int key : k) map.put(key * 31L, key); return k.length; }
+            public long search(int[] p) { long hits = 0; for (int key : p) if (map.get(key * 31L) != Long.MIN_VALUE) hits++; return hits; }
+            public long delete(int[] k) { long hits = 0; for (int key : k) if (map.remove(key * 31L) != Long.MIN_VALUE) hits++; return hits; }
+        });
+        BenchmarkUtils.printChecksum();
+    }
+
+    private interface Factory {
+        Workload create();
+    }
+
+    private static void run(String name, int[] keys, int[] probes, Factory factory) {
+        Phase<Workload> insert = w -> w.insert(keys), search = w -> w.search(probes), delete = w -> w.delete(keys);
+        long[] best = BenchmarkUtils.bestNanos(ROUNDS, factory::create, insert, search, delete);
+        long[] bytes = allocatedPerPhase(factory.create(), keys, probes);
+        System.out.printf("%-26s", name);
+        for (int p = 0; p < 3; p++) {
+            String allocated = bytes[p] < 0 ? "n/a" : String.format("%.1f B", (double) bytes[p] / keys.length);
+            System.out.printf(" %8.1f (%8s)", (double) best[p] / keys.length, allocated);
+        }
+        System.out.println();
+    }
+
+    // Bytes allocated by insert, search and delete in one more round on a fresh map (-1 if unknown)
+    private static long[] allocatedPerPhase(Workload w, int[] keys, int[] probes) {
+        long start = allocatedBytes();
+        BenchmarkUtils.consume(w.insert(keys));
+        long inserted = allocatedBytes();
+        BenchmarkUtils.consume(w.search(probes));
+        long searched = allocatedBytes();
+        BenchmarkUtils.consume(w.delete(keys));
+        long deleted = allocatedBytes();
+        if (start < 0) return new long[]{-1, -1, -1};
+        return new long[]{inserted - start, searched - inserted, deleted - searched};
+    }
+
+    // Bytes allocated by this thread so far, or -1 if the JVM does not expose it
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
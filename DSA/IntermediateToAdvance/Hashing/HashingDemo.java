@@ -163,9 +163,9 @@ class CustomHashTable {
         this.size = size;
     }
     
-    // Hash function: key % size
+    // Hash function: key mod size (floorMod, so negative keys map to a valid bucket)
     private int hash(int key) {
-        return key % size;
+        return Math.floorMod(key, size);
     }
     
     // Insert key-value pair
@@ -0,0 +1,272 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Hashing;
+
+// Open-Addressing int -> Object Hash Map
+// This file implements a hash map with primitive int keys, linear probing and backward-shift deletion.
+// Purpose: Replace chaining (CustomHashTable in HashingDemo) and HashMap<Integer, V> where boxing
+// and per-entry Node objects cost memory and time.
+// Key Features:
+// - put/get/getOrDefault/containsKey/remove/size/clear/forEach.
+// - No allocation in put, get or remove (only when the table grows), no Integer boxing.
+// - Any int key, including negative keys and 0.
+// Java-Specific Notes:
+// - Keys and values live in two parallel arrays: keys[i] / values[i]. Key 0 marks an empty slot,
+//   so the entry for key 0 itself is kept outside the table (hasZeroKey / zeroValue).
+// - Mixing hash: key * golden ratio, then high bits folded down, so sequential or patterned keys
+//   still spread over the table (key % size clusters badly and breaks on negative keys).
+// - Capacity is a power of two; slot = mix(key) & mask.
+// - Resize: when size exceeds capacity * loadFactor, the table doubles and every key is re-inserted.
+// - Deletion without tombstones: the entries after the removed slot are shifted back, so probe
+//   chains never contain holes and lookups never slow down after many deletes.
+
+// Time Complexity: O(1) expected per operation (load factor < 1), O(n) for a resize.
+// Space Complexity: O(capacity) = O(n / loadFactor).
+
+import java.util.*;
+
+public class IntObjectHashMap<V> {
+    // Callback for forEach, so iteration needs no Entry objects
+    @FunctionalInterface
+    public interface IntObjectConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private final float loadFactor;
+    private int[] keys;
+    private Object[] values;
+    private int mask; // capacity - 1
+    private int maxFill; // Grow when size reaches this
+    private int size; // Entries in the table (without key 0)
+    private boolean hasZeroKey;
+    private V zeroValue;
+
+    public IntObjectHashMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    // expected: number of entries to hold without resizing
+    public IntObjectHashMap(int expected, float loadFactor) {
+        if (!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Load factor must be in (0, 1)");
+        if (expected < 0) throw new IllegalArgumentException("Negative expected size");
+        this.loadFactor = loadFactor;
+        allocate(capacityFor(expected, loadFactor));
+    }
+
+    private static int capacityFor(int expected, float loadFactor) {
+        long needed = Math.max(2, (long) Math.ceil(expected / loadFactor) + 1);
+        if (needed > 1 << 30) throw new IllegalArgumentException("Too many entries: " + expected);
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        maxFill = Math.min(capacity - 1, (int) Math.ceil(capacity * loadFactor));
+    }
+
+    // Mixing hash (Fibonacci hashing): multiply by 2^32 / golden ratio, fold the high bits down
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Slot holding key, or -(insertion slot) - 1 if absent. Key must not be 0.
+    private int find(int key) {
+        int pos = mix(key) & mask;
+        int current;
+        while ((current = keys[pos]) != 0) {
+            if (current == key) return pos;
+            pos = (pos + 1) & mask;
+        }
+        return -pos - 1;
+    }
+
+    // Put
+    // Workflow: Insert or update key -> value; returns the previous value or null.
+    // Algorithm:
+    // 1. Probe from mix(key) & mask until the key or an empty slot is found.
+    // 2. Key found: replace the value. Empty slot: store key and value there.
+    // 3. If size now exceeds maxFill, double the table.
+    // Time Complexity: O(1) expected (amortized, counting resizes).
+    // Space Complexity: O(1).
+    public V put(int key, V value) {
+        if (key == 0) {
+            V previous = zeroValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                previous = null;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        int pos = find(key);
+        if (pos >= 0) {
+            @SuppressWarnings("unchecked")
+            V previous = (V) values[pos];
+            values[pos] = value;
+            return previous;
+        }
+        pos = -pos - 1;
+        keys[pos] = key;
+        values[pos] = value;
+        if (++size >= maxFill) rehash(keys.length * 2);
+        return null;
+    }
+
+    // Get
+    // Workflow: Return the value for key, or null if absent.
+    // Algorithm: Probe from mix(key) & mask until the key (hit) or an empty slot (miss).
+    // Time Complexity: O(1) expected.
+    // Space Complexity: O(1).
+    public V get(int key) {
+        return getOrDefault(key, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(int key, V defaultValue) {
+        if (key == 0) return hasZeroKey ? zeroValue : defaultValue;
+        int pos = mix(key) & mask;
+        int current;
+        while ((current = keys[pos]) != 0) {
+            if (current == key) return (V) values[pos];
+            pos = (pos + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : find(key) >= 0;
+    }
+
+    // Remove
+    // Workflow: Delete key; returns its value or null if it was absent.
+    // Algorithm (backward-shift deletion, no tombstones):
+    // 1. Find the key's slot and empty it.
+    // 2. Walk the following slots until an empty one. An entry whose home slot is not between the
+    //    hole and its own position (cyclically) would become unreachable, so move it into the hole;
+    //    its old slot is the new hole.
+    // Time Complexity: O(1) expected.
+    // Space Complexity: O(1).
+    public V remove(int key) {
+        if (key == 0) {
+            if (!hasZeroKey) return null;
+            V previous = zeroValue;
+            hasZeroKey = false;
+            zeroValue = null;
+            return previous;
+        }
+        int pos = find(key);
+        if (pos < 0) return null;
+        @SuppressWarnings("unchecked")
+        V previous = (V) values[pos];
+        size--;
+        shiftKeys(pos);
+        return previous;
+    }
+
+    private void shiftKeys(int hole) {
+        int pos = hole;
+        while (true) {
+            pos = (pos + 1) & mask;
+            int current = keys[pos];
+            if (current == 0) break;
+            int home = mix(current) & mask;
+            // Can current stay? Only if its home lies cyclically in (hole, pos]
+            boolean stays = hole <= pos ? hole < home && home <= pos : hole < home || home <= pos;
+            if (!stays) {
+                keys[hole] = current;
+                values[hole] = values[pos];
+                hole = pos;
+            }
+        }
+        keys[hole] = 0;
+        values[hole] = null; // Let the value be collected
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key == 0) continue;
+            int pos = mix(key) & mask;
+            while (keys[pos] != 0) pos = (pos + 1) & mask;
+            keys[pos] = key;
+            values[pos] = oldValues[i];
+        }
+    }
+
+    public int size() {
+        return size + (hasZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        size = 0;
+        hasZeroKey = false;
+        zeroValue = null;
+    }
+
+    // Calls action for every entry (table order)
+    @SuppressWarnings("unchecked")
+    public void forEach(IntObjectConsumer<? super V> action) {
+        if (hasZeroKey) action.accept(0, zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) action.accept(keys[i], (V) values[i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((k, v) -> sb.append(sb.length() > 1 ? ", " : "").append(k).append('=').append(v));
+        return sb.append('}').toString();
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        System.out.println("=== Open-Addressing IntObjectHashMap ===");
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        map.put(1, "One");
+        map.put(6, "Six");
+        map.put(-4, "Minus four"); // Negative keys work (CustomHashTable's key % size would be negative)
+        map.put(0, "Zero");
+        System.out.println("Value for key 6: " + map.get(6)); // Six
+        System.out.println("Value for key -4: " + map.get(-4)); // Minus four
+        map.remove(1);
+        System.out.println("After deleting key 1, size " + map.size() + ", contains 1? " + map.containsKey(1)); // 3, false
+
+        // Cross-check against HashMap with random inserts, updates and deletes (small key range: many collisions)
+        Random random = new Random(19);
+        IntObjectHashMap<Integer> mine = new IntObjectHashMap<>(4, 0.5f);
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        boolean ok = true;
+        for (int i = 0; i < 2_000_000; i++) {
+            int key = random.nextInt(5_000) - 2_500;
+            switch (random.nextInt(3)) {
+                case 0:
+                    ok &= Objects.equals(mine.put(key, i), expected.put(key, i));
+                    break;
+                case 1:
+                    ok &= Objects.equals(mine.remove(key), expected.remove(key));
+                    break;
+                default:
+                    ok &= Objects.equals(mine.get(key), expected.get(key));
+            }
+        }
+        ok &= mine.size() == expected.size();
+        int[] seen = {0};
+        mine.forEach((k, v) -> seen[0] += v.equals(expected.get(k)) ? 1 : 0);
+        ok &= seen[0] == expected.size();
+        System.out.println("Matches HashMap: " + ok); // true
+    }
+}
@@ -0,0 +1,260 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Hashing;
+
+// Open-Addressing long -> long Hash Map
+// This file implements a hash map with primitive long keys and values, linear probing and
+// backward-shift deletion (same design as IntObjectHashMap).
+// Purpose: Counters, id -> offset indexes and frequency maps without HashMap<Long, Long> boxing.
+// Key Features:
+// - put/get/getOrDefault/containsKey/remove/addTo/size/clear/forEach.
+// - No allocation in put, get, addTo or remove (only when the table grows).
+// - Absent keys read as missingValue (0 by default), so addTo works as a frequency counter.
+// Java-Specific Notes:
+// - Keys and values live in two parallel long[] arrays; key 0 marks an empty slot, so the entry for
+//   key 0 itself is kept outside the table (hasZeroKey / zeroValue).
+// - Mixing hash: key * golden ratio, then high bits folded down; slot = mix(key) & mask.
+// - Resize at capacity * loadFactor; deletion shifts later entries back instead of leaving tombstones.
+
+// Time Complexity: O(1) expected per operation (load factor < 1), O(n) for a resize.
+// Space Complexity: O(capacity) = O(n / loadFactor), 16 bytes per slot.
+
+import java.util.*;
+
+public class LongLongHashMap {
+    // Callback for forEach, so iteration needs no Entry objects
+    @FunctionalInterface
+    public interface LongLongConsumer {
+        void accept(long key, long value);
+    }
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private final float loadFactor;
+    private final long missingValue; // Returned by get/put/remove when there is no entry
+    private long[] keys;
+    private long[] values;
+    private int mask; // capacity - 1
+    private int maxFill; // Grow when size reaches this
+    private int size; // Entries in the table (without key 0)
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    public LongLongHashMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, 0);
+    }
+
+    // expected: number of entries to hold without resizing
+    public LongLongHashMap(int expected, float loadFactor, long missingValue) {
+        if (!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Load factor must be in (0, 1)");
+        if (expected < 0) throw new IllegalArgumentException("Negative expected size");
+        this.loadFactor = loadFactor;
+        this.missingValue = missingValue;
+        long needed = Math.max(2, (long) Math.ceil(expected / loadFactor) + 1);
+        if (needed > 1 << 30) throw new IllegalArgumentException("Too many entries: " + expected);
+        allocate(Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        maxFill = Math.min(capacity - 1, (int) Math.ceil(capacity * loadFactor));
+    }
+
+    // Mixing hash: multiply by 2^64 / golden ratio, fold the high half down
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // Slot holding key, or -(insertion slot) - 1 if absent. Key must not be 0.
+    private int find(long key) {
+        int pos = mix(key) & mask;
+        long current;
+        while ((current = keys[pos]) != 0) {
+            if (current == key) return pos;
+            pos = (pos + 1) & mask;
+        }
+        return -pos - 1;
+    }
+
+    // Put
+    // Workflow: Insert or update key -> value; returns the previous value or missingValue.
+    // Algorithm: Probe to the key or the first empty slot; write; double the table past maxFill.
+    // Time Complexity: O(1) expected (amortized, counting resizes).
+    // Space Complexity: O(1).
+    public long put(long key, long value) {
+        if (key == 0) {
+            long previous = hasZeroKey ? zeroValue : missingValue;
+            hasZeroKey = true;
+            zeroValue = value;
+            return previous;
+        }
+        int pos = find(key);
+        if (pos >= 0) {
+            long previous = values[pos];
+            values[pos] = value;
+            return previous;
+        }
+        insertAt(-pos - 1, key, value);
+        return missingValue;
+    }
+
+    private void insertAt(int pos, long key, long value) {
+        keys[pos] = key;
+        values[pos] = value;
+        if (++size >= maxFill) rehash(keys.length * 2);
+    }
+
+    // Add To (counter)
+    // Workflow: value(key) += delta, starting from missingValue for a new key; returns the new value.
+    // Algorithm: One probe sequence for both the lookup and the insert.
+    // Time Complexity: O(1) expected.
+    // Space Complexity: O(1).
+    public long addTo(long key, long delta) {
+        if (key == 0) {
+            zeroValue = (hasZeroKey ? zeroValue : missingValue) + delta;
+            hasZeroKey = true;
+            return zeroValue;
+        }
+        int pos = find(key);
+        if (pos >= 0) return values[pos] += delta;
+        long value = missingValue + delta;
+        insertAt(-pos - 1, key, value);
+        return value;
+    }
+
+    // Get
+    // Workflow: Return the value for key, or missingValue if absent.
+    // Algorithm: Probe from mix(key) & mask until the key (hit) or an empty slot (miss).
+    // Time Complexity: O(1) expected.
+    // Space Complexity: O(1).
+    public long get(long key) {
+        return getOrDefault(key, missingValue);
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        if (key == 0) return hasZeroKey ? zeroValue : defaultValue;
+        int pos = mix(key) & mask;
+        long current;
+        while ((current = keys[pos]) != 0) {
+            if (current == key) return values[pos];
+            pos = (pos + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    public boolean containsKey(long key) {
+        return key == 0 ? hasZeroKey : find(key) >= 0;
+    }
+
+    // Remove
+    // Workflow: Delete key; returns its value or missingValue if it was absent.
+    // Algorithm: Empty the slot, then shift back every following entry (up to the next empty slot)
+    // whose home slot is not cyclically between the hole and its position.
+    // Time Complexity: O(1) expected.
+    // Space Complexity: O(1).
+    public long remove(long key) {
+        if (key == 0) {
+            if (!hasZeroKey) return missingValue;
+            hasZeroKey = false;
+            return zeroValue;
+        }
+        int pos = find(key);
+        if (pos < 0) return missingValue;
+        long previous = values[pos];
+        size--;
+        int hole = pos;
+        while (true) {
+            pos = (pos + 1) & mask;
+            long current = keys[pos];
+            if (current == 0) break;
+            int home = mix(current) & mask;
+            boolean stays = hole <= pos ? hole < home && home <= pos : hole < home || home <= pos;
+            if (!stays) {
+                keys[hole] = current;
+                values[hole] = values[pos];
+                hole = pos;
+            }
+        }
+        keys[hole] = 0;
+        return previous;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys, oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == 0) continue;
+            int pos = mix(key) & mask;
+            while (keys[pos] != 0) pos = (pos + 1) & mask;
+            keys[pos] = key;
+            values[pos] = oldValues[i];
+        }
+    }
+
+    public int size() {
+        return size + (hasZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+        hasZeroKey = false;
+    }
+
+    // Calls action for every entry (table order)
+    public void forEach(LongLongConsumer action) {
+        if (hasZeroKey) action.accept(0, zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) action.accept(keys[i], values[i]);
+        }
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        System.out.println("=== Open-Addressing LongLongHashMap ===");
+        // Frequency counting, like HashingDemo's freqMap but without boxing
+        long[] arr = {1, 2, 2, 3, 1, 4, -5_000_000_000L, -5_000_000_000L};
+        LongLongHashMap freq = new LongLongHashMap();
+        for (long num : arr) freq.addTo(num, 1);
+        System.out.println("Frequency of 2: " + freq.get(2) + ", of -5e9: " + freq.get(-5_000_000_000L)
+                + ", of 7: " + freq.get(7)); // 2, 2, 0
+        freq.remove(2);
+        System.out.println("After removing 2, size " + freq.size()); // 4
+
+        // Cross-check against HashMap with random puts, counters, deletes (small key range: many collisions)
+        Random random = new Random(19);
+        LongLongHashMap mine = new LongLongHashMap(4, 0.6f, -1);
+        HashMap<Long, Long> expected = new HashMap<>();
+        boolean ok = true;
+        for (int i = 0; i < 2_000_000; i++) {
+            long key = (random.nextInt(5_000) - 2_500) * 0x100000000L; // Keys differing only in high bits
+            switch (random.nextInt(4)) {
+                case 0:
+                    ok &= mine.put(key, i) == expected.getOrDefault(key, -1L);
+                    expected.put(key, (long) i);
+                    break;
+                case 1:
+                    ok &= mine.addTo(key, 3) == expected.merge(key, 2L, (a, b) -> a + 3);
+                    break;
+                case 2:
+                    Long removed = expected.remove(key);
+                    ok &= mine.remove(key) == (removed == null ? -1 : removed);
+                    break;
+                default:
+                    ok &= mine.get(key) == expected.getOrDefault(key, -1L);
+            }
+        }
+        ok &= mine.size() == expected.size();
+        long[] seen = {0};
+        mine.forEach((k, v) -> seen[0] += v == expected.get(k) ? 1 : 0);
+        ok &= seen[0] == expected.size();
+        System.out.println("Matches HashMap: " + ok); // true
+    }
+}
@@ -0,0 +1,100 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Heap;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+import Java_Bootcamp.DSA.Basic.Sorting.HeapSort;
+
+import java.util.*;
+
+// Heap Benchmark
+// This program times IntHeap (binary and 4-ary) against PriorityQueue<Integer> for:
+// - push n random ints, then poll them all
+// - heapify n ints at once (PriorityQueue(Collection) for the boxed side), then poll them all
+// - top-k selection over a long stream (replaceTop vs offer + poll on a size-k PriorityQueue)
+// - HeapSort.heapSort (on a 4-ary IntHeap) against Arrays.sort
+// Purpose: Show what an int[] heap saves over a heap of Integer references (no boxing, no pointer
+// chase per comparison), and how much a 4-ary layout saves on poll-heavy work by halving the depth.
+public class HeapBenchmark {
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int k = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        Random random = new Random(24);
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) values[i] = random.nextInt();
+        int[] stream = new int[10 * n];
+        for (int i = 0; i < stream.length; i++) stream[i] = random.nextInt();
+        List<Integer> boxed = new ArrayList<>();
+        for (int v : values) boxed.add(v);
+
+        System.out.printf("n=%d, top-%d of %d, best of %d rounds (ms)%n", n, k, stream.length, ROUNDS);
+        System.out.printf("%-26s %12s %12s %12s%n", "heap", "push+poll", "heapify+poll", "top-k");
+        System.out.printf("%-26s %12.1f %12.1f %12.1f%n", "PriorityQueue<Integer>",
+                time(() -> {
+                    PriorityQueue<Integer> pq = new PriorityQueue<>();
+                    for (int v : values) pq.offer(v);
+                    long sum = 0;
+                    while (!pq.isEmpty()) sum += pq.poll();
+                    return sum;
+                }),
+                time(() -> {
+                    PriorityQueue<Integer> pq = new PriorityQueue<>(boxed);
+                    long sum = 0;
+                    while (!pq.isEmpty()) sum += pq.poll();
+                    return sum;
+                }),
+                time(() -> {
+                    PriorityQueue<Integer> pq = new PriorityQueue<>(k + 1);
+                    for (int v : stream) {
+                        if (pq.size() < k) pq.offer(v);
+                        else if (v > pq.peek()) {
+                            pq.poll();
+                            pq.offer(v);
+                        }
+                    }
+                    return pq.peek();
+                }));
+        for (int arity : new int[]{2, 4}) {
+            System.out.printf("%-26s %12.1f %12.1f %12.1f%n", "IntHeap arity " + arity,
+                    time(() -> {
+                        IntHeap heap = new IntHeap(16, arity);
+                        for (int v : values) heap.push(v);
+                        long sum = 0;
+                        while (!heap.isEmpty()) sum += heap.poll();
+                        return sum;
+                    }),
+                    time(() -> {
+                        IntHeap heap = IntHeap.heapify(values.clone(), n, arity);
+                        long sum = 0;
+                        while (!heap.isEmpty()) sum += heap.poll();
+                        return sum;
+                    }),
+                    time(() -> {
+                        IntHeap heap = new IntHeap(k, arity);
+                        for (int v : stream) {
+                            if (heap.size() < k) heap.push(v);
+                            else if (v > heap.peek()) heap.replaceTop(v);
+                        }
+                        return heap.peek();
+                    }));
+        }
+
+        System.out.printf("%nSorting %d ints: HeapSort.heapSort %.1f ms, Arrays.sort %.1f ms%n", n,
+                time(() -> {
+                    int[] copy = values.clone();
+                    HeapSort.heapSort(copy);
+                    return copy[n / 2];
+                }),
+                time(() -> {
+                    int[] copy = values.clone();
+                    Arrays.sort(copy);
+                    return copy[n / 2];
+                }));
+        BenchmarkUtils.printChecksum();
+    }
+
+    // Best wall time over ROUNDS runs, in milliseconds
+    private static double time(BenchmarkUtils.Task task) {
+        return BenchmarkUtils.millis(BenchmarkUtils.bestNanos(ROUNDS, task));
+    }
+}
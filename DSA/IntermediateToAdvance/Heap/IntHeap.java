@@ -0,0 +1,237 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Heap;
+
+import java.util.*;
+
+public class IntHeap {
+    // Min-heap of primitive ints in one int[] (no Integer boxing, nothing allocated per operation).
+    // For a max-heap, push ~x and read back ~peek(): bitwise not reverses the int order exactly.
+
+    // Layout:
+    // - a[base] is the minimum; a[base .. base+size-1] is the heap (base is 0 unless the heap was
+    //   built over a sub-range with heapify(values, from, size, arity)).
+    // - Arity 2 (binary) or 4: children of slot i are (i << shift) + 1 .. (i << shift) + arity,
+    //   parent of slot i is (i - 1) >> shift. A 4-ary heap is half as deep, so push (sift-up) is
+    //   cheaper and sift-down touches one cache line of 4 children per level instead of two levels.
+
+    // Operations:
+    // - heapify: Floyd's bottom-up build, sift-down from the last parent to the root, O(n).
+    // - push: hole-based sift-up (parents move down into the hole, the value is written once).
+    // - poll: Floyd's trick: walk the hole from the root down to a leaf along the smallest children
+    //   (no comparison with the moving value), then sift the last value up from there. The last
+    //   value usually belongs near the bottom, so this saves about half of the comparisons.
+    // - pushPop / replaceTop: one sift-down instead of a push plus a poll.
+
+    private final int shift; // log2(arity)
+    private final int arity;
+    private final int base; // Slot 0 of the heap is a[base]
+    private int[] a;
+    private int size;
+
+    public IntHeap() {
+        this(16, 2);
+    }
+
+    public IntHeap(int capacity, int arity) {
+        this(new int[Math.max(1, capacity)], 0, 0, arity);
+    }
+
+    private IntHeap(int[] a, int base, int size, int arity) {
+        if (arity != 2 && arity != 4) throw new IllegalArgumentException("Arity must be 2 or 4: " + arity);
+        this.arity = arity;
+        this.shift = arity == 2 ? 1 : 2;
+        this.base = base;
+        this.a = a;
+        this.size = size;
+    }
+
+    // Heapify (Floyd)
+    // Workflow: Turn values[0 .. size-1] into a heap in place and return a heap backed by that array
+    // (no copy: polls leave freed slots at the end of the array, which HeapSort reuses).
+    // Algorithm: Sift down every parent, from the last one back to the root.
+    // Time Complexity: O(n) (most nodes are near the bottom and sift only a few levels).
+    // Space Complexity: O(1).
+    public static IntHeap heapify(int[] values, int size, int arity) {
+        return heapify(values, 0, size, arity);
+    }
+
+    // Heapify values[from .. from+size-1] in place; the heap never touches slots outside that range
+    public static IntHeap heapify(int[] values, int from, int size, int arity) {
+        if (from < 0 || size < 0 || size > values.length - from) {
+            throw new IllegalArgumentException("Invalid range: from " + from + ", size " + size);
+        }
+        IntHeap heap = new IntHeap(values, from, size, arity);
+        for (int i = (size - 2) >> heap.shift; i >= 0; i--) heap.siftDown(i, values[from + i]);
+        return heap;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int peek() {
+        if (size == 0) throw new NoSuchElementException();
+        return a[base];
+    }
+
+    // Time: O(log n), amortized over the occasional doubling
+    public void push(int value) {
+        if (base + size == a.length) a = Arrays.copyOf(a, a.length * 2);
+        siftUp(size++, value);
+    }
+
+    // Removes and returns the minimum
+    // Time: O(log n)
+    public int poll() {
+        if (size == 0) throw new NoSuchElementException();
+        int min = a[base];
+        int last = a[base + --size];
+        if (size > 0) {
+            // Walk the hole down to a leaf along the smallest children
+            int hole = 0, first;
+            while ((first = (hole << shift) + 1) < size) {
+                int best = smallestChild(first);
+                a[base + hole] = a[base + best];
+                hole = best;
+            }
+            siftUp(hole, last);
+        }
+        return min;
+    }
+
+    // Push value, then poll: returns value itself (heap unchanged) if it is <= the minimum
+    // Time: O(log n)
+    public int pushPop(int value) {
+        if (size == 0 || value <= a[base]) return value;
+        int min = a[base];
+        siftDown(0, value);
+        return min;
+    }
+
+    // Poll, then push value (the heap must not be empty)
+    // Time: O(log n)
+    public int replaceTop(int value) {
+        if (size == 0) throw new NoSuchElementException();
+        int min = a[base];
+        siftDown(0, value);
+        return min;
+    }
+
+    // Top-K Selection
+    // Workflow: The k largest values, largest first.
+    // Algorithm: Keep a min-heap of the k largest seen so far; a value larger than the heap's
+    // minimum replaces it (replaceTop). Then poll the heap into the result from the back.
+    // Time Complexity: O(n log k), O(n) when most values are rejected by the peek comparison.
+    // Space Complexity: O(k).
+    public static int[] topK(int[] values, int k) {
+        if (k < 0) throw new IllegalArgumentException("Negative k: " + k);
+        k = Math.min(k, values.length);
+        int[] result = Arrays.copyOf(values, k);
+        if (k == 0) return result;
+        IntHeap heap = heapify(result, k, 4);
+        for (int i = k; i < values.length; i++) {
+            if (values[i] > result[0]) heap.replaceTop(values[i]);
+        }
+        while (!heap.isEmpty()) {
+            int min = heap.poll();
+            result[heap.size()] = min; // Freed slot at the end: smallest last
+        }
+        return result;
+    }
+
+    // Hole-based sift-up of value from slot
+    private void siftUp(int slot, int value) {
+        while (slot > 0) {
+            int parent = (slot - 1) >> shift;
+            int p = a[base + parent];
+            if (p <= value) break;
+            a[base + slot] = p;
+            slot = parent;
+        }
+        a[base + slot] = value;
+    }
+
+    // Hole-based sift-down of value from slot
+    private void siftDown(int slot, int value) {
+        int first;
+        while ((first = (slot << shift) + 1) < size) {
+            int best = smallestChild(first);
+            int child = a[base + best];
+            if (child >= value) break;
+            a[base + slot] = child;
+            slot = best;
+        }
+        a[base + slot] = value;
+    }
+
+    private int smallestChild(int first) {
+        int best = first;
+        int last = Math.min(first + arity, size);
+        for (int c = first + 1; c < last; c++) {
+            if (a[base + c] < a[base + best]) best = c;
+        }
+        return best;
+    }
+
+    public static void main(String[] args) {
+        IntHeap heap = new IntHeap(4, 2);
+        for (int x : new int[]{30, 10, 20, 10, -5}) heap.push(x);
+        System.out.println("Peek: " + heap.peek()); // -5
+        System.out.println("pushPop(-9): " + heap.pushPop(-9)); // -9 (smaller than the minimum)
+        System.out.println("replaceTop(25): " + heap.replaceTop(25)); // -5
+        StringBuilder order = new StringBuilder();
+        while (!heap.isEmpty()) order.append(heap.poll()).append(' ');
+        System.out.println("Poll order: " + order); // 10 10 20 25 30
+
+        // Max-heap through ~x
+        IntHeap max = new IntHeap();
+        for (int x : new int[]{3, Integer.MIN_VALUE, 7, Integer.MAX_VALUE}) max.push(~x);
+        System.out.println("Max: " + ~max.poll() + ", then " + ~max.poll()); // 2147483647, then 7
+
+        System.out.println("Top 3 of [5, 1, 9, 3, 7, 9]: " + Arrays.toString(topK(new int[]{5, 1, 9, 3, 7, 9}, 3))); // [9, 9, 7]
+
+        // Randomized cross-check against PriorityQueue, both arities
+        Random random = new Random(24);
+        boolean ok = true;
+        for (int arity : new int[]{2, 4}) {
+            IntHeap mine = new IntHeap(1, arity);
+            PriorityQueue<Integer> expected = new PriorityQueue<>();
+            for (int i = 0; i < 500_000; i++) {
+                int x = random.nextInt(1000) - 500;
+                switch (expected.isEmpty() ? 0 : random.nextInt(4)) {
+                    case 0:
+                    case 1:
+                        mine.push(x);
+                        expected.add(x);
+                        break;
+                    case 2:
+                        ok &= mine.poll() == expected.poll();
+                        break;
+                    default:
+                        int top = expected.peek();
+                        ok &= mine.replaceTop(x) == top && top == expected.poll();
+                        expected.add(x);
+                }
+                ok &= mine.size() == expected.size();
+            }
+            int[] values = random.ints(10_000).toArray();
+            int[] sorted = values.clone();
+            Arrays.sort(sorted);
+            IntHeap built = heapify(values, values.length, arity);
+            for (int v : sorted) ok &= built.poll() == v;
+
+            // Heap over a sub-range: the slots around it are never touched
+            int[] framed = {-7, 4, 1, 3, -7};
+            IntHeap inner = heapify(framed, 1, 3, arity);
+            ok &= inner.poll() == 1 && inner.poll() == 3 && inner.poll() == 4 && framed[0] == -7 && framed[4] == -7;
+        }
+        System.out.println("Matches PriorityQueue: " + ok); // true
+    }
+}
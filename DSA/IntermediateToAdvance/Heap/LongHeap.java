@@ -0,0 +1,207 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Heap;
+
+import java.util.*;
+
+public class LongHeap {
+    // Min-heap of primitive longs in one long[] (no Long boxing, nothing allocated per operation).
+    // For a max-heap, push ~x and read back ~peek(): bitwise not reverses the long order exactly.
+
+    // Layout:
+    // - a[0] is the minimum; a[0 .. size-1] is the heap.
+    // - Arity 2 (binary) or 4: children of slot i are (i << shift) + 1 .. (i << shift) + arity,
+    //   parent of slot i is (i - 1) >> shift. A 4-ary heap is half as deep, so push (sift-up) is
+    //   cheaper and sift-down touches one cache line of 4 children per level instead of two levels.
+
+    // Operations:
+    // - heapify: Floyd's bottom-up build, sift-down from the last parent to the root, O(n).
+    // - push: hole-based sift-up (parents move down into the hole, the value is written once).
+    // - poll: Floyd's trick: walk the hole from the root down to a leaf along the smallest children
+    //   (no comparison with the moving value), then sift the last value up from there. The last
+    //   value usually belongs near the bottom, so this saves about half of the comparisons.
+    // - pushPop / replaceTop: one sift-down instead of a push plus a poll.
+
+    private final int shift; // log2(arity)
+    private final int arity;
+    private long[] a;
+    private int size;
+
+    public LongHeap() {
+        this(16, 2);
+    }
+
+    public LongHeap(int capacity, int arity) {
+        this(new long[Math.max(1, capacity)], 0, arity);
+    }
+
+    private LongHeap(long[] a, int size, int arity) {
+        if (arity != 2 && arity != 4) throw new IllegalArgumentException("Arity must be 2 or 4: " + arity);
+        this.arity = arity;
+        this.shift = arity == 2 ? 1 : 2;
+        this.a = a;
+        this.size = size;
+    }
+
+    // Heapify (Floyd)
+    // Workflow: Turn values[0 .. size-1] into a heap in place and return a heap backed by that array
+    // (no copy: polls leave freed slots at the end of the array).
+    // Algorithm: Sift down every parent, from the last one back to the root.
+    // Time Complexity: O(n) (most nodes are near the bottom and sift only a few levels).
+    // Space Complexity: O(1).
+    public static LongHeap heapify(long[] values, int size, int arity) {
+        if (size < 0 || size > values.length) throw new IllegalArgumentException("Invalid size: " + size);
+        LongHeap heap = new LongHeap(values, size, arity);
+        for (int i = (size - 2) >> heap.shift; i >= 0; i--) heap.siftDown(i, values[i]);
+        return heap;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public long peek() {
+        if (size == 0) throw new NoSuchElementException();
+        return a[0];
+    }
+
+    // Time: O(log n), amortized over the occasional doubling
+    public void push(long value) {
+        if (size == a.length) a = Arrays.copyOf(a, a.length * 2);
+        siftUp(size++, value);
+    }
+
+    // Removes and returns the minimum
+    // Time: O(log n)
+    public long poll() {
+        if (size == 0) throw new NoSuchElementException();
+        long min = a[0];
+        long last = a[--size];
+        if (size > 0) {
+            // Walk the hole down to a leaf along the smallest children
+            int hole = 0, first;
+            while ((first = (hole << shift) + 1) < size) {
+                int best = smallestChild(first);
+                a[hole] = a[best];
+                hole = best;
+            }
+            siftUp(hole, last);
+        }
+        return min;
+    }
+
+    // Push value, then poll: returns value itself (heap unchanged) if it is <= the minimum
+    // Time: O(log n)
+    public long pushPop(long value) {
+        if (size == 0 || value <= a[0]) return value;
+        long min = a[0];
+        siftDown(0, value);
+        return min;
+    }
+
+    // Poll, then push value (the heap must not be empty)
+    // Time: O(log n)
+    public long replaceTop(long value) {
+        if (size == 0) throw new NoSuchElementException();
+        long min = a[0];
+        siftDown(0, value);
+        return min;
+    }
+
+    // Top-K Selection
+    // Workflow: The k largest values, largest first.
+    // Algorithm: Keep a min-heap of the k largest seen so far; a value larger than the heap's
+    // minimum replaces it (replaceTop). Then poll the heap into the result from the back.
+    // Time Complexity: O(n log k), O(n) when most values are rejected by the peek comparison.
+    // Space Complexity: O(k).
+    public static long[] topK(long[] values, int k) {
+        if (k < 0) throw new IllegalArgumentException("Negative k: " + k);
+        k = Math.min(k, values.length);
+        long[] result = Arrays.copyOf(values, k);
+        if (k == 0) return result;
+        LongHeap heap = heapify(result, k, 4);
+        for (int i = k; i < values.length; i++) {
+            if (values[i] > result[0]) heap.replaceTop(values[i]);
+        }
+        while (!heap.isEmpty()) {
+            long min = heap.poll();
+            result[heap.size()] = min; // Freed slot at the end: smallest last
+        }
+        return result;
+    }
+
+    // Hole-based sift-up of value from slot
+    private void siftUp(int slot, long value) {
+        while (slot > 0) {
+            int parent = (slot - 1) >> shift;
+            long p = a[parent];
+            if (p <= value) break;
+            a[slot] = p;
+            slot = parent;
+        }
+        a[slot] = value;
+    }
+
+    // Hole-based sift-down of value from slot
+    private void siftDown(int slot, long value) {
+        int first;
+        while ((first = (slot << shift) + 1) < size) {
+            int best = smallestChild(first);
+            long child = a[best];
+            if (child >= value) break;
+            a[slot] = child;
+            slot = best;
+        }
+        a[slot] = value;
+    }
+
+    private int smallestChild(int first) {
+        int best = first;
+        int last = Math.min(first + arity, size);
+        for (int c = first + 1; c < last; c++) {
+            if (a[c] < a[best]) best = c;
+        }
+        return best;
+    }
+
+    public static void main(String[] args) {
+        // Timestamps (epoch millis) in arrival order; the heap hands them back oldest first
+        LongHeap heap = LongHeap.heapify(new long[]{1_700_000_300_000L, 1_700_000_100_000L, 1_700_000_200_000L}, 3, 4);
+        heap.push(1_699_999_999_999L);
+        System.out.println("Oldest: " + heap.poll() + ", next: " + heap.poll()); // 1699999999999, 1700000100000
+        System.out.println("Top 2: " + Arrays.toString(topK(new long[]{-5_000_000_000L, 7, 5_000_000_000L, 0}, 2))); // [5000000000, 7]
+
+        // Randomized cross-check against PriorityQueue, both arities
+        Random random = new Random(24);
+        boolean ok = true;
+        for (int arity : new int[]{2, 4}) {
+            LongHeap mine = new LongHeap(1, arity);
+            PriorityQueue<Long> expected = new PriorityQueue<>();
+            for (int i = 0; i < 500_000; i++) {
+                long x = random.nextLong() >> random.nextInt(64); // Wide range, many small values repeated
+                int op = expected.isEmpty() ? 0 : random.nextInt(4);
+                if (op < 2) {
+                    mine.push(x);
+                    expected.add(x);
+                } else if (op == 2) {
+                    ok &= mine.poll() == expected.poll();
+                } else {
+                    long top = expected.peek();
+                    ok &= mine.pushPop(x) == Math.min(x, top);
+                    if (x > top) {
+                        expected.poll();
+                        expected.add(x);
+                    }
+                }
+                ok &= mine.size() == expected.size();
+            }
+        }
+        System.out.println("Matches PriorityQueue: " + ok); // true
+    }
+}
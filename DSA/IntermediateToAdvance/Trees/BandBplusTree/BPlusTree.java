@@ -10,6 +10,8 @@ package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.BandBplusTree;
 // - Search: Find key in leaves.
 // - Delete: Remove key, merge nodes if underflow.
 // - Range Query: Find keys in range using leaf links.
+// - Range Cursor: Lazy forward/reverse PrimitiveIterator.OfInt / IntStream over a range (no boxing).
+// - Bulk Load: Build the tree bottom-up from sorted keys in one pass.
 // - Traversal: Level-order and leaf traversal.
 // Java-Specific Notes:
 // - Uses order m=4 (max 3 keys per node).
@@ -21,8 +23,11 @@ package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.BandBplusTree;
 // Structure:
 // - Nodes store keys, children (internal) or next leaf (leaves).
 // - Leaves hold all keys, linked for sequential access.
+// - Separator keys[i] is the largest key in children[i] (keys equal to a separator go left).
 
 import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 public class BPlusTree {
     private static class Node {
@@ -43,11 +48,11 @@ public class BPlusTree {
 
     private Node root;
     private final int order; // Maximum pointers
-    private final int minKey; // Minimum keys (ceiling(order/2) - 1)
+    private final int minKey; // Minimum keys (floor(order/2) - 1, what a top-down split of a full node leaves)
 
     public BPlusTree(int order) {
         this.order = order;
-        this.minKey = (order + 1) / 2 - 1;
+        this.minKey = order / 2 - 1;
         this.root = new Node(true, order);
     }
 
@@ -55,7 +60,7 @@ public class BPlusTree {
     // Workflow: Add key to leaf, split if overflow.
     // Algorithm:
     // 1. Find leaf using binary search.
-    // 2. Insert key, shift others.
+    // 2. Insert key, shift others (duplicates are ignored).
     // 3. If overflow, split and propagate.
     // Time Complexity: O(log_m n).
     // Space Complexity: O(1).
@@ -71,16 +76,16 @@ public class BPlusTree {
     private void insertHelper(Node node, int key) {
         if (node.isLeaf) {
             int i = node.size - 1;
-            while (i >= 0 && node.keys[i] > key) {
-                node.keys[i + 1] = node.keys[i];
-                i--;
+            while (i >= 0 && node.keys[i] > key) i--;
+            if (i >= 0 && node.keys[i] == key) return;
+            for (int j = node.size - 1; j > i; j--) {
+                node.keys[j + 1] = node.keys[j];
             }
             node.keys[i + 1] = key;
             node.size++;
         } else {
-            int i = node.size - 1;
-            while (i >= 0 && node.keys[i] > key) i--;
-            i++;
+            int i = 0;
+            while (i < node.size && key > node.keys[i]) i++;
             if (node.children[i].size == order - 1) {
                 splitChild(node, i);
                 if (key > node.keys[i]) i++;
@@ -91,22 +96,24 @@ public class BPlusTree {
     private void splitChild(Node parent, int index) {
         Node fullNode = parent.children[index];
         Node newNode = new Node(fullNode.isLeaf, order);
-        int mid = fullNode.size / 2;
+        // Leaf: separator is copied up and stays in the left leaf
+        // Internal: separator moves up and leaves both halves
+        int mid = fullNode.isLeaf ? (fullNode.size - 1) / 2 : fullNode.size / 2;
 
         // Move upper half to new node
-        for (int i = 0; i < fullNode.size - mid - 1; i++) {
-            newNode.keys[i] = fullNode.keys[mid + 1 + i];
-            newNode.size++;
+        for (int i = mid + 1; i < fullNode.size; i++) {
+            newNode.keys[newNode.size++] = fullNode.keys[i];
         }
         if (!fullNode.isLeaf) {
             for (int i = 0; i < fullNode.size - mid; i++) {
                 newNode.children[i] = fullNode.children[mid + 1 + i];
             }
+            fullNode.size = mid;
         } else {
             newNode.next = fullNode.next;
             fullNode.next = newNode;
+            fullNode.size = mid + 1;
         }
-        fullNode.size = mid;
 
         // Shift parent’s keys/children
         for (int i = parent.size; i > index; i--) {
@@ -163,22 +170,12 @@ public class BPlusTree {
             }
             return;
         }
-        if (i < node.size && node.keys[i] == key) {
-            // Key in internal node (replace with predecessor)
-            Node pred = findPredecessor(node.children[i]);
-            node.keys[i] = pred.keys[pred.size - 1];
-            deleteHelper(node.children[i], pred.keys[pred.size - 1]);
-        } else {
-            deleteHelper(node.children[i], key);
-        }
+        // Keys equal to a separator live in the left child, so one descent finds the leaf
+        deleteHelper(node.children[i], key);
         if (node.children[i].size < minKey) {
             fixUnderflow(node, i);
         }
     }
-    private Node findPredecessor(Node node) {
-        while (!node.isLeaf) node = node.children[node.size];
-        return node;
-    }
     private void fixUnderflow(Node parent, int index) {
         Node child = parent.children[index];
         Node leftSibling = index > 0 ? parent.children[index - 1] : null;
@@ -189,33 +186,39 @@ public class BPlusTree {
             for (int j = child.size; j > 0; j--) {
                 child.keys[j] = child.keys[j - 1];
             }
-            if (!child.isLeaf) {
+            if (child.isLeaf) {
+                // Leaf: move left's last key over, new separator is left's new last key
+                child.keys[0] = leftSibling.keys[leftSibling.size - 1];
+                parent.keys[index - 1] = leftSibling.keys[leftSibling.size - 2];
+            } else {
+                // Internal: rotate through the parent separator
                 for (int j = child.size + 1; j > 0; j--) {
                     child.children[j] = child.children[j - 1];
                 }
-            }
-            child.keys[0] = parent.keys[index - 1];
-            parent.keys[index - 1] = leftSibling.keys[leftSibling.size - 1];
-            if (!child.isLeaf) {
+                child.keys[0] = parent.keys[index - 1];
+                parent.keys[index - 1] = leftSibling.keys[leftSibling.size - 1];
                 child.children[0] = leftSibling.children[leftSibling.size];
             }
             child.size++;
             leftSibling.size--;
         } else if (rightSibling != null && rightSibling.size > minKey) {
             // Borrow from right
-            child.keys[child.size] = parent.keys[index];
-            parent.keys[index] = rightSibling.keys[0];
-            if (!child.isLeaf) {
+            if (child.isLeaf) {
+                // Leaf: move right's first key over, it becomes the new separator
+                child.keys[child.size] = rightSibling.keys[0];
+                parent.keys[index] = rightSibling.keys[0];
+            } else {
+                // Internal: rotate through the parent separator
+                child.keys[child.size] = parent.keys[index];
+                parent.keys[index] = rightSibling.keys[0];
                 child.children[child.size + 1] = rightSibling.children[0];
-            }
-            for (int j = 0; j < rightSibling.size - 1; j++) {
-                rightSibling.keys[j] = rightSibling.keys[j + 1];
-            }
-            if (!rightSibling.isLeaf) {
                 for (int j = 0; j < rightSibling.size; j++) {
                     rightSibling.children[j] = rightSibling.children[j + 1];
                 }
             }
+            for (int j = 0; j < rightSibling.size - 1; j++) {
+                rightSibling.keys[j] = rightSibling.keys[j + 1];
+            }
             child.size++;
             rightSibling.size--;
         } else {
@@ -228,18 +231,24 @@ public class BPlusTree {
         }
     }
     private void mergeNodes(Node parent, int index, Node left, Node right) {
-        left.keys[left.size] = parent.keys[index];
-        for (int i = 0; i < right.size; i++) {
-            left.keys[left.size + 1 + i] = right.keys[i];
-        }
-        if (!left.isLeaf) {
+        if (left.isLeaf) {
+            // Leaf: separator is just dropped, keys are concatenated
+            for (int i = 0; i < right.size; i++) {
+                left.keys[left.size + i] = right.keys[i];
+            }
+            left.size += right.size;
+            left.next = right.next;
+        } else {
+            // Internal: separator comes down between the two halves
+            left.keys[left.size] = parent.keys[index];
+            for (int i = 0; i < right.size; i++) {
+                left.keys[left.size + 1 + i] = right.keys[i];
+            }
             for (int i = 0; i <= right.size; i++) {
                 left.children[left.size + 1 + i] = right.children[i];
             }
-        } else {
-            left.next = right.next;
+            left.size += right.size + 1;
         }
-        left.size += right.size + 1;
         for (int i = index; i < parent.size - 1; i++) {
             parent.keys[i] = parent.keys[i + 1];
             parent.children[i + 1] = parent.children[i + 2];
@@ -247,6 +256,111 @@ public class BPlusTree {
         parent.size--;
     }
 
+    // Bulk Load
+    // Workflow: Build the tree bottom-up from strictly increasing keys instead of inserting one by one.
+    // Algorithm:
+    // 1. Fill leaves left to right up to fillFactor * (order - 1) keys, linking each to the next.
+    // 2. If the last leaf underflows, merge it into or rebalance it with its left neighbour.
+    // 3. Group each level's nodes under new parents (separator = largest key of the left child).
+    // 4. Repeat until a single node remains; it becomes the root.
+    // Time Complexity: O(n), no searches or splits.
+    // Space Complexity: O(n/m) for the node lists of one level.
+    // Note: fillFactor < 1 leaves room in every node so later inserts do not split immediately.
+    public static BPlusTree bulkLoad(int order, int[] sortedKeys, double fillFactor) {
+        return bulkLoad(order, Arrays.stream(sortedKeys), fillFactor);
+    }
+    public static BPlusTree bulkLoad(int order, IntStream sortedKeys, double fillFactor) {
+        if (fillFactor <= 0 || fillFactor > 1) {
+            throw new IllegalArgumentException("Fill factor must be in (0, 1]: " + fillFactor);
+        }
+        BPlusTree tree = new BPlusTree(order);
+        int leafCapacity = Math.min(order - 1, Math.max(Math.max(tree.minKey, 1), (int) Math.round((order - 1) * fillFactor)));
+        int fanout = Math.min(order, Math.max(Math.max(tree.minKey + 1, 2), (int) Math.round(order * fillFactor)));
+
+        // Step 1: Leaves
+        List<Node> level = new ArrayList<>();
+        Node leaf = null;
+        PrimitiveIterator.OfInt it = sortedKeys.iterator();
+        while (it.hasNext()) {
+            int key = it.nextInt();
+            if (leaf != null && leaf.size > 0 && key <= leaf.keys[leaf.size - 1]) {
+                throw new IllegalArgumentException("Keys must be strictly increasing: "
+                        + leaf.keys[leaf.size - 1] + " then " + key);
+            }
+            if (leaf == null || leaf.size == leafCapacity) {
+                Node next = new Node(true, order);
+                if (leaf != null) leaf.next = next;
+                level.add(next);
+                leaf = next;
+            }
+            leaf.keys[leaf.size++] = key;
+        }
+        if (level.isEmpty()) return tree;
+
+        // Step 2: Fix an underflowing last leaf
+        if (level.size() > 1 && leaf.size < tree.minKey) {
+            Node prev = level.get(level.size() - 2);
+            int total = prev.size + leaf.size;
+            int[] merged = new int[total];
+            System.arraycopy(prev.keys, 0, merged, 0, prev.size);
+            System.arraycopy(leaf.keys, 0, merged, prev.size, leaf.size);
+            if (total <= order - 1) {
+                System.arraycopy(merged, 0, prev.keys, 0, total);
+                prev.size = total;
+                prev.next = null;
+                level.remove(level.size() - 1);
+            } else {
+                int leftCount = total - total / 2;
+                System.arraycopy(merged, 0, prev.keys, 0, leftCount);
+                System.arraycopy(merged, leftCount, leaf.keys, 0, total - leftCount);
+                prev.size = leftCount;
+                leaf.size = total - leftCount;
+            }
+        }
+
+        // Steps 3-4: Internal levels
+        while (level.size() > 1) {
+            level = buildParentLevel(level, order, fanout, tree.minKey);
+        }
+        tree.root = level.get(0);
+        return tree;
+    }
+    private static List<Node> buildParentLevel(List<Node> children, int order, int fanout, int minKey) {
+        int count = children.size();
+        int groups = (count + fanout - 1) / fanout;
+        int[] groupSizes = new int[groups];
+        Arrays.fill(groupSizes, fanout);
+        groupSizes[groups - 1] = count - fanout * (groups - 1);
+        if (groups > 1 && groupSizes[groups - 1] < minKey + 1) {
+            // Last parent would underflow: merge it into its neighbour or share the two evenly
+            int total = groupSizes[groups - 2] + groupSizes[groups - 1];
+            if (total <= order) {
+                groupSizes = Arrays.copyOf(groupSizes, groups - 1);
+                groupSizes[groups - 2] = total;
+            } else {
+                groupSizes[groups - 2] = total - total / 2;
+                groupSizes[groups - 1] = total / 2;
+            }
+        }
+        List<Node> parents = new ArrayList<>(groupSizes.length);
+        int c = 0;
+        for (int size : groupSizes) {
+            Node parent = new Node(false, order);
+            for (int j = 0; j < size; j++) {
+                Node child = children.get(c++);
+                parent.children[j] = child;
+                if (j < size - 1) parent.keys[j] = maxKey(child);
+            }
+            parent.size = size - 1;
+            parents.add(parent);
+        }
+        return parents;
+    }
+    private static int maxKey(Node node) {
+        while (!node.isLeaf) node = node.children[node.size];
+        return node.keys[node.size - 1];
+    }
+
     // Range Query
     // Workflow: Find keys in [minKey, maxKey] using leaf links.
     // Algorithm:
@@ -274,6 +388,133 @@ public class BPlusTree {
         return results;
     }
 
+    // Range Cursor
+    // Workflow: Return an iterator that walks the range lazily instead of building a list.
+    // Algorithm (forward):
+    // 1. Descend to the leaf that would hold minKey (O(log_m n)).
+    // 2. nextInt() returns keys[i++], hopping to node.next at the end of a leaf.
+    // 3. Stop at the first key > maxKey; callers can also just stop asking (early termination).
+    // Algorithm (reverse):
+    // 1. Descend to the leaf that would hold maxKey, remembering the root-to-leaf path.
+    // 2. nextInt() returns keys[i--]; at the start of a leaf, climb the path to the nearest
+    //    ancestor with a left neighbour and descend its rightmost edge (leaves have no prev link).
+    // Time Complexity: O(log_m n) to open, O(1) amortized per key.
+    // Space Complexity: O(1) forward, O(height) reverse, nothing allocated per key.
+    // Note: The tree must not be modified while a cursor is open.
+    public PrimitiveIterator.OfInt rangeCursor(int minKey, int maxKey) {
+        return new ForwardCursor(minKey, maxKey);
+    }
+    public PrimitiveIterator.OfInt reverseRangeCursor(int minKey, int maxKey) {
+        return new ReverseCursor(minKey, maxKey);
+    }
+    public IntStream rangeStream(int minKey, int maxKey) {
+        return cursorStream(rangeCursor(minKey, maxKey), Spliterator.SORTED);
+    }
+    public IntStream reverseRangeStream(int minKey, int maxKey) {
+        return cursorStream(reverseRangeCursor(minKey, maxKey), 0);
+    }
+    private static IntStream cursorStream(PrimitiveIterator.OfInt cursor, int extraCharacteristics) {
+        int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | extraCharacteristics;
+        return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(cursor, characteristics), false);
+    }
+
+    private class ForwardCursor implements PrimitiveIterator.OfInt {
+        private final int maxKey;
+        private Node node;
+        private int index;
+
+        ForwardCursor(int minKey, int maxKey) {
+            this.maxKey = maxKey;
+            Node n = root;
+            while (!n.isLeaf) {
+                int i = 0;
+                while (i < n.size && minKey > n.keys[i]) i++;
+                n = n.children[i];
+            }
+            int i = 0;
+            while (i < n.size && minKey > n.keys[i]) i++;
+            this.node = n;
+            this.index = i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (node != null && index >= node.size) {
+                node = node.next;
+                index = 0;
+            }
+            if (node != null && node.keys[index] > maxKey) node = null; // Past the range, stop for good
+            return node != null;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return node.keys[index++];
+        }
+    }
+
+    private class ReverseCursor implements PrimitiveIterator.OfInt {
+        private final int minKey;
+        private final Node[] path; // path[d] = node at depth d, path[height] = current leaf
+        private final int[] childIndex; // childIndex[d] = child taken from path[d]
+        private Node leaf;
+        private int index;
+
+        ReverseCursor(int minKey, int maxKey) {
+            this.minKey = minKey;
+            int height = 0;
+            for (Node n = root; !n.isLeaf; n = n.children[0]) height++;
+            path = new Node[height + 1];
+            childIndex = new int[height];
+            Node n = root;
+            for (int d = 0; d < height; d++) {
+                int i = 0;
+                while (i < n.size && maxKey > n.keys[i]) i++;
+                path[d] = n;
+                childIndex[d] = i;
+                n = n.children[i];
+            }
+            path[height] = n;
+            int i = n.size - 1;
+            while (i >= 0 && n.keys[i] > maxKey) i--;
+            this.leaf = n;
+            this.index = i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (leaf != null && index < 0) previousLeaf();
+            if (leaf != null && leaf.keys[index] < minKey) leaf = null; // Before the range, stop for good
+            return leaf != null;
+        }
+
+        private void previousLeaf() {
+            int d = childIndex.length - 1;
+            while (d >= 0 && childIndex[d] == 0) d--;
+            if (d < 0) {
+                leaf = null; // Walked off the leftmost leaf
+                return;
+            }
+            childIndex[d]--;
+            Node n = path[d].children[childIndex[d]];
+            for (d = d + 1; d < childIndex.length; d++) {
+                path[d] = n;
+                childIndex[d] = n.size;
+                n = n.children[n.size];
+            }
+            path[childIndex.length] = n;
+            leaf = n;
+            index = n.size - 1;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return leaf.keys[index--];
+        }
+    }
+
     // Level-Order Traversal
     // Workflow: Print nodes level by level.
     // Time Complexity: O(n).
@@ -357,7 +598,7 @@ public class BPlusTree {
         for (int key : keys) {
             bpt.insert(key);
         }
-        bpt.levelOrder(); // E.g., [10] [4,7,17] [1,4] [5,7] [10,17] [21,31]
+        bpt.levelOrder(); // [4, 10] [1, 4] [5, 7, 10] [17, 21, 31]
         bpt.leafTraversal(); // 1 4 5 7 10 17 21 31
         System.out.println("Search 7: " + bpt.search(7)); // true
         System.out.println("Search 8: " + bpt.search(8)); // false
@@ -375,5 +616,44 @@ public class BPlusTree {
         BPlusTree empty = new BPlusTree(4);
         System.out.println("Empty search 1: " + empty.search(1)); // false
         empty.delete(1); // No error
+
+        // Bulk load from sorted keys
+        BPlusTree loaded = BPlusTree.bulkLoad(4, new int[]{1, 4, 5, 7, 10, 17, 21, 31}, 1.0);
+        loaded.levelOrder(); // [5, 17] [1, 4, 5] [7, 10, 17] [21, 31]
+        loaded.leafTraversal(); // 1 4 5 7 10 17 21 31
+        System.out.println("Range [5,17]: " + loaded.rangeQuery(5, 17)); // [5, 7, 10, 17]
+        loaded.insert(8);
+        loaded.delete(21);
+        System.out.println("Is Valid after insert/delete: " + loaded.isValidBPlusTree()); // true
+
+        // Bulk load and repeated insert build the same tree contents (timings: BPlusTreeBenchmark)
+        int[] sorted = IntStream.range(0, 100_000).map(i -> i * 3).toArray();
+        BPlusTree inserted = new BPlusTree(64);
+        for (int key : sorted) inserted.insert(key);
+        BPlusTree bulk = BPlusTree.bulkLoad(64, sorted, 0.9);
+        System.out.println("Both valid: " + (inserted.isValidBPlusTree() && bulk.isValidBPlusTree())); // true
+        System.out.println("Same range [300,330]: "
+                + inserted.rangeQuery(300, 330).equals(bulk.rangeQuery(300, 330))); // true
+
+        // Range cursors: lazy, unboxed, forward and reverse
+        System.out.print("Cursor [5,17]: ");
+        for (PrimitiveIterator.OfInt it = loaded.rangeCursor(5, 17); it.hasNext(); ) {
+            System.out.print(it.nextInt() + " "); // 5 7 8 10 17
+        }
+        System.out.println();
+        System.out.println("Reverse stream [5,17]: "
+                + Arrays.toString(loaded.reverseRangeStream(5, 17).toArray())); // [17, 10, 8, 7, 5]
+        System.out.println("First 3 keys >= 6: "
+                + Arrays.toString(loaded.rangeStream(6, Integer.MAX_VALUE).limit(3).toArray())); // [7, 8, 10]
+
+        // rangeQuery, the forward cursor and the reverse stream see the same keys
+        long listSum = 0;
+        for (int key : bulk.rangeQuery(0, Integer.MAX_VALUE)) listSum += key;
+        long cursorSum = 0;
+        for (PrimitiveIterator.OfInt it = bulk.rangeCursor(0, Integer.MAX_VALUE); it.hasNext(); ) {
+            cursorSum += it.nextInt();
+        }
+        long reverseSum = bulk.reverseRangeStream(0, Integer.MAX_VALUE).asLongStream().sum();
+        System.out.println("Scan sums equal: " + (listSum == cursorSum && cursorSum == reverseSum)); // true
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.BandBplusTree;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+// B+ Tree Benchmark
+// This file times how BPlusTree is built and scanned.
+// Purpose: Show what bulkLoad buys over n single inserts (one bottom-up pass with no splits and no
+// root-to-leaf descent per key), and what the lazy, unboxed rangeCursor buys over rangeQuery, which
+// materializes a List<Integer> before the caller sees the first key. Run with -Xmx2g for the default size.
+// Workloads (sorted keys 0, 3, 6, ...):
+// - build: insert every key into an empty order-64 tree vs bulkLoad at 90% fill.
+// - scan: sum every key with rangeQuery, rangeCursor and reverseRangeStream.
+public class BPlusTreeBenchmark {
+    private static final int ROUNDS = 3;
+    private static final int ORDER = 64;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int[] sorted = IntStream.range(0, n).map(i -> i * 3).toArray();
+        System.out.printf("n=%d, order=%d, best of %d rounds (ms)%n", n, ORDER, ROUNDS);
+
+        long insert = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            BPlusTree tree = new BPlusTree(ORDER);
+            for (int key : sorted) tree.insert(key);
+            return tree.search(sorted[n / 2]) ? 1 : 0;
+        });
+        long bulk = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            BPlusTree tree = BPlusTree.bulkLoad(ORDER, sorted, 0.9);
+            return tree.search(sorted[n / 2]) ? 1 : 0;
+        });
+        System.out.printf("%-22s %8d%n", "insert one by one", insert / 1_000_000);
+        System.out.printf("%-22s %8d%n", "bulkLoad", bulk / 1_000_000);
+
+        BPlusTree tree = BPlusTree.bulkLoad(ORDER, sorted, 1.0);
+        long list = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            long sum = 0;
+            for (int key : tree.rangeQuery(0, Integer.MAX_VALUE)) sum += key;
+            return sum;
+        });
+        long cursor = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            long sum = 0;
+            for (PrimitiveIterator.OfInt it = tree.rangeCursor(0, Integer.MAX_VALUE); it.hasNext(); ) {
+                sum += it.nextInt();
+            }
+            return sum;
+        });
+        long reverse = BenchmarkUtils.bestNanos(ROUNDS,
+                () -> tree.reverseRangeStream(0, Integer.MAX_VALUE).asLongStream().sum());
+        System.out.printf("%-22s %8d%n", "scan rangeQuery", list / 1_000_000);
+        System.out.printf("%-22s %8d%n", "scan rangeCursor", cursor / 1_000_000);
+        System.out.printf("%-22s %8d%n", "scan reverse stream", reverse / 1_000_000);
+        BenchmarkUtils.printChecksum();
+    }
+}
@@ -0,0 +1,314 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.BandBplusTree;
+
+// Generic B+ Tree Map Implementation
+// This file implements a B+ Tree map from any key type K (ordered by a Comparator) to values V.
+// Purpose: Turn BPlusTree's int set into a real index: keys carry a payload and can be any comparable type.
+// Workflow and algorithms are explained in comments for each operation, ensuring beginners can follow.
+// No external dependencies; testing is embedded in the main method (see BPlusTreeMapBenchmark for timings).
+// Key Features:
+// - Put/Get/Remove: Same top-down split and borrow/merge scheme as BPlusTree, values travel with keys.
+// - Binary search inside each node using the Comparator.
+// - Range: forEachInRange walks linked leaves, handing keys/values to a BiConsumer.
+// Java-Specific Notes:
+// - Keys and values are Object[] (generic arrays cannot be created), cast back on the way out.
+// - get/remove return null for missing keys, like java.util.Map (null values are allowed but ambiguous).
+// - For int/long keys prefer IntIntBPlusTree / LongObjectBPlusTree, which avoid boxing entirely.
+// Structure:
+// - Leaves hold all entries and link to the next leaf; separator keys[i] is the largest key in children[i].
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+public class BPlusTreeMap<K, V> {
+    private static final class Node {
+        final Object[] keys; // Keys (up to m-1)
+        final Object[] values; // Values (leaves only)
+        final Node[] children; // Children (up to m, internal nodes)
+        Node next; // Next leaf (for leaves)
+        int size; // Number of keys
+        final boolean isLeaf;
+
+        Node(boolean isLeaf, int order) {
+            this.isLeaf = isLeaf;
+            this.keys = new Object[order - 1];
+            this.values = isLeaf ? new Object[order - 1] : null;
+            this.children = isLeaf ? null : new Node[order];
+        }
+    }
+
+    private Node root;
+    private final int order; // Maximum pointers
+    private final int minKey; // Minimum keys (floor(order/2) - 1)
+    private final Comparator<? super K> comparator;
+    private int size;
+
+    public BPlusTreeMap(int order, Comparator<? super K> comparator) {
+        if (order < 4) throw new IllegalArgumentException("Order must be at least 4: " + order);
+        this.order = order;
+        this.minKey = order / 2 - 1;
+        this.comparator = Objects.requireNonNull(comparator);
+        this.root = new Node(true, order);
+    }
+
+    // Natural-order map for Comparable keys.
+    public static <K extends Comparable<? super K>, V> BPlusTreeMap<K, V> naturalOrder(int order) {
+        return new BPlusTreeMap<>(order, Comparator.naturalOrder());
+    }
+
+    // Lower Bound
+    // Workflow: First index i in keys[0, n) with keys[i] >= key, by binary search.
+    // Time Complexity: O(log m) comparisons.
+    private int lowerBound(Object[] keys, int n, K key) {
+        int lo = 0, hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(keys[mid], key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, K b) {
+        return comparator.compare((K) a, b);
+    }
+
+    // Put
+    // Workflow: Split full nodes top-down, then insert or overwrite in the leaf.
+    // Time Complexity: O(log_m n).
+    // Space Complexity: O(1).
+    public V put(K key, V value) {
+        if (root.size == order - 1) {
+            Node newRoot = new Node(false, order);
+            newRoot.children[0] = root;
+            splitChild(newRoot, 0);
+            root = newRoot;
+        }
+        Node node = root;
+        while (!node.isLeaf) {
+            int i = lowerBound(node.keys, node.size, key);
+            if (node.children[i].size == order - 1) {
+                splitChild(node, i);
+                if (compare(node.keys[i], key) < 0) i++;
+            }
+            node = node.children[i];
+        }
+        int pos = lowerBound(node.keys, node.size, key);
+        if (pos < node.size && compare(node.keys[pos], key) == 0) {
+            V old = value(node, pos);
+            node.values[pos] = value;
+            return old;
+        }
+        System.arraycopy(node.keys, pos, node.keys, pos + 1, node.size - pos);
+        System.arraycopy(node.values, pos, node.values, pos + 1, node.size - pos);
+        node.keys[pos] = key;
+        node.values[pos] = value;
+        node.size++;
+        size++;
+        return null;
+    }
+    private void splitChild(Node parent, int index) {
+        Node full = parent.children[index];
+        Node sibling = new Node(full.isLeaf, order);
+        int n = full.size;
+        Object separator;
+        if (full.isLeaf) {
+            int leftCount = (n + 1) / 2;
+            System.arraycopy(full.keys, leftCount, sibling.keys, 0, n - leftCount);
+            System.arraycopy(full.values, leftCount, sibling.values, 0, n - leftCount);
+            sibling.size = n - leftCount;
+            full.size = leftCount;
+            sibling.next = full.next;
+            full.next = sibling;
+            separator = full.keys[leftCount - 1];
+        } else {
+            int mid = n / 2;
+            System.arraycopy(full.keys, mid + 1, sibling.keys, 0, n - mid - 1);
+            System.arraycopy(full.children, mid + 1, sibling.children, 0, n - mid);
+            Arrays.fill(full.children, mid + 1, n + 1, null);
+            sibling.size = n - mid - 1;
+            full.size = mid;
+            separator = full.keys[mid];
+        }
+        int p = parent.size;
+        System.arraycopy(parent.keys, index, parent.keys, index + 1, p - index);
+        System.arraycopy(parent.children, index + 1, parent.children, index + 2, p - index);
+        parent.keys[index] = separator;
+        parent.children[index + 1] = sibling;
+        parent.size++;
+    }
+
+    // Get
+    // Workflow: Binary search (lowerBound, one comparator call per step) at each level down to the leaf.
+    // Time Complexity: O(log_m n).
+    public V get(K key) {
+        Node node = root;
+        while (!node.isLeaf) node = node.children[lowerBound(node.keys, node.size, key)];
+        int i = lowerBound(node.keys, node.size, key);
+        return i < node.size && compare(node.keys[i], key) == 0 ? value(node, i) : null;
+    }
+    public boolean containsKey(K key) {
+        Node node = root;
+        while (!node.isLeaf) node = node.children[lowerBound(node.keys, node.size, key)];
+        int i = lowerBound(node.keys, node.size, key);
+        return i < node.size && compare(node.keys[i], key) == 0;
+    }
+
+    // Remove
+    // Workflow: Remove from leaf, fix underflow on the way back up (borrow, else merge).
+    // Time Complexity: O(log_m n).
+    public V remove(K key) {
+        V old = removeHelper(root, key);
+        if (!root.isLeaf && root.size == 0) root = root.children[0];
+        return old;
+    }
+    private V removeHelper(Node node, K key) {
+        int i = lowerBound(node.keys, node.size, key);
+        if (node.isLeaf) {
+            if (i >= node.size || compare(node.keys[i], key) != 0) return null;
+            V old = value(node, i);
+            System.arraycopy(node.keys, i + 1, node.keys, i, node.size - i - 1);
+            System.arraycopy(node.values, i + 1, node.values, i, node.size - i - 1);
+            node.keys[node.size - 1] = null; // Let the removed entry be collected
+            node.values[node.size - 1] = null;
+            node.size--;
+            size--;
+            return old;
+        }
+        int sizeBefore = size;
+        V old = removeHelper(node.children[i], key);
+        if (size != sizeBefore && node.children[i].size < minKey) fixUnderflow(node, i);
+        return old;
+    }
+    private void fixUnderflow(Node parent, int index) {
+        Node child = parent.children[index];
+        Node left = index > 0 ? parent.children[index - 1] : null;
+        Node right = index < parent.size ? parent.children[index + 1] : null;
+        if (left != null && left.size > minKey) {
+            // Borrow from left
+            System.arraycopy(child.keys, 0, child.keys, 1, child.size);
+            if (child.isLeaf) {
+                System.arraycopy(child.values, 0, child.values, 1, child.size);
+                child.keys[0] = left.keys[left.size - 1];
+                child.values[0] = left.values[left.size - 1];
+                left.keys[left.size - 1] = null;
+                left.values[left.size - 1] = null;
+                parent.keys[index - 1] = left.keys[left.size - 2];
+            } else {
+                System.arraycopy(child.children, 0, child.children, 1, child.size + 1);
+                child.keys[0] = parent.keys[index - 1];
+                child.children[0] = left.children[left.size];
+                left.children[left.size] = null;
+                parent.keys[index - 1] = left.keys[left.size - 1];
+            }
+            child.size++;
+            left.size--;
+        } else if (right != null && right.size > minKey) {
+            // Borrow from right
+            if (child.isLeaf) {
+                child.keys[child.size] = right.keys[0];
+                child.values[child.size] = right.values[0];
+                parent.keys[index] = right.keys[0];
+                System.arraycopy(right.values, 1, right.values, 0, right.size - 1);
+                right.values[right.size - 1] = null;
+            } else {
+                child.keys[child.size] = parent.keys[index];
+                child.children[child.size + 1] = right.children[0];
+                parent.keys[index] = right.keys[0];
+                System.arraycopy(right.children, 1, right.children, 0, right.size);
+                right.children[right.size] = null;
+            }
+            System.arraycopy(right.keys, 1, right.keys, 0, right.size - 1);
+            child.size++;
+            right.size--;
+        } else if (left != null) {
+            merge(parent, index - 1);
+        } else {
+            merge(parent, index);
+        }
+    }
+    private void merge(Node parent, int index) {
+        Node left = parent.children[index];
+        Node right = parent.children[index + 1];
+        if (left.isLeaf) {
+            System.arraycopy(right.keys, 0, left.keys, left.size, right.size);
+            System.arraycopy(right.values, 0, left.values, left.size, right.size);
+            left.size += right.size;
+            left.next = right.next;
+        } else {
+            left.keys[left.size] = parent.keys[index];
+            System.arraycopy(right.keys, 0, left.keys, left.size + 1, right.size);
+            System.arraycopy(right.children, 0, left.children, left.size + 1, right.size + 1);
+            left.size += right.size + 1;
+        }
+        System.arraycopy(parent.keys, index + 1, parent.keys, index, parent.size - index - 1);
+        System.arraycopy(parent.children, index + 2, parent.children, index + 1, parent.size - index - 1);
+        parent.children[parent.size] = null;
+        parent.size--;
+    }
+
+    // Range
+    // Workflow: Descend to fromKey's leaf, then follow leaf links until a key exceeds toKey.
+    // Time Complexity: O(log_m n + r).
+    // Space Complexity: O(1).
+    public void forEachInRange(K fromKey, K toKey, BiConsumer<? super K, ? super V> action) {
+        Node node = root;
+        while (!node.isLeaf) node = node.children[lowerBound(node.keys, node.size, fromKey)];
+        int i = lowerBound(node.keys, node.size, fromKey);
+        for (; node != null; node = node.next, i = 0) {
+            for (; i < node.size; i++) {
+                if (compare(node.keys[i], toKey) > 0) return;
+                action.accept(key(node, i), value(node, i));
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(Node node, int i) {
+        return (K) node.keys[i];
+    }
+    @SuppressWarnings("unchecked")
+    private V value(Node node, int i) {
+        return (V) node.values[i];
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        System.out.println("Generic B+ Tree Map Operations:");
+        BPlusTreeMap<String, Integer> map = BPlusTreeMap.naturalOrder(4);
+        String[] words = {"mango", "apple", "kiwi", "banana", "cherry", "fig", "grape", "date"};
+        for (int i = 0; i < words.length; i++) map.put(words[i], i);
+        System.out.println("Get kiwi: " + map.get("kiwi")); // 2
+        System.out.println("Get lime: " + map.get("lime")); // null
+        System.out.println("Put kiwi, old: " + map.put("kiwi", 20)); // 2
+        System.out.println("Remove fig: " + map.remove("fig")); // 5
+        StringBuilder range = new StringBuilder();
+        map.forEachInRange("b", "h", (k, v) -> range.append(k).append('=').append(v).append(' '));
+        System.out.println("Range [b,h]: " + range); // banana=3 cherry=4 date=7 grape=6
+        System.out.println("Size: " + map.size()); // 7
+
+        // Custom comparator: case-insensitive keys
+        BPlusTreeMap<String, String> ci = new BPlusTreeMap<>(4, String.CASE_INSENSITIVE_ORDER);
+        ci.put("Java", "lang");
+        System.out.println("Case-insensitive get JAVA: " + ci.get("JAVA")); // lang
+
+        // Cross-check against TreeMap with random operations
+        BPlusTreeMap<Integer, Integer> tree = BPlusTreeMap.naturalOrder(16);
+        TreeMap<Integer, Integer> reference = new TreeMap<>();
+        Random random = new Random(7);
+        boolean ok = true;
+        for (int op = 0; op < 200_000; op++) {
+            int key = random.nextInt(20_000) - 10_000;
+            if (random.nextInt(3) > 0) {
+                ok &= Objects.equals(tree.put(key, op), reference.put(key, op));
+            } else {
+                ok &= Objects.equals(tree.remove(key), reference.remove(key));
+            }
+        }
+        for (Map.Entry<Integer, Integer> e : reference.entrySet()) ok &= e.getValue().equals(tree.get(e.getKey()));
+        System.out.println("Matches TreeMap: " + (ok && tree.size() == reference.size())); // true
+    }
+}
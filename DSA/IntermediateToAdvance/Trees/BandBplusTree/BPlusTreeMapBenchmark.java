@@ -0,0 +1,75 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.BandBplusTree;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+import Java_Bootcamp.DSA.BenchmarkUtils.Phase;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+// B+ Tree Map Benchmark
+// This file times BPlusTreeMap, IntIntBPlusTree and LongObjectBPlusTree against java.util.TreeMap.
+// Purpose: Show what primitive specialization and wide nodes buy over a boxed red-black tree: no Integer
+// keys to unbox per comparison, and a binary search over one contiguous key array per node instead of
+// a pointer chase per level. Run with -Xmx2g for the default size.
+// Workloads (same shuffled keys for every structure):
+// - put: insert n random keys into an empty structure.
+// - get: look up every key once in a different random order.
+// - scan: visit all entries in key order (TreeMap entrySet vs leaf-chain walk).
+public class BPlusTreeMapBenchmark {
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int order = 64;
+        Random random = new Random(1);
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) keys[i] = random.nextInt();
+        int[] lookups = keys.clone();
+        shuffle(lookups, random);
+
+        System.out.printf("n=%d, order=%d, best of %d rounds (ms)%n", n, order, ROUNDS);
+        System.out.printf("%-22s %8s %8s %8s%n", "structure", "put", "get", "scan");
+        run("TreeMap<Integer>", () -> new TreeMap<Integer, Integer>(),
+                map -> { for (int key : keys) map.put(key, key); return map.size(); },
+                map -> { long sum = 0; for (int key : lookups) sum += map.get(key); return sum; },
+                map -> { long sum = 0; for (Map.Entry<Integer, Integer> e : map.entrySet()) sum += e.getValue(); return sum; });
+        run("BPlusTreeMap<Integer>", () -> BPlusTreeMap.<Integer, Integer>naturalOrder(order),
+                map -> { for (int key : keys) map.put(key, key); return 0; },
+                map -> { long sum = 0; for (int key : lookups) sum += map.get(key); return sum; },
+                map -> {
+                    long[] sum = {0};
+                    map.forEachInRange(Integer.MIN_VALUE, Integer.MAX_VALUE, (key, v) -> sum[0] += v);
+                    return sum[0];
+                });
+        run("LongObjectBPlusTree", () -> new LongObjectBPlusTree<Integer>(order),
+                map -> { for (int key : keys) map.put(key, key); return 0; },
+                map -> { long sum = 0; for (int key : lookups) sum += map.get(key); return sum; },
+                map -> {
+                    long[] sum = {0};
+                    map.forEachInRange(Long.MIN_VALUE, Long.MAX_VALUE, (key, v) -> sum[0] += v);
+                    return sum[0];
+                });
+        run("IntIntBPlusTree", () -> new IntIntBPlusTree(order, 0),
+                map -> { for (int key : keys) map.put(key, key); return 0; },
+                map -> { long sum = 0; for (int key : lookups) sum += map.get(key); return sum; },
+                map -> {
+                    long[] sum = {0};
+                    map.forEachInRange(Integer.MIN_VALUE, Integer.MAX_VALUE, (key, v) -> sum[0] += v);
+                    return sum[0];
+                });
+        BenchmarkUtils.printChecksum();
+    }
+
+    // A fresh structure per round; put, get and scan are timed separately
+    private static <M> void run(String name, Supplier<M> factory, Phase<M> put, Phase<M> get, Phase<M> scan) {
+        long[] best = BenchmarkUtils.bestNanos(ROUNDS, factory, put, get, scan);
+        System.out.printf("%-22s %8d %8d %8d%n", name, best[0] / 1_000_000, best[1] / 1_000_000, best[2] / 1_000_000);
+    }
+
+    private static void shuffle(int[] a, Random random) {
+        for (int i = a.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = a[i]; a[i] = a[j]; a[j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,557 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.BandBplusTree;
+
+// Concurrent B+ Tree Implementation (Latch Crabbing)
+// This file implements a thread-safe B+ Tree where every node carries its own read/write latch.
+// Purpose: Show how database indexes let many threads search and update one tree without a global lock.
+// Workflow and algorithms are explained in comments for each operation, ensuring beginners can follow.
+// No external dependencies; testing (a multi-threaded stress test) is embedded in the main method.
+// Key Features:
+// - Search/Range Query: Read latches only, so readers never block each other.
+// - Insert/Delete: Optimistic first pass (read latches, write latch on the leaf only);
+//   if the leaf would split or merge, retry pessimistically with write latches on the affected path.
+// - Validation: isValidBPlusTree checks order, fill, separator bounds and leaf links once threads are done.
+// Java-Specific Notes:
+// - ReentrantReadWriteLock per node is the latch; rootLatch guards the root reference itself.
+// - Crabbing: latch the child before releasing the parent, so no thread sees a half-finished split.
+// - Latch order is always top-down, then left-to-right inside a level (same as leaf scans), which avoids deadlock.
+// Structure:
+// - Same layout as BPlusTree, but arrays have one spare slot so a node can overflow before it splits (bottom-up).
+// - Separator keys[i] is the largest key in children[i] (keys equal to a separator go left).
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class ConcurrentBPlusTree {
+    private static class Node {
+        final ReentrantReadWriteLock latch = new ReentrantReadWriteLock();
+        final boolean isLeaf; // Never changes, so it can be read without a latch
+        int[] keys; // Keys (up to m-1, plus one overflow slot)
+        Node[] children; // Children (up to m, plus one overflow slot; internal nodes)
+        Node next; // Next leaf (for leaves)
+        int size; // Number of keys
+
+        Node(boolean isLeaf, int order) {
+            this.isLeaf = isLeaf;
+            this.keys = new int[order];
+            this.children = isLeaf ? null : new Node[order + 1];
+        }
+    }
+
+    private final ReentrantReadWriteLock rootLatch = new ReentrantReadWriteLock();
+    private Node root; // Guarded by rootLatch
+    private final int order; // Maximum pointers
+    private final int minKey; // Minimum keys (ceiling(order/2) - 1)
+    private final AtomicInteger keyCount = new AtomicInteger();
+
+    public ConcurrentBPlusTree(int order) {
+        if (order < 4) throw new IllegalArgumentException("Order must be at least 4: " + order);
+        this.order = order;
+        this.minKey = (order + 1) / 2 - 1;
+        this.root = new Node(true, order);
+    }
+
+    // Child index for key: first i with keys[i] >= key.
+    private static int childIndex(Node node, int key) {
+        int lo = 0, hi = node.size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (node.keys[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // Read Descent
+    // Workflow: Crab down with read latches, returning the leaf still read-latched.
+    // 1. Read-latch rootLatch, then root, then release rootLatch.
+    // 2. At each level, read-latch the child, then release the parent.
+    private Node readLatchedLeaf(int key) {
+        rootLatch.readLock().lock();
+        Node node = root;
+        node.latch.readLock().lock();
+        rootLatch.readLock().unlock();
+        while (!node.isLeaf) {
+            Node child = node.children[childIndex(node, key)];
+            child.latch.readLock().lock();
+            node.latch.readLock().unlock();
+            node = child;
+        }
+        return node;
+    }
+
+    // Search
+    // Workflow: Read-latched descent, binary search in the leaf.
+    // Time Complexity: O(log_m n).
+    // Space Complexity: O(1).
+    public boolean search(int key) {
+        Node leaf = readLatchedLeaf(key);
+        try {
+            int i = childIndex(leaf, key);
+            return i < leaf.size && leaf.keys[i] == key;
+        } finally {
+            leaf.latch.readLock().unlock();
+        }
+    }
+
+    // Range Query
+    // Workflow: Read-latched descent to minKey's leaf, then crab along next links.
+    // Time Complexity: O(log_m n + r).
+    // Space Complexity: O(r).
+    public List<Integer> rangeQuery(int minKey, int maxKey) {
+        List<Integer> results = new ArrayList<>();
+        Node leaf = readLatchedLeaf(minKey);
+        int i = childIndex(leaf, minKey);
+        while (true) {
+            for (; i < leaf.size; i++) {
+                if (leaf.keys[i] > maxKey) {
+                    leaf.latch.readLock().unlock();
+                    return results;
+                }
+                results.add(leaf.keys[i]);
+            }
+            Node next = leaf.next;
+            if (next != null) next.latch.readLock().lock();
+            leaf.latch.readLock().unlock();
+            if (next == null) return results;
+            leaf = next;
+            i = 0;
+        }
+    }
+
+    // Optimistic Descent (writers)
+    // Workflow: Same as read descent, but the leaf is write-latched.
+    // Most inserts/deletes only touch one leaf, so ancestors are never write-latched.
+    private Node writeLatchedLeaf(int key) {
+        rootLatch.readLock().lock();
+        Node node = root;
+        if (node.isLeaf) {
+            node.latch.writeLock().lock();
+            rootLatch.readLock().unlock();
+            return node;
+        }
+        node.latch.readLock().lock();
+        rootLatch.readLock().unlock();
+        while (true) {
+            Node child = node.children[childIndex(node, key)];
+            if (child.isLeaf) {
+                child.latch.writeLock().lock();
+                node.latch.readLock().unlock();
+                return child;
+            }
+            child.latch.readLock().lock();
+            node.latch.readLock().unlock();
+            node = child;
+        }
+    }
+
+    // Insert
+    // Workflow: Optimistic leaf-only insert, pessimistic retry if the leaf is full.
+    // Algorithm:
+    // 1. Optimistic: write-latch only the leaf; if it has room, insert and finish.
+    // 2. Pessimistic: write-latch from the root, releasing all ancestors whenever a child
+    //    has room (a split there cannot propagate higher).
+    // 3. Insert into leaf; on overflow split and push separators up the still-latched path.
+    // Time Complexity: O(log_m n).
+    // Space Complexity: O(log_m n) for the latched path.
+    public boolean insert(int key) {
+        Node leaf = writeLatchedLeaf(key);
+        try {
+            int i = childIndex(leaf, key);
+            if (i < leaf.size && leaf.keys[i] == key) return false;
+            if (leaf.size < order - 1) {
+                insertAt(leaf, i, key, null);
+                keyCount.incrementAndGet();
+                return true;
+            }
+        } finally {
+            leaf.latch.writeLock().unlock();
+        }
+        return insertPessimistic(key);
+    }
+    private boolean insertPessimistic(int key) {
+        rootLatch.writeLock().lock();
+        boolean holdsRoot = true;
+        List<Node> path = new ArrayList<>(); // Write-latched nodes, top to bottom
+        List<Integer> indexes = new ArrayList<>(); // indexes[j]: child index from path[j] to path[j + 1]
+        try {
+            Node node = root;
+            node.latch.writeLock().lock();
+            path.add(node);
+            if (node.size < order - 1) {
+                rootLatch.writeLock().unlock();
+                holdsRoot = false;
+            }
+            while (!node.isLeaf) {
+                int i = childIndex(node, key);
+                Node child = node.children[i];
+                child.latch.writeLock().lock();
+                if (child.size < order - 1) {
+                    // Child is safe: no split can reach the ancestors
+                    releaseWrite(path);
+                    indexes.clear();
+                    if (holdsRoot) {
+                        rootLatch.writeLock().unlock();
+                        holdsRoot = false;
+                    }
+                } else {
+                    indexes.add(i);
+                }
+                path.add(child);
+                node = child;
+            }
+
+            int pos = childIndex(node, key);
+            if (pos < node.size && node.keys[pos] == key) return false;
+            insertAt(node, pos, key, null);
+            keyCount.incrementAndGet();
+
+            // Split bottom-up while the node overflows
+            int level = path.size() - 1;
+            while (node.size == order) {
+                Node sibling = new Node(node.isLeaf, order);
+                int separator = split(node, sibling);
+                if (level == 0) {
+                    // Overflowing root (only possible while rootLatch is held)
+                    Node newRoot = new Node(false, order);
+                    newRoot.keys[0] = separator;
+                    newRoot.children[0] = node;
+                    newRoot.children[1] = sibling;
+                    newRoot.size = 1;
+                    root = newRoot;
+                    break;
+                }
+                Node parent = path.get(level - 1);
+                insertAt(parent, indexes.get(level - 1), separator, sibling);
+                node = parent;
+                level--;
+            }
+            return true;
+        } finally {
+            releaseWrite(path);
+            if (holdsRoot) rootLatch.writeLock().unlock();
+        }
+    }
+    // Insert key at pos; for internal nodes the new right child goes at pos + 1.
+    private static void insertAt(Node node, int pos, int key, Node rightChild) {
+        System.arraycopy(node.keys, pos, node.keys, pos + 1, node.size - pos);
+        node.keys[pos] = key;
+        if (rightChild != null) {
+            System.arraycopy(node.children, pos + 1, node.children, pos + 2, node.size - pos);
+            node.children[pos + 1] = rightChild;
+        }
+        node.size++;
+    }
+    // Split an overflowing node (order keys) into node + sibling, returning the separator.
+    // Sibling is new and invisible to other threads until the parent links it.
+    private static int split(Node node, Node sibling) {
+        int n = node.size;
+        if (node.isLeaf) {
+            int leftCount = (n + 1) / 2;
+            System.arraycopy(node.keys, leftCount, sibling.keys, 0, n - leftCount);
+            sibling.size = n - leftCount;
+            node.size = leftCount;
+            sibling.next = node.next;
+            node.next = sibling;
+            return node.keys[leftCount - 1];
+        }
+        int mid = n / 2;
+        System.arraycopy(node.keys, mid + 1, sibling.keys, 0, n - mid - 1);
+        System.arraycopy(node.children, mid + 1, sibling.children, 0, n - mid);
+        Arrays.fill(node.children, mid + 1, n + 1, null);
+        sibling.size = n - mid - 1;
+        node.size = mid;
+        return node.keys[mid];
+    }
+    private static void releaseWrite(List<Node> path) {
+        for (Node node : path) node.latch.writeLock().unlock();
+        path.clear();
+    }
+
+    // Delete
+    // Workflow: Optimistic leaf-only delete, pessimistic retry if the leaf would underflow.
+    // Algorithm:
+    // 1. Optimistic: write-latch only the leaf; if it stays >= minKey keys, remove and finish.
+    // 2. Pessimistic: write-latch from the root, releasing ancestors whenever a child can lose a key.
+    // 3. Remove from leaf; on underflow borrow from or merge with a sibling, walking up the path.
+    //    Siblings are latched left-to-right (left, node, right) to match leaf scans.
+    // Time Complexity: O(log_m n).
+    // Space Complexity: O(log_m n) for the latched path.
+    public boolean delete(int key) {
+        Node leaf = writeLatchedLeaf(key);
+        try {
+            int i = childIndex(leaf, key);
+            if (i >= leaf.size || leaf.keys[i] != key) return false;
+            // A small root leaf also takes the pessimistic path: checking "leaf == root" here
+            // would need rootLatch while holding a node latch (wrong order, could deadlock)
+            if (leaf.size > minKey) {
+                removeAt(leaf, i);
+                keyCount.decrementAndGet();
+                return true;
+            }
+        } finally {
+            leaf.latch.writeLock().unlock();
+        }
+        return deletePessimistic(key);
+    }
+    private boolean deleteSafe(Node node, boolean isRoot) {
+        if (isRoot) return node.isLeaf || node.size > 1;
+        return node.size > minKey;
+    }
+    private boolean deletePessimistic(int key) {
+        rootLatch.writeLock().lock();
+        boolean holdsRoot = true;
+        List<Node> path = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        try {
+            Node node = root;
+            node.latch.writeLock().lock();
+            path.add(node);
+            if (deleteSafe(node, true)) {
+                rootLatch.writeLock().unlock();
+                holdsRoot = false;
+            }
+            while (!node.isLeaf) {
+                int i = childIndex(node, key);
+                Node child = node.children[i];
+                child.latch.writeLock().lock();
+                if (deleteSafe(child, false)) {
+                    releaseWrite(path);
+                    indexes.clear();
+                    if (holdsRoot) {
+                        rootLatch.writeLock().unlock();
+                        holdsRoot = false;
+                    }
+                } else {
+                    indexes.add(i);
+                }
+                path.add(child);
+                node = child;
+            }
+
+            int pos = childIndex(node, key);
+            if (pos >= node.size || node.keys[pos] != key) return false;
+            removeAt(node, pos);
+            keyCount.decrementAndGet();
+
+            // Fix underflow bottom-up along the latched path
+            for (int level = path.size() - 1; level > 0; level--) {
+                Node child = path.get(level);
+                if (child.size >= minKey) break;
+                Node parent = path.get(level - 1);
+                fixUnderflow(parent, indexes.get(level - 1), child);
+            }
+            // Root with no keys left: its only child becomes root (rootLatch is held here)
+            Node top = path.get(0);
+            if (holdsRoot && top == root && !top.isLeaf && top.size == 0) {
+                root = top.children[0];
+            }
+            return true;
+        } finally {
+            releaseWrite(path);
+            if (holdsRoot) rootLatch.writeLock().unlock();
+        }
+    }
+    private static void removeAt(Node node, int pos) {
+        System.arraycopy(node.keys, pos + 1, node.keys, pos, node.size - pos - 1);
+        node.size--;
+    }
+    // Fix Underflow
+    // Parent is write-latched by us, so no other writer can reach child or its siblings.
+    // Leaf scans can, so latches are re-taken in left-to-right order before touching siblings.
+    private void fixUnderflow(Node parent, int index, Node child) {
+        if (index > 0) {
+            Node left = parent.children[index - 1];
+            child.latch.writeLock().unlock();
+            left.latch.writeLock().lock();
+            child.latch.writeLock().lock();
+            try {
+                if (left.size > minKey) borrowFromLeft(parent, index, left, child);
+                else merge(parent, index - 1, left, child);
+            } finally {
+                left.latch.writeLock().unlock();
+            }
+        } else {
+            Node right = parent.children[index + 1];
+            right.latch.writeLock().lock();
+            try {
+                if (right.size > minKey) borrowFromRight(parent, index, child, right);
+                else merge(parent, index, child, right);
+            } finally {
+                right.latch.writeLock().unlock();
+            }
+        }
+    }
+    private static void borrowFromLeft(Node parent, int index, Node left, Node child) {
+        System.arraycopy(child.keys, 0, child.keys, 1, child.size);
+        if (child.isLeaf) {
+            child.keys[0] = left.keys[left.size - 1];
+            parent.keys[index - 1] = left.keys[left.size - 2];
+        } else {
+            System.arraycopy(child.children, 0, child.children, 1, child.size + 1);
+            child.keys[0] = parent.keys[index - 1];
+            child.children[0] = left.children[left.size];
+            left.children[left.size] = null;
+            parent.keys[index - 1] = left.keys[left.size - 1];
+        }
+        child.size++;
+        left.size--;
+    }
+    private static void borrowFromRight(Node parent, int index, Node child, Node right) {
+        if (child.isLeaf) {
+            child.keys[child.size] = right.keys[0];
+            parent.keys[index] = right.keys[0];
+        } else {
+            child.keys[child.size] = parent.keys[index];
+            child.children[child.size + 1] = right.children[0];
+            parent.keys[index] = right.keys[0];
+            System.arraycopy(right.children, 1, right.children, 0, right.size);
+            right.children[right.size] = null;
+        }
+        System.arraycopy(right.keys, 1, right.keys, 0, right.size - 1);
+        child.size++;
+        right.size--;
+    }
+    // Merge children[index + 1] into children[index]; the right node becomes unreachable.
+    private static void merge(Node parent, int index, Node left, Node right) {
+        if (left.isLeaf) {
+            System.arraycopy(right.keys, 0, left.keys, left.size, right.size);
+            left.size += right.size;
+            left.next = right.next;
+        } else {
+            left.keys[left.size] = parent.keys[index];
+            System.arraycopy(right.keys, 0, left.keys, left.size + 1, right.size);
+            System.arraycopy(right.children, 0, left.children, left.size + 1, right.size + 1);
+            left.size += right.size + 1;
+        }
+        System.arraycopy(parent.keys, index + 1, parent.keys, index, parent.size - index - 1);
+        System.arraycopy(parent.children, index + 2, parent.children, index + 1, parent.size - index - 1);
+        parent.children[parent.size] = null;
+        parent.size--;
+    }
+
+    public int size() {
+        return keyCount.get();
+    }
+
+    // Debugging: Validate Structure
+    // Workflow: Check key order, separator bounds, fill, equal leaf depth and leaf links.
+    // Only meaningful when no writer is running (e.g. after a stress test joins its threads).
+    // Time Complexity: O(n).
+    public boolean isValidBPlusTree() {
+        rootLatch.readLock().lock();
+        try {
+            int[] leafDepth = {-1};
+            if (!validateHelper(root, 0, Long.MIN_VALUE, Long.MAX_VALUE, leafDepth)) return false;
+            Node node = root;
+            while (!node.isLeaf) node = node.children[0];
+            long lastKey = Long.MIN_VALUE;
+            int seen = 0;
+            while (node != null) {
+                for (int i = 0; i < node.size; i++) {
+                    if (node.keys[i] <= lastKey) return false;
+                    lastKey = node.keys[i];
+                    seen++;
+                }
+                node = node.next;
+            }
+            return seen == keyCount.get();
+        } finally {
+            rootLatch.readLock().unlock();
+        }
+    }
+    private boolean validateHelper(Node node, int depth, long low, long high, int[] leafDepth) {
+        if (node.size > order - 1) return false;
+        if (node != root && node.size < minKey) return false;
+        for (int i = 0; i < node.size; i++) {
+            if (node.keys[i] <= low || node.keys[i] > high) return false;
+            if (i > 0 && node.keys[i - 1] >= node.keys[i]) return false;
+        }
+        if (node.isLeaf) {
+            if (leafDepth[0] == -1) leafDepth[0] = depth;
+            return leafDepth[0] == depth;
+        }
+        for (int i = 0; i <= node.size; i++) {
+            long childLow = i == 0 ? low : node.keys[i - 1];
+            long childHigh = i == node.size ? high : node.keys[i];
+            if (!validateHelper(node.children[i], depth + 1, childLow, childHigh, leafDepth)) return false;
+        }
+        return true;
+    }
+
+    // Main method for testing
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("Concurrent B+ Tree Operations:");
+        ConcurrentBPlusTree tree = new ConcurrentBPlusTree(4);
+        int[] keys = {1, 4, 7, 10, 17, 21, 31, 5};
+        for (int key : keys) tree.insert(key);
+        System.out.println("Search 7: " + tree.search(7)); // true
+        System.out.println("Range [5,17]: " + tree.rangeQuery(5, 17)); // [5, 7, 10, 17]
+        tree.delete(7);
+        System.out.println("Range [5,17]: " + tree.rangeQuery(5, 17)); // [5, 10, 17]
+        System.out.println("Is Valid: " + tree.isValidBPlusTree()); // true
+
+        // Stress test: writers own disjoint key sets (key % writers == id), readers run alongside
+        for (int order : new int[]{4, 5, 32}) {
+            stressTest(order, 4, 4, 200_000);
+        }
+    }
+    private static void stressTest(int order, int writers, int readers, int opsPerWriter) throws InterruptedException {
+        ConcurrentBPlusTree tree = new ConcurrentBPlusTree(order);
+        int keySpace = 50_000;
+        // Permanent keys (negative) are never deleted, so readers must always find them
+        for (int k = -1; k >= -1000; k--) tree.insert(k);
+
+        ExecutorService pool = Executors.newFixedThreadPool(writers + readers);
+        List<Future<Set<Integer>>> writerResults = new ArrayList<>();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger writersDone = new AtomicInteger();
+        long start = System.nanoTime();
+        for (int w = 0; w < writers; w++) {
+            int id = w;
+            writerResults.add(pool.submit(() -> {
+                Random random = new Random(id);
+                Set<Integer> expected = new HashSet<>();
+                for (int op = 0; op < opsPerWriter; op++) {
+                    int key = random.nextInt(keySpace / writers) * writers + id;
+                    if (random.nextInt(3) < 2) {
+                        if (tree.insert(key) != expected.add(key)) errors.incrementAndGet();
+                    } else {
+                        if (tree.delete(key) != expected.remove(key)) errors.incrementAndGet();
+                    }
+                }
+                writersDone.incrementAndGet();
+                return expected;
+            }));
+        }
+        for (int r = 0; r < readers; r++) {
+            int id = r;
+            pool.submit(() -> {
+                Random random = new Random(100 + id);
+                while (writersDone.get() < writers) {
+                    if (!tree.search(-1 - random.nextInt(1000))) errors.incrementAndGet();
+                    int from = random.nextInt(keySpace);
+                    List<Integer> range = tree.rangeQuery(from, from + 500);
+                    for (int i = 1; i < range.size(); i++) {
+                        if (range.get(i - 1) >= range.get(i)) errors.incrementAndGet();
+                    }
+                }
+            });
+        }
+        Set<Integer> expected = new TreeSet<>();
+        for (int k = -1000; k <= -1; k++) expected.add(k);
+        try {
+            for (Future<Set<Integer>> result : writerResults) expected.addAll(result.get());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+        long ms = (System.nanoTime() - start) / 1_000_000;
+
+        boolean sameKeys = tree.rangeQuery(Integer.MIN_VALUE, Integer.MAX_VALUE).equals(new ArrayList<>(expected));
+        System.out.printf("Stress order=%d: %d writer ops in %d ms, errors=%d, same keys=%b, valid=%b%n",
+                order, writers * opsPerWriter, ms, errors.get(), sameKeys, tree.isValidBPlusTree());
+    }
+}
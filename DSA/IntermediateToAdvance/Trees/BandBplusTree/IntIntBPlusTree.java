@@ -0,0 +1,296 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.BandBplusTree;
+
+// int -> int B+ Tree Map Implementation (primitive-specialized)
+// This file implements a B+ Tree map from int keys to int values with no boxing anywhere.
+// Purpose: Show the hand-specialized layout real indexes use: sorted primitive arrays per node.
+// Workflow and algorithms are explained in comments for each operation, ensuring beginners can follow.
+// No external dependencies; testing is embedded in the main method (see BPlusTreeMapBenchmark for timings).
+// Key Features:
+// - Put/Get/Remove: Same top-down split and borrow/merge scheme as BPlusTree, values travel with keys.
+// - Branch-free lower bound: the in-node binary search uses a conditional move instead of if/else.
+// - Range: forEachInRange walks linked leaves, handing keys/values to an IntBinaryConsumer.
+// Java-Specific Notes:
+// - Keys and values are int[] (leaf values are stored next to keys), children are Node[].
+// - get returns noValue (chosen in the constructor) for missing keys, like a primitive Map.getOrDefault.
+// Structure:
+// - Leaves hold all entries and link to the next leaf; separator keys[i] is the largest key in children[i].
+
+import java.util.*;
+
+public class IntIntBPlusTree {
+    private static final class Node {
+        final int[] keys; // Keys (up to m-1)
+        final int[] values; // Values (leaves only)
+        final Node[] children; // Children (up to m, internal nodes)
+        Node next; // Next leaf (for leaves)
+        int size; // Number of keys
+        final boolean isLeaf;
+
+        Node(boolean isLeaf, int order) {
+            this.isLeaf = isLeaf;
+            this.keys = new int[order - 1];
+            this.values = isLeaf ? new int[order - 1] : null;
+            this.children = isLeaf ? null : new Node[order];
+        }
+    }
+
+    @FunctionalInterface
+    public interface IntBinaryConsumer {
+        void accept(int key, int value);
+    }
+
+    private Node root;
+    private final int order; // Maximum pointers
+    private final int minKey; // Minimum keys (floor(order/2) - 1)
+    private final int noValue; // Returned by get/remove for missing keys
+    private int size;
+
+    public IntIntBPlusTree(int order, int noValue) {
+        if (order < 4) throw new IllegalArgumentException("Order must be at least 4: " + order);
+        this.order = order;
+        this.minKey = order / 2 - 1;
+        this.noValue = noValue;
+        this.root = new Node(true, order);
+    }
+
+    // Branch-Free Lower Bound
+    // Workflow: First index i in keys[0, n) with keys[i] >= key.
+    // Algorithm:
+    // 1. Keep a window [base, base + n); compare the middle element and move base with a ternary
+    //    (compiled to a conditional move, so there is no branch to mispredict).
+    // 2. Halve n until one element is left, then add 1 if it is still smaller than key.
+    // Time Complexity: O(log m), always the same number of steps for a given n.
+    static int lowerBound(int[] keys, int n, int key) {
+        if (n == 0) return 0;
+        int base = 0;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = keys[base + half] < key ? base + half : base;
+            n -= half;
+        }
+        return base + (keys[base] < key ? 1 : 0);
+    }
+
+    // Put
+    // Workflow: Split full nodes top-down, then insert or overwrite in the leaf.
+    // Time Complexity: O(log_m n).
+    // Space Complexity: O(1).
+    public int put(int key, int value) {
+        if (root.size == order - 1) {
+            Node newRoot = new Node(false, order);
+            newRoot.children[0] = root;
+            splitChild(newRoot, 0);
+            root = newRoot;
+        }
+        Node node = root;
+        while (!node.isLeaf) {
+            int i = lowerBound(node.keys, node.size, key);
+            if (node.children[i].size == order - 1) {
+                splitChild(node, i);
+                if (key > node.keys[i]) i++;
+            }
+            node = node.children[i];
+        }
+        int pos = lowerBound(node.keys, node.size, key);
+        if (pos < node.size && node.keys[pos] == key) {
+            int old = node.values[pos];
+            node.values[pos] = value;
+            return old;
+        }
+        System.arraycopy(node.keys, pos, node.keys, pos + 1, node.size - pos);
+        System.arraycopy(node.values, pos, node.values, pos + 1, node.size - pos);
+        node.keys[pos] = key;
+        node.values[pos] = value;
+        node.size++;
+        size++;
+        return noValue;
+    }
+    private void splitChild(Node parent, int index) {
+        Node full = parent.children[index];
+        Node sibling = new Node(full.isLeaf, order);
+        int n = full.size;
+        int separator;
+        if (full.isLeaf) {
+            int leftCount = (n + 1) / 2;
+            System.arraycopy(full.keys, leftCount, sibling.keys, 0, n - leftCount);
+            System.arraycopy(full.values, leftCount, sibling.values, 0, n - leftCount);
+            sibling.size = n - leftCount;
+            full.size = leftCount;
+            sibling.next = full.next;
+            full.next = sibling;
+            separator = full.keys[leftCount - 1];
+        } else {
+            int mid = n / 2;
+            System.arraycopy(full.keys, mid + 1, sibling.keys, 0, n - mid - 1);
+            System.arraycopy(full.children, mid + 1, sibling.children, 0, n - mid);
+            Arrays.fill(full.children, mid + 1, n + 1, null);
+            sibling.size = n - mid - 1;
+            full.size = mid;
+            separator = full.keys[mid];
+        }
+        int p = parent.size;
+        System.arraycopy(parent.keys, index, parent.keys, index + 1, p - index);
+        System.arraycopy(parent.children, index + 1, parent.children, index + 2, p - index);
+        parent.keys[index] = separator;
+        parent.children[index + 1] = sibling;
+        parent.size++;
+    }
+
+    // Get
+    // Workflow: Branch-free lower bound at each level down to the leaf.
+    // Time Complexity: O(log_m n).
+    public int get(int key) {
+        Node node = root;
+        while (!node.isLeaf) node = node.children[lowerBound(node.keys, node.size, key)];
+        int i = lowerBound(node.keys, node.size, key);
+        return i < node.size && node.keys[i] == key ? node.values[i] : noValue;
+    }
+    public boolean containsKey(int key) {
+        Node node = root;
+        while (!node.isLeaf) node = node.children[lowerBound(node.keys, node.size, key)];
+        int i = lowerBound(node.keys, node.size, key);
+        return i < node.size && node.keys[i] == key;
+    }
+
+    // Remove
+    // Workflow: Remove from leaf, fix underflow on the way back up (borrow, else merge).
+    // Time Complexity: O(log_m n).
+    public int remove(int key) {
+        int old = removeHelper(root, key);
+        if (!root.isLeaf && root.size == 0) root = root.children[0];
+        return old;
+    }
+    private int removeHelper(Node node, int key) {
+        int i = lowerBound(node.keys, node.size, key);
+        if (node.isLeaf) {
+            if (i >= node.size || node.keys[i] != key) return noValue;
+            int old = node.values[i];
+            System.arraycopy(node.keys, i + 1, node.keys, i, node.size - i - 1);
+            System.arraycopy(node.values, i + 1, node.values, i, node.size - i - 1);
+            node.size--;
+            size--;
+            return old;
+        }
+        int sizeBefore = size;
+        int old = removeHelper(node.children[i], key);
+        if (size != sizeBefore && node.children[i].size < minKey) fixUnderflow(node, i);
+        return old;
+    }
+    private void fixUnderflow(Node parent, int index) {
+        Node child = parent.children[index];
+        Node left = index > 0 ? parent.children[index - 1] : null;
+        Node right = index < parent.size ? parent.children[index + 1] : null;
+        if (left != null && left.size > minKey) {
+            // Borrow from left
+            System.arraycopy(child.keys, 0, child.keys, 1, child.size);
+            if (child.isLeaf) {
+                System.arraycopy(child.values, 0, child.values, 1, child.size);
+                child.keys[0] = left.keys[left.size - 1];
+                child.values[0] = left.values[left.size - 1];
+                parent.keys[index - 1] = left.keys[left.size - 2];
+            } else {
+                System.arraycopy(child.children, 0, child.children, 1, child.size + 1);
+                child.keys[0] = parent.keys[index - 1];
+                child.children[0] = left.children[left.size];
+                left.children[left.size] = null;
+                parent.keys[index - 1] = left.keys[left.size - 1];
+            }
+            child.size++;
+            left.size--;
+        } else if (right != null && right.size > minKey) {
+            // Borrow from right
+            if (child.isLeaf) {
+                child.keys[child.size] = right.keys[0];
+                child.values[child.size] = right.values[0];
+                parent.keys[index] = right.keys[0];
+                System.arraycopy(right.values, 1, right.values, 0, right.size - 1);
+            } else {
+                child.keys[child.size] = parent.keys[index];
+                child.children[child.size + 1] = right.children[0];
+                parent.keys[index] = right.keys[0];
+                System.arraycopy(right.children, 1, right.children, 0, right.size);
+                right.children[right.size] = null;
+            }
+            System.arraycopy(right.keys, 1, right.keys, 0, right.size - 1);
+            child.size++;
+            right.size--;
+        } else if (left != null) {
+            merge(parent, index - 1);
+        } else {
+            merge(parent, index);
+        }
+    }
+    private void merge(Node parent, int index) {
+        Node left = parent.children[index];
+        Node right = parent.children[index + 1];
+        if (left.isLeaf) {
+            System.arraycopy(right.keys, 0, left.keys, left.size, right.size);
+            System.arraycopy(right.values, 0, left.values, left.size, right.size);
+            left.size += right.size;
+            left.next = right.next;
+        } else {
+            left.keys[left.size] = parent.keys[index];
+            System.arraycopy(right.keys, 0, left.keys, left.size + 1, right.size);
+            System.arraycopy(right.children, 0, left.children, left.size + 1, right.size + 1);
+            left.size += right.size + 1;
+        }
+        System.arraycopy(parent.keys, index + 1, parent.keys, index, parent.size - index - 1);
+        System.arraycopy(parent.children, index + 2, parent.children, index + 1, parent.size - index - 1);
+        parent.children[parent.size] = null;
+        parent.size--;
+    }
+
+    // Range
+    // Workflow: Descend to fromKey's leaf, then follow leaf links until a key exceeds toKey.
+    // Time Complexity: O(log_m n + r).
+    // Space Complexity: O(1).
+    public void forEachInRange(int fromKey, int toKey, IntBinaryConsumer action) {
+        Node node = root;
+        while (!node.isLeaf) node = node.children[lowerBound(node.keys, node.size, fromKey)];
+        int i = lowerBound(node.keys, node.size, fromKey);
+        for (; node != null; node = node.next, i = 0) {
+            for (; i < node.size; i++) {
+                if (node.keys[i] > toKey) return;
+                action.accept(node.keys[i], node.values[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        System.out.println("IntInt B+ Tree Map Operations:");
+        IntIntBPlusTree map = new IntIntBPlusTree(4, -1);
+        int[] keys = {1, 4, 7, 10, 17, 21, 31, 5};
+        for (int key : keys) map.put(key, key * 10);
+        System.out.println("Get 7: " + map.get(7)); // 70
+        System.out.println("Get 8: " + map.get(8)); // -1
+        System.out.println("Put 7 -> 77, old: " + map.put(7, 77)); // 70
+        System.out.println("Remove 4: " + map.remove(4)); // 40
+        StringBuilder range = new StringBuilder();
+        map.forEachInRange(5, 17, (k, v) -> range.append(k).append('=').append(v).append(' '));
+        System.out.println("Range [5,17]: " + range); // 5=50 7=77 10=100 17=170
+        System.out.println("Size: " + map.size()); // 7
+
+        // Cross-check against TreeMap with random operations
+        IntIntBPlusTree tree = new IntIntBPlusTree(16, Integer.MIN_VALUE);
+        TreeMap<Integer, Integer> reference = new TreeMap<>();
+        Random random = new Random(7);
+        boolean ok = true;
+        for (int op = 0; op < 200_000; op++) {
+            int key = random.nextInt(20_000) - 10_000;
+            if (random.nextInt(3) > 0) {
+                Integer old = reference.put(key, op);
+                ok &= tree.put(key, op) == (old == null ? Integer.MIN_VALUE : old);
+            } else {
+                Integer old = reference.remove(key);
+                ok &= tree.remove(key) == (old == null ? Integer.MIN_VALUE : old);
+            }
+        }
+        for (Map.Entry<Integer, Integer> e : reference.entrySet()) ok &= tree.get(e.getKey()) == e.getValue();
+        System.out.println("Matches TreeMap: " + (ok && tree.size() == reference.size())); // true
+    }
+}
@@ -0,0 +1,300 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.BandBplusTree;
+
+// long -> Object B+ Tree Map Implementation (primitive-specialized keys)
+// This file implements a B+ Tree map from long keys to object values without boxing the keys.
+// Purpose: Show the hand-specialized layout real indexes use: sorted primitive arrays per node.
+// Workflow and algorithms are explained in comments for each operation, ensuring beginners can follow.
+// No external dependencies; testing is embedded in the main method (see BPlusTreeMapBenchmark for timings).
+// Key Features:
+// - Put/Get/Remove: Same top-down split and borrow/merge scheme as BPlusTree, values travel with keys.
+// - Branch-free lower bound: the in-node binary search uses a conditional move instead of if/else.
+// - Range: forEachInRange walks linked leaves, handing keys/values to a LongObjectConsumer.
+// Java-Specific Notes:
+// - Keys are long[], values are Object[] stored next to the keys in leaves, children are Node[].
+// - get/remove return null for missing keys, like java.util.Map (null values are allowed but ambiguous).
+// Structure:
+// - Leaves hold all entries and link to the next leaf; separator keys[i] is the largest key in children[i].
+
+import java.util.*;
+
+public class LongObjectBPlusTree<V> {
+    private static final class Node {
+        final long[] keys; // Keys (up to m-1)
+        final Object[] values; // Values (leaves only)
+        final Node[] children; // Children (up to m, internal nodes)
+        Node next; // Next leaf (for leaves)
+        int size; // Number of keys
+        final boolean isLeaf;
+
+        Node(boolean isLeaf, int order) {
+            this.isLeaf = isLeaf;
+            this.keys = new long[order - 1];
+            this.values = isLeaf ? new Object[order - 1] : null;
+            this.children = isLeaf ? null : new Node[order];
+        }
+    }
+
+    @FunctionalInterface
+    public interface LongObjectConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private Node root;
+    private final int order; // Maximum pointers
+    private final int minKey; // Minimum keys (floor(order/2) - 1)
+    private int size;
+
+    public LongObjectBPlusTree(int order) {
+        if (order < 4) throw new IllegalArgumentException("Order must be at least 4: " + order);
+        this.order = order;
+        this.minKey = order / 2 - 1;
+        this.root = new Node(true, order);
+    }
+
+    // Branch-Free Lower Bound
+    // Workflow: First index i in keys[0, n) with keys[i] >= key.
+    // Algorithm:
+    // 1. Keep a window [base, base + n); compare the middle element and move base with a ternary
+    //    (compiled to a conditional move, so there is no branch to mispredict).
+    // 2. Halve n until one element is left, then add 1 if it is still smaller than key.
+    // Time Complexity: O(log m), always the same number of steps for a given n.
+    static int lowerBound(long[] keys, int n, long key) {
+        if (n == 0) return 0;
+        int base = 0;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = keys[base + half] < key ? base + half : base;
+            n -= half;
+        }
+        return base + (keys[base] < key ? 1 : 0);
+    }
+
+    // Put
+    // Workflow: Split full nodes top-down, then insert or overwrite in the leaf.
+    // Time Complexity: O(log_m n).
+    // Space Complexity: O(1).
+    public V put(long key, V value) {
+        if (root.size == order - 1) {
+            Node newRoot = new Node(false, order);
+            newRoot.children[0] = root;
+            splitChild(newRoot, 0);
+            root = newRoot;
+        }
+        Node node = root;
+        while (!node.isLeaf) {
+            int i = lowerBound(node.keys, node.size, key);
+            if (node.children[i].size == order - 1) {
+                splitChild(node, i);
+                if (key > node.keys[i]) i++;
+            }
+            node = node.children[i];
+        }
+        int pos = lowerBound(node.keys, node.size, key);
+        if (pos < node.size && node.keys[pos] == key) {
+            V old = value(node, pos);
+            node.values[pos] = value;
+            return old;
+        }
+        System.arraycopy(node.keys, pos, node.keys, pos + 1, node.size - pos);
+        System.arraycopy(node.values, pos, node.values, pos + 1, node.size - pos);
+        node.keys[pos] = key;
+        node.values[pos] = value;
+        node.size++;
+        size++;
+        return null;
+    }
+    private void splitChild(Node parent, int index) {
+        Node full = parent.children[index];
+        Node sibling = new Node(full.isLeaf, order);
+        int n = full.size;
+        long separator;
+        if (full.isLeaf) {
+            int leftCount = (n + 1) / 2;
+            System.arraycopy(full.keys, leftCount, sibling.keys, 0, n - leftCount);
+            System.arraycopy(full.values, leftCount, sibling.values, 0, n - leftCount);
+            sibling.size = n - leftCount;
+            full.size = leftCount;
+            sibling.next = full.next;
+            full.next = sibling;
+            separator = full.keys[leftCount - 1];
+        } else {
+            int mid = n / 2;
+            System.arraycopy(full.keys, mid + 1, sibling.keys, 0, n - mid - 1);
+            System.arraycopy(full.children, mid + 1, sibling.children, 0, n - mid);
+            Arrays.fill(full.children, mid + 1, n + 1, null);
+            sibling.size = n - mid - 1;
+            full.size = mid;
+            separator = full.keys[mid];
+        }
+        int p = parent.size;
+        System.arraycopy(parent.keys, index, parent.keys, index + 1, p - index);
+        System.arraycopy(parent.children, index + 1, parent.children, index + 2, p - index);
+        parent.keys[index] = separator;
+        parent.children[index + 1] = sibling;
+        parent.size++;
+    }
+
+    // Get
+    // Workflow: Branch-free lower bound at each level down to the leaf.
+    // Time Complexity: O(log_m n).
+    public V get(long key) {
+        Node node = root;
+        while (!node.isLeaf) node = node.children[lowerBound(node.keys, node.size, key)];
+        int i = lowerBound(node.keys, node.size, key);
+        return i < node.size && node.keys[i] == key ? value(node, i) : null;
+    }
+    public boolean containsKey(long key) {
+        Node node = root;
+        while (!node.isLeaf) node = node.children[lowerBound(node.keys, node.size, key)];
+        int i = lowerBound(node.keys, node.size, key);
+        return i < node.size && node.keys[i] == key;
+    }
+
+    // Remove
+    // Workflow: Remove from leaf, fix underflow on the way back up (borrow, else merge).
+    // Time Complexity: O(log_m n).
+    public V remove(long key) {
+        V old = removeHelper(root, key);
+        if (!root.isLeaf && root.size == 0) root = root.children[0];
+        return old;
+    }
+    private V removeHelper(Node node, long key) {
+        int i = lowerBound(node.keys, node.size, key);
+        if (node.isLeaf) {
+            if (i >= node.size || node.keys[i] != key) return null;
+            V old = value(node, i);
+            System.arraycopy(node.keys, i + 1, node.keys, i, node.size - i - 1);
+            System.arraycopy(node.values, i + 1, node.values, i, node.size - i - 1);
+            node.values[node.size - 1] = null; // Let the removed value be collected
+            node.size--;
+            size--;
+            return old;
+        }
+        int sizeBefore = size;
+        V old = removeHelper(node.children[i], key);
+        if (size != sizeBefore && node.children[i].size < minKey) fixUnderflow(node, i);
+        return old;
+    }
+    private void fixUnderflow(Node parent, int index) {
+        Node child = parent.children[index];
+        Node left = index > 0 ? parent.children[index - 1] : null;
+        Node right = index < parent.size ? parent.children[index + 1] : null;
+        if (left != null && left.size > minKey) {
+            // Borrow from left
+            System.arraycopy(child.keys, 0, child.keys, 1, child.size);
+            if (child.isLeaf) {
+                System.arraycopy(child.values, 0, child.values, 1, child.size);
+                child.keys[0] = left.keys[left.size - 1];
+                child.values[0] = left.values[left.size - 1];
+                left.values[left.size - 1] = null;
+                parent.keys[index - 1] = left.keys[left.size - 2];
+            } else {
+                System.arraycopy(child.children, 0, child.children, 1, child.size + 1);
+                child.keys[0] = parent.keys[index - 1];
+                child.children[0] = left.children[left.size];
+                left.children[left.size] = null;
+                parent.keys[index - 1] = left.keys[left.size - 1];
+            }
+            child.size++;
+            left.size--;
+        } else if (right != null && right.size > minKey) {
+            // Borrow from right
+            if (child.isLeaf) {
+                child.keys[child.size] = right.keys[0];
+                child.values[child.size] = right.values[0];
+                parent.keys[index] = right.keys[0];
+                System.arraycopy(right.values, 1, right.values, 0, right.size - 1);
+                right.values[right.size - 1] = null;
+            } else {
+                child.keys[child.size] = parent.keys[index];
+                child.children[child.size + 1] = right.children[0];
+                parent.keys[index] = right.keys[0];
+                System.arraycopy(right.children, 1, right.children, 0, right.size);
+                right.children[right.size] = null;
+            }
+            System.arraycopy(right.keys, 1, right.keys, 0, right.size - 1);
+            child.size++;
+            right.size--;
+        } else if (left != null) {
+            merge(parent, index - 1);
+        } else {
+            merge(parent, index);
+        }
+    }
+    private void merge(Node parent, int index) {
+        Node left = parent.children[index];
+        Node right = parent.children[index + 1];
+        if (left.isLeaf) {
+            System.arraycopy(right.keys, 0, left.keys, left.size, right.size);
+            System.arraycopy(right.values, 0, left.values, left.size, right.size);
+            left.size += right.size;
+            left.next = right.next;
+        } else {
+            left.keys[left.size] = parent.keys[index];
+            System.arraycopy(right.keys, 0, left.keys, left.size + 1, right.size);
+            System.arraycopy(right.children, 0, left.children, left.size + 1, right.size + 1);
+            left.size += right.size + 1;
+        }
+        System.arraycopy(parent.keys, index + 1, parent.keys, index, parent.size - index - 1);
+        System.arraycopy(parent.children, index + 2, parent.children, index + 1, parent.size - index - 1);
+        parent.children[parent.size] = null;
+        parent.size--;
+    }
+
+    // Range
+    // Workflow: Descend to fromKey's leaf, then follow leaf links until a key exceeds toKey.
+    // Time Complexity: O(log_m n + r).
+    // Space Complexity: O(1).
+    public void forEachInRange(long fromKey, long toKey, LongObjectConsumer<? super V> action) {
+        Node node = root;
+        while (!node.isLeaf) node = node.children[lowerBound(node.keys, node.size, fromKey)];
+        int i = lowerBound(node.keys, node.size, fromKey);
+        for (; node != null; node = node.next, i = 0) {
+            for (; i < node.size; i++) {
+                if (node.keys[i] > toKey) return;
+                action.accept(node.keys[i], value(node, i));
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V value(Node node, int i) {
+        return (V) node.values[i];
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        System.out.println("LongObject B+ Tree Map Operations:");
+        LongObjectBPlusTree<String> map = new LongObjectBPlusTree<>(4);
+        long[] keys = {1, 4, 7, 10, 17, 21, 31, 5};
+        for (long key : keys) map.put(key * 1_000_000_000L, "v" + key);
+        System.out.println("Get 7e9: " + map.get(7_000_000_000L)); // v7
+        System.out.println("Get 8e9: " + map.get(8_000_000_000L)); // null
+        System.out.println("Put 7e9, old: " + map.put(7_000_000_000L, "seven")); // v7
+        System.out.println("Remove 4e9: " + map.remove(4_000_000_000L)); // v4
+        StringBuilder range = new StringBuilder();
+        map.forEachInRange(5_000_000_000L, 17_000_000_000L, (k, v) -> range.append(k / 1_000_000_000L).append('=').append(v).append(' '));
+        System.out.println("Range [5e9,17e9]: " + range); // 5=v5 7=seven 10=v10 17=v17
+        System.out.println("Size: " + map.size()); // 7
+
+        // Cross-check against TreeMap with random operations
+        LongObjectBPlusTree<Integer> tree = new LongObjectBPlusTree<>(16);
+        TreeMap<Long, Integer> reference = new TreeMap<>();
+        Random random = new Random(7);
+        boolean ok = true;
+        for (int op = 0; op < 200_000; op++) {
+            long key = (random.nextInt(20_000) - 10_000) * 1_000_003L;
+            if (random.nextInt(3) > 0) {
+                ok &= Objects.equals(tree.put(key, op), reference.put(key, op));
+            } else {
+                ok &= Objects.equals(tree.remove(key), reference.remove(key));
+            }
+        }
+        for (Map.Entry<Long, Integer> e : reference.entrySet()) ok &= e.getValue().equals(tree.get(e.getKey()));
+        System.out.println("Matches TreeMap: " + (ok && tree.size() == reference.size())); // true
+    }
+}
@@ -0,0 +1,552 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.BandBplusTree;
+
+// Paged (Disk-Backed) B+ Tree Implementation
+// This file implements a persistent B+ Tree whose nodes live in fixed-size pages of a memory-mapped file.
+// Purpose: Show how a database index keeps a B+ Tree on disk, so it outlives the JVM and can grow beyond the heap.
+// Workflow and algorithms are explained in comments for each operation, ensuring beginners can follow.
+// No external dependencies; testing is embedded in the main method (benchmark: PagedBPlusTreeBenchmark).
+// Key Features:
+// - Insert: Add key, split full pages on the way down (same top-down strategy as BPlusTree).
+// - Search: Binary search inside each page from root to leaf.
+// - Delete: Remove key from leaf, borrow or merge on underflow, freed pages go to a free list.
+// - Range Query: Find keys in range using the linked leaf pages.
+// - Reopen: The header page stores root, free list and page count, so reopening is O(1).
+// Java-Specific Notes:
+// - FileChannel.map maps the file in segments of SEGMENT_PAGES pages (MappedByteBuffer).
+// - A small LRU page cache (LinkedHashMap in access order) bounds how many segments stay mapped.
+// - Keys are primitive ints stored directly in the page; nothing is boxed on insert/search/delete.
+// - No write-ahead log: close() forces mapped pages to disk, a crash mid-split may corrupt the file.
+// Structure:
+// - Page 0 is the header, every other page is one node (leaf or internal) or a free page.
+// - Leaves hold all keys and link to the next leaf, internal pages hold separator keys and child page ids.
+// - Separator keys[i] is the largest key of children[i] (keys equal to a separator go left).
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+public class PagedBPlusTree implements AutoCloseable {
+    // Header page layout (page 0)
+    private static final int MAGIC = 0x42505431; // "BPT1"
+    private static final int H_MAGIC = 0;
+    private static final int H_PAGE_SIZE = 4;
+    private static final int H_ORDER = 8;
+    private static final int H_ROOT = 12;
+    private static final int H_FREE_HEAD = 16;
+    private static final int H_PAGE_COUNT = 20;
+    private static final int H_KEY_COUNT = 24;
+
+    // Node page layout
+    private static final int N_LEAF = 0; // 1 for leaf, 0 for internal
+    private static final int N_SIZE = 4; // Number of keys
+    private static final int N_NEXT = 8; // Next leaf page (leaves) or next free page (free list)
+    private static final int N_KEYS = 12; // Keys start here
+    private static final int NO_PAGE = 0; // Page 0 is the header, so it doubles as "null"
+
+    public static final int DEFAULT_PAGE_SIZE = 4096;
+    private static final int SEGMENT_PAGES = 64; // Pages mapped per MappedByteBuffer
+    private static final int DEFAULT_CACHED_SEGMENTS = 256;
+
+    private final FileChannel channel;
+    private final int pageSize;
+    private final int order; // Maximum children per internal page
+    private final int minKey; // Minimum keys per non-root page
+    private final int childrenOffset; // Byte offset of the children array in a page
+    private final LinkedHashMap<Integer, MappedByteBuffer> pageCache;
+    private final MappedByteBuffer header; // Page 0 stays mapped outside the LRU cache
+
+    private int root;
+    private int freeHead;
+    private int pageCount;
+    private int keyCount;
+
+    // Last used segment, checked before the page cache (most accesses stay inside one page)
+    private int lastSegmentIndex = -1;
+    private MappedByteBuffer lastSegment;
+
+    // Open (or create) a tree in the given file with the largest order that fits a 4 KB page.
+    public PagedBPlusTree(Path file) throws IOException {
+        this(file, DEFAULT_PAGE_SIZE, maxOrder(DEFAULT_PAGE_SIZE), DEFAULT_CACHED_SEGMENTS);
+    }
+
+    // Open (or create) a tree. For an existing file, pageSize/order must match the stored header.
+    // Time Complexity: O(1), nothing but the header is read.
+    public PagedBPlusTree(Path file, int pageSize, int order, int cachedSegments) throws IOException {
+        if (order < 4 || order > maxOrder(pageSize)) {
+            throw new IllegalArgumentException("Order " + order + " does not fit page size " + pageSize);
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.pageSize = pageSize;
+        this.order = order;
+        this.minKey = order / 2 - 1; // Top-down splits of a full page (order - 1 keys) leave both halves >= this
+        this.childrenOffset = N_KEYS + 4 * (order - 1);
+        this.pageCache = new LinkedHashMap<Integer, MappedByteBuffer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, MappedByteBuffer> eldest) {
+                if (size() > cachedSegments) {
+                    eldest.getValue().force(); // Flush before the mapping becomes unreachable
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        boolean fresh = channel.size() == 0;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, pageSize);
+        if (fresh) {
+            // Fresh file: header page + empty root leaf
+            pageCount = 1;
+            freeHead = NO_PAGE;
+            keyCount = 0;
+            header.putInt(H_MAGIC, MAGIC);
+            header.putInt(H_PAGE_SIZE, pageSize);
+            header.putInt(H_ORDER, order);
+            root = allocatePage(true);
+            writeHeader();
+        } else {
+            // Existing file: validate header and restore state
+            if (header.getInt(H_MAGIC) != MAGIC) {
+                channel.close();
+                throw new IOException("Not a PagedBPlusTree file: " + file);
+            }
+            if (header.getInt(H_PAGE_SIZE) != pageSize || header.getInt(H_ORDER) != order) {
+                channel.close();
+                throw new IOException("File was created with page size " + header.getInt(H_PAGE_SIZE)
+                        + " and order " + header.getInt(H_ORDER));
+            }
+            root = header.getInt(H_ROOT);
+            freeHead = header.getInt(H_FREE_HEAD);
+            pageCount = header.getInt(H_PAGE_COUNT);
+            keyCount = header.getInt(H_KEY_COUNT);
+        }
+    }
+
+    // Largest order whose keys and children fit in one page.
+    public static int maxOrder(int pageSize) {
+        // N_KEYS + 4 * (order - 1) + 4 * order <= pageSize
+        return (pageSize - N_KEYS + 4) / 8;
+    }
+
+    // Page Access
+    // Workflow: Map page id -> (segment, offset), read/write ints in the mapped buffer.
+    // Algorithm:
+    // 1. segment = page / SEGMENT_PAGES, look it up in the LRU page cache.
+    // 2. On a miss, map the segment (mapping past the end grows the file).
+    // Time Complexity: O(1) per access.
+    private MappedByteBuffer segment(int page) {
+        int index = page / SEGMENT_PAGES;
+        if (index == lastSegmentIndex) return lastSegment;
+        MappedByteBuffer buffer = pageCache.get(index);
+        if (buffer == null) {
+            try {
+                long position = (long) index * SEGMENT_PAGES * pageSize;
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) SEGMENT_PAGES * pageSize);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to map segment " + index, e);
+            }
+            pageCache.put(index, buffer);
+        }
+        lastSegmentIndex = index;
+        lastSegment = buffer;
+        return buffer;
+    }
+    private int getInt(int page, int offset) {
+        return segment(page).getInt((page % SEGMENT_PAGES) * pageSize + offset);
+    }
+    private void putInt(int page, int offset, int value) {
+        segment(page).putInt((page % SEGMENT_PAGES) * pageSize + offset, value);
+    }
+
+    private boolean isLeaf(int page) { return getInt(page, N_LEAF) == 1; }
+    private int size(int page) { return getInt(page, N_SIZE); }
+    private void setSize(int page, int size) { putInt(page, N_SIZE, size); }
+    private int next(int page) { return getInt(page, N_NEXT); }
+    private void setNext(int page, int next) { putInt(page, N_NEXT, next); }
+    private int key(int page, int i) { return getInt(page, N_KEYS + 4 * i); }
+    private void setKey(int page, int i, int key) { putInt(page, N_KEYS + 4 * i, key); }
+    private int child(int page, int i) { return getInt(page, childrenOffset + 4 * i); }
+    private void setChild(int page, int i, int child) { putInt(page, childrenOffset + 4 * i, child); }
+
+    // Allocate Page
+    // Workflow: Reuse a page from the free list, otherwise append a new page.
+    // Time Complexity: O(1).
+    private int allocatePage(boolean leaf) {
+        int page;
+        if (freeHead != NO_PAGE) {
+            page = freeHead;
+            freeHead = next(page);
+        } else {
+            page = pageCount++;
+        }
+        putInt(page, N_LEAF, leaf ? 1 : 0);
+        setSize(page, 0);
+        setNext(page, NO_PAGE);
+        return page;
+    }
+    // Free Page: push onto the free list (linked through the N_NEXT slot).
+    private void freePage(int page) {
+        putInt(page, N_LEAF, 0);
+        setSize(page, 0);
+        setNext(page, freeHead);
+        freeHead = page;
+    }
+    private void writeHeader() {
+        header.putInt(H_ROOT, root);
+        header.putInt(H_FREE_HEAD, freeHead);
+        header.putInt(H_PAGE_COUNT, pageCount);
+        header.putInt(H_KEY_COUNT, keyCount);
+    }
+
+    // Lower Bound: first index i with keys[i] >= key (binary search inside one page).
+    // Time Complexity: O(log m).
+    private int lowerBound(int page, int key) {
+        int lo = 0, hi = size(page);
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (key(page, mid) < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // Insert
+    // Workflow: Split full pages top-down, then add the key to its leaf.
+    // Algorithm:
+    // 1. If root is full, allocate a new root and split the old one.
+    // 2. Descend: before entering a full child, split it so there is always room.
+    // 3. Insert into the leaf, shifting larger keys right. Duplicates are ignored.
+    // Time Complexity: O(log_m n) page accesses.
+    // Space Complexity: O(1).
+    public boolean insert(int key) {
+        if (size(root) == order - 1) {
+            int newRoot = allocatePage(false);
+            setChild(newRoot, 0, root);
+            splitChild(newRoot, 0);
+            root = newRoot;
+        }
+        int page = root;
+        while (!isLeaf(page)) {
+            int i = lowerBound(page, key);
+            if (size(child(page, i)) == order - 1) {
+                splitChild(page, i);
+                if (key > key(page, i)) i++;
+            }
+            page = child(page, i);
+        }
+        int n = size(page);
+        int pos = lowerBound(page, key);
+        if (pos < n && key(page, pos) == key) {
+            writeHeader();
+            return false;
+        }
+        for (int j = n; j > pos; j--) setKey(page, j, key(page, j - 1));
+        setKey(page, pos, key);
+        setSize(page, n + 1);
+        keyCount++;
+        writeHeader();
+        return true;
+    }
+    // Split Child
+    // Workflow: Move the upper half of a full child into a new page, add a separator to parent.
+    // - Leaf: left keeps [0, leftCount), separator = left's last key (it stays in the leaf).
+    // - Internal: middle key moves up, left keeps [0, mid), right gets (mid, n).
+    private void splitChild(int parent, int index) {
+        int full = child(parent, index);
+        boolean leaf = isLeaf(full);
+        int sibling = allocatePage(leaf);
+        int n = size(full);
+        int separator;
+        if (leaf) {
+            int leftCount = (n + 1) / 2;
+            for (int i = leftCount; i < n; i++) setKey(sibling, i - leftCount, key(full, i));
+            setSize(sibling, n - leftCount);
+            setSize(full, leftCount);
+            setNext(sibling, next(full));
+            setNext(full, sibling);
+            separator = key(full, leftCount - 1);
+        } else {
+            int mid = n / 2;
+            for (int i = mid + 1; i < n; i++) setKey(sibling, i - mid - 1, key(full, i));
+            for (int i = mid + 1; i <= n; i++) setChild(sibling, i - mid - 1, child(full, i));
+            setSize(sibling, n - mid - 1);
+            setSize(full, mid);
+            separator = key(full, mid);
+        }
+        // Shift parent's keys/children to make room
+        int p = size(parent);
+        for (int i = p; i > index; i--) {
+            setKey(parent, i, key(parent, i - 1));
+            setChild(parent, i + 1, child(parent, i));
+        }
+        setKey(parent, index, separator);
+        setChild(parent, index + 1, sibling);
+        setSize(parent, p + 1);
+    }
+
+    // Search
+    // Workflow: Binary search each page from root down to a leaf.
+    // Time Complexity: O(log_m n).
+    // Space Complexity: O(1).
+    public boolean search(int key) {
+        int page = root;
+        while (!isLeaf(page)) page = child(page, lowerBound(page, key));
+        int i = lowerBound(page, key);
+        return i < size(page) && key(page, i) == key;
+    }
+
+    // Delete
+    // Workflow: Remove key from its leaf, fix underflow on the way back up.
+    // Algorithm:
+    // 1. Descend to the leaf, remove the key.
+    // 2. If a child underflows, borrow from a sibling or merge (freeing a page).
+    // 3. If the root becomes an empty internal page, its only child becomes root.
+    // Time Complexity: O(log_m n).
+    // Space Complexity: O(log_m n) recursion.
+    public boolean delete(int key) {
+        boolean removed = deleteHelper(root, key);
+        if (!isLeaf(root) && size(root) == 0) {
+            int oldRoot = root;
+            root = child(root, 0);
+            freePage(oldRoot);
+        }
+        if (removed) keyCount--;
+        writeHeader();
+        return removed;
+    }
+    private boolean deleteHelper(int page, int key) {
+        int i = lowerBound(page, key);
+        if (isLeaf(page)) {
+            int n = size(page);
+            if (i >= n || key(page, i) != key) return false;
+            for (int j = i; j < n - 1; j++) setKey(page, j, key(page, j + 1));
+            setSize(page, n - 1);
+            return true;
+        }
+        boolean removed = deleteHelper(child(page, i), key);
+        if (removed && size(child(page, i)) < minKey) fixUnderflow(page, i);
+        return removed;
+    }
+    private void fixUnderflow(int parent, int index) {
+        int node = child(parent, index);
+        int left = index > 0 ? child(parent, index - 1) : NO_PAGE;
+        int right = index < size(parent) ? child(parent, index + 1) : NO_PAGE;
+        boolean leaf = isLeaf(node);
+        int n = size(node);
+
+        if (left != NO_PAGE && size(left) > minKey) {
+            // Borrow from left
+            int ls = size(left);
+            for (int j = n; j > 0; j--) setKey(node, j, key(node, j - 1));
+            if (leaf) {
+                setKey(node, 0, key(left, ls - 1));
+                setKey(parent, index - 1, key(left, ls - 2));
+            } else {
+                for (int j = n + 1; j > 0; j--) setChild(node, j, child(node, j - 1));
+                setKey(node, 0, key(parent, index - 1));
+                setChild(node, 0, child(left, ls));
+                setKey(parent, index - 1, key(left, ls - 1));
+            }
+            setSize(node, n + 1);
+            setSize(left, ls - 1);
+        } else if (right != NO_PAGE && size(right) > minKey) {
+            // Borrow from right
+            int rs = size(right);
+            if (leaf) {
+                setKey(node, n, key(right, 0));
+                setKey(parent, index, key(right, 0));
+            } else {
+                setKey(node, n, key(parent, index));
+                setChild(node, n + 1, child(right, 0));
+                setKey(parent, index, key(right, 0));
+                for (int j = 0; j < rs; j++) setChild(right, j, child(right, j + 1));
+            }
+            for (int j = 0; j < rs - 1; j++) setKey(right, j, key(right, j + 1));
+            setSize(node, n + 1);
+            setSize(right, rs - 1);
+        } else if (left != NO_PAGE) {
+            mergePages(parent, index - 1);
+        } else {
+            mergePages(parent, index);
+        }
+    }
+    // Merge children[index + 1] into children[index] and free the right page.
+    private void mergePages(int parent, int index) {
+        int left = child(parent, index);
+        int right = child(parent, index + 1);
+        int ls = size(left), rs = size(right);
+        if (isLeaf(left)) {
+            for (int i = 0; i < rs; i++) setKey(left, ls + i, key(right, i));
+            setSize(left, ls + rs);
+            setNext(left, next(right));
+        } else {
+            setKey(left, ls, key(parent, index));
+            for (int i = 0; i < rs; i++) setKey(left, ls + 1 + i, key(right, i));
+            for (int i = 0; i <= rs; i++) setChild(left, ls + 1 + i, child(right, i));
+            setSize(left, ls + rs + 1);
+        }
+        int p = size(parent);
+        for (int i = index; i < p - 1; i++) {
+            setKey(parent, i, key(parent, i + 1));
+            setChild(parent, i + 1, child(parent, i + 2));
+        }
+        setSize(parent, p - 1);
+        freePage(right);
+    }
+
+    // Range Query
+    // Workflow: Find keys in [minKey, maxKey] using leaf links.
+    // Algorithm:
+    // 1. Descend to the leaf that would hold minKey.
+    // 2. Follow next-leaf links until a key exceeds maxKey.
+    // Time Complexity: O(log_m n + r).
+    // Space Complexity: O(r).
+    public List<Integer> rangeQuery(int minKey, int maxKey) {
+        List<Integer> results = new ArrayList<>();
+        int page = root;
+        while (!isLeaf(page)) page = child(page, lowerBound(page, minKey));
+        int i = lowerBound(page, minKey);
+        while (page != NO_PAGE) {
+            int n = size(page);
+            for (; i < n; i++) {
+                int k = key(page, i);
+                if (k > maxKey) return results;
+                results.add(k);
+            }
+            page = next(page);
+            i = 0;
+        }
+        return results;
+    }
+
+    public int size() { return keyCount; }
+    public int pageCount() { return pageCount; }
+    public int freePageCount() {
+        int count = 0;
+        for (int page = freeHead; page != NO_PAGE; page = next(page)) count++;
+        return count;
+    }
+
+    // Close: persist header and force all mapped segments to disk.
+    @Override
+    public void close() throws IOException {
+        writeHeader();
+        for (MappedByteBuffer buffer : pageCache.values()) buffer.force();
+        header.force();
+        pageCache.clear();
+        lastSegment = null;
+        lastSegmentIndex = -1;
+        channel.close();
+    }
+
+    // Debugging: Validate Structure
+    // Workflow: Check key order, separator bounds, page fill, equal leaf depth and leaf links.
+    // Time Complexity: O(n).
+    public boolean isValidBPlusTree() {
+        int[] leafDepth = {-1};
+        if (!validateHelper(root, 0, Long.MIN_VALUE, Long.MAX_VALUE, leafDepth)) return false;
+        // Leaf chain must visit every key in strictly increasing order
+        int page = root;
+        while (!isLeaf(page)) page = child(page, 0);
+        long lastKey = Long.MIN_VALUE;
+        int seen = 0;
+        while (page != NO_PAGE) {
+            for (int i = 0; i < size(page); i++) {
+                if (key(page, i) <= lastKey) return false;
+                lastKey = key(page, i);
+                seen++;
+            }
+            page = next(page);
+        }
+        return seen == keyCount;
+    }
+    private boolean validateHelper(int page, int depth, long low, long high, int[] leafDepth) {
+        int n = size(page);
+        if (n > order - 1) return false;
+        if (page != root && n < minKey) return false;
+        for (int i = 0; i < n; i++) {
+            int k = key(page, i);
+            if (k <= low || k > high) return false;
+            if (i > 0 && key(page, i - 1) >= k) return false;
+        }
+        if (isLeaf(page)) {
+            if (leafDepth[0] == -1) leafDepth[0] = depth;
+            return leafDepth[0] == depth;
+        }
+        for (int i = 0; i <= n; i++) {
+            long childLow = i == 0 ? low : key(page, i - 1);
+            long childHigh = i == n ? high : key(page, i);
+            if (!validateHelper(child(page, i), depth + 1, childLow, childHigh, leafDepth)) return false;
+        }
+        return true;
+    }
+
+    // Main method for testing
+    public static void main(String[] args) throws IOException {
+        System.out.println("Paged B+ Tree Operations:");
+        // Each phase gets its own file: closed trees stay mapped until their buffers are collected,
+        // and Windows refuses to delete a mapped file, so all files are deleted at the end
+        Path dir = Files.createTempDirectory("paged-bplustree");
+        Path small = dir.resolve("small.idx"), large = dir.resolve("large.idx"), empty = dir.resolve("empty.idx");
+        try {
+            // Small order so splits/merges happen with few keys
+            try (PagedBPlusTree tree = new PagedBPlusTree(small, 256, 4, 4)) {
+                int[] keys = {1, 4, 7, 10, 17, 21, 31, 5};
+                for (int key : keys) tree.insert(key);
+                System.out.println("Range [5,17]: " + tree.rangeQuery(5, 17)); // [5, 7, 10, 17]
+                System.out.println("Search 7: " + tree.search(7)); // true
+                tree.delete(7);
+                System.out.println("Search 7: " + tree.search(7)); // false
+                System.out.println("Is Valid: " + tree.isValidBPlusTree()); // true
+            }
+            // Reopen: state comes back from the header page
+            try (PagedBPlusTree tree = new PagedBPlusTree(small, 256, 4, 4)) {
+                System.out.println("Reopened size: " + tree.size()); // 7
+                System.out.println("Reopened range [0,100]: " + tree.rangeQuery(0, 100)); // [1, 4, 5, 10, 17, 21, 31]
+            }
+
+            // Larger run with default 4 KB pages and page cache
+            int n = 50_000;
+            int[] data = new int[n];
+            for (int i = 0; i < n; i++) data[i] = i * 2;
+            Random random = new Random(42);
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = data[i]; data[i] = data[j]; data[j] = tmp;
+            }
+            try (PagedBPlusTree tree = new PagedBPlusTree(large)) {
+                for (int key : data) tree.insert(key);
+                System.out.println("Inserted " + n + " keys, pages: " + tree.pageCount());
+                for (int i = 0; i < n / 2; i++) tree.delete(data[i]);
+                System.out.println("After deleting half, size: " + tree.size() + ", free pages: " + tree.freePageCount());
+                System.out.println("Is Valid: " + tree.isValidBPlusTree()); // true
+            }
+            try (PagedBPlusTree tree = new PagedBPlusTree(large)) {
+                boolean ok = true;
+                for (int i = 0; i < n; i++) ok &= tree.search(data[i]) == (i >= n / 2);
+                System.out.println("Search after reopen matches: " + ok); // true
+                System.out.println("Range count [0,9999]: " + tree.rangeQuery(0, 9999).size());
+                // Freed pages are reused before the file grows
+                int before = tree.pageCount();
+                for (int i = 0; i < n / 4; i++) tree.insert(data[i]);
+                System.out.println("Pages reused (no growth): " + (tree.pageCount() == before)); // true
+                System.out.println("Is Valid: " + tree.isValidBPlusTree()); // true
+            }
+
+            // Edge cases
+            try (PagedBPlusTree tree = new PagedBPlusTree(empty, 256, 4, 1)) {
+                System.out.println("Empty search 1: " + tree.search(1)); // false
+                System.out.println("Empty delete 1: " + tree.delete(1)); // false
+            }
+        } finally {
+            Files.deleteIfExists(small);
+            Files.deleteIfExists(large);
+            Files.deleteIfExists(empty);
+            Files.deleteIfExists(dir);
+        }
+    }
+}
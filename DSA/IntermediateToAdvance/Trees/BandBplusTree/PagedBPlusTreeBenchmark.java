@@ -0,0 +1,84 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.BandBplusTree;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Paged B+ Tree Benchmark
+// Times PagedBPlusTree with the default 4 KB pages and page cache, on shuffled keys 0, 2, 4, ...:
+// - insert: every key into a fresh file (top-down splits, pages mapped in segments).
+// - reopen: open the file again and close it; only the header page is read.
+// - search: every key, after the reopen, so all pages come back through the page cache.
+// - churn: delete half of the keys and insert them again (freed pages are reused before the file grows).
+// Purpose: Show what keeping an index in mapped pages costs next to the heap-based trees in
+// BPlusTreeBenchmark, and that reopening does not depend on the number of keys.
+// Every round works on its own temp file. Usage: PagedBPlusTreeBenchmark [keys]
+public class PagedBPlusTreeBenchmark {
+    private static final int ROUNDS = 3;
+
+    // Work done on an open tree; the tree is closed (and forced to disk) inside the timed region
+    @FunctionalInterface
+    private interface TreeWork {
+        long run(PagedBPlusTree tree) throws IOException;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        int[] data = new int[n];
+        for (int i = 0; i < n; i++) data[i] = i * 2;
+        Random random = new Random(42);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = data[i]; data[i] = data[j]; data[j] = tmp;
+        }
+        System.out.printf("n=%d, page size %d, best of %d rounds%n", n, PagedBPlusTree.DEFAULT_PAGE_SIZE, ROUNDS);
+
+        Path dir = Files.createTempDirectory("paged-bplustree");
+        List<Path> files = new ArrayList<>();
+        try {
+            long[] best = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+                        Path file = dir.resolve("round" + files.size() + ".idx");
+                        files.add(file);
+                        return file;
+                    },
+                    file -> onTree(file, tree -> {
+                        for (int key : data) tree.insert(key);
+                        return tree.pageCount();
+                    }),
+                    file -> onTree(file, PagedBPlusTree::size),
+                    file -> onTree(file, tree -> {
+                        long found = 0;
+                        for (int key : data) if (tree.search(key)) found++;
+                        return found;
+                    }),
+                    file -> onTree(file, tree -> {
+                        for (int i = 0; i < n / 2; i++) tree.delete(data[i]);
+                        for (int i = 0; i < n / 2; i++) tree.insert(data[i]);
+                        return tree.pageCount();
+                    }));
+            System.out.printf("%-34s %10.1f ms%n", "insert", BenchmarkUtils.millis(best[0]));
+            System.out.printf("%-34s %10.1f us%n", "reopen", best[1] / 1e3);
+            System.out.printf("%-34s %10.1f ms%n", "search every key", BenchmarkUtils.millis(best[2]));
+            System.out.printf("%-34s %10.1f ms%n", "delete half, insert it again", BenchmarkUtils.millis(best[3]));
+        } finally {
+            // Mappings are released when collected, so files are only deleted once every tree is closed
+            for (Path file : files) Files.deleteIfExists(file);
+            Files.deleteIfExists(dir);
+        }
+        BenchmarkUtils.printChecksum();
+    }
+
+    private static long onTree(Path file, TreeWork work) {
+        try (PagedBPlusTree tree = new PagedBPlusTree(file)) {
+            return work.run(tree);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
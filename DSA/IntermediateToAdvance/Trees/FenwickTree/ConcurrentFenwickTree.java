@@ -0,0 +1,497 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.FenwickTree;
+
+// Concurrent Striped Fenwick Tree Implementation (long counts)
+// This file implements a thread-safe Fenwick Tree for counters that many threads update at a high rate,
+// e.g. live latency histograms (index = latency bucket, value = count).
+// Purpose: Let updates scale across threads while reads still return consistent prefix sums.
+// Workflow and algorithms are explained in comments for each operation, ensuring beginners can follow.
+// No external dependencies; testing (a multi-threaded check) is embedded in the main method
+// (benchmark: FenwickTreeBenchmark).
+// Key Features:
+// - Point mode: add(index, delta), prefixSum, rangeSum, get, indexOfPrefix (quantiles), snapshot.
+// - Range mode: additionally rangeAdd(left, right, delta), using two Fenwick arrays.
+// - Grid (2D): add(row, col, delta), prefixSum(row, col), rectangleSum.
+// Java-Specific Notes:
+// - Striping (the idea behind LongAdder): the tree is kept S times, one copy per stripe, and every
+//   update goes to one stripe only. Since a Fenwick tree is linear, the real tree is the sum of the
+//   stripes, so a query sums its answer over all stripes.
+// - A thread updates its home stripe (chosen from its thread id); if that stripe is busy it tries
+//   the others before waiting, so threads spread out like LongAdder cells do.
+// - Each stripe has its own ReentrantLock. Updates to different stripes never touch the same lock or
+//   cache lines; the cells themselves are plain longs written under the stripe lock.
+// - Consistency: a query locks one stripe at a time, so every update is counted entirely or not at
+//   all (a range or rectangle never sees half an update), and every update that finished before the
+//   query started is counted. snapshot() and indexOfPrefix() lock all stripes at once and see one
+//   exact point in time.
+// Structure:
+// - 1-based indices like FenwickTree; stripe cells[PAD + i] is tree node i (PAD keeps hot cells of
+//   neighboring arrays on different cache lines).
+// - Range mode: cells hold B1 at nodes 1..n and B2 at nodes n+1..2n, with
+//   prefixSum(i) = sum(B1, i) * i - sum(B2, i).
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class ConcurrentFenwickTree {
+    private static final int PAD = 8; // Longs of padding around each stripe's cells (one cache line)
+
+    // Per-stripe locks and cells, shared by the 1D and 2D trees
+    private static final class Stripes {
+        final ReentrantLock[] locks;
+        final long[][] cells;
+        final int mask;
+
+        Stripes(int requested, int cellCount) {
+            int count = requested <= 1 ? 1 : Integer.highestOneBit(requested - 1) << 1; // Round up to a power of two
+            locks = new ReentrantLock[count];
+            cells = new long[count][];
+            for (int s = 0; s < count; s++) {
+                locks[s] = new ReentrantLock();
+                cells[s] = new long[cellCount + 2 * PAD];
+            }
+            mask = count - 1;
+        }
+
+        // Lock a stripe for one update: the home stripe, else any free one, else wait for home
+        int acquire() {
+            long id = Thread.currentThread().getId();
+            int home = (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+            if (locks[home].tryLock()) return home;
+            for (int i = 1; i <= mask; i++) {
+                int s = (home + i) & mask;
+                if (locks[s].tryLock()) return s;
+            }
+            locks[home].lock();
+            return home;
+        }
+
+        void lockAll() {
+            for (ReentrantLock lock : locks) lock.lock();
+        }
+
+        void unlockAll() {
+            for (ReentrantLock lock : locks) lock.unlock();
+        }
+    }
+
+    private final int n;
+    private final boolean rangeMode;
+    private final Stripes stripes;
+
+    // Constructor
+    // Workflow: Allocate the stripes; all counts start at zero.
+    // Time Complexity: O(S * n) for S stripes.
+    // Space Complexity: O(S * n) longs (2 * S * n in range mode).
+    private ConcurrentFenwickTree(int n, boolean rangeMode, int stripeCount) {
+        if (n < 0) throw new IllegalArgumentException("Negative size");
+        this.n = n;
+        this.rangeMode = rangeMode;
+        this.stripes = new Stripes(stripeCount, (rangeMode ? 2 * n : n) + 1);
+    }
+
+    // Point updates (add/prefixSum/rangeSum/indexOfPrefix); stripes default to 4 x available processors
+    public static ConcurrentFenwickTree pointUpdates(int n) {
+        return new ConcurrentFenwickTree(n, false, defaultStripes());
+    }
+
+    public static ConcurrentFenwickTree pointUpdates(int n, int stripeCount) {
+        return new ConcurrentFenwickTree(n, false, stripeCount);
+    }
+
+    // Range updates as well (rangeAdd); point add costs two walks per array instead of one
+    public static ConcurrentFenwickTree rangeUpdates(int n) {
+        return new ConcurrentFenwickTree(n, true, defaultStripes());
+    }
+
+    public static ConcurrentFenwickTree rangeUpdates(int n, int stripeCount) {
+        return new ConcurrentFenwickTree(n, true, stripeCount);
+    }
+
+    private static int defaultStripes() {
+        return Math.min(64, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public int stripeCount() {
+        return stripes.locks.length;
+    }
+
+    // Walk helpers on one stripe's cells; base is the node offset (0 for B1/point, n for B2)
+    private static void addWalk(long[] cells, int base, int limit, int index, long delta) {
+        while (index <= limit) {
+            cells[PAD + base + index] += delta;
+            index += (index & -index); // Add least significant bit
+        }
+    }
+
+    private static long sumWalk(long[] cells, int base, int index) {
+        long sum = 0;
+        while (index > 0) {
+            sum += cells[PAD + base + index];
+            index -= (index & -index); // Remove least significant bit
+        }
+        return sum;
+    }
+
+    // Prefix sum 1..index inside one stripe (caller holds its lock)
+    private long stripePrefix(long[] cells, int index) {
+        if (!rangeMode) return sumWalk(cells, 0, index);
+        return sumWalk(cells, 0, index) * index - sumWalk(cells, n, index);
+    }
+
+    // Range mode: add delta to every element of [left, n] inside one stripe
+    private void stripeSuffixAdd(long[] cells, int left, long delta) {
+        addWalk(cells, 0, n, left, delta);
+        addWalk(cells, n, n, left, delta * (left - 1));
+    }
+
+    // Update Element
+    // Workflow: Add delta to element index (counter increment for histograms).
+    // Algorithm:
+    // 1. Lock one stripe (home stripe if free).
+    // 2. Point mode: usual Fenwick walk i += (i & -i). Range mode: rangeAdd(index, index, delta).
+    // 3. Unlock.
+    // Time Complexity: O(log n).
+    // Space Complexity: O(1).
+    public void add(int index, long delta) {
+        if (index < 1 || index > n) {
+            throw new IllegalArgumentException("Invalid update index");
+        }
+        if (rangeMode) {
+            rangeAdd(index, index, delta);
+            return;
+        }
+        int s = stripes.acquire();
+        try {
+            addWalk(stripes.cells[s], 0, n, index, delta);
+        } finally {
+            stripes.locks[s].unlock();
+        }
+    }
+
+    // Range Update (range mode only)
+    // Workflow: Add delta to every element in [left, right].
+    // Algorithm:
+    // 1. Adding delta to [left, right] = adding delta to the suffix [left, n] and -delta to [right+1, n].
+    // 2. A suffix add at l keeps two arrays: B1 gets +delta at l, B2 gets +delta*(l-1) at l, so that
+    //    sum(B1, i) * i - sum(B2, i) grows by delta * (i - l + 1) for i >= l.
+    // 3. Both suffix adds go to the same stripe under one lock.
+    // Time Complexity: O(log n).
+    // Space Complexity: O(1).
+    public void rangeAdd(int left, int right, long delta) {
+        if (!rangeMode) throw new UnsupportedOperationException("Created with pointUpdates; use rangeUpdates");
+        if (left < 1 || right > n || left > right) {
+            throw new IllegalArgumentException("Invalid range");
+        }
+        int s = stripes.acquire();
+        try {
+            long[] cells = stripes.cells[s];
+            stripeSuffixAdd(cells, left, delta);
+            if (right < n) stripeSuffixAdd(cells, right + 1, -delta);
+        } finally {
+            stripes.locks[s].unlock();
+        }
+    }
+
+    // Query Prefix Sum
+    // Workflow: Sum of elements 1..index, added up over all stripes.
+    // Algorithm: For each stripe: lock, walk i -= (i & -i) (range mode: B1/B2 formula), unlock.
+    // Time Complexity: O(S log n).
+    // Space Complexity: O(1).
+    public long prefixSum(int index) {
+        if (index < 0 || index > n) {
+            throw new IllegalArgumentException("Invalid query index");
+        }
+        long sum = 0;
+        for (int s = 0; s <= stripes.mask; s++) {
+            stripes.locks[s].lock();
+            try {
+                sum += stripePrefix(stripes.cells[s], index);
+            } finally {
+                stripes.locks[s].unlock();
+            }
+        }
+        return sum;
+    }
+
+    // Range Sum Query
+    // Workflow: Sum of elements left..right; both prefixes of a stripe are read under the same lock,
+    // so an update is never counted in one prefix but not the other.
+    // Time Complexity: O(S log n).
+    // Space Complexity: O(1).
+    public long rangeSum(int left, int right) {
+        if (left < 1 || right > n || left > right) {
+            throw new IllegalArgumentException("Invalid range");
+        }
+        long sum = 0;
+        for (int s = 0; s <= stripes.mask; s++) {
+            stripes.locks[s].lock();
+            try {
+                long[] cells = stripes.cells[s];
+                sum += stripePrefix(cells, right) - stripePrefix(cells, left - 1);
+            } finally {
+                stripes.locks[s].unlock();
+            }
+        }
+        return sum;
+    }
+
+    public long get(int index) {
+        return rangeSum(index, index);
+    }
+
+    public long total() {
+        return prefixSum(n);
+    }
+
+    // Snapshot
+    // Workflow: Copy all element values at one point in time.
+    // Algorithm:
+    // 1. Lock every stripe (always in stripe order, so two snapshots cannot deadlock).
+    // 2. Point mode: add the stripes node by node (the sum of Fenwick trees is a Fenwick tree), then
+    //    undo the build in place: for i = n..1, tree[i + (i & -i)] -= tree[i].
+    //    Range mode: values[i] = prefix(i) - prefix(i - 1) over the summed B1/B2 arrays.
+    // 3. Unlock every stripe.
+    // Time Complexity: O(S * n) (O(S * n + n log n) in range mode).
+    // Space Complexity: O(n).
+    public long[] snapshot() {
+        int width = rangeMode ? 2 * n : n;
+        long[] merged = new long[PAD + width + 1];
+        stripes.lockAll();
+        try {
+            for (long[] cells : stripes.cells) {
+                for (int i = 1; i <= width; i++) merged[PAD + i] += cells[PAD + i];
+            }
+        } finally {
+            stripes.unlockAll();
+        }
+        long[] values = new long[n];
+        if (rangeMode) {
+            long previous = 0;
+            for (int i = 1; i <= n; i++) {
+                long prefix = stripePrefix(merged, i);
+                values[i - 1] = prefix - previous;
+                previous = prefix;
+            }
+        } else {
+            for (int i = n; i >= 1; i--) {
+                int parent = i + (i & -i);
+                if (parent <= n) merged[PAD + parent] -= merged[PAD + i];
+            }
+            System.arraycopy(merged, PAD + 1, values, 0, n);
+        }
+        return values;
+    }
+
+    // Find by Prefix (Quantile)
+    // Workflow: Smallest index with prefixSum(index) >= target, e.g. the bucket holding the 99th
+    // percentile of a histogram (target = ceil(0.99 * total)). Returns n + 1 if the total is smaller.
+    // Algorithm (point mode, non-negative values):
+    // 1. Lock every stripe so all counts are from one point in time.
+    // 2. Binary lifting: for step = highest power of two <= n down to 1, if node pos + step exists and
+    //    its value (summed over stripes) is < target, move pos forward and subtract it from target.
+    // 3. Answer = pos + 1.
+    // Time Complexity: O(S log n).
+    // Space Complexity: O(1).
+    public int indexOfPrefix(long target) {
+        if (rangeMode) throw new UnsupportedOperationException("indexOfPrefix needs pointUpdates");
+        if (target <= 0) return 1;
+        stripes.lockAll();
+        try {
+            int pos = 0;
+            for (int step = Integer.highestOneBit(Math.max(n, 1)); step > 0; step >>= 1) {
+                int next = pos + step;
+                if (next > n) continue;
+                long node = 0;
+                for (long[] cells : stripes.cells) node += cells[PAD + next];
+                if (node < target) {
+                    pos = next;
+                    target -= node;
+                }
+            }
+            return pos + 1;
+        } finally {
+            stripes.unlockAll();
+        }
+    }
+
+    // Concurrent 2D Fenwick Tree (Grid)
+    // Same striping as the 1D tree; element (row, col) is 1-based, node (i, j) is cell i * (cols + 1) + j.
+    public static final class Grid {
+        private final int rows, cols;
+        private final Stripes stripes;
+
+        public Grid(int rows, int cols) {
+            this(rows, cols, defaultStripes());
+        }
+
+        public Grid(int rows, int cols, int stripeCount) {
+            if (rows < 0 || cols < 0) throw new IllegalArgumentException("Negative size");
+            this.rows = rows;
+            this.cols = cols;
+            this.stripes = new Stripes(stripeCount, (rows + 1) * (cols + 1));
+        }
+
+        // Update Cell
+        // Workflow: Add delta to (row, col) in one stripe.
+        // Algorithm: Nested walks: i += (i & -i) over rows, j += (j & -j) over columns.
+        // Time Complexity: O(log rows * log cols).
+        public void add(int row, int col, long delta) {
+            if (row < 1 || row > rows || col < 1 || col > cols) {
+                throw new IllegalArgumentException("Invalid update index");
+            }
+            int s = stripes.acquire();
+            try {
+                long[] cells = stripes.cells[s];
+                for (int i = row; i <= rows; i += i & -i) {
+                    for (int j = col; j <= cols; j += j & -j) cells[PAD + i * (cols + 1) + j] += delta;
+                }
+            } finally {
+                stripes.locks[s].unlock();
+            }
+        }
+
+        private long stripePrefix(long[] cells, int row, int col) {
+            long sum = 0;
+            for (int i = row; i > 0; i -= i & -i) {
+                for (int j = col; j > 0; j -= j & -j) sum += cells[PAD + i * (cols + 1) + j];
+            }
+            return sum;
+        }
+
+        // Query Prefix Rectangle: sum over [1..row] x [1..col]
+        // Time Complexity: O(S log rows log cols).
+        public long prefixSum(int row, int col) {
+            if (row < 0 || row > rows || col < 0 || col > cols) {
+                throw new IllegalArgumentException("Invalid query index");
+            }
+            return rectangle(1, 1, row, col);
+        }
+
+        // Query Rectangle: sum over [row1..row2] x [col1..col2] by inclusion-exclusion of four
+        // prefixes, all four read under the same stripe lock.
+        // Time Complexity: O(S log rows log cols).
+        public long rectangleSum(int row1, int col1, int row2, int col2) {
+            if (row1 < 1 || col1 < 1 || row2 > rows || col2 > cols || row1 > row2 || col1 > col2) {
+                throw new IllegalArgumentException("Invalid range");
+            }
+            return rectangle(row1, col1, row2, col2);
+        }
+
+        private long rectangle(int row1, int col1, int row2, int col2) {
+            long sum = 0;
+            for (int s = 0; s <= stripes.mask; s++) {
+                stripes.locks[s].lock();
+                try {
+                    long[] cells = stripes.cells[s];
+                    sum += stripePrefix(cells, row2, col2) - stripePrefix(cells, row1 - 1, col2)
+                            - stripePrefix(cells, row2, col1 - 1) + stripePrefix(cells, row1 - 1, col1 - 1);
+                } finally {
+                    stripes.locks[s].unlock();
+                }
+            }
+            return sum;
+        }
+    }
+
+    // Main method for testing
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("Concurrent Fenwick Tree Operations:");
+        ConcurrentFenwickTree ft = pointUpdates(6);
+        long[] input = {1, 3, 5, 7, 9, 11};
+        for (int i = 0; i < input.length; i++) ft.add(i + 1, input[i]);
+        System.out.println("Prefix sum to index 3: " + ft.prefixSum(3)); // 9
+        System.out.println("Range sum [2, 4]: " + ft.rangeSum(2, 4)); // 15
+        System.out.println("Index where prefix reaches 16: " + ft.indexOfPrefix(16)); // 4 (1+3+5+7)
+        System.out.println("Snapshot: " + Arrays.toString(ft.snapshot())); // [1, 3, 5, 7, 9, 11]
+
+        ConcurrentFenwickTree ranged = rangeUpdates(6);
+        ranged.rangeAdd(2, 5, 10);
+        ranged.add(3, 1);
+        System.out.println("Range mode sum [1, 3]: " + ranged.rangeSum(1, 3) + ", snapshot "
+                + Arrays.toString(ranged.snapshot())); // 21, [0, 10, 11, 10, 10, 0]
+
+        Grid grid = new Grid(3, 3);
+        grid.add(1, 1, 5);
+        grid.add(2, 3, 2);
+        grid.add(3, 2, 4);
+        System.out.println("Grid [2..3] x [2..3]: " + grid.rectangleSum(2, 2, 3, 3)); // 6
+
+        // Latency histogram: 8 threads record 1..1000 ms samples while a reader checks consistency
+        int threads = 8, samplesPerThread = 200_000, buckets = 1000;
+        ConcurrentFenwickTree histogram = pointUpdates(buckets);
+        ConcurrentFenwickTree shifted = rangeUpdates(buckets);
+        Grid heat = new Grid(32, 32);
+        AtomicLong problems = new AtomicLong();
+        long[][] expected = new long[threads][buckets];
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            long[] mine = expected[t];
+            long seed = t; // Seeded per worker: the final counts do not depend on the interleaving
+            workers[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < samplesPerThread; i++) {
+                    int bucket = 1 + Math.min(buckets - 1, (int) Math.abs(random.nextGaussian() * 120));
+                    histogram.add(bucket, 1);
+                    mine[bucket - 1]++;
+                    int start = Math.min(bucket, buckets - 9); // Each sample covers 10 buckets, none clipped
+                    shifted.rangeAdd(start, start + 9, 1);
+                    heat.add(1 + random.nextInt(32), 1 + random.nextInt(32), 1);
+                }
+            });
+        }
+        Thread reader = new Thread(() -> {
+            long lastTotal = 0, lastShifted = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                // Counts only grow, so totals must never go back; a query sees each rangeAdd whole,
+                // and each adds exactly 10 to the shifted total, so that total stays a multiple of 10
+                long total = histogram.total(), covered = shifted.rangeSum(1, buckets);
+                if (total < lastTotal || covered < lastShifted || covered % 10 != 0) problems.incrementAndGet();
+                lastTotal = total;
+                lastShifted = covered;
+            }
+        });
+        reader.start();
+        for (Thread worker : workers) worker.start();
+        for (Thread worker : workers) worker.join();
+        reader.interrupt();
+        reader.join();
+
+        long[] counts = histogram.snapshot();
+        boolean ok = problems.get() == 0 && histogram.total() == (long) threads * samplesPerThread;
+        for (int b = 0; b < buckets; b++) {
+            long sum = 0;
+            for (long[] mine : expected) sum += mine[b];
+            ok &= counts[b] == sum;
+        }
+        long[] widened = new long[buckets];
+        for (int from = 0; from < buckets; from++) {
+            int start = Math.min(from, buckets - 10);
+            for (long[] mine : expected) {
+                for (int b = start; b < start + 10; b++) widened[b] += mine[from];
+            }
+        }
+        ok &= Arrays.equals(shifted.snapshot(), widened);
+        ok &= heat.prefixSum(32, 32) == (long) threads * samplesPerThread;
+        long total = histogram.total();
+        System.out.println("Multi-threaded counts exact: " + ok); // true
+        System.out.println("p50 bucket: " + histogram.indexOfPrefix((total + 1) / 2)
+                + " ms, p99 bucket: " + histogram.indexOfPrefix((long) Math.ceil(total * 0.99)) + " ms"); // 81 ms, 310 ms
+
+        // Edge cases
+        try {
+            ft.add(7, 1); // Invalid index
+        } catch (IllegalArgumentException e) {
+            System.out.println("Caught: " + e.getMessage());
+        }
+        try {
+            ft.rangeAdd(1, 2, 1); // Point mode
+        } catch (UnsupportedOperationException e) {
+            System.out.println("Caught: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.FenwickTree;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Fenwick Tree Benchmark
+// This file measures multi-threaded update throughput of a latency histogram (4096 buckets).
+// Purpose: Show how striping lets ConcurrentFenwickTree updates scale with threads, compared with
+// one lock around the whole tree: updates to different stripes take different locks, so threads only
+// contend when they hit the same stripe. Scaling needs several cores.
+// Structures:
+// - synchronized FenwickTree: the single-threaded int tree behind one monitor.
+// - ConcurrentFenwickTree, 1 stripe: same locking as above, long counts.
+// - ConcurrentFenwickTree, striped: default stripes (4 x cores, at most 64).
+// - striped + reader: as above while one extra thread keeps reading p99 and range sums.
+public class FenwickTreeBenchmark {
+    private static final int ROUNDS = 3;
+    private static final int BUCKETS = 4096;
+
+    public static void main(String[] args) {
+        int opsPerThread = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%d updates per thread, %d buckets, %d cores, best of %d rounds (M updates/s)%n",
+                opsPerThread, BUCKETS, cores, ROUNDS);
+        System.out.printf("%-30s", "structure \\ threads");
+        int[] threadCounts = {1, 2, 4, 8, 16};
+        for (int t : threadCounts) System.out.printf(" %8d", t);
+        System.out.println();
+
+        run("synchronized FenwickTree", threadCounts, opsPerThread, () -> {
+            FenwickTree tree = new FenwickTree(new int[BUCKETS]);
+            return new Setup(bucket -> {
+                synchronized (tree) {
+                    tree.update(bucket, 1);
+                }
+            }, null);
+        });
+        run("ConcurrentFenwickTree 1 stripe", threadCounts, opsPerThread,
+                () -> striped(ConcurrentFenwickTree.pointUpdates(BUCKETS, 1), false));
+        run("ConcurrentFenwickTree striped", threadCounts, opsPerThread,
+                () -> striped(ConcurrentFenwickTree.pointUpdates(BUCKETS), false));
+        run("striped + reader", threadCounts, opsPerThread,
+                () -> striped(ConcurrentFenwickTree.pointUpdates(BUCKETS), true));
+        BenchmarkUtils.printChecksum();
+    }
+
+    // One fresh structure per round: how a worker records a sample, and what the reader does (or null)
+    private static final class Setup {
+        final IntConsumer record;
+        final LongSupplier reader;
+
+        Setup(IntConsumer record, LongSupplier reader) {
+            this.record = record;
+            this.reader = reader;
+        }
+    }
+
+    private static Setup striped(ConcurrentFenwickTree tree, boolean withReader) {
+        LongSupplier reader = withReader ? () -> {
+            long total = tree.total();
+            return tree.indexOfPrefix((long) Math.ceil(total * 0.99)) + tree.rangeSum(1, BUCKETS / 2);
+        } : null;
+        return new Setup(bucket -> tree.add(bucket, 1), reader);
+    }
+
+    private static void run(String name, int[] threadCounts, int opsPerThread, Supplier<Setup> factory) {
+        System.out.printf("%-30s", name);
+        for (int threads : threadCounts) {
+            double best = BenchmarkUtils.best(ROUNDS, () -> {
+                Setup setup = factory.get();
+                return measure(threads, opsPerThread, setup.record, setup.reader);
+            }, Comparator.reverseOrder());
+            System.out.printf(" %8.1f", best);
+        }
+        System.out.println();
+    }
+
+    // Starts the workers together; returns million updates per second (reader time not counted as updates)
+    private static double measure(int threads, int opsPerThread, IntConsumer record, LongSupplier reader)
+            throws InterruptedException {
+        Thread[] workers = new Thread[threads];
+        AtomicBoolean done = new AtomicBoolean();
+        Thread readerThread = reader == null ? null : new Thread(() -> {
+            long sum = 0;
+            while (!done.get()) sum += reader.getAsLong();
+            BenchmarkUtils.consume(sum);
+        });
+        Object gate = new Object();
+        boolean[] open = {false};
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            workers[t] = new Thread(() -> {
+                // Pre-generate latencies so the random generator is not measured
+                Random random = new Random(seed);
+                int[] buckets = new int[1 << 16];
+                for (int i = 0; i < buckets.length; i++) {
+                    buckets[i] = 1 + Math.min(BUCKETS - 1, (int) Math.abs(random.nextGaussian() * 400));
+                }
+                synchronized (gate) {
+                    while (!open[0]) {
+                        try {
+                            gate.wait();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                }
+                for (int i = 0; i < opsPerThread; i++) record.accept(buckets[i & (buckets.length - 1)]);
+            });
+            workers[t].start();
+        }
+        if (readerThread != null) readerThread.start();
+        long start = System.nanoTime();
+        synchronized (gate) {
+            open[0] = true;
+            gate.notifyAll();
+        }
+        for (Thread worker : workers) worker.join();
+        long elapsed = System.nanoTime() - start;
+        done.set(true);
+        if (readerThread != null) readerThread.join();
+        return (double) threads * opsPerThread / elapsed * 1e3;
+    }
+}
@@ -0,0 +1,124 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.KDTree;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+// KD Tree Benchmark
+// This file times StaticKDTree (bulk build, k-nearest, radius search) on a large 2D point set,
+// and KDTree (one insert per point, single nearest neighbor) on a smaller one for comparison.
+// Purpose: Show what balanced median splits, flat structure-of-arrays storage and a parallel
+// build buy for geo-style lookups: a query touches a few contiguous leaf blocks instead of one
+// heap node per point. Run with -Xmx2g for the default size.
+// Workloads:
+// - points: clustered (longitude, latitude) pairs, like places around cities.
+// - build: sequential (1-thread pool) and parallel (common pool) bulk build.
+// - queries: nearest, 10 nearest and radius (about 1 km) around random points near the clusters.
+public class KDTreeBenchmark {
+    private static final int ROUNDS = 3;
+    private static final int QUERIES = 200_000;
+    private static final int KDTREE_LIMIT = 1_000_000; // KDTree (node per point) is only built up to this size
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        Random random = new Random(16);
+        double[][] cities = new double[500][];
+        for (int c = 0; c < cities.length; c++) {
+            cities[c] = new double[]{random.nextDouble() * 360 - 180, random.nextDouble() * 140 - 70};
+        }
+        double[] points = new double[2 * n];
+        for (int i = 0; i < n; i++) nearCity(random, cities, points, 2 * i);
+        double[] queries = new double[2 * QUERIES];
+        for (int q = 0; q < QUERIES; q++) nearCity(random, cities, queries, 2 * q);
+
+        System.out.printf("n=%d points (2D), %d queries per case, %d cores, best of %d rounds%n",
+                n, QUERIES, Runtime.getRuntime().availableProcessors(), ROUNDS);
+        ForkJoinPool single = new ForkJoinPool(1);
+        StaticKDTree[] built = new StaticKDTree[1];
+        long sequential = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            built[0] = null; // Let the previous tree go before allocating the next one
+            built[0] = new StaticKDTree(points, 2, single);
+            return built[0].size();
+        });
+        long parallel = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            built[0] = null;
+            built[0] = new StaticKDTree(points, 2);
+            return built[0].size();
+        });
+        single.shutdown();
+        System.out.printf("%-34s %10d ms%n", "StaticKDTree build (1 thread)", sequential / 1_000_000);
+        System.out.printf("%-34s %10d ms%n", "StaticKDTree build (parallel)", parallel / 1_000_000);
+
+        StaticKDTree kd = built[0];
+        double[] target = new double[2];
+        report("StaticKDTree nearest", () -> {
+            long sum = 0;
+            for (int q = 0; q < QUERIES; q++) {
+                target[0] = queries[2 * q];
+                target[1] = queries[2 * q + 1];
+                sum += kd.nearest(target);
+            }
+            return sum;
+        });
+        report("StaticKDTree 10 nearest", () -> {
+            long sum = 0;
+            for (int q = 0; q < QUERIES; q++) {
+                target[0] = queries[2 * q];
+                target[1] = queries[2 * q + 1];
+                sum += kd.kNearest(target, 10).length;
+            }
+            return sum;
+        });
+        report("StaticKDTree radius 0.01", () -> {
+            long sum = 0;
+            for (int q = 0; q < QUERIES; q++) {
+                target[0] = queries[2 * q];
+                target[1] = queries[2 * q + 1];
+                sum += kd.radiusSearch(target, 0.01).length;
+            }
+            return sum;
+        });
+
+        int small = Math.min(n, KDTREE_LIMIT);
+        KDTree[] old = new KDTree[1];
+        long insert = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            old[0] = new KDTree();
+            for (int i = 0; i < small; i++) old[0].insert(new double[]{points[2 * i], points[2 * i + 1]});
+            return small;
+        });
+        System.out.printf("%-34s %10d ms  (n=%d)%n", "KDTree insert", insert / 1_000_000, small);
+        KDTree oldTree = old[0];
+        report("KDTree nearest (n=" + small + ")", () -> {
+            long sum = 0;
+            for (int q = 0; q < QUERIES; q++) {
+                double[] nearest = oldTree.nearestNeighbor(new double[]{queries[2 * q], queries[2 * q + 1]});
+                sum += (long) nearest[0];
+            }
+            return sum;
+        });
+        StaticKDTree same = new StaticKDTree(Arrays.copyOf(points, 2 * small), 2);
+        report("StaticKDTree nearest (n=" + small + ")", () -> {
+            long sum = 0;
+            for (int q = 0; q < QUERIES; q++) {
+                target[0] = queries[2 * q];
+                target[1] = queries[2 * q + 1];
+                sum += same.nearest(target);
+            }
+            return sum;
+        });
+        BenchmarkUtils.printChecksum();
+    }
+
+    private static void report(String name, BenchmarkUtils.Task queries) {
+        long best = BenchmarkUtils.bestNanos(ROUNDS, queries);
+        System.out.printf("%-34s %10.0f queries/s%n", name, QUERIES * 1e9 / best);
+    }
+
+    // Gaussian scatter (about 50 km) around a random city
+    private static void nearCity(Random random, double[][] cities, double[] out, int at) {
+        double[] city = cities[random.nextInt(cities.length)];
+        out[at] = city[0] + random.nextGaussian() * 0.5;
+        out[at + 1] = city[1] + random.nextGaussian() * 0.5;
+    }
+}
@@ -0,0 +1,438 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.KDTree;
+
+// Static (Bulk-Built) KD Tree Implementation (k dimensions)
+// This file implements a read-only KD Tree built in one pass from all points, for large point sets.
+// Purpose: Answer nearest-neighbor, k-nearest and radius queries over millions of points (e.g. geo lookups).
+// Workflow and algorithms are explained in comments for each operation, ensuring beginners can follow.
+// No external dependencies; testing is embedded in the main method (benchmark: KDTreeBenchmark).
+// Key Features:
+// - Bulk Build: Median splits on the widest dimension, so the tree is always balanced; the two
+//   halves of every split are built in parallel on a ForkJoinPool.
+// - K Nearest: The k closest points, nearest first, using a bounded max-heap.
+// - Radius Search: All points within a distance of a target.
+// - Any number of dimensions (KDTree is fixed to 2).
+// Java-Specific Notes:
+// - No Node objects: coordinates live in one flat double[] in structure-of-arrays order
+//   (all x values, then all y values, ...), so a leaf scan runs over contiguous doubles per
+//   dimension, a simple loop the JIT can vectorize.
+// - Points are identified by their index in the input; queries return these indices.
+// - Distances are compared squared (no Math.sqrt in the search).
+// Structure:
+// - Implicit tree over index ranges: the range [lo, hi) has point m = (lo + hi) / 2 as its node,
+//   [lo, m) (coordinates <= split) as left subtree and [m + 1, hi) (coordinates >= split) as
+//   right subtree, split = coordinate of point m.
+// - splitDim[m] stores the split dimension of the range whose middle is m (every range has its
+//   own middle, so one byte per point is enough).
+// - Ranges of at most LEAF points are leaves and are scanned linearly.
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class StaticKDTree {
+    private static final int LEAF = 16; // Points per leaf bucket
+    private static final int PARALLEL_CUTOFF = 1 << 15; // Smaller ranges are built sequentially
+
+    private final int n;
+    private final int dims;
+    private final double[] coords; // coords[d * n + i]: dimension d of the point at position i
+    private final int[] ids; // ids[i]: input index of the point at position i
+    private final byte[] splitDim; // splitDim[m]: split dimension of the range with middle m
+
+    // Build
+    // Workflow: Copy the points into structure-of-arrays order, then split ranges recursively.
+    // Algorithm:
+    // 1. For range [lo, hi) with more than LEAF points, pick the dimension with the widest spread.
+    // 2. Quickselect the median m on that dimension (points are swapped in every dimension).
+    // 3. Point m stays in place; build [lo, m) and [m + 1, hi), as ForkJoin subtasks for large ranges.
+    // Time Complexity: O(n log n * k) work, O(n * k) span of the top split (quickselect) plus O(log n) levels.
+    // Space Complexity: O(n * k).
+    // points: row-major coordinates (x0, y0, x1, y1, ... for k = 2); length must be a multiple of dimensions.
+    public StaticKDTree(double[] points, int dimensions, ForkJoinPool pool) {
+        if (dimensions < 1 || dimensions > Byte.MAX_VALUE) throw new IllegalArgumentException("Dimensions: " + dimensions);
+        if (points.length % dimensions != 0) throw new IllegalArgumentException("Length is not a multiple of dimensions");
+        this.dims = dimensions;
+        this.n = points.length / dimensions;
+        this.coords = new double[points.length];
+        this.ids = new int[n];
+        this.splitDim = new byte[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i;
+            for (int d = 0; d < dims; d++) {
+                double x = points[i * dims + d];
+                if (Double.isNaN(x)) throw new IllegalArgumentException("NaN coordinate at point " + i);
+                coords[d * n + i] = x;
+            }
+        }
+        pool.invoke(new Build(0, n));
+    }
+
+    public StaticKDTree(double[] points, int dimensions) {
+        this(points, dimensions, ForkJoinPool.commonPool());
+    }
+
+    // Convenience: one double[] per point (all must have the same length)
+    public static StaticKDTree of(double[][] points) {
+        int dimensions = points.length == 0 ? 1 : points[0].length;
+        double[] flat = new double[points.length * dimensions];
+        for (int i = 0; i < points.length; i++) {
+            if (points[i].length != dimensions) throw new IllegalArgumentException("Point " + i + " has " + points[i].length + " dimensions");
+            System.arraycopy(points[i], 0, flat, i * dimensions, dimensions);
+        }
+        return new StaticKDTree(flat, dimensions);
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public int dimensions() {
+        return dims;
+    }
+
+    private final class Build extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int lo, hi;
+
+        Build(int lo, int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= LEAF) return;
+            int dim = widestDimension(lo, hi);
+            int m = (lo + hi) >>> 1;
+            select(dim, lo, hi, m);
+            splitDim[m] = (byte) dim;
+            Build left = new Build(lo, m), right = new Build(m + 1, hi);
+            if (hi - lo > PARALLEL_CUTOFF) {
+                invokeAll(left, right);
+            } else {
+                left.compute();
+                right.compute();
+            }
+        }
+    }
+
+    private int widestDimension(int lo, int hi) {
+        int best = 0;
+        double bestSpread = -1;
+        for (int d = 0; d < dims; d++) {
+            int base = d * n;
+            double min = coords[base + lo], max = min;
+            for (int i = base + lo + 1; i < base + hi; i++) {
+                double x = coords[i];
+                if (x < min) min = x;
+                else if (x > max) max = x;
+            }
+            if (max - min > bestSpread) {
+                bestSpread = max - min;
+                best = d;
+            }
+        }
+        return best;
+    }
+
+    // Quickselect (Helper)
+    // Workflow: Reorder [lo, hi) so position k holds the k-th smallest coordinate on dim,
+    // with smaller-or-equal values before it and greater-or-equal values after it.
+    // Algorithm: Hoare partition around a median-of-three pivot, keep only the side holding k.
+    // Time Complexity: O(hi - lo) expected (each swap moves all k coordinates).
+    private void select(int dim, int lo, int hi, int k) {
+        int base = dim * n;
+        int l = lo, r = hi - 1;
+        while (r > l) {
+            double a = coords[base + l], b = coords[base + ((l + r) >>> 1)], c = coords[base + r];
+            double pivot = Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+            int i = l, j = r;
+            while (i <= j) {
+                while (coords[base + i] < pivot) i++;
+                while (coords[base + j] > pivot) j--;
+                if (i <= j) swap(i++, j--);
+            }
+            if (k <= j) r = j;
+            else if (k >= i) l = i;
+            else return; // j < k < i: position k already holds the pivot value
+        }
+    }
+
+    private void swap(int i, int j) {
+        for (int d = 0; d < dims; d++) {
+            int base = d * n;
+            double t = coords[base + i];
+            coords[base + i] = coords[base + j];
+            coords[base + j] = t;
+        }
+        int t = ids[i];
+        ids[i] = ids[j];
+        ids[j] = t;
+    }
+
+    // Squared distances from target to the points at positions [lo, hi) into out[0 .. hi - lo)
+    // One pass per dimension over contiguous coordinates (vectorizable inner loop).
+    private void leafDistances(double[] target, int lo, int hi, double[] out) {
+        int length = hi - lo;
+        Arrays.fill(out, 0, length, 0.0);
+        for (int d = 0; d < dims; d++) {
+            int base = d * n + lo;
+            double t = target[d];
+            for (int j = 0; j < length; j++) {
+                double diff = coords[base + j] - t;
+                out[j] += diff * diff;
+            }
+        }
+    }
+
+    // Squared distance from target to the point at position i
+    private double pointDistance(double[] target, int i) {
+        double sum = 0;
+        for (int d = 0; d < dims; d++) {
+            double diff = coords[d * n + i] - target[d];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    private void checkTarget(double[] target) {
+        if (target == null || target.length != dims) {
+            throw new IllegalArgumentException("Target must have " + dims + " dimensions");
+        }
+    }
+
+    // K Nearest Neighbors
+    // Workflow: Return the indices of the k points closest to target, nearest first.
+    // Algorithm:
+    // 1. Keep the best k candidates in a max-heap keyed by squared distance; its root is the
+    //    current k-th best distance (infinite until the heap is full).
+    // 2. At a node, descend into the side containing target first, then offer the node's own
+    //    point; visit the other side only if the squared distance to the split plane is below
+    //    the heap root.
+    // 3. Leaves compute all their distances in one pass and offer those below the heap root.
+    // 4. Pop the heap into an array from the back to get ascending order.
+    // Time Complexity: O(log n + k log k) average for low dimensions, O(n log k) worst.
+    // Space Complexity: O(k + log n).
+    public int[] kNearest(double[] target, int k) {
+        checkTarget(target);
+        if (k <= 0 || n == 0) return new int[0];
+        NearestSearch search = new NearestSearch(target, Math.min(k, n));
+        search.visit(0, n);
+        return search.sortedIds();
+    }
+
+    // Nearest Neighbor: index of the closest point, or -1 if the tree is empty
+    public int nearest(double[] target) {
+        int[] result = kNearest(target, 1);
+        return result.length == 0 ? -1 : result[0];
+    }
+
+    private final class NearestSearch {
+        private final double[] target;
+        private final int k;
+        private final double[] heapDist; // Max-heap of squared distances
+        private final int[] heapId;
+        private final double[] scratch = new double[LEAF];
+        private int size;
+
+        NearestSearch(double[] target, int k) {
+            this.target = target;
+            this.k = k;
+            this.heapDist = new double[k];
+            this.heapId = new int[k];
+        }
+
+        private double worst() {
+            return size < k ? Double.POSITIVE_INFINITY : heapDist[0];
+        }
+
+        void visit(int lo, int hi) {
+            if (hi - lo <= LEAF) {
+                leafDistances(target, lo, hi, scratch);
+                for (int j = 0; j < hi - lo; j++) {
+                    if (scratch[j] < worst()) offer(scratch[j], ids[lo + j]);
+                }
+                return;
+            }
+            int m = (lo + hi) >>> 1;
+            int d = splitDim[m];
+            double diff = target[d] - coords[d * n + m];
+            if (diff < 0) {
+                visit(lo, m);
+            } else {
+                visit(m + 1, hi);
+            }
+            double dist = pointDistance(target, m);
+            if (dist < worst()) offer(dist, ids[m]);
+            if (diff * diff < worst()) {
+                if (diff < 0) visit(m + 1, hi);
+                else visit(lo, m);
+            }
+        }
+
+        private void offer(double dist, int id) {
+            if (size < k) { // Sift up
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (heapDist[parent] >= dist) break;
+                    heapDist[i] = heapDist[parent];
+                    heapId[i] = heapId[parent];
+                    i = parent;
+                }
+                heapDist[i] = dist;
+                heapId[i] = id;
+            } else { // Replace the root, sift down
+                siftDown(dist, id, size);
+            }
+        }
+
+        private void siftDown(double dist, int id, int limit) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= limit) break;
+                if (child + 1 < limit && heapDist[child + 1] > heapDist[child]) child++;
+                if (heapDist[child] <= dist) break;
+                heapDist[i] = heapDist[child];
+                heapId[i] = heapId[child];
+                i = child;
+            }
+            heapDist[i] = dist;
+            heapId[i] = id;
+        }
+
+        int[] sortedIds() {
+            int[] result = new int[size];
+            for (int last = size - 1; last >= 0; last--) {
+                result[last] = heapId[0];
+                siftDown(heapDist[last], heapId[last], last); // Move the last entry to the root
+            }
+            return result;
+        }
+    }
+
+    // Radius Search
+    // Workflow: Return the indices of all points within radius of target (unordered).
+    // Algorithm:
+    // 1. At a node, keep its point if within radius; visit a side only if the split plane is
+    //    within radius (always for the target's side).
+    // 2. Leaves compute all squared distances and keep those <= radius^2.
+    // Time Complexity: O(n^(1-1/k) + r) for r results.
+    // Space Complexity: O(r + log n).
+    public int[] radiusSearch(double[] target, double radius) {
+        checkTarget(target);
+        RadiusSearch search = new RadiusSearch(target, radius * radius);
+        if (radius >= 0 && n > 0) search.visit(0, n);
+        return Arrays.copyOf(search.found, search.count);
+    }
+
+    private final class RadiusSearch {
+        private final double[] target;
+        private final double radius2;
+        private final double[] scratch = new double[LEAF];
+        private int[] found = new int[16];
+        private int count;
+
+        RadiusSearch(double[] target, double radius2) {
+            this.target = target;
+            this.radius2 = radius2;
+        }
+
+        void visit(int lo, int hi) {
+            if (hi - lo <= LEAF) {
+                leafDistances(target, lo, hi, scratch);
+                for (int j = 0; j < hi - lo; j++) {
+                    if (scratch[j] <= radius2) add(ids[lo + j]);
+                }
+                return;
+            }
+            int m = (lo + hi) >>> 1;
+            int d = splitDim[m];
+            double diff = target[d] - coords[d * n + m];
+            if (pointDistance(target, m) <= radius2) add(ids[m]);
+            if (diff <= 0 || diff * diff <= radius2) visit(lo, m);
+            if (diff >= 0 || diff * diff <= radius2) visit(m + 1, hi);
+        }
+
+        private void add(int id) {
+            if (count == found.length) found = Arrays.copyOf(found, count * 2);
+            found[count++] = id;
+        }
+    }
+
+    // Debugging: Validate Structure
+    // Workflow: Check that every split separates its two ranges (left <= split <= right).
+    // Time Complexity: O(n log n).
+    public boolean isValidKDTree() {
+        return validate(0, n);
+    }
+
+    private boolean validate(int lo, int hi) {
+        if (hi - lo <= LEAF) return true;
+        int m = (lo + hi) >>> 1;
+        int base = splitDim[m] * n;
+        double split = coords[base + m];
+        for (int i = lo; i < m; i++) if (coords[base + i] > split) return false;
+        for (int i = m + 1; i < hi; i++) if (coords[base + i] < split) return false;
+        return validate(lo, m) && validate(m + 1, hi);
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        System.out.println("Static KD Tree Operations:");
+        double[][] points = {{2, 3}, {5, 4}, {9, 6}, {4, 7}, {8, 1}, {7, 2}};
+        StaticKDTree tree = StaticKDTree.of(points);
+        System.out.println("Nearest to (3,4.5): " + Arrays.toString(points[tree.nearest(new double[]{3, 4.5})])); // [2.0, 3.0]
+        System.out.print("3 nearest to (9,2):");
+        for (int id : tree.kNearest(new double[]{9, 2}, 3)) System.out.print(" " + Arrays.toString(points[id]));
+        System.out.println(); // [8.0, 1.0] [7.0, 2.0] [9.0, 6.0]
+        System.out.println("Within 2.5 of (4,5): " + tree.radiusSearch(new double[]{4, 5}, 2.5).length); // 2 ((5,4), (4,7))
+
+        // Cross-check against brute force in 1..5 dimensions, with duplicate coordinates
+        Random random = new Random(16);
+        boolean ok = true;
+        for (int trial = 0; trial < 60; trial++) {
+            int dims = 1 + trial % 5;
+            int count = random.nextInt(3_000);
+            double[] flat = new double[count * dims];
+            for (int i = 0; i < flat.length; i++) flat[i] = trial % 3 == 0 ? random.nextInt(10) : random.nextDouble();
+            StaticKDTree kd = new StaticKDTree(flat, dims);
+            ok &= kd.isValidKDTree() && kd.size() == count;
+            for (int q = 0; q < 50; q++) {
+                double[] target = new double[dims];
+                for (int d = 0; d < dims; d++) target[d] = trial % 3 == 0 ? random.nextInt(12) - 1 : random.nextDouble();
+                double[] all = new double[count];
+                for (int i = 0; i < count; i++) all[i] = squaredDistance(flat, dims, i, target);
+                double[] sorted = all.clone();
+                Arrays.sort(sorted);
+                int k = 1 + random.nextInt(20);
+                int[] nearest = kd.kNearest(target, k);
+                ok &= nearest.length == Math.min(k, count);
+                for (int i = 0; i < nearest.length; i++) ok &= all[nearest[i]] == sorted[i];
+                double radius = trial % 3 == 0 ? random.nextInt(4) : random.nextDouble() * 0.3;
+                int expected = 0;
+                for (double dist : all) if (dist <= radius * radius) expected++;
+                int[] within = kd.radiusSearch(target, radius);
+                ok &= within.length == expected;
+                for (int id : within) ok &= all[id] <= radius * radius;
+            }
+        }
+        System.out.println("Matches brute force: " + ok); // true
+
+        // Edge cases
+        StaticKDTree empty = new StaticKDTree(new double[0], 3);
+        System.out.println("Empty nearest: " + empty.nearest(new double[]{1, 1, 1})); // -1
+        System.out.println("Empty radius: " + empty.radiusSearch(new double[]{1, 1, 1}, 5).length); // 0
+    }
+
+    private static double squaredDistance(double[] flat, int dims, int i, double[] target) {
+        double sum = 0;
+        for (int d = 0; d < dims; d++) {
+            double diff = flat[i * dims + d] - target[d];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+}
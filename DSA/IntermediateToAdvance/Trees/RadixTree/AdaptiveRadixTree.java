@@ -0,0 +1,532 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.RadixTree;
+
+// Adaptive Radix Tree (ART) Implementation
+// This file implements an Adaptive Radix Tree (Leis et al.) over the UTF-8 bytes of strings.
+// Purpose: Same operations as RadixTree, but inner nodes pick a layout that fits their child count
+// instead of always paying for a HashMap<Character, Node>.
+// Workflow and algorithms are explained in comments for each operation, ensuring beginners can follow.
+// No external dependencies; testing is embedded in the main method (see RadixTreeBenchmark for timings).
+// Key Features:
+// - Insert: Add a string; leaves are only split when a second key needs the same path (lazy expansion).
+// - Search: Check if a string exists.
+// - Delete: Remove a string, shrinking nodes and merging single-child paths back together.
+// - Prefix Search: Find all strings with a given prefix, in sorted (UTF-8 byte) order.
+// - Traversal: DFS to list all strings.
+// Java-Specific Notes:
+// - Keys are byte[] (UTF-8); child bytes are compared unsigned so the order matches the bytes.
+// - Node16 uses binary search where the C version uses SIMD; Java has no portable SIMD compare here.
+// - Prefixes are stored in full (pessimistic path compression), so no key re-check is needed on the way down.
+// Structure:
+// - Leaf: the full key (lazy expansion: a leaf may sit high in the tree, below only the bytes
+//   that distinguish it from its siblings).
+// - Inner nodes: compressed prefix, optional terminal leaf (a key that ends exactly at this node),
+//   and children keyed by the next byte:
+//   - Node4:   up to 4 sorted key bytes + 4 children.
+//   - Node16:  up to 16 sorted key bytes + 16 children.
+//   - Node48:  256-entry byte -> slot index + 48 children.
+//   - Node256: 256 children indexed directly by the byte.
+// - Nodes grow 4 -> 16 -> 48 -> 256 when full, and shrink back when they become sparse.
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public class AdaptiveRadixTree {
+    private abstract static class Node {
+    }
+
+    private static final class Leaf extends Node {
+        final byte[] key;
+
+        Leaf(byte[] key) {
+            this.key = key;
+        }
+    }
+
+    private abstract static class Inner extends Node {
+        byte[] prefix; // Compressed path below the parent's key byte
+        Leaf terminal; // Key ending exactly after prefix
+        int count; // Number of children
+
+        Inner(byte[] prefix) {
+            this.prefix = prefix;
+        }
+
+        abstract Node find(byte b);
+        abstract void replace(byte b, Node child); // b must already be present
+        abstract boolean isFull();
+        abstract void put(byte b, Node child); // b must be absent and the node not full
+        abstract void remove(byte b);
+        abstract Inner grow();
+        abstract Inner shrinkIfSparse();
+        abstract void forEachChild(ChildVisitor visitor); // In unsigned byte order
+
+        // Copies prefix, terminal and all children into a node of another size
+        <T extends Inner> T copyInto(T target) {
+            target.terminal = terminal;
+            forEachChild(target::put);
+            return target;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChildVisitor {
+        void visit(byte b, Node child);
+    }
+
+    // Node4 / Node16: sorted key bytes with children at the same index
+    private static class SortedNode extends Inner {
+        final byte[] keys;
+        final Node[] children;
+
+        SortedNode(byte[] prefix, int capacity) {
+            super(prefix);
+            keys = new byte[capacity];
+            children = new Node[capacity];
+        }
+
+        // Binary search over unsigned bytes; returns index, or -(insertion point) - 1
+        int indexOf(byte b) {
+            int lo = 0, hi = count - 1, target = b & 0xFF;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int value = keys[mid] & 0xFF;
+                if (value < target) lo = mid + 1;
+                else if (value > target) hi = mid - 1;
+                else return mid;
+            }
+            return -lo - 1;
+        }
+
+        Node find(byte b) {
+            int i = indexOf(b);
+            return i >= 0 ? children[i] : null;
+        }
+
+        void replace(byte b, Node child) {
+            children[indexOf(b)] = child;
+        }
+
+        boolean isFull() {
+            return count == keys.length;
+        }
+
+        void put(byte b, Node child) {
+            int i = -indexOf(b) - 1;
+            System.arraycopy(keys, i, keys, i + 1, count - i);
+            System.arraycopy(children, i, children, i + 1, count - i);
+            keys[i] = b;
+            children[i] = child;
+            count++;
+        }
+
+        void remove(byte b) {
+            int i = indexOf(b);
+            System.arraycopy(keys, i + 1, keys, i, count - i - 1);
+            System.arraycopy(children, i + 1, children, i, count - i - 1);
+            children[--count] = null;
+        }
+
+        Inner grow() {
+            return keys.length == 4 ? copyInto(new SortedNode(prefix, 16)) : copyInto(new Node48(prefix));
+        }
+
+        Inner shrinkIfSparse() {
+            return keys.length == 16 && count <= 3 ? copyInto(new SortedNode(prefix, 4)) : this;
+        }
+
+        void forEachChild(ChildVisitor visitor) {
+            for (int i = 0; i < count; i++) visitor.visit(keys[i], children[i]);
+        }
+    }
+
+    // Node48: index[b] = slot + 1 of the child for byte b (0 = none)
+    private static final class Node48 extends Inner {
+        final byte[] index = new byte[256];
+        final Node[] children = new Node[48];
+
+        Node48(byte[] prefix) {
+            super(prefix);
+        }
+
+        Node find(byte b) {
+            int slot = index[b & 0xFF];
+            return slot == 0 ? null : children[slot - 1];
+        }
+
+        void replace(byte b, Node child) {
+            children[index[b & 0xFF] - 1] = child;
+        }
+
+        boolean isFull() {
+            return count == 48;
+        }
+
+        void put(byte b, Node child) {
+            int slot = 0;
+            while (children[slot] != null) slot++;
+            children[slot] = child;
+            index[b & 0xFF] = (byte) (slot + 1);
+            count++;
+        }
+
+        void remove(byte b) {
+            children[index[b & 0xFF] - 1] = null;
+            index[b & 0xFF] = 0;
+            count--;
+        }
+
+        Inner grow() {
+            return copyInto(new Node256(prefix));
+        }
+
+        Inner shrinkIfSparse() {
+            return count <= 12 ? copyInto(new SortedNode(prefix, 16)) : this;
+        }
+
+        void forEachChild(ChildVisitor visitor) {
+            for (int b = 0; b < 256; b++) {
+                if (index[b] != 0) visitor.visit((byte) b, children[index[b] - 1]);
+            }
+        }
+    }
+
+    // Node256: one slot per possible byte
+    private static final class Node256 extends Inner {
+        final Node[] children = new Node[256];
+
+        Node256(byte[] prefix) {
+            super(prefix);
+        }
+
+        Node find(byte b) {
+            return children[b & 0xFF];
+        }
+
+        void replace(byte b, Node child) {
+            children[b & 0xFF] = child;
+        }
+
+        boolean isFull() {
+            return false;
+        }
+
+        void put(byte b, Node child) {
+            children[b & 0xFF] = child;
+            count++;
+        }
+
+        void remove(byte b) {
+            children[b & 0xFF] = null;
+            count--;
+        }
+
+        Inner grow() {
+            return this;
+        }
+
+        Inner shrinkIfSparse() {
+            return count <= 37 ? copyInto(new Node48(prefix)) : this; // Hysteresis: grow at 49, shrink at 37
+        }
+
+        void forEachChild(ChildVisitor visitor) {
+            for (int b = 0; b < 256; b++) {
+                if (children[b] != null) visitor.visit((byte) b, children[b]);
+            }
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    // Insert
+    // Workflow: Add a string; split a leaf or a compressed prefix only where the new key differs.
+    // Algorithm:
+    // 1. Empty slot: store a leaf with the full key (no inner nodes for its remaining bytes).
+    // 2. Leaf with a different key: create a Node4 whose prefix is the bytes both keys share,
+    //    and hang both leaves below it (or make one its terminal if that key ends there).
+    // 3. Inner node whose prefix differs from the key at position p: create a Node4 with the first
+    //    p prefix bytes, move the old node below it with a shortened prefix, and add the new leaf.
+    // 4. Otherwise consume the prefix; if the key ends, set the terminal; else recurse into the
+    //    child for the next byte, or add a new leaf child (growing the node if it is full).
+    // Time Complexity: O(m) - key length m (each level does O(1) work for Node48/256, O(log 16) for Node16).
+    // Space Complexity: O(m) - the stored key; at most one new inner node.
+    public void insert(String word) {
+        if (word == null) return;
+        root = insert(root, word.getBytes(StandardCharsets.UTF_8), 0);
+    }
+    private Node insert(Node node, byte[] key, int depth) {
+        if (node == null) {
+            size++;
+            return new Leaf(key);
+        }
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            if (Arrays.equals(leaf.key, key)) return leaf;
+            int common = depth;
+            while (common < key.length && common < leaf.key.length && key[common] == leaf.key[common]) common++;
+            SortedNode split = new SortedNode(Arrays.copyOfRange(key, depth, common), 4);
+            attach(split, leaf, common);
+            attach(split, new Leaf(key), common);
+            size++;
+            return split;
+        }
+        Inner inner = (Inner) node;
+        int p = prefixMismatch(inner, key, depth);
+        if (p < inner.prefix.length) {
+            SortedNode split = new SortedNode(Arrays.copyOf(inner.prefix, p), 4);
+            byte b = inner.prefix[p];
+            inner.prefix = Arrays.copyOfRange(inner.prefix, p + 1, inner.prefix.length);
+            split.put(b, inner);
+            attach(split, new Leaf(key), depth + p);
+            size++;
+            return split;
+        }
+        depth += inner.prefix.length;
+        if (depth == key.length) {
+            if (inner.terminal == null) {
+                inner.terminal = new Leaf(key);
+                size++;
+            }
+            return inner;
+        }
+        byte b = key[depth];
+        Node child = inner.find(b);
+        if (child != null) {
+            Node updated = insert(child, key, depth + 1);
+            if (updated != child) inner.replace(b, updated);
+            return inner;
+        }
+        if (inner.isFull()) inner = inner.grow();
+        inner.put(b, new Leaf(key));
+        size++;
+        return inner;
+    }
+
+    // Puts a leaf under a fresh node whose prefix ends at depth
+    private static void attach(Inner node, Leaf leaf, int depth) {
+        if (leaf.key.length == depth) node.terminal = leaf;
+        else node.put(leaf.key[depth], leaf);
+    }
+
+    // Number of prefix bytes of node matching key from depth on
+    private static int prefixMismatch(Inner node, byte[] key, int depth) {
+        int limit = Math.min(node.prefix.length, key.length - depth);
+        int i = 0;
+        while (i < limit && node.prefix[i] == key[depth + i]) i++;
+        return i;
+    }
+
+    // Search
+    // Workflow: Check if a string exists in the tree.
+    // Algorithm:
+    // 1. At an inner node, match its prefix, then follow the child for the next key byte.
+    // 2. At a leaf, compare the full stored key (lazy expansion skipped the rest of the path).
+    // 3. If the key ends at an inner node, it exists only if that node has a terminal leaf.
+    // Time Complexity: O(m).
+    // Space Complexity: O(m) - the encoded key.
+    public boolean search(String word) {
+        if (word == null) return false;
+        byte[] key = word.getBytes(StandardCharsets.UTF_8);
+        Node node = root;
+        int depth = 0;
+        while (node != null) {
+            if (node instanceof Leaf) return Arrays.equals(((Leaf) node).key, key);
+            Inner inner = (Inner) node;
+            if (prefixMismatch(inner, key, depth) < inner.prefix.length) return false;
+            depth += inner.prefix.length;
+            if (depth == key.length) return inner.terminal != null;
+            node = inner.find(key[depth++]);
+        }
+        return false;
+    }
+
+    // Delete
+    // Workflow: Remove a string, shrinking and merging nodes to keep the tree compact.
+    // Algorithm:
+    // 1. Find the leaf (or terminal) like search and unlink it.
+    // 2. A node that became sparse switches to the next smaller layout.
+    // 3. A node left with only a terminal becomes that leaf; a node left with exactly one child and
+    //    no terminal is merged into the child (prefix + byte + child prefix), or replaced by the leaf.
+    // Time Complexity: O(m).
+    // Space Complexity: O(m) - recursion depth is bounded by the number of inner nodes on the path.
+    public void delete(String word) {
+        if (word == null) return;
+        root = delete(root, word.getBytes(StandardCharsets.UTF_8), 0);
+    }
+    private Node delete(Node node, byte[] key, int depth) {
+        if (node == null) return null;
+        if (node instanceof Leaf) {
+            if (!Arrays.equals(((Leaf) node).key, key)) return node;
+            size--;
+            return null;
+        }
+        Inner inner = (Inner) node;
+        if (prefixMismatch(inner, key, depth) < inner.prefix.length) return inner;
+        depth += inner.prefix.length;
+        if (depth == key.length) {
+            if (inner.terminal == null) return inner;
+            inner.terminal = null;
+            size--;
+            return compact(inner);
+        }
+        byte b = key[depth];
+        Node child = inner.find(b);
+        if (child == null) return inner;
+        Node updated = delete(child, key, depth + 1);
+        if (updated == child) return inner;
+        if (updated != null) {
+            inner.replace(b, updated);
+            return inner;
+        }
+        inner.remove(b);
+        return compact(inner.shrinkIfSparse());
+    }
+    private static Node compact(Inner node) {
+        if (node.count == 0) return node.terminal;
+        if (node.count > 1 || node.terminal != null) return node;
+        Node[] only = new Node[1];
+        byte[] onlyByte = new byte[1];
+        node.forEachChild((b, child) -> {
+            only[0] = child;
+            onlyByte[0] = b;
+        });
+        if (only[0] instanceof Leaf) return only[0];
+        Inner child = (Inner) only[0];
+        byte[] merged = Arrays.copyOf(node.prefix, node.prefix.length + 1 + child.prefix.length);
+        merged[node.prefix.length] = onlyByte[0];
+        System.arraycopy(child.prefix, 0, merged, node.prefix.length + 1, child.prefix.length);
+        child.prefix = merged;
+        return child;
+    }
+
+    // Prefix Search
+    // Workflow: Find all strings starting with a prefix.
+    // Algorithm:
+    // 1. Walk down like search; the query may run out inside a node's compressed prefix.
+    // 2. Once the query is used up, every key below the current node matches: collect the leaves.
+    // 3. A leaf reached early matches if its stored key starts with the query.
+    // Time Complexity: O(m + K) - K = total bytes of the results.
+    // Space Complexity: O(K).
+    public List<String> prefixSearch(String prefix) {
+        List<String> results = new ArrayList<>();
+        if (prefix == null) return results;
+        byte[] key = prefix.getBytes(StandardCharsets.UTF_8);
+        Node node = root;
+        int depth = 0;
+        while (node != null) {
+            if (node instanceof Leaf) {
+                byte[] stored = ((Leaf) node).key;
+                if (stored.length >= key.length && Arrays.equals(stored, 0, key.length, key, 0, key.length)) {
+                    results.add(new String(stored, StandardCharsets.UTF_8));
+                }
+                return results;
+            }
+            Inner inner = (Inner) node;
+            int matched = prefixMismatch(inner, key, depth);
+            if (depth + matched == key.length) break; // Query ends inside (or right after) the prefix
+            if (matched < inner.prefix.length) return results;
+            depth += inner.prefix.length;
+            node = inner.find(key[depth++]);
+        }
+        collectStrings(node, results);
+        return results;
+    }
+    private static void collectStrings(Node node, List<String> results) {
+        if (node == null) return;
+        if (node instanceof Leaf) {
+            results.add(new String(((Leaf) node).key, StandardCharsets.UTF_8));
+            return;
+        }
+        Inner inner = (Inner) node;
+        if (inner.terminal != null) collectStrings(inner.terminal, results);
+        inner.forEachChild((b, child) -> collectStrings(child, results));
+    }
+
+    // Traversal (DFS)
+    // Workflow: List all strings using depth-first search (sorted by UTF-8 bytes).
+    // Time Complexity: O(N) - total string length N.
+    // Space Complexity: O(h) - recursion depth.
+    public List<String> getAllStrings() {
+        List<String> results = new ArrayList<>(size);
+        collectStrings(root, results);
+        return results;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Debugging: Count Inner Nodes By Layout
+    // Workflow: DFS over inner nodes; returns {Node4, Node16, Node48, Node256} counts.
+    // Time Complexity: O(nodes).
+    public int[] nodeTypeCounts() {
+        int[] counts = new int[4];
+        countNodes(root, counts);
+        return counts;
+    }
+    private static void countNodes(Node node, int[] counts) {
+        if (!(node instanceof Inner)) return;
+        if (node instanceof SortedNode) counts[((SortedNode) node).keys.length == 4 ? 0 : 1]++;
+        else counts[node instanceof Node48 ? 2 : 3]++;
+        ((Inner) node).forEachChild((b, child) -> countNodes(child, counts));
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        System.out.println("Adaptive Radix Tree Operations:");
+        AdaptiveRadixTree art = new AdaptiveRadixTree();
+        String[] words = {"cat", "car", "cart", "dog"};
+        for (String word : words) art.insert(word);
+        System.out.println("All strings: " + art.getAllStrings()); // [car, cart, cat, dog]
+        System.out.println("Search 'cat': " + art.search("cat")); // true
+        System.out.println("Search 'ca': " + art.search("ca")); // false
+        System.out.println("Prefix 'ca': " + art.prefixSearch("ca")); // [car, cart, cat]
+        System.out.println("Prefix 'c': " + art.prefixSearch("c")); // [car, cart, cat]
+        art.delete("car");
+        System.out.println("After delete 'car': " + art.getAllStrings()); // [cart, cat, dog]
+        System.out.println("Search 'car': " + art.search("car")); // false
+        art.insert("");
+        System.out.println("Search '': " + art.search("")); // true
+
+        // Grow to Node256 and shrink back: 90 distinct second bytes under "x"
+        AdaptiveRadixTree wide = new AdaptiveRadixTree();
+        for (int c = 0; c < 90; c++) wide.insert("x" + (char) ('!' + c) + "end");
+        System.out.println("Node counts {4, 16, 48, 256}: " + Arrays.toString(wide.nodeTypeCounts())); // [0, 0, 0, 1]
+        for (int c = 0; c < 85; c++) wide.delete("x" + (char) ('!' + c) + "end");
+        System.out.println("After deletes: " + Arrays.toString(wide.nodeTypeCounts()) + " " + wide.size()); // [0, 1, 0, 0] 5
+
+        // Randomized cross-check against TreeSet (insert/delete/search/prefixSearch)
+        AdaptiveRadixTree tree = new AdaptiveRadixTree();
+        TreeSet<String> reference = new TreeSet<>(Comparator.comparing((String s) -> s.getBytes(StandardCharsets.UTF_8),
+                Arrays::compareUnsigned));
+        Random random = new Random(12);
+        boolean ok = true;
+        for (int op = 0; op < 200_000; op++) {
+            int length = random.nextInt(7);
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = random.nextInt(50) == 0 ? (char) ('\u03b1' + random.nextInt(3)) : (char) ('a' + random.nextInt(3 + op % 60));
+            }
+            String word = new String(chars);
+            int action = random.nextInt(4);
+            if (action < 2) {
+                tree.insert(word);
+                reference.add(word);
+            } else if (action == 2) {
+                tree.delete(word);
+                reference.remove(word);
+            } else {
+                ok &= tree.search(word) == reference.contains(word);
+            }
+            if (op % 1000 == 0) {
+                String prefix = word.substring(0, Math.min(word.length(), random.nextInt(3)));
+                List<String> expected = new ArrayList<>();
+                for (String s : reference) if (s.startsWith(prefix)) expected.add(s);
+                ok &= expected.equals(tree.prefixSearch(prefix));
+            }
+        }
+        ok &= tree.size() == reference.size() && new ArrayList<>(reference).equals(tree.getAllStrings());
+        System.out.println("Matches TreeSet: " + ok); // true
+        System.out.println("Node counts {4, 16, 48, 256}: " + Arrays.toString(tree.nodeTypeCounts()));
+    }
+}
@@ -0,0 +1,405 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.RadixTree;
+
+// Packed (Array-Based, Off-Heap) Radix Tree Implementation
+// This file implements a read-only Radix Tree frozen into a single ByteBuffer, for large string dictionaries.
+// Purpose: Keep the search/prefixSearch/getAllStrings behavior of RadixTree at a fraction of its footprint.
+// Workflow and algorithms are explained in comments for each operation, ensuring beginners can follow.
+// No external dependencies; testing is embedded in the main method.
+// Key Features:
+// - Freeze: Build the packed tree from any collection of strings (Builder.insert + freeze).
+// - Search: Check if a string exists.
+// - Prefix Search: Find all strings with a given prefix (also when the prefix ends inside an edge).
+// - Traversal: DFS to list all strings, in sorted (UTF-8 byte) order.
+// - Save/Map: Write the buffer to a file and memory-map it back without parsing anything.
+// Java-Specific Notes:
+// - Strings are stored as UTF-8 bytes; the tree branches on bytes, not chars.
+// - No Node objects and no per-node HashMap: the whole tree is four arrays inside one direct
+//   (off-heap) or mapped ByteBuffer, so the garbage collector never has to scan it.
+// - One ByteBuffer is limited to 2 GB, which is enough for roughly 50M dictionary words.
+// Structure:
+// - Nodes are numbered in BFS order, so the children of a node are a contiguous, sorted id range
+//   and the children of node i end where the children of node i + 1 start.
+// - Edge labels are written into one shared byte area in the same node order, so the label of
+//   node i is the byte slice [labelStart[i], labelStart[i + 1]).
+// - Per node: labelStart (int), firstChild (int), first label byte (byte), end-of-word (bit).
+//
+// File / buffer layout (all ints big-endian, ByteBuffer default):
+// | MAGIC | nodeCount | wordCount | labelBytes |
+// | labelStart[nodeCount + 1] | firstChild[nodeCount + 1] | firstByte[nodeCount] | endBits[(nodeCount + 7) / 8] | labels |
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+public class PackedRadixTree {
+    private static final int MAGIC = 0x50525458; // "PRTX"
+    private static final int HEADER = 16;
+
+    private final ByteBuffer buffer;
+    private final int nodeCount;
+    private final int wordCount;
+    private final int labelStartAt, firstChildAt, firstByteAt, endBitsAt, labelsAt; // Section offsets
+
+    private PackedRadixTree(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC) throw new IllegalArgumentException("Not a packed radix tree");
+        this.buffer = buffer;
+        this.nodeCount = buffer.getInt(4);
+        this.wordCount = buffer.getInt(8);
+        this.labelStartAt = HEADER;
+        this.firstChildAt = labelStartAt + 4 * (nodeCount + 1);
+        this.firstByteAt = firstChildAt + 4 * (nodeCount + 1);
+        this.endBitsAt = firstByteAt + nodeCount;
+        this.labelsAt = endBitsAt + (nodeCount + 7) / 8;
+        if (labelsAt + buffer.getInt(12) > buffer.capacity()) throw new IllegalArgumentException("Truncated buffer");
+    }
+
+    // Builder
+    // Workflow: Collect strings (any order, duplicates allowed), then freeze into a packed tree.
+    // Strings are kept as UTF-8 byte arrays until freeze(), which is the only heap-heavy moment.
+    public static final class Builder {
+        private final List<byte[]> words = new ArrayList<>();
+
+        public Builder insert(String word) {
+            if (word != null) words.add(word.getBytes(StandardCharsets.UTF_8));
+            return this;
+        }
+
+        public PackedRadixTree freeze() {
+            return PackedRadixTree.freeze(words);
+        }
+    }
+
+    public static PackedRadixTree of(Collection<String> words) {
+        Builder builder = new Builder();
+        for (String word : words) builder.insert(word);
+        return builder.freeze();
+    }
+
+    // Freeze
+    // Workflow: Sort the keys, then lay out nodes in BFS order from the sorted key ranges.
+    // Algorithm:
+    // 1. Sort and de-duplicate the UTF-8 keys (unsigned byte order).
+    // 2. A node is a key range [lo, hi) whose keys all share the bytes [0, depth).
+    //    - If keys[lo] has exactly depth bytes, the node is an end-of-word; skip it.
+    //    - The remaining keys group by their byte at depth; each group is one child, and the child's
+    //      label is the group's common prefix from depth on, which is LCP(first key, last key)
+    //      because the group is sorted.
+    // 3. Nodes are dequeued in BFS order: write the node's label, then enqueue its children, so
+    //    both ids and labels come out in the order the Structure section above relies on.
+    // 4. Copy the arrays into one direct ByteBuffer.
+    // Time Complexity: O(N log n) for the sort (N = total key bytes), O(N) for the layout.
+    // Space Complexity: O(N) during the build; O(nodes + unique label bytes) afterwards.
+    private static PackedRadixTree freeze(List<byte[]> words) {
+        byte[][] keys = words.toArray(new byte[0][]);
+        Arrays.sort(keys, Arrays::compareUnsigned);
+        int unique = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (unique == 0 || !Arrays.equals(keys[unique - 1], keys[i])) keys[unique++] = keys[i];
+        }
+
+        // Queue of pending nodes: lo, hi, label start depth, label end depth
+        IntArray queue = new IntArray();
+        queue.add(0);
+        queue.add(unique);
+        queue.add(0);
+        queue.add(0);
+        IntArray labelStart = new IntArray(), firstChild = new IntArray();
+        ByteArray firstByte = new ByteArray(), labels = new ByteArray();
+        BitArray endBits = new BitArray();
+        int nodes = 0;
+        for (int head = 0; head < queue.size; head += 4, nodes++) {
+            int lo = queue.get(head), hi = queue.get(head + 1);
+            int from = queue.get(head + 2), depth = queue.get(head + 3);
+            labelStart.add(labels.size);
+            if (depth > from) labels.addAll(keys[lo], from, depth); // Only the root has no label
+            firstByte.add(depth > from ? keys[lo][from] : 0);
+            firstChild.add(nodes + 1 + (queue.size - head - 4) / 4); // Ids already handed out come first
+            boolean end = lo < hi && keys[lo].length == depth;
+            endBits.add(end);
+            if (end) lo++;
+            while (lo < hi) {
+                byte b = keys[lo][depth];
+                int groupEnd = lo + 1;
+                while (groupEnd < hi && keys[groupEnd][depth] == b) groupEnd++;
+                int lcp = depth + 1;
+                byte[] first = keys[lo], last = keys[groupEnd - 1];
+                while (lcp < first.length && lcp < last.length && first[lcp] == last[lcp]) lcp++;
+                queue.add(lo);
+                queue.add(groupEnd);
+                queue.add(depth);
+                queue.add(lcp);
+                lo = groupEnd;
+            }
+        }
+        labelStart.add(labels.size);
+        firstChild.add(nodes); // Sentinel: children of the last node end at nodeCount
+
+        int size = HEADER + 8 * (nodes + 1) + nodes + (nodes + 7) / 8 + labels.size;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+        buffer.putInt(MAGIC).putInt(nodes).putInt(unique).putInt(labels.size);
+        for (int i = 0; i <= nodes; i++) buffer.putInt(labelStart.get(i));
+        for (int i = 0; i <= nodes; i++) buffer.putInt(firstChild.get(i));
+        buffer.put(firstByte.data, 0, nodes);
+        buffer.put(endBits.toBytes(nodes));
+        buffer.put(labels.data, 0, labels.size);
+        buffer.flip();
+        return new PackedRadixTree(buffer);
+    }
+
+    // Save / Map
+    // Workflow: The buffer is already the file format, so saving is one write and loading is one
+    // mmap; lookups then page the file in on demand.
+    // Time Complexity: O(size) to save, O(1) to map.
+    public void save(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer view = buffer.duplicate();
+            view.clear();
+            while (view.hasRemaining()) channel.write(view);
+        }
+    }
+
+    public static PackedRadixTree map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new PackedRadixTree(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    // Search
+    // Workflow: Check if a string exists in the tree.
+    // Algorithm:
+    // 1. Encode the string to UTF-8.
+    // 2. At each node, binary search the sorted child range for the next byte.
+    // 3. Compare the rest of the child's label, then continue below it.
+    // 4. Return true if the final node is an end-of-word.
+    // Time Complexity: O(m log 256) - key length m.
+    // Space Complexity: O(m) - the encoded key.
+    public boolean search(String word) {
+        if (word == null) return false;
+        byte[] key = word.getBytes(StandardCharsets.UTF_8);
+        int node = 0, pos = 0;
+        while (pos < key.length) {
+            int child = findChild(node, key[pos]);
+            if (child < 0) return false;
+            int start = labelStart(child), length = labelStart(child + 1) - start;
+            if (pos + length > key.length || !labelMatches(start, key, pos, length)) return false;
+            pos += length;
+            node = child;
+        }
+        return isEnd(node);
+    }
+
+    // Prefix Search
+    // Workflow: Find all strings starting with a prefix.
+    // Algorithm:
+    // 1. Walk down like search, but stop successfully if the prefix runs out inside a label.
+    // 2. Collect all strings below that node via DFS, rebuilding keys in a byte buffer.
+    // Time Complexity: O(m log 256 + K) - K = total bytes of the results.
+    // Space Complexity: O(K).
+    public List<String> prefixSearch(String prefix) {
+        List<String> results = new ArrayList<>();
+        if (prefix == null) return results;
+        byte[] key = prefix.getBytes(StandardCharsets.UTF_8);
+        ByteArray current = new ByteArray();
+        int node = 0, pos = 0;
+        while (pos < key.length) {
+            int child = findChild(node, key[pos]);
+            if (child < 0) return results;
+            int start = labelStart(child), length = labelStart(child + 1) - start;
+            int compare = Math.min(length, key.length - pos);
+            if (!labelMatches(start, key, pos, compare)) return results;
+            appendLabel(current, child);
+            pos += compare;
+            node = child;
+        }
+        collectStrings(node, current, results);
+        return results;
+    }
+
+    // Traversal (DFS)
+    // Workflow: List all strings using depth-first search (children are sorted, so is the output).
+    // Time Complexity: O(N) - total string length N.
+    // Space Complexity: O(m) - recursion depth.
+    public List<String> getAllStrings() {
+        List<String> results = new ArrayList<>(wordCount);
+        collectStrings(0, new ByteArray(), results);
+        return results;
+    }
+    private void collectStrings(int node, ByteArray current, List<String> results) {
+        if (isEnd(node)) results.add(new String(current.data, 0, current.size, StandardCharsets.UTF_8));
+        for (int child = firstChild(node), end = firstChild(node + 1); child < end; child++) {
+            int mark = current.size;
+            appendLabel(current, child);
+            collectStrings(child, current, results);
+            current.size = mark;
+        }
+    }
+
+    public int size() {
+        return wordCount;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    // Bytes used by the whole tree (the same as the file size)
+    public long byteSize() {
+        return buffer.capacity();
+    }
+
+    // Binary search over the contiguous, sorted child range of node (unsigned byte order)
+    private int findChild(int node, byte b) {
+        int lo = firstChild(node), hi = firstChild(node + 1) - 1;
+        int target = b & 0xFF;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int value = buffer.get(firstByteAt + mid) & 0xFF;
+            if (value < target) lo = mid + 1;
+            else if (value > target) hi = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    private boolean labelMatches(int start, byte[] key, int pos, int length) {
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(labelsAt + start + i) != key[pos + i]) return false;
+        }
+        return true;
+    }
+
+    private void appendLabel(ByteArray current, int node) {
+        for (int i = labelStart(node), end = labelStart(node + 1); i < end; i++) current.add(buffer.get(labelsAt + i));
+    }
+
+    private int labelStart(int node) {
+        return buffer.getInt(labelStartAt + 4 * node);
+    }
+
+    private int firstChild(int node) {
+        return buffer.getInt(firstChildAt + 4 * node);
+    }
+
+    private boolean isEnd(int node) {
+        return (buffer.get(endBitsAt + (node >>> 3)) & (1 << (node & 7))) != 0;
+    }
+
+    // Growable primitive arrays used while freezing (no boxing)
+    private static final class IntArray {
+        int[] data = new int[64];
+        int size;
+
+        void add(int value) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = value;
+        }
+
+        int get(int i) {
+            return data[i];
+        }
+    }
+
+    private static final class ByteArray {
+        byte[] data = new byte[64];
+        int size;
+
+        void add(byte value) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = value;
+        }
+
+        void add(int value) {
+            add((byte) value);
+        }
+
+        void addAll(byte[] source, int from, int to) {
+            int length = to - from;
+            if (size + length > data.length) data = Arrays.copyOf(data, Math.max(size + length, size * 2));
+            System.arraycopy(source, from, data, size, length);
+            size += length;
+        }
+    }
+
+    private static final class BitArray {
+        long[] words = new long[16];
+        int size;
+
+        void add(boolean bit) {
+            if ((size >>> 6) == words.length) words = Arrays.copyOf(words, words.length * 2);
+            if (bit) words[size >>> 6] |= 1L << size;
+            size++;
+        }
+
+        byte[] toBytes(int bits) {
+            byte[] bytes = new byte[(bits + 7) / 8];
+            for (int i = 0; i < bytes.length; i++) bytes[i] = (byte) (words[i >>> 3] >>> ((i & 7) * 8));
+            return bytes;
+        }
+    }
+
+    // Main method for testing
+    public static void main(String[] args) throws IOException {
+        System.out.println("Packed Radix Tree Operations:");
+        String[] words = {"cat", "car", "cart", "dog", "", "café"};
+        PackedRadixTree prt = of(Arrays.asList(words));
+        System.out.println("All strings: " + prt.getAllStrings()); // [, café, car, cart, cat, dog]
+        System.out.println("Search 'cat': " + prt.search("cat")); // true
+        System.out.println("Search 'ca': " + prt.search("ca")); // false
+        System.out.println("Search '': " + prt.search("")); // true
+        System.out.println("Prefix 'ca': " + prt.prefixSearch("ca")); // [café, car, cart, cat]
+        System.out.println("Prefix 'c': " + prt.prefixSearch("c")); // [café, car, cart, cat]
+        System.out.println("Prefix 'caf': " + prt.prefixSearch("caf")); // [café]
+        System.out.println("Prefix 'x': " + prt.prefixSearch("x")); // []
+        System.out.println("Empty tree: " + of(Collections.emptyList()).getAllStrings()); // []
+
+        // Cross-check against RadixTree on random words, including a save/map round trip
+        Random random = new Random(11);
+        RadixTree reference = new RadixTree();
+        Builder builder = new Builder();
+        Set<String> inserted = new HashSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            String word = randomWord(random, 1 + random.nextInt(8), 4);
+            reference.insert(word);
+            builder.insert(word);
+            inserted.add(word);
+        }
+        PackedRadixTree packed = builder.freeze();
+        Path file = Files.createTempFile("radix", ".prt");
+        try {
+            packed.save(file);
+            boolean ok = packed.size() == inserted.size() && matchesReference(reference, packed, map(file), random);
+            System.out.println("Matches RadixTree (heap and mapped): " + ok); // true
+        } finally {
+            Files.deleteIfExists(file); // The mapping is only reachable inside matchesReference
+        }
+    }
+
+    // Random lookups and prefix searches give the same answers on all three trees
+    private static boolean matchesReference(RadixTree reference, PackedRadixTree packed, PackedRadixTree mapped, Random random) {
+        boolean ok = true;
+        for (int i = 0; i < 20_000; i++) {
+            String word = randomWord(random, random.nextInt(9), 4);
+            ok &= reference.search(word) == packed.search(word) && packed.search(word) == mapped.search(word);
+            if (i % 20 == 0) {
+                String prefix = word.substring(0, Math.min(word.length(), random.nextInt(4)));
+                List<String> expected = reference.prefixSearch(prefix);
+                Collections.sort(expected);
+                List<String> actual = mapped.prefixSearch(prefix);
+                Collections.sort(actual);
+                ok &= expected.equals(actual);
+            }
+        }
+        ok &= reference.isValidRadixTree(mapped.getAllStrings());
+        return ok;
+    }
+
+    private static String randomWord(Random random, int length, int alphabet) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) chars[i] = (char) ('a' + random.nextInt(alphabet));
+        return new String(chars);
+    }
+}
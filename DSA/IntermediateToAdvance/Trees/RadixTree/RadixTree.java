@@ -169,7 +169,7 @@ public class RadixTree {
     // Prefix Search
     // Workflow: Find all strings starting with a prefix.
     // Algorithm:
-    // 1. Find node for prefix.
+    // 1. Find node for prefix (the prefix may end inside its edge label).
     // 2. Collect all strings below via DFS.
     // Time Complexity: O(m + k) - prefix length m, k strings.
     // Space Complexity: O(k).
@@ -183,9 +183,10 @@ public class RadixTree {
         while (!prefix.isEmpty()) {
             Node next = node.children.get(prefix.charAt(0));
             if (next == null) return results;
+            // The prefix may end inside the edge label (e.g. prefix "c" on edge "ca")
+            if (!prefix.startsWith(next.edgeLabel) && !next.edgeLabel.startsWith(prefix)) return results;
             current.append(next.edgeLabel);
-            if (!prefix.startsWith(next.edgeLabel)) return results;
-            prefix = prefix.substring(next.edgeLabel.length());
+            prefix = prefix.substring(Math.min(prefix.length(), next.edgeLabel.length()));
             node = next;
         }
 
@@ -0,0 +1,107 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.RadixTree;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+// Radix Tree Benchmark
+// This file times AdaptiveRadixTree, RadixTree and PackedRadixTree against java.util.TreeMap.
+// Purpose: Show what adaptive node layouts (and a frozen packed layout) buy over HashMap children:
+// fewer objects per node, so less memory and fewer cache misses per character of a lookup.
+// Run with -Xmx2g for the default size.
+// Workloads (same words for every structure):
+// - build: insert n dictionary-like words (PackedRadixTree: freeze from the list).
+// - lookup: search every word once in a shuffled order, half of them absent.
+// - prefix: prefix scans for 2- and 3-letter prefixes, counting the results.
+// - footprint: heap retained by each pointer-based tree after building, vs the packed buffer's size.
+public class RadixTreeBenchmark {
+    private static final int ROUNDS = 5;
+
+    private interface Workload {
+        void build(List<String> words);
+        boolean search(String word);
+        int prefixCount(String prefix);
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        Random random = new Random(1);
+        List<String> words = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) words.add(randomWord(random));
+        List<String> lookups = new ArrayList<>(words.subList(0, n / 2));
+        for (int i = 0; i < n / 2; i++) lookups.add(randomWord(random)); // Mostly absent
+        Collections.shuffle(lookups, random);
+        List<String> prefixes = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) prefixes.add(randomWord(random).substring(0, 2 + random.nextInt(2)));
+
+        System.out.printf("n=%d words, %d lookups, %d prefix scans, best of %d rounds (ms)%n",
+                n, lookups.size(), prefixes.size(), ROUNDS);
+        System.out.printf("%-20s %8s %8s %8s%n", "structure", "build", "lookup", "prefix");
+        run("TreeMap<String>", words, lookups, prefixes, () -> new Workload() {
+            final TreeMap<String, Boolean> map = new TreeMap<>();
+            public void build(List<String> w) { for (String s : w) map.put(s, Boolean.TRUE); }
+            public boolean search(String s) { return map.containsKey(s); }
+            public int prefixCount(String p) { return map.subMap(p, p + Character.MAX_VALUE).size(); }
+        });
+        run("RadixTree", words, lookups, prefixes, () -> new Workload() {
+            final RadixTree tree = new RadixTree();
+            public void build(List<String> w) { for (String s : w) tree.insert(s); }
+            public boolean search(String s) { return tree.search(s); }
+            public int prefixCount(String p) { return tree.prefixSearch(p).size(); }
+        });
+        run("AdaptiveRadixTree", words, lookups, prefixes, () -> new Workload() {
+            final AdaptiveRadixTree tree = new AdaptiveRadixTree();
+            public void build(List<String> w) { for (String s : w) tree.insert(s); }
+            public boolean search(String s) { return tree.search(s); }
+            public int prefixCount(String p) { return tree.prefixSearch(p).size(); }
+        });
+        run("PackedRadixTree", words, lookups, prefixes, () -> new Workload() {
+            PackedRadixTree tree;
+            public void build(List<String> w) { tree = PackedRadixTree.of(w); }
+            public boolean search(String s) { return tree.search(s); }
+            public int prefixCount(String p) { return tree.prefixSearch(p).size(); }
+        });
+
+        System.out.printf("%nFootprint of %d words (MB)%n", n);
+        long before = usedHeap();
+        RadixTree radix = new RadixTree();
+        for (String word : words) radix.insert(word);
+        System.out.printf("%-20s %8d%n", "RadixTree", (usedHeap() - before) >> 20);
+        before = usedHeap();
+        AdaptiveRadixTree adaptive = new AdaptiveRadixTree();
+        for (String word : words) adaptive.insert(word);
+        System.out.printf("%-20s %8d%n", "AdaptiveRadixTree", (usedHeap() - before) >> 20);
+        PackedRadixTree packed = PackedRadixTree.of(words);
+        System.out.printf("%-20s %8d  (off-heap, %d nodes, %.1f bytes/word)%n", "PackedRadixTree",
+                packed.byteSize() >> 20, packed.nodeCount(), (double) packed.byteSize() / packed.size());
+        BenchmarkUtils.consume(radix.search(words.get(0)) && adaptive.search(words.get(0)) ? 1 : 0);
+        BenchmarkUtils.printChecksum();
+    }
+
+    private static void run(String name, List<String> words, List<String> lookups, List<String> prefixes,
+                            Supplier<Workload> factory) {
+        long[] best = BenchmarkUtils.bestNanos(ROUNDS, factory,
+                w -> { w.build(words); return 0; },
+                w -> { long found = 0; for (String s : lookups) if (w.search(s)) found++; return found; },
+                w -> { long count = 0; for (String p : prefixes) count += w.prefixCount(p); return count; });
+        System.out.printf("%-20s %8d %8d %8d%n", name, best[0] / 1_000_000, best[1] / 1_000_000, best[2] / 1_000_000);
+    }
+
+    // Heap in use after a few full collections, so retained objects dominate
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // Lowercase words of length 4..13 with a skewed letter distribution, so prefixes are shared
+    private static String randomWord(Random random) {
+        char[] chars = new char[4 + random.nextInt(10)];
+        for (int i = 0; i < chars.length; i++) {
+            int letter = Math.min(random.nextInt(26), random.nextInt(26));
+            chars[i] = (char) ('a' + letter);
+        }
+        return new String(chars);
+    }
+}
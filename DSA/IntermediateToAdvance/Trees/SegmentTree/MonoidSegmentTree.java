@@ -0,0 +1,402 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.SegmentTree;
+
+// Iterative Segment Tree Implementation (Generic Monoid, Lazy Assign/Add)
+// This file implements a bottom-up, non-recursive segment tree over a flat long[] for any associative operator.
+// Purpose: One segment tree for sum, min, max, gcd or a user-defined operator, instead of a class per operator.
+// Workflow and algorithms are explained in comments for each operation, ensuring beginners can follow.
+// No external dependencies; testing is embedded in the main method (benchmark: SegmentTreeBenchmark).
+// Key Features:
+// - Query: Combine elements in [left, right] (order is kept, so the operator need not be commutative).
+// - Assign: Set every element in [left, right] to a value (lazy).
+// - Add: Add a value to every element in [left, right] (lazy; operator must support it, e.g. sum/min/max).
+// - Set/Get: Point update and point read.
+// - Batched Set: Many point updates, each ancestor recomputed once.
+// Java-Specific Notes:
+// - The operator is a LongMonoid: identity + associative combine, plus how a run of equal values
+//   (repeat) and a range add (add) change an aggregate. SUM, MIN, MAX and GCD are provided.
+// - No recursion: updates and queries walk leaf-to-root index paths.
+// - Memory: 2 * size longs for the tree, 2 * size longs + size booleans for lazy tags
+//   (size = n rounded up to a power of two). The two tag values of a node sit next to each other
+//   in one array, so a push touches one cache line instead of two.
+// Structure:
+// - tree[1] is the root, tree[k] has children tree[2k] and tree[2k+1], leaves are tree[size .. size + n).
+// - Padding leaves hold identity and are never covered by an update.
+// - Internal node k may carry a pending tag: "assign tags[2k]" (hasAssign[k]) and/or "add tags[2k+1]";
+//   the tag is already applied to tree[k] but not yet to its children.
+
+import java.util.*;
+import java.util.function.LongBinaryOperator;
+
+public class MonoidSegmentTree {
+    // Associative operator with identity over long values
+    public interface LongMonoid {
+        long identity();
+
+        long combine(long a, long b);
+
+        // combine(value, value, ..., value) with count copies; default: repeated doubling, O(log count)
+        default long repeat(long value, int count) {
+            long result = identity(), power = value;
+            for (; count > 0; count >>>= 1) {
+                if ((count & 1) != 0) result = combine(result, power);
+                power = combine(power, power);
+            }
+            return result;
+        }
+
+        // Aggregate of count elements after adding delta to each of them
+        default long add(long aggregate, long delta, int count) {
+            throw new UnsupportedOperationException("Range add is not supported by this operator");
+        }
+    }
+
+    public static final LongMonoid SUM = new LongMonoid() {
+        public long identity() { return 0; }
+        public long combine(long a, long b) { return a + b; }
+        public long repeat(long value, int count) { return value * count; }
+        public long add(long aggregate, long delta, int count) { return aggregate + delta * count; }
+    };
+
+    public static final LongMonoid MIN = new LongMonoid() {
+        public long identity() { return Long.MAX_VALUE; }
+        public long combine(long a, long b) { return Math.min(a, b); }
+        public long repeat(long value, int count) { return count == 0 ? Long.MAX_VALUE : value; }
+        public long add(long aggregate, long delta, int count) { return aggregate + delta; }
+    };
+
+    public static final LongMonoid MAX = new LongMonoid() {
+        public long identity() { return Long.MIN_VALUE; }
+        public long combine(long a, long b) { return Math.max(a, b); }
+        public long repeat(long value, int count) { return count == 0 ? Long.MIN_VALUE : value; }
+        public long add(long aggregate, long delta, int count) { return aggregate + delta; }
+    };
+
+    public static final LongMonoid GCD = new LongMonoid() {
+        public long identity() { return 0; }
+        public long combine(long a, long b) {
+            a = Math.abs(a);
+            b = Math.abs(b);
+            while (b != 0) {
+                long t = a % b;
+                a = b;
+                b = t;
+            }
+            return a;
+        }
+        public long repeat(long value, int count) { return count == 0 ? 0 : Math.abs(value); }
+    };
+
+    // User-defined operator (no range add; repeat uses doubling)
+    public static LongMonoid of(long identity, LongBinaryOperator combine) {
+        return new LongMonoid() {
+            public long identity() { return identity; }
+            public long combine(long a, long b) { return combine.applyAsLong(a, b); }
+        };
+    }
+
+    private final LongMonoid monoid;
+    private final int n; // Number of elements
+    private final int log; // size = 1 << log
+    private final int size; // Leaves, n rounded up to a power of two
+    private final long[] tree;
+    private final long[] tags; // Pending tags of internal nodes: assign value at 2k, add value at 2k+1
+    private final boolean[] hasAssign;
+
+    // Constructor
+    // Workflow: Copy values into the leaves and compute internal nodes from the bottom up.
+    // Time Complexity: O(n).
+    // Space Complexity: O(n).
+    public MonoidSegmentTree(long[] values, LongMonoid monoid) {
+        this.monoid = monoid;
+        this.n = values.length;
+        int lg = 0;
+        while ((1 << lg) < n) lg++;
+        this.log = lg;
+        this.size = 1 << lg;
+        this.tree = new long[2 * size];
+        this.tags = new long[2 * size];
+        this.hasAssign = new boolean[size];
+        Arrays.fill(tree, size + n, 2 * size, monoid.identity());
+        System.arraycopy(values, 0, tree, size, n);
+        for (int k = size - 1; k >= 1; k--) pull(k);
+    }
+
+    public MonoidSegmentTree(int[] values, LongMonoid monoid) {
+        this(Arrays.stream(values).asLongStream().toArray(), monoid);
+    }
+
+    public int size() {
+        return n;
+    }
+
+    // Number of leaves under node k
+    private int length(int k) {
+        return 1 << (log - (31 - Integer.numberOfLeadingZeros(k)));
+    }
+
+    private void pull(int k) {
+        tree[k] = monoid.combine(tree[2 * k], tree[2 * k + 1]);
+    }
+
+    private void applyAssign(int k, long value) {
+        tree[k] = monoid.repeat(value, length(k));
+        if (k < size) {
+            hasAssign[k] = true;
+            tags[2 * k] = value;
+            tags[2 * k + 1] = 0;
+        }
+    }
+
+    private void applyAdd(int k, long delta) {
+        tree[k] = monoid.add(tree[k], delta, length(k));
+        if (k < size) {
+            if (hasAssign[k]) tags[2 * k] += delta; // Assign v then add d == assign v + d
+            else tags[2 * k + 1] += delta;
+        }
+    }
+
+    // Hand node k's pending tag down to its two children
+    private void push(int k) {
+        if (hasAssign[k]) {
+            long value = tags[2 * k];
+            applyAssign(2 * k, value);
+            applyAssign(2 * k + 1, value);
+            hasAssign[k] = false;
+        } else {
+            long delta = tags[2 * k + 1];
+            if (delta != 0) {
+                applyAdd(2 * k, delta);
+                applyAdd(2 * k + 1, delta);
+                tags[2 * k + 1] = 0;
+            }
+        }
+    }
+
+    // Push tags on the root-to-leaf paths of the half-open leaf range [l, r), top-down,
+    // skipping levels where the range boundary is aligned (those nodes are fully inside or outside)
+    private void pushBoundaries(int l, int r) {
+        for (int i = log; i >= 1; i--) {
+            if (((l >> i) << i) != l) push(l >> i);
+            if (((r >> i) << i) != r) push((r - 1) >> i);
+        }
+    }
+
+    private void checkRange(int left, int right) {
+        if (left < 0 || right >= n || left > right) {
+            throw new IllegalArgumentException("Invalid query range");
+        }
+    }
+
+    // Query Range
+    // Workflow: Combine elements in [left, right] without recursion.
+    // Algorithm:
+    // 1. Push pending tags on the two boundary paths.
+    // 2. Walk l and r (half-open, leaf indices) up together: a right child at l or a left child
+    //    before r is fully inside the range, so combine it into the left or right accumulator.
+    // 3. Result = leftAccumulator combined with rightAccumulator (keeps element order).
+    // Time Complexity: O(log n).
+    // Space Complexity: O(1).
+    public long query(int left, int right) {
+        checkRange(left, right);
+        int l = left + size, r = right + 1 + size;
+        pushBoundaries(l, r);
+        long resultLeft = monoid.identity(), resultRight = monoid.identity();
+        while (l < r) {
+            if ((l & 1) != 0) resultLeft = monoid.combine(resultLeft, tree[l++]);
+            if ((r & 1) != 0) resultRight = monoid.combine(tree[--r], resultRight);
+            l >>= 1;
+            r >>= 1;
+        }
+        return monoid.combine(resultLeft, resultRight);
+    }
+
+    // Whole array, O(1)
+    public long queryAll() {
+        return tree[1];
+    }
+
+    // Range Assign / Range Add
+    // Workflow: Tag the O(log n) nodes that exactly cover [left, right], then fix their ancestors.
+    // Algorithm:
+    // 1. Push pending tags on the boundary paths (so older tags reach the children first).
+    // 2. Same l/r walk as query, applying the tag to each covering node.
+    // 3. Recompute the boundary ancestors bottom-up.
+    // Time Complexity: O(log n) (O(log^2 n) for assign with the default repeat).
+    // Space Complexity: O(1).
+    public void assign(int left, int right, long value) {
+        checkRange(left, right);
+        update(left, right, true, value);
+    }
+
+    public void add(int left, int right, long delta) {
+        checkRange(left, right);
+        update(left, right, false, delta);
+    }
+
+    private void update(int left, int right, boolean isAssign, long value) {
+        int l = left + size, r = right + 1 + size;
+        pushBoundaries(l, r);
+        for (int a = l, b = r; a < b; a >>= 1, b >>= 1) {
+            if ((a & 1) != 0) {
+                if (isAssign) applyAssign(a++, value);
+                else applyAdd(a++, value);
+            }
+            if ((b & 1) != 0) {
+                if (isAssign) applyAssign(--b, value);
+                else applyAdd(--b, value);
+            }
+        }
+        for (int i = 1; i <= log; i++) {
+            if (((l >> i) << i) != l) pull(l >> i);
+            if (((r >> i) << i) != r) pull((r - 1) >> i);
+        }
+    }
+
+    // Point Set / Get
+    // Workflow: Push tags down the leaf's path, write the leaf, recompute its ancestors.
+    // Time Complexity: O(log n).
+    public void set(int index, long value) {
+        checkRange(index, index);
+        int k = index + size;
+        for (int i = log; i >= 1; i--) push(k >> i);
+        tree[k] = value;
+        for (int i = 1; i <= log; i++) pull(k >> i);
+    }
+
+    public long get(int index) {
+        checkRange(index, index);
+        int k = index + size;
+        for (int i = log; i >= 1; i--) push(k >> i);
+        return tree[k];
+    }
+
+    // Batched Set
+    // Workflow: Apply many point updates, recomputing each affected ancestor once.
+    // Algorithm:
+    // 1. Push tags down every updated leaf's path and write the leaves (later duplicates win).
+    // 2. Sort the distinct parents; level by level, recompute them and move up to their parents.
+    // Time Complexity: O(m log n + m log m) for m updates; ancestors shared by updates are recomputed once.
+    // Space Complexity: O(m).
+    public void setAll(int[] indices, long[] values) {
+        if (indices.length != values.length) throw new IllegalArgumentException("Indices and values differ in length");
+        for (int index : indices) checkRange(index, index);
+        if (indices.length == 0) return;
+        int[] nodes = new int[indices.length];
+        for (int j = 0; j < indices.length; j++) {
+            int k = indices[j] + size;
+            for (int i = log; i >= 1; i--) push(k >> i);
+            tree[k] = values[j];
+            nodes[j] = k;
+        }
+        Arrays.sort(nodes);
+        int count = nodes.length;
+        for (int level = 1; level <= log; level++) {
+            int distinct = 0;
+            for (int j = 0; j < count; j++) {
+                int parent = nodes[j] >> 1;
+                if (distinct == 0 || nodes[distinct - 1] != parent) nodes[distinct++] = parent; // Sorted stays sorted
+            }
+            count = distinct;
+            for (int j = 0; j < count; j++) pull(nodes[j]);
+        }
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        System.out.println("Monoid Segment Tree Operations:");
+        long[] input = {1, 3, 5, 7, 9, 11};
+        MonoidSegmentTree sum = new MonoidSegmentTree(input, SUM);
+        System.out.println("Sum of range [1, 3]: " + sum.query(1, 3)); // 15
+        sum.add(1, 3, 2);
+        System.out.println("After add [1, 3] += 2, sum [0, 5]: " + sum.query(0, 5)); // 42
+        sum.assign(2, 4, 0);
+        System.out.println("After assign [2, 4] = 0, sum [0, 5]: " + sum.query(0, 5)); // 17
+
+        MonoidSegmentTree min = new MonoidSegmentTree(new long[]{5, 2, 3, 4, 1}, MIN);
+        min.add(1, 3, 2);
+        System.out.println("Min [1, 3] after add 2: " + min.query(1, 3)); // 4 (same as RangeMinLazy)
+        MonoidSegmentTree gcd = new MonoidSegmentTree(new long[]{12, 18, 24, 9}, GCD);
+        System.out.println("GCD [0, 2]: " + gcd.query(0, 2) + ", GCD [0, 3]: " + gcd.query(0, 3)); // 6, 3
+
+        // Non-commutative user-defined operator: affine maps x -> a*x + b packed as (a << 32 | b), mod 1000
+        MonoidSegmentTree affine = new MonoidSegmentTree(new long[]{pack(2, 1), pack(3, 0), pack(1, 5)},
+                of(pack(1, 0), MonoidSegmentTree::composeAffine));
+        long f = affine.query(0, 2);
+        System.out.println("Composed affine map at x=1: " + ((f >>> 32) + (f & 0xFFFFFFFFL)) % 1000); // ((1*2+1)*3+0)*1+5 = 14
+
+        // Cross-check against a plain array for every operator and operation mix
+        Random random = new Random(17);
+        LongMonoid[] monoids = {SUM, MIN, MAX, GCD, of(0, Long::sum)};
+        boolean ok = true;
+        for (int trial = 0; trial < 300; trial++) {
+            LongMonoid monoid = monoids[trial % monoids.length];
+            boolean canAdd = monoid == SUM || monoid == MIN || monoid == MAX;
+            int count = 1 + random.nextInt(70);
+            long[] expected = new long[count];
+            for (int i = 0; i < count; i++) expected[i] = random.nextInt(100);
+            MonoidSegmentTree tree = new MonoidSegmentTree(expected.clone(), monoid);
+            for (int op = 0; op < 200; op++) {
+                int l = random.nextInt(count), r = l + random.nextInt(count - l);
+                long v = random.nextInt(100);
+                switch (random.nextInt(6)) {
+                    case 0:
+                        tree.assign(l, r, v);
+                        for (int i = l; i <= r; i++) expected[i] = v;
+                        break;
+                    case 1:
+                        if (!canAdd) break;
+                        tree.add(l, r, v - 50);
+                        for (int i = l; i <= r; i++) expected[i] += v - 50;
+                        break;
+                    case 2:
+                        tree.set(l, v);
+                        expected[l] = v;
+                        break;
+                    case 3:
+                        int[] indices = new int[random.nextInt(10)];
+                        long[] values = new long[indices.length];
+                        for (int j = 0; j < indices.length; j++) {
+                            indices[j] = random.nextInt(count);
+                            values[j] = random.nextInt(100);
+                            expected[indices[j]] = values[j];
+                        }
+                        tree.setAll(indices, values);
+                        break;
+                    case 4:
+                        ok &= tree.get(l) == expected[l];
+                        break;
+                    default:
+                        long want = monoid.identity();
+                        for (int i = l; i <= r; i++) want = monoid.combine(want, expected[i]);
+                        ok &= tree.query(l, r) == want;
+                }
+            }
+            long all = monoid.identity();
+            for (long x : expected) all = monoid.combine(all, x);
+            ok &= tree.queryAll() == all;
+        }
+        System.out.println("Matches brute force: " + ok); // true
+
+        // Edge cases
+        try {
+            sum.query(0, 6); // Invalid range
+        } catch (IllegalArgumentException e) {
+            System.out.println("Caught: " + e.getMessage());
+        }
+        try {
+            gcd.add(0, 1, 1); // GCD has no range add
+        } catch (UnsupportedOperationException e) {
+            System.out.println("Caught: " + e.getMessage());
+        }
+    }
+
+    private static long pack(long a, long b) {
+        return a << 32 | b;
+    }
+
+    // Apply f first, then g: g(f(x)) = ga*(fa*x + fb) + gb
+    private static long composeAffine(long f, long g) {
+        long fa = f >>> 32, fb = f & 0xFFFFFFFFL, ga = g >>> 32, gb = g & 0xFFFFFFFFL;
+        return pack(ga * fa % 1000, (ga * fb + gb) % 1000);
+    }
+}
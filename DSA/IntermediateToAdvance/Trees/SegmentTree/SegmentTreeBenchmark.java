@@ -0,0 +1,132 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trees.SegmentTree;
+
+import Java_Bootcamp.DSA.IntermediateToAdvance.Trees.SegmentTree.LazyPropagation.RangeMinLazy;
+import Java_Bootcamp.DSA.IntermediateToAdvance.Trees.SegmentTree.LazyPropagation.RangeSumLazy;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+
+import java.util.*;
+
+// Segment Tree Benchmark
+// This file times MonoidSegmentTree against the recursive SegmentTree, RangeSumLazy and RangeMinLazy.
+// Purpose: Show what the bottom-up, non-recursive layout buys over recursive 4n-array trees: a 2n array
+// walked with index arithmetic and no call stack, with lazy tags pushed only along the two boundary paths.
+// Workloads (same random operations for both structures, half updates and half queries, build included):
+// - point: point set + range sum (vs SegmentTree).
+// - add/sum: range add + range sum (vs RangeSumLazy).
+// - add/min: range add + range min (vs RangeMinLazy).
+// The checksums of both structures must match, which also cross-checks the results.
+public class SegmentTreeBenchmark {
+    private static final int ROUNDS = 5;
+
+    // One operation per call: update if op is even, query otherwise; returns the query result (0 for updates)
+    private interface Workload {
+        long run(int op, int left, int right, int value);
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int ops = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+        Random random = new Random(17);
+        int[] input = new int[n];
+        for (int i = 0; i < n; i++) input[i] = random.nextInt(1000);
+        int[] lefts = new int[ops], rights = new int[ops], values = new int[ops];
+        for (int i = 0; i < ops; i++) {
+            int a = random.nextInt(n), b = random.nextInt(n);
+            lefts[i] = Math.min(a, b);
+            rights[i] = Math.max(a, b);
+            values[i] = random.nextInt(1000);
+        }
+
+        System.out.printf("n=%d, %d operations, best of %d rounds (ms)%n", n, ops, ROUNDS);
+        System.out.printf("%-10s %-14s %10s %22s %8s%n", "workload", "recursive", "ms", "MonoidSegmentTree ms", "equal");
+        compare("point", "SegmentTree", input, lefts, rights, values,
+                in -> {
+                    SegmentTree tree = new SegmentTree(in.clone());
+                    return (op, l, r, v) -> {
+                        if ((op & 1) == 0) {
+                            tree.update(l, v);
+                            return 0;
+                        }
+                        return tree.query(l, r);
+                    };
+                },
+                in -> {
+                    MonoidSegmentTree tree = new MonoidSegmentTree(in, MonoidSegmentTree.SUM);
+                    return (op, l, r, v) -> {
+                        if ((op & 1) == 0) {
+                            tree.set(l, v);
+                            return 0;
+                        }
+                        return (int) tree.query(l, r); // SegmentTree sums in int
+                    };
+                });
+        compare("add/sum", "RangeSumLazy", input, lefts, rights, values,
+                in -> {
+                    RangeSumLazy tree = new RangeSumLazy(in);
+                    return (op, l, r, v) -> {
+                        if ((op & 1) == 0) {
+                            tree.update(l, r, v);
+                            return 0;
+                        }
+                        return tree.query(l, r);
+                    };
+                },
+                in -> {
+                    MonoidSegmentTree tree = new MonoidSegmentTree(in, MonoidSegmentTree.SUM);
+                    return (op, l, r, v) -> {
+                        if ((op & 1) == 0) {
+                            tree.add(l, r, v);
+                            return 0;
+                        }
+                        return tree.query(l, r);
+                    };
+                });
+        compare("add/min", "RangeMinLazy", input, lefts, rights, values,
+                in -> {
+                    RangeMinLazy tree = new RangeMinLazy(in);
+                    return (op, l, r, v) -> {
+                        if ((op & 1) == 0) {
+                            tree.update(l, r, v);
+                            return 0;
+                        }
+                        return tree.query(l, r);
+                    };
+                },
+                in -> {
+                    MonoidSegmentTree tree = new MonoidSegmentTree(in, MonoidSegmentTree.MIN);
+                    return (op, l, r, v) -> {
+                        if ((op & 1) == 0) {
+                            tree.add(l, r, v);
+                            return 0;
+                        }
+                        return tree.query(l, r);
+                    };
+                });
+    }
+
+    private interface Factory {
+        Workload create(int[] input);
+    }
+
+    private static void compare(String workload, String baselineName, int[] input, int[] lefts, int[] rights, int[] values,
+                                Factory baseline, Factory candidate) {
+        long[] baselineResult = time(baseline, input, lefts, rights, values);
+        long[] candidateResult = time(candidate, input, lefts, rights, values);
+        System.out.printf("%-10s %-14s %10d %22d %8s%n", workload, baselineName, baselineResult[0] / 1_000_000,
+                candidateResult[0] / 1_000_000, baselineResult[1] == candidateResult[1]);
+    }
+
+    // Returns {best nanoseconds, checksum}; the tree is rebuilt every round (build is included)
+    private static long[] time(Factory factory, int[] input, int[] lefts, int[] rights, int[] values) {
+        long[] checksum = new long[1];
+        long best = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            Workload w = factory.create(input);
+            long sum = 0;
+            for (int i = 0; i < lefts.length; i++) sum = sum * 31 + w.run(i, lefts[i], rights[i], values[i]);
+            checksum[0] = sum;
+            return sum;
+        });
+        return new long[]{best, checksum[0]};
+    }
+}
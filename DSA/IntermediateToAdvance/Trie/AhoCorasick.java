@@ -0,0 +1,329 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trie;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.*;
+
+public class AhoCorasick {
+    // Aho-Corasick multi-pattern matcher: the patterns go into a trie, every state gets a failure
+    // link (longest proper suffix that is also a trie path), and the failure links are folded
+    // into a full transition table. Scanning is then one table lookup per character, so all
+    // matches of all patterns are found in O(text + matches) instead of O(patterns * text).
+    // Text can arrive in chunks (CharSequence, char[] or a Reader); a Matcher keeps the state
+    // between chunks, so matches spanning chunk boundaries are found and offsets are global.
+
+    // Layout (flat arrays, no node objects):
+    // - Characters that occur in patterns get dense codes 1..sigma via codeOf[char]; every other
+    //   character is code 0, which always leads back to the root.
+    // - delta[state * width + code] = next state (width = sigma + 1).
+    // - own[state] = a pattern ending exactly at state (-1 if none); samePattern[id] chains
+    //   duplicate patterns with the same string.
+    // - dictLink[state] = nearest state on the failure chain with own >= 0 (-1 if none), so
+    //   reporting walks only states that really have matches.
+    // Memory: states * (sigma + 1) ints for delta, plus 128 KB for codeOf.
+
+    // Receives each match: pattern id (order of addition), start offset, end offset (exclusive)
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatch(int patternId, long start, long end);
+    }
+
+    public static final class Match {
+        public final int patternId;
+        public final long start, end;
+
+        Match(int patternId, long start, long end) {
+            this.patternId = patternId;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String toString() {
+            return patternId + "@[" + start + "," + end + ")";
+        }
+    }
+
+    private final String[] patterns;
+    private final boolean ignoreCase;
+    private final char[] codeOf;
+    private final int width;
+    private final int[] delta;
+    private final int[] own;
+    private final int[] dictLink;
+    private final int[] samePattern;
+    private final int[] patternLength;
+
+    // Builds the automaton (case-sensitive unless ignoreCase)
+    // Time Complexity: O(P + S * sigma) for total pattern length P and S states
+    public AhoCorasick(Collection<String> patternList, boolean ignoreCase) {
+        // Purpose: Trie of all patterns, then BFS to compute failure links and fill delta
+        // Workflow:
+        // 1. Give every distinct (lowercased if ignoreCase) pattern character a code.
+        // 2. Insert every pattern into the trie stored in delta (0 = no child yet; the root is
+        //    state 0 and is never a child, so 0 is free to mean "missing").
+        // 3. BFS from the root. For state s with failure state f and every code c:
+        //    - if s has a child t on c: fail[t] = delta[f][c] (root's children fail to root),
+        //      dictLink[t] = fail[t] if it ends a pattern, else dictLink[fail[t]]; queue t.
+        //    - otherwise: delta[s][c] = delta[f][c], the state the failure chain would reach.
+        //    BFS order guarantees delta[f] is complete before s needs it (f is shallower).
+        this.patterns = patternList.toArray(new String[0]);
+        this.ignoreCase = ignoreCase;
+        if (patterns.length == 0) throw new IllegalArgumentException("At least one pattern is required");
+
+        char[] lowerCode = new char[Character.MAX_VALUE + 1];
+        int sigma = 0;
+        int totalLength = 0;
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isEmpty()) throw new IllegalArgumentException("Empty pattern");
+            totalLength += pattern.length();
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = fold(pattern.charAt(i));
+                if (lowerCode[c] == 0) {
+                    if (sigma == Character.MAX_VALUE - 1) throw new IllegalArgumentException("Alphabet too large");
+                    lowerCode[c] = (char) ++sigma;
+                }
+            }
+        }
+        this.codeOf = ignoreCase ? new char[Character.MAX_VALUE + 1] : lowerCode;
+        if (ignoreCase) {
+            for (int c = 0; c <= Character.MAX_VALUE; c++) codeOf[c] = lowerCode[fold((char) c)];
+        }
+        this.width = sigma + 1;
+        long cells = (long) (totalLength + 1) * width;
+        if (cells > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("Too many states for a full table: " + cells);
+
+        // Trie
+        int[] table = new int[(int) Math.min(cells, 1024L * width)];
+        int states = 1;
+        int[] ownArray = new int[Math.min(totalLength + 1, 1024)];
+        Arrays.fill(ownArray, -1);
+        this.samePattern = new int[patterns.length];
+        this.patternLength = new int[patterns.length];
+        for (int id = 0; id < patterns.length; id++) {
+            String pattern = patterns[id];
+            patternLength[id] = pattern.length();
+            int s = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int slot = s * width + codeOf[pattern.charAt(i)];
+                if (table[slot] == 0) {
+                    if ((long) (states + 1) * width > table.length) {
+                        table = Arrays.copyOf(table, (int) Math.min(cells, (long) table.length * 2));
+                    }
+                    if (states == ownArray.length) {
+                        ownArray = Arrays.copyOf(ownArray, Math.min(totalLength + 1, states * 2));
+                        Arrays.fill(ownArray, states, ownArray.length, -1);
+                    }
+                    table[slot] = states++;
+                }
+                s = table[slot];
+            }
+            samePattern[id] = ownArray[s]; // Chain duplicates (-1 ends the chain)
+            ownArray[s] = id;
+        }
+        this.delta = Arrays.copyOf(table, states * width);
+        this.own = Arrays.copyOf(ownArray, states);
+
+        // Failure links folded into delta, BFS order
+        int[] fail = new int[states];
+        this.dictLink = new int[states];
+        Arrays.fill(dictLink, -1);
+        int[] queue = new int[states];
+        int head = 0, tail = 0;
+        for (int c = 0; c < width; c++) {
+            int t = delta[c];
+            if (t != 0) queue[tail++] = t; // fail = root, dictLink = -1 (root ends no pattern)
+        }
+        while (head < tail) {
+            int s = queue[head++];
+            int f = fail[s];
+            for (int c = 0; c < width; c++) {
+                int t = delta[s * width + c];
+                if (t != 0) {
+                    int ft = delta[f * width + c];
+                    fail[t] = ft;
+                    dictLink[t] = own[ft] >= 0 ? ft : dictLink[ft];
+                    queue[tail++] = t;
+                } else {
+                    delta[s * width + c] = delta[f * width + c];
+                }
+            }
+        }
+    }
+
+    public AhoCorasick(Collection<String> patterns) {
+        this(patterns, false);
+    }
+
+    private char fold(char c) {
+        return ignoreCase ? Character.toLowerCase(c) : c;
+    }
+
+    public int patternCount() {
+        return patterns.length;
+    }
+
+    public String pattern(int id) {
+        return patterns[id];
+    }
+
+    public int stateCount() {
+        return own.length;
+    }
+
+    // Streaming matcher: feed chunks in order; offsets count characters since the first chunk
+    public final class Matcher {
+        private final MatchListener listener;
+        private int state;
+        private long offset;
+
+        private Matcher(MatchListener listener) {
+            this.listener = listener;
+        }
+
+        // Time Complexity: O(chunk length + matches)
+        public Matcher feed(CharSequence chunk) {
+            int s = state;
+            for (int i = 0, n = chunk.length(); i < n; i++) {
+                s = delta[s * width + codeOf[chunk.charAt(i)]];
+                if (own[s] >= 0 || dictLink[s] >= 0) report(s, offset + i + 1);
+            }
+            state = s;
+            offset += chunk.length();
+            return this;
+        }
+
+        public Matcher feed(char[] chunk, int from, int length) {
+            int s = state;
+            for (int i = 0; i < length; i++) {
+                s = delta[s * width + codeOf[chunk[from + i]]];
+                if (own[s] >= 0 || dictLink[s] >= 0) report(s, offset + i + 1);
+            }
+            state = s;
+            offset += length;
+            return this;
+        }
+
+        // Reads the Reader to the end in 8 KB chunks (does not close it)
+        public Matcher feed(Reader reader) throws IOException {
+            char[] buffer = new char[8192];
+            for (int n; (n = reader.read(buffer)) != -1; ) feed(buffer, 0, n);
+            return this;
+        }
+
+        // Characters consumed so far
+        public long offset() {
+            return offset;
+        }
+
+        // Forget the current partial match (e.g. at a log line boundary); offsets keep counting
+        public void resetState() {
+            state = 0;
+        }
+
+        // Every pattern ending at state s: its own pattern(s), then down the dictionary links
+        private void report(int s, long end) {
+            for (int t = own[s] >= 0 ? s : dictLink[s]; t >= 0; t = dictLink[t]) {
+                for (int id = own[t]; id >= 0; id = samePattern[id]) {
+                    listener.onMatch(id, end - patternLength[id], end);
+                }
+            }
+        }
+    }
+
+    public Matcher matcher(MatchListener listener) {
+        return new Matcher(listener);
+    }
+
+    // All matches in one text, ordered by end offset (ties: longer pattern first)
+    public List<Match> findAll(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        matcher((id, start, end) -> matches.add(new Match(id, start, end))).feed(text);
+        return matches;
+    }
+
+    // True as soon as any pattern occurs (stops scanning at the first match)
+    public boolean containsAny(CharSequence text) {
+        int s = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            s = delta[s * width + codeOf[text.charAt(i)]];
+            if (own[s] >= 0 || dictLink[s] >= 0) return true;
+        }
+        return false;
+    }
+
+    // Main method for testing
+    public static void main(String[] args) throws IOException {
+        AhoCorasick ac = new AhoCorasick(Arrays.asList("he", "she", "his", "hers"));
+        System.out.println("Matches in 'ushers': " + ac.findAll("ushers")); // [1@[1,4), 0@[2,4), 3@[2,6)]
+
+        // Banned words, case-insensitive, like CheckBannedWords
+        AhoCorasick banned = new AhoCorasick(Arrays.asList("hate", "bad", "ugly"), true);
+        System.out.println("Banned word in 'I HATE this': " + banned.containsAny("I HATE this")); // true
+        System.out.println("Banned word in 'I like this': " + banned.containsAny("I like this")); // false
+
+        // Streaming: a match split across two chunks keeps its global offsets
+        List<Match> streamed = new ArrayList<>();
+        ac.matcher((id, start, end) -> streamed.add(new Match(id, start, end))).feed("us").feed("hers");
+        System.out.println("Streamed 'us' + 'hers': " + streamed); // [1@[1,4), 0@[2,4), 3@[2,6)]
+
+        // Cross-check against brute force (every pattern at every position), with random chunking
+        Random random = new Random(15);
+        boolean ok = true;
+        for (int trial = 0; trial < 200; trial++) {
+            List<String> patterns = new ArrayList<>();
+            for (int i = 1 + random.nextInt(30); i > 0; i--) patterns.add(randomText(random, 1 + random.nextInt(5), 3));
+            String text = randomText(random, random.nextInt(300), 4);
+            AhoCorasick matcher = new AhoCorasick(patterns, trial % 2 == 1);
+            String foldedText = trial % 2 == 1 ? text.toLowerCase() : text;
+            Set<String> expected = new HashSet<>();
+            for (int id = 0; id < patterns.size(); id++) {
+                String p = trial % 2 == 1 ? patterns.get(id).toLowerCase() : patterns.get(id);
+                for (int i = foldedText.indexOf(p); i >= 0; i = foldedText.indexOf(p, i + 1)) {
+                    expected.add(id + "@" + i);
+                }
+            }
+            Set<String> actual = new HashSet<>();
+            int[] count = {0};
+            Reader reader = new ChunkedReader(new StringReader(text), random);
+            matcher.matcher((id, start, end) -> {
+                actual.add(id + "@" + start);
+                count[0]++;
+            }).feed(reader);
+            ok &= expected.equals(actual) && count[0] == expected.size()
+                    && matcher.containsAny(text) == !expected.isEmpty();
+        }
+        System.out.println("Matches brute force: " + ok); // true
+    }
+
+    private static String randomText(Random random, int length, int alphabet) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            char c = (char) ('a' + random.nextInt(alphabet));
+            chars[i] = random.nextInt(5) == 0 ? Character.toUpperCase(c) : c;
+        }
+        return new String(chars);
+    }
+
+    // Reader that returns random small chunks, to exercise matches across chunk boundaries
+    private static final class ChunkedReader extends Reader {
+        private final Reader in;
+        private final Random random;
+
+        ChunkedReader(Reader in, Random random) {
+            this.in = in;
+            this.random = random;
+        }
+
+        @Override
+        public int read(char[] buffer, int off, int len) throws IOException {
+            return in.read(buffer, off, Math.min(len, 1 + random.nextInt(7)));
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
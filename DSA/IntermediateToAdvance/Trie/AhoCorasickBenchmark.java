@@ -0,0 +1,61 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trie;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+
+import java.util.*;
+
+// Aho-Corasick Benchmark
+// Multi-pattern scan benchmark: find every occurrence of a dictionary of patterns in a large
+// log-like text. AhoCorasick reads each character once (one table lookup), whatever the number
+// of patterns; the baseline runs one String.indexOf pass per pattern. indexOf is only run for
+// a sample of the patterns and scaled up, since the full dictionary would take minutes.
+// Usage: AhoCorasickBenchmark [patterns] [text MB]
+public class AhoCorasickBenchmark {
+    private static final int ROUNDS = 3;
+    private static final int SAMPLE = 50;
+
+    public static void main(String[] args) {
+        int patterns = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int megabytes = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        Random random = new Random(15);
+        List<String> dictionary = new ArrayList<>();
+        for (int i = 0; i < patterns; i++) dictionary.add(randomWord(random, 5 + random.nextInt(8)));
+        StringBuilder log = new StringBuilder();
+        while (log.length() < megabytes * 1_000_000) {
+            log.append(randomWord(random, 3 + random.nextInt(9))).append(random.nextInt(30) == 0 ? '\n' : ' ');
+        }
+        String text = log.toString();
+
+        AhoCorasick matcher = new AhoCorasick(dictionary);
+        System.out.printf("%d patterns (%d states) over %d MB, best of %d rounds%n",
+                patterns, matcher.stateCount(), megabytes, ROUNDS);
+        long acNs = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            long[] found = {0};
+            matcher.matcher((id, start, end) -> found[0]++).feed(text);
+            return found[0];
+        });
+        int sample = Math.min(SAMPLE, patterns);
+        long naiveNs = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            long found = 0;
+            for (int id = 0; id < sample; id++) {
+                String p = dictionary.get(id);
+                for (int i = text.indexOf(p); i >= 0; i = text.indexOf(p, i + 1)) found++;
+            }
+            return found;
+        });
+        System.out.printf("%-34s %10.0f ms%n", "AhoCorasick, all patterns", BenchmarkUtils.millis(acNs));
+        System.out.printf("%-34s %10.0f ms  (%d patterns measured)%n", "indexOf per pattern, all (scaled)",
+                BenchmarkUtils.millis(naiveNs) * patterns / sample, sample);
+        BenchmarkUtils.printChecksum();
+    }
+
+    // Random word, about one letter in five uppercase
+    private static String randomWord(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            char c = (char) ('a' + random.nextInt(26));
+            chars[i] = random.nextInt(5) == 0 ? Character.toUpperCase(c) : c;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,377 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trie;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class AutocompleteTrie {
+    // Weighted trie for typeahead: complete(prefix, k) returns the k highest-weighted terms
+    // under a prefix, best first. Unlike Trie (fixed TrieNode[26], lowercase only) a node keeps
+    // a sorted array of the symbols it actually uses, so any alphabet works:
+    // - UNICODE: one symbol per code point (fan-out = distinct code points seen at that node).
+    // - BYTES:   one symbol per UTF-8 byte (fan-out <= 256, more levels for non-ASCII text).
+    // Every node caches maxWeight = the largest weight in its subtree, which is what lets a
+    // query skip whole subtrees that cannot reach the top k.
+
+    public enum Alphabet { UNICODE, BYTES }
+
+    // Inner class for Trie node
+    private static final class Node {
+        int[] symbols = EMPTY_SYMBOLS; // Sorted symbols of the children
+        Node[] children = EMPTY_CHILDREN; // children[i] is reached by symbols[i]
+        int childCount;
+        long weight = NO_WEIGHT; // Weight of the term ending here, NO_WEIGHT if none
+        long maxWeight = NO_WEIGHT; // Largest weight in this subtree (including this node)
+        int[] byWeight; // Child indices by descending maxWeight, rebuilt lazily by queries
+        boolean rankDirty = true; // A child was added or a child's maxWeight changed
+
+        int[] ranked() {
+            if (rankDirty) {
+                Integer[] order = new Integer[childCount];
+                for (int i = 0; i < childCount; i++) order[i] = i;
+                Arrays.sort(order, (a, b) -> Long.compare(children[b].maxWeight, children[a].maxWeight));
+                byWeight = new int[childCount];
+                for (int i = 0; i < childCount; i++) byWeight[i] = order[i];
+                rankDirty = false;
+            }
+            return byWeight;
+        }
+
+        int indexOf(int symbol) {
+            return Arrays.binarySearch(symbols, 0, childCount, symbol);
+        }
+
+        Node child(int symbol) {
+            int i = indexOf(symbol);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node addChild(int symbol) {
+            int i = -indexOf(symbol) - 1;
+            if (childCount == symbols.length) {
+                int capacity = Math.max(2, childCount * 2);
+                symbols = Arrays.copyOf(symbols, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(symbols, i, symbols, i + 1, childCount - i);
+            System.arraycopy(children, i, children, i + 1, childCount - i);
+            Node child = new Node();
+            symbols[i] = symbol;
+            children[i] = child;
+            childCount++;
+            return child;
+        }
+    }
+
+    // One result of complete(): the term and its weight
+    public static final class Completion {
+        public final String term;
+        public final long weight;
+
+        Completion(String term, long weight) {
+            this.term = term;
+            this.weight = weight;
+        }
+
+        @Override
+        public String toString() {
+            return term + "(" + weight + ")";
+        }
+    }
+
+    private static final long NO_WEIGHT = Long.MIN_VALUE;
+    private static final int[] EMPTY_SYMBOLS = new int[0];
+    private static final Node[] EMPTY_CHILDREN = new Node[0];
+
+    private final Alphabet alphabet;
+    private final Node root = new Node();
+    private int size;
+
+    public AutocompleteTrie(Alphabet alphabet) {
+        this.alphabet = alphabet;
+    }
+
+    public AutocompleteTrie() {
+        this(Alphabet.UNICODE);
+    }
+
+    // Inserts a term, or changes its weight if it is already present
+    // Time Complexity: O(L log F) to find the path (L = symbols, F = fan-out), plus O(L * F) when
+    // a weight is lowered and the cached maxima on the path have to be recomputed
+    public void insert(String term, long weight) {
+        // Purpose: Store the term with its weight and keep every maxWeight on its path correct
+        // Workflow:
+        // 1. Walk/create nodes for each symbol, remembering the path.
+        // 2. Set the weight on the last node.
+        // 3. Walk the path bottom-up: maxWeight = max(own weight, children's maxWeight) and mark
+        //    the child ranking dirty; stop early once a node's cached value does not change.
+        if (term == null) {
+            throw new IllegalArgumentException("Term must not be null");
+        }
+        if (weight == NO_WEIGHT) {
+            throw new IllegalArgumentException("Weight " + weight + " is reserved");
+        }
+
+        int[] symbols = toSymbols(term);
+        Node[] path = new Node[symbols.length + 1];
+        Node current = root;
+        path[0] = root;
+        for (int i = 0; i < symbols.length; i++) {
+            Node next = current.child(symbols[i]);
+            current = next != null ? next : current.addChild(symbols[i]);
+            path[i + 1] = current;
+        }
+        if (current.weight == NO_WEIGHT) size++;
+        current.weight = weight;
+
+        for (int i = path.length - 1; i >= 0; i--) {
+            Node node = path[i];
+            node.rankDirty = true;
+            long max = node.weight;
+            for (int c = 0; c < node.childCount; c++) max = Math.max(max, node.children[c].maxWeight);
+            if (max == node.maxWeight) break; // Ancestors already agree
+            node.maxWeight = max;
+        }
+    }
+
+    // Searches for a term in the Trie
+    // Time Complexity: O(L log F)
+    public boolean search(String term) {
+        Node node = term == null ? null : traversePrefix(toSymbols(term));
+        return node != null && node.weight != NO_WEIGHT;
+    }
+
+    // Checks if any term in the Trie starts with the given prefix
+    // Time Complexity: O(L log F)
+    public boolean startsWith(String prefix) {
+        return prefix != null && traversePrefix(toSymbols(prefix)) != null;
+    }
+
+    // Weight of a term, or empty if absent
+    public OptionalLong weightOf(String term) {
+        Node node = term == null ? null : traversePrefix(toSymbols(term));
+        return node == null || node.weight == NO_WEIGHT ? OptionalLong.empty() : OptionalLong.of(node.weight);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Returns the k highest-weighted terms starting with prefix, best first
+    // Time Complexity: O(P log F + k * D * log(k * D)) for D = depth of the returned terms, independent
+    // of how many terms share the prefix (plus a one-off child ranking on nodes changed since the last query)
+    public List<Completion> complete(String prefix, int k) {
+        List<Completion> results = new ArrayList<>(Math.min(k, 64));
+        Iterator<Completion> it = completions(prefix);
+        while (results.size() < k && it.hasNext()) {
+            results.add(it.next());
+        }
+        return results;
+    }
+
+    // Lazily yields every term starting with prefix in descending weight order
+    public Iterator<Completion> completions(String prefix) {
+        // Purpose: Best-first search over the subtree of the prefix node
+        // Workflow:
+        // 1. Find the prefix node (O(P)).
+        // 2. A max-priority queue holds three kinds of entries:
+        //    - subtree entries, ranked by the node's cached maxWeight (an upper bound for all terms below),
+        //    - term entries, ranked by the exact weight of the term ending at that node,
+        //    - sibling entries (node, r): the r-th best child of node, ranked by that child's maxWeight.
+        // 3. Popping a subtree entry pushes its own term (if any) and a sibling entry for its best child;
+        //    popping sibling (node, r) pushes that child's subtree entry and sibling (node, r + 1).
+        //    So every pop adds at most two entries instead of one per child, and because no entry
+        //    can beat the bound it was queued with, terms come out in exact descending order.
+        // 4. Popping a term entry returns it. Nothing is expanded until next() asks for it, and
+        //    terms are rebuilt from parent links only when returned.
+        Node start = prefix == null ? null : traversePrefix(toSymbols(prefix));
+        PriorityQueue<Entry> queue = new PriorityQueue<>();
+        if (start != null) {
+            queue.add(new Entry(Entry.SUBTREE, start, start.maxWeight, 0, null, toSymbols(prefix), 0));
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                advance();
+                return !queue.isEmpty();
+            }
+
+            @Override
+            public Completion next() {
+                advance();
+                if (queue.isEmpty()) throw new NoSuchElementException();
+                Entry term = queue.poll();
+                return new Completion(fromSymbols(term.path()), term.priority);
+            }
+
+            // Expands subtree entries until a term entry is on top
+            private void advance() {
+                while (!queue.isEmpty() && queue.peek().kind != Entry.TERM) {
+                    Entry entry = queue.poll();
+                    Node node = entry.node;
+                    if (entry.kind == Entry.SUBTREE) {
+                        if (node.weight != NO_WEIGHT) {
+                            queue.add(new Entry(Entry.TERM, node, node.weight, entry.symbol, entry.parent, entry.prefix, 0));
+                        }
+                        if (node.childCount > 0) queue.add(sibling(entry, 0));
+                    } else {
+                        // entry.parent is the subtree entry of node; r = entry.rank
+                        int c = node.ranked()[entry.rank];
+                        Node child = node.children[c];
+                        queue.add(new Entry(Entry.SUBTREE, child, child.maxWeight, node.symbols[c],
+                                entry.parent, entry.prefix, 0));
+                        if (entry.rank + 1 < node.childCount) queue.add(sibling(entry.parent, entry.rank + 1));
+                    }
+                }
+            }
+        };
+    }
+
+    // Sibling entry for the rank-th best child of the node behind a subtree entry
+    private static Entry sibling(Entry subtree, int rank) {
+        Node node = subtree.node;
+        long bound = node.children[node.ranked()[rank]].maxWeight;
+        return new Entry(Entry.SIBLING, node, bound, 0, subtree, subtree.prefix, rank);
+    }
+
+    // Stream view of completions(prefix), e.g. completionStream("ap").limit(10)
+    public Stream<Completion> completionStream(String prefix) {
+        Spliterator<Completion> spliterator = Spliterators.spliteratorUnknownSize(completions(prefix),
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    // Queue entry: a subtree or sibling (ranked by a bound) or a term (ranked by its weight).
+    // parent/symbol link back towards the prefix node, so the path is only built on output.
+    private static final class Entry implements Comparable<Entry> {
+        static final int TERM = 0, SUBTREE = 1, SIBLING = 2; // Ties: terms first, so they are returned early
+
+        final int kind;
+        final Node node; // TERM/SUBTREE: the node itself; SIBLING: the parent whose children are ranked
+        final long priority;
+        final int symbol; // Symbol leading to node (unused for the prefix node and siblings)
+        final Entry parent; // Subtree entry of the parent node, null for the prefix node
+        final int[] prefix; // Symbols of the query prefix (shared)
+        final int rank; // SIBLING only: position in node.ranked()
+
+        Entry(int kind, Node node, long priority, int symbol, Entry parent, int[] prefix, int rank) {
+            this.kind = kind;
+            this.node = node;
+            this.priority = priority;
+            this.symbol = symbol;
+            this.parent = parent;
+            this.prefix = prefix;
+            this.rank = rank;
+        }
+
+        // Higher priority first
+        @Override
+        public int compareTo(Entry other) {
+            if (priority != other.priority) return Long.compare(other.priority, priority);
+            return Integer.compare(kind, other.kind);
+        }
+
+        int[] path() {
+            int depth = 0;
+            for (Entry e = this; e.parent != null; e = e.parent) depth++;
+            int[] symbols = Arrays.copyOf(prefix, prefix.length + depth);
+            int i = symbols.length;
+            for (Entry e = this; e.parent != null; e = e.parent) symbols[--i] = e.symbol;
+            return symbols;
+        }
+    }
+
+    // Helper method to traverse the Trie for a prefix
+    // Returns the node at the end of the prefix, or null if not found
+    private Node traversePrefix(int[] symbols) {
+        Node current = root;
+        for (int symbol : symbols) {
+            current = current.child(symbol);
+            if (current == null) {
+                return null; // Prefix not found
+            }
+        }
+        return current;
+    }
+
+    private int[] toSymbols(String s) {
+        if (alphabet == Alphabet.UNICODE) return s.codePoints().toArray();
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        int[] symbols = new int[bytes.length];
+        for (int i = 0; i < bytes.length; i++) symbols[i] = bytes[i] & 0xFF;
+        return symbols;
+    }
+
+    private String fromSymbols(int[] symbols) {
+        if (alphabet == Alphabet.UNICODE) return new String(symbols, 0, symbols.length);
+        byte[] bytes = new byte[symbols.length];
+        for (int i = 0; i < symbols.length; i++) bytes[i] = (byte) symbols[i];
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        AutocompleteTrie trie = new AutocompleteTrie();
+
+        // Test Insert
+        System.out.println("Inserting weighted terms");
+        trie.insert("apple", 50);
+        trie.insert("app", 90);
+        trie.insert("application", 70);
+        trie.insert("apply", 10);
+        trie.insert("banana", 40);
+        trie.insert("été", 30);
+        trie.insert("étoile", 60);
+        trie.insert("日本", 80);
+        trie.insert("日本語", 20);
+
+        // Test Complete
+        System.out.println("\nTesting complete:");
+        System.out.println("Top 2 for 'app': " + trie.complete("app", 2)); // [app(90), application(70)]
+        System.out.println("Top 10 for 'appl': " + trie.complete("appl", 10)); // [application(70), apple(50), apply(10)]
+        System.out.println("Top 3 for '': " + trie.complete("", 3)); // [app(90), 日本(80), application(70)]
+        System.out.println("Top 5 for 'ét': " + trie.complete("ét", 5)); // [étoile(60), été(30)]
+        System.out.println("Top 5 for '日': " + trie.complete("日", 5)); // [日本(80), 日本語(20)]
+        System.out.println("Top 5 for 'cat': " + trie.complete("cat", 5)); // []
+
+        // Test weight update (lowering a weight recomputes the cached maxima)
+        trie.insert("app", 5);
+        System.out.println("After app -> 5, top 2 for 'app': " + trie.complete("app", 2)); // [application(70), apple(50)]
+        System.out.println("Search 'apple': " + trie.search("apple") + ", startsWith 'ban': " + trie.startsWith("ban")); // true, true
+
+        // Randomized cross-check against brute force, both alphabets
+        Random random = new Random(13);
+        boolean ok = true;
+        for (Alphabet alphabet : Alphabet.values()) {
+            AutocompleteTrie t = new AutocompleteTrie(alphabet);
+            Map<String, Long> reference = new HashMap<>();
+            String letters = "abcé日";
+            for (int i = 0; i < 5_000; i++) {
+                StringBuilder sb = new StringBuilder();
+                for (int j = random.nextInt(6); j >= 0; j--) sb.append(letters.charAt(random.nextInt(letters.length())));
+                long weight = random.nextInt(1_000_000);
+                t.insert(sb.toString(), weight);
+                reference.put(sb.toString(), weight);
+            }
+            for (int q = 0; q < 300; q++) {
+                String prefix = q % 3 == 0 ? "" : String.valueOf(letters.charAt(random.nextInt(letters.length())));
+                if (q % 2 == 0) prefix += letters.charAt(random.nextInt(letters.length()));
+                int k = 1 + random.nextInt(20);
+                List<Long> expected = new ArrayList<>();
+                for (Map.Entry<String, Long> e : reference.entrySet()) {
+                    if (e.getKey().startsWith(prefix)) expected.add(e.getValue());
+                }
+                expected.sort(Collections.reverseOrder());
+                List<Completion> actual = t.complete(prefix, k);
+                ok &= actual.size() == Math.min(k, expected.size());
+                for (int i = 0; i < actual.size(); i++) {
+                    Completion c = actual.get(i);
+                    ok &= c.weight == expected.get(i) && c.term.startsWith(prefix) && reference.get(c.term) == c.weight;
+                }
+            }
+            ok &= t.size() == reference.size();
+        }
+        System.out.println("Matches brute force (UNICODE and BYTES): " + ok); // true
+    }
+}
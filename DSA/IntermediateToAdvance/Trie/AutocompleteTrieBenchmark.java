@@ -0,0 +1,69 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trie;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+
+import java.util.*;
+
+// Autocomplete Trie Benchmark
+// Typeahead benchmark: top-10 completions for 1- and 2-letter prefixes over n weighted terms.
+// AutocompleteTrie prunes every subtree whose cached maxWeight cannot reach the current top 10,
+// so a query visits a few paths instead of every term under the prefix. The baseline is what
+// a sorted map offers: scan TreeMap.subMap(prefix) and keep the 10 heaviest in a min-heap.
+// Both sides answer the same queries.
+// Usage: AutocompleteTrieBenchmark [terms]
+public class AutocompleteTrieBenchmark {
+    private static final int ROUNDS = 3;
+    private static final int K = 10;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        Random random = new Random(13);
+        AutocompleteTrie trie = new AutocompleteTrie(AutocompleteTrie.Alphabet.BYTES);
+        TreeMap<String, Long> sorted = new TreeMap<>();
+        for (int i = 0; i < n; i++) {
+            char[] chars = new char[3 + random.nextInt(10)];
+            for (int j = 0; j < chars.length; j++) chars[j] = (char) ('a' + random.nextInt(26));
+            String term = new String(chars);
+            long weight = random.nextInt(Integer.MAX_VALUE);
+            trie.insert(term, weight);
+            sorted.put(term, weight);
+        }
+        String[] prefixes = new String[2 * 26];
+        for (int q = 0; q < prefixes.length; q++) {
+            prefixes[q] = q % 2 == 0 ? String.valueOf((char) ('a' + q / 2))
+                    : "" + (char) ('a' + q / 2) + (char) ('a' + random.nextInt(26));
+        }
+        int queries = 100_000, baselineQueries = 500; // The baseline scans every term under the prefix
+
+        System.out.printf("%d terms, top-%d for 1- and 2-letter prefixes, best of %d rounds%n", trie.size(), K, ROUNDS);
+        long trieNs = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            long found = 0;
+            for (int q = 0; q < queries; q++) found += trie.complete(prefixes[q % prefixes.length], K).size();
+            return found;
+        });
+        long mapNs = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            long found = 0;
+            for (int q = 0; q < baselineQueries; q++) found += topK(sorted, prefixes[q % prefixes.length]).size();
+            return found;
+        });
+        System.out.printf("%-28s %10.2f us/query%n", "AutocompleteTrie.complete", trieNs / 1e3 / queries);
+        System.out.printf("%-28s %10.2f us/query%n", "TreeMap.subMap + heap", mapNs / 1e3 / baselineQueries);
+        BenchmarkUtils.printChecksum();
+    }
+
+    // The K heaviest terms starting with prefix, by scanning all of them
+    private static List<String> topK(TreeMap<String, Long> sorted, String prefix) {
+        PriorityQueue<Map.Entry<String, Long>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<String, Long> e : sorted.subMap(prefix, prefix + Character.MAX_VALUE).entrySet()) {
+            if (heap.size() < K) heap.offer(e);
+            else if (e.getValue() > heap.peek().getValue()) {
+                heap.poll();
+                heap.offer(e);
+            }
+        }
+        List<String> terms = new ArrayList<>();
+        while (!heap.isEmpty()) terms.add(heap.poll().getKey());
+        Collections.reverse(terms);
+        return terms;
+    }
+}
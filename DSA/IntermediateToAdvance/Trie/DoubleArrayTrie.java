@@ -0,0 +1,276 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trie;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+
+public class DoubleArrayTrie {
+    // Read-only trie compiled from a Trie into two int arrays (Aoe's double-array trie).
+    // A transition from state s on letter code c goes to t = base[s] + c, and it exists only
+    // if check[t] == s. So every step is one add and two array reads: no node objects, no
+    // 26-slot child arrays, and sparse nodes share the same arrays.
+    // Same alphabet and case handling as Trie: letters 'a'-'z' (input is lowercased).
+
+    // Layout:
+    // - State 1 is the root; slot 0 is never used, so check[t] == 0 means "free".
+    // - Letter codes are 1..26 ('a' -> 1); code 0 is the end-of-word marker: a word ends at
+    //   state s if check[base[s]] == s.
+    // - File format: MAGIC, length, base[length], check[length] as little-endian ints, so a
+    //   saved trie is memory-mapped and used as is (load does no parsing).
+
+    private static final int MAGIC = 0x44415431; // "DAT1"
+    private static final int ROOT = 1;
+    private static final int END = 0; // Code of the end-of-word transition
+    private static final int ALPHABET = 26;
+
+    private final IntBuffer base;
+    private final IntBuffer check;
+    private final int length;
+
+    private DoubleArrayTrie(IntBuffer base, IntBuffer check) {
+        this.base = base;
+        this.check = check;
+        this.length = base.capacity();
+    }
+
+    // Source tree to compile: a node's child codes (ascending, 1..26) and end-of-word flag
+    interface Source<N> {
+        int[] childCodes(N node);
+        N child(N node, int code);
+        boolean isEnd(N node);
+    }
+
+    // Compiles a pointer trie into base/check arrays
+    // Time Complexity: O(S * A) worst case for S states (first-fit base search), near O(S) in practice
+    static <N> DoubleArrayTrie compile(N root, Source<N> source) {
+        // Purpose: Give every state a base so all of its outgoing slots land on free cells
+        // Workflow:
+        // 1. DFS over the source trie (explicit stack), starting with the root at state 1. Placing a
+        //    subtree right after its parent keeps the states of one word close together in the
+        //    arrays (and the first-fit scan short), which BFS order does not.
+        // 2. For a node at state s, list its codes (0 if it ends a word, then its child codes).
+        // 3. First-fit: find the smallest b >= 1 with b + code free for every code, scanning from
+        //    scanFrom. If almost every candidate was busy, move scanFrom past them (as in darts),
+        //    trading a few unused cells for not rescanning the dense region for every node.
+        // 4. Set base[s] = b and check[b + code] = s; children become states b + code and are queued.
+        // 5. Trim both arrays to the last used cell.
+        int[] baseArray = new int[1024];
+        int[] checkArray = new int[1024];
+        int scanFrom = ROOT + 1; // First cell the base search looks at
+        int maxUsed = ROOT;
+        ArrayDeque<N> nodes = new ArrayDeque<>();
+        IntStack states = new IntStack();
+        nodes.push(root);
+        states.push(ROOT);
+        while (!nodes.isEmpty()) {
+            N node = nodes.pop();
+            int s = states.pop();
+            int[] children = source.childCodes(node);
+            boolean end = source.isEnd(node);
+            if (children.length == 0 && !end) continue;
+
+            int lowest = end ? END : children[0];
+            int b = Math.max(1, scanFrom - lowest);
+            int tried = 0, busy = 0;
+            while (true) {
+                int highest = b + (children.length > 0 ? children[children.length - 1] : END);
+                if (highest >= checkArray.length) {
+                    int capacity = Math.max(checkArray.length * 2, highest + ALPHABET + 1);
+                    baseArray = Arrays.copyOf(baseArray, capacity);
+                    checkArray = Arrays.copyOf(checkArray, capacity);
+                }
+                tried++;
+                if (checkArray[b + lowest] != 0 || b + lowest == ROOT) {
+                    busy++;
+                    b++;
+                    continue;
+                }
+                boolean fits = !end || (checkArray[b] == 0 && b != ROOT);
+                for (int i = 0; fits && i < children.length; i++) {
+                    int t = b + children[i];
+                    fits = checkArray[t] == 0 && t != ROOT;
+                }
+                if (fits) break;
+                b++;
+            }
+
+            if (busy * 20 >= tried * 19) scanFrom = Math.max(scanFrom, b + lowest);
+            baseArray[s] = b;
+            if (end) {
+                checkArray[b] = s;
+                maxUsed = Math.max(maxUsed, b);
+            }
+            for (int code : children) {
+                int t = b + code;
+                checkArray[t] = s;
+                maxUsed = Math.max(maxUsed, t);
+                nodes.push(source.child(node, code));
+                states.push(t);
+            }
+            while (scanFrom < checkArray.length && checkArray[scanFrom] != 0) scanFrom++;
+        }
+
+        // Every base is <= maxUsed, so base[s] + code always stays inside the trimmed arrays
+        int size = maxUsed + ALPHABET + 1;
+        baseArray = Arrays.copyOf(baseArray, size);
+        checkArray = Arrays.copyOf(checkArray, size);
+        return new DoubleArrayTrie(IntBuffer.wrap(baseArray), IntBuffer.wrap(checkArray));
+    }
+
+    // Searches for a word (case-insensitive, like Trie.search)
+    // Time Complexity: O(L), two array reads per character
+    public boolean search(String word) {
+        if (word == null || word.isEmpty()) {
+            return false; // Same as Trie
+        }
+        int s = walk(word);
+        if (s < 0) return false;
+        return check.get(base.get(s) + END) == s;
+    }
+
+    // Checks if any word starts with the given prefix
+    // Time Complexity: O(L)
+    public boolean startsWith(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return false; // Same as Trie
+        }
+        return walk(prefix) >= 0;
+    }
+
+    // Checks whether any stored word occurs in text as a substring (e.g. a banned-words filter)
+    // Time Complexity: O(n * L) for text length n and longest word L
+    public boolean containsAnyIn(String text) {
+        for (int start = 0; start < text.length(); start++) {
+            int s = ROOT;
+            for (int i = start; i < text.length(); i++) {
+                s = step(s, text.charAt(i));
+                if (s < 0) break;
+                if (check.get(base.get(s) + END) == s) return true;
+            }
+        }
+        return false;
+    }
+
+    // State reached after reading all of key, or -1
+    private int walk(String key) {
+        int s = ROOT;
+        for (int i = 0; i < key.length() && s >= 0; i++) s = step(s, key.charAt(i));
+        return s;
+    }
+
+    // One transition: t = base[s] + code, valid if check[t] == s (no bounds check needed, see compile)
+    // Lowercases per character instead of copying the whole string with toLowerCase()
+    private int step(int s, char c) {
+        int code = Character.toLowerCase(c) - 'a' + 1;
+        if (code < 1 || code > ALPHABET) return -1;
+        int t = base.get(s) + code;
+        return check.get(t) == s ? t : -1;
+    }
+
+    // Number of cells in each array (memory = 8 bytes per cell)
+    public int length() {
+        return length;
+    }
+
+    // Writes MAGIC, length, base and check as little-endian ints
+    public void save(Path file) throws IOException {
+        ByteBuffer out = ByteBuffer.allocate(8 + 8 * length).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC).putInt(length);
+        for (int i = 0; i < length; i++) out.putInt(base.get(i));
+        for (int i = 0; i < length; i++) out.putInt(check.get(i));
+        out.flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (out.hasRemaining()) channel.write(out);
+        }
+    }
+
+    // Memory-maps a saved trie; the arrays are used in place (no parsing, no copying)
+    public static DoubleArrayTrie load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (mapped.getInt(0) != MAGIC) throw new IOException("Not a double-array trie: " + file);
+            int n = mapped.getInt(4);
+            if (channel.size() < 8 + 8L * n) throw new IOException("Truncated double-array trie: " + file);
+            IntBuffer base = mapped.position(8).slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().limit(n).slice();
+            IntBuffer check = mapped.position(8 + 4 * n).slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().limit(n).slice();
+            return new DoubleArrayTrie(base, check);
+        }
+    }
+
+    // Minimal growable int stack (DFS states without boxing)
+    private static final class IntStack {
+        private int[] data = new int[256];
+        private int size;
+
+        void push(int value) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = value;
+        }
+
+        int pop() {
+            return data[--size];
+        }
+    }
+
+    // Main method for testing
+    public static void main(String[] args) throws IOException {
+        Trie trie = new Trie();
+        for (String word : new String[]{"apple", "app", "banana", "hate", "bad", "ugly"}) trie.insert(word);
+        DoubleArrayTrie dat = trie.compile();
+
+        System.out.println("Testing search:");
+        System.out.println("Search 'apple': " + dat.search("apple")); // true
+        System.out.println("Search 'app': " + dat.search("app")); // true
+        System.out.println("Search 'appl': " + dat.search("appl")); // false
+        System.out.println("Search 'BANANA': " + dat.search("BANANA")); // true
+        System.out.println("Search 'apple#': " + dat.search("apple#")); // false
+        System.out.println("Starts with 'ban': " + dat.startsWith("ban")); // true
+        System.out.println("Starts with 'cat': " + dat.startsWith("cat")); // false
+        System.out.println("Banned word in 'I hate this': " + dat.containsAnyIn("I hate this")); // true
+        System.out.println("Banned word in 'I like this': " + dat.containsAnyIn("I like this")); // false
+
+        // Save, map back, and cross-check against the source Trie on random words
+        Random random = new Random(14);
+        Trie big = new Trie();
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            String word = randomWord(random);
+            big.insert(word);
+            words.add(word);
+        }
+        DoubleArrayTrie compiled = big.compile();
+        List<String> queries = new ArrayList<>(words);
+        for (int i = 0; i < 200_000; i++) queries.add(randomWord(random));
+        Collections.shuffle(queries, random);
+        Path file = Files.createTempFile("trie", ".dat");
+        try {
+            compiled.save(file);
+            System.out.println("Matches Trie (compiled and loaded): " + matchesTrie(big, compiled, load(file), queries)); // true
+        } finally {
+            Files.deleteIfExists(file); // The mapping is only reachable inside matchesTrie
+        }
+    }
+
+    // Every query and its first half give the same answers on the Trie and both compiled forms
+    private static boolean matchesTrie(Trie big, DoubleArrayTrie compiled, DoubleArrayTrie loaded, List<String> queries) {
+        boolean same = true;
+        for (String q : queries) {
+            String prefix = q.substring(0, 1 + q.length() / 2);
+            same &= big.search(q) == compiled.search(q) && compiled.search(q) == loaded.search(q)
+                    && big.startsWith(prefix) == loaded.startsWith(prefix);
+        }
+        return same;
+    }
+
+    private static String randomWord(Random random) {
+        char[] chars = new char[3 + random.nextInt(10)];
+        for (int i = 0; i < chars.length; i++) chars[i] = (char) ('a' + Math.min(random.nextInt(26), random.nextInt(26)));
+        return new String(chars);
+    }
+}
@@ -0,0 +1,74 @@
+package Java_Bootcamp.DSA.IntermediateToAdvance.Trie;
+
+import Java_Bootcamp.DSA.BenchmarkUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Predicate;
+
+// Double-Array Trie Benchmark
+// Lookup benchmark: Trie (TrieNode[26] per node) vs the DoubleArrayTrie it compiles to, on the
+// heap and memory-mapped from a file, with HashSet<String> as the hashing baseline.
+// A double-array lookup is two int reads per character in one flat array, instead of a
+// pointer chase to a separately allocated node. Half of the queries are absent words.
+// Also reports how long compile() takes and how large the result is.
+// Usage: DoubleArrayTrieBenchmark [words]
+public class DoubleArrayTrieBenchmark {
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws IOException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        Random random = new Random(14);
+        Trie trie = new Trie();
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            String word = randomWord(random);
+            trie.insert(word);
+            words.add(word);
+        }
+        List<String> queries = new ArrayList<>(words);
+        for (int i = 0; i < n; i++) queries.add(randomWord(random));
+        Collections.shuffle(queries, random);
+
+        DoubleArrayTrie[] compiled = new DoubleArrayTrie[1];
+        long compileNs = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            compiled[0] = trie.compile();
+            return compiled[0].length();
+        });
+        DoubleArrayTrie dat = compiled[0];
+        System.out.printf("%d words: compile %.1f ms, %d cells (%d KB); %d lookups, best of %d rounds%n",
+                n, BenchmarkUtils.millis(compileNs), dat.length(), 8L * dat.length() / 1024, queries.size(), ROUNDS);
+
+        Path file = Files.createTempFile("trie", ".dat");
+        try {
+            dat.save(file);
+            DoubleArrayTrie mapped = DoubleArrayTrie.load(file);
+            Set<String> hashSet = new HashSet<>(words);
+            report("Trie", queries, trie::search);
+            report("DoubleArrayTrie", queries, dat::search);
+            report("DoubleArrayTrie (mapped)", queries, mapped::search);
+            report("HashSet<String>", queries, hashSet::contains);
+        } finally {
+            Files.delete(file);
+        }
+        BenchmarkUtils.printChecksum();
+    }
+
+    private static void report(String name, List<String> queries, Predicate<String> lookup) {
+        long best = BenchmarkUtils.bestNanos(ROUNDS, () -> {
+            long found = 0;
+            for (String q : queries) if (lookup.test(q)) found++;
+            return found;
+        });
+        System.out.printf("%-26s %8.1f M lookups/s%n", name, queries.size() * 1e3 / best);
+    }
+
+    // Lowercase words of length 3..12 with a skewed letter distribution, so prefixes are shared
+    private static String randomWord(Random random) {
+        char[] chars = new char[3 + random.nextInt(10)];
+        for (int i = 0; i < chars.length; i++) chars[i] = (char) ('a' + Math.min(random.nextInt(26), random.nextInt(26)));
+        return new String(chars);
+    }
+}
@@ -98,6 +98,33 @@ public class Trie {
         return current;
     }
 
+    // Compiles this Trie into a read-only DoubleArrayTrie (same words, same lookups)
+    // Time Complexity: O(S) in practice, where S is the number of nodes
+    public DoubleArrayTrie compile() {
+        // Purpose: Hand the node structure to DoubleArrayTrie without exposing TrieNode
+        // Workflow: Child codes are the non-null slots of children[] as 1..26; isEnd maps directly.
+        return DoubleArrayTrie.compile(root, new DoubleArrayTrie.Source<TrieNode>() {
+            @Override
+            public int[] childCodes(TrieNode node) {
+                int count = 0;
+                for (TrieNode child : node.children) if (child != null) count++;
+                int[] codes = new int[count];
+                for (int i = 0, j = 0; i < 26; i++) if (node.children[i] != null) codes[j++] = i + 1;
+                return codes;
+            }
+
+            @Override
+            public TrieNode child(TrieNode node, int code) {
+                return node.children[code - 1];
+            }
+
+            @Override
+            public boolean isEnd(TrieNode node) {
+                return node.isEnd;
+            }
+        });
+    }
+
     // Main method for testing
     public static void main(String[] args) {
         Trie trie = new Trie();